@@ -0,0 +1,472 @@
+package com.sigpwned.discourse.benchmarks;
+
+import java.util.List;
+import com.sigpwned.discourse.core.annotation.Configurable;
+import com.sigpwned.discourse.core.annotation.DiscourseDescription;
+import com.sigpwned.discourse.core.annotation.FlagParameter;
+import com.sigpwned.discourse.core.annotation.OptionParameter;
+import com.sigpwned.discourse.core.annotation.PositionalParameter;
+import com.sigpwned.discourse.core.annotation.Subcommand;
+
+/**
+ * The command trees the benchmarks run against, along with a typical command line for each.
+ */
+public final class BenchmarkCommands {
+  private BenchmarkCommands() {}
+
+  /**
+   * A command of the size most applications use: a couple of flags, a couple of options, and a
+   * positional argument.
+   */
+  @DiscourseDescription("A small command")
+  @Configurable(name = "small")
+  public static class SmallCommand {
+    @DiscourseDescription("Print more output")
+    @FlagParameter(shortName = "v", longName = "verbose")
+    public boolean verbose;
+
+    @DiscourseDescription("Print less output")
+    @FlagParameter(shortName = "q", longName = "quiet")
+    public boolean quiet;
+
+    @DiscourseDescription("The name to greet")
+    @OptionParameter(shortName = "n", longName = "name")
+    public String name;
+
+    @DiscourseDescription("The number of times to greet")
+    @OptionParameter(shortName = "c", longName = "count")
+    public int count;
+
+    @DiscourseDescription("The input")
+    @PositionalParameter(position = 0)
+    public String input;
+  }
+
+  public static final List<String> SMALL_ARGS =
+      List.of("-v", "--name", "world", "-c", "3", "input");
+
+  /**
+   * A command with many options, which stresses the per-property work in every step.
+   */
+  @DiscourseDescription("A wide command")
+  @Configurable(name = "wide")
+  public static class WideCommand {
+    @OptionParameter(longName = "option00")
+    public String option00;
+
+    @OptionParameter(longName = "option01")
+    public String option01;
+
+    @OptionParameter(longName = "option02")
+    public String option02;
+
+    @OptionParameter(longName = "option03")
+    public String option03;
+
+    @OptionParameter(longName = "option04")
+    public String option04;
+
+    @OptionParameter(longName = "option05")
+    public String option05;
+
+    @OptionParameter(longName = "option06")
+    public String option06;
+
+    @OptionParameter(longName = "option07")
+    public String option07;
+
+    @OptionParameter(longName = "option08")
+    public String option08;
+
+    @OptionParameter(longName = "option09")
+    public String option09;
+
+    @OptionParameter(longName = "option10")
+    public String option10;
+
+    @OptionParameter(longName = "option11")
+    public String option11;
+
+    @OptionParameter(longName = "option12")
+    public String option12;
+
+    @OptionParameter(longName = "option13")
+    public String option13;
+
+    @OptionParameter(longName = "option14")
+    public String option14;
+
+    @OptionParameter(longName = "option15")
+    public String option15;
+
+    @OptionParameter(longName = "option16")
+    public String option16;
+
+    @OptionParameter(longName = "option17")
+    public String option17;
+
+    @OptionParameter(longName = "option18")
+    public String option18;
+
+    @OptionParameter(longName = "option19")
+    public String option19;
+
+    @OptionParameter(longName = "option20")
+    public String option20;
+
+    @OptionParameter(longName = "option21")
+    public String option21;
+
+    @OptionParameter(longName = "option22")
+    public String option22;
+
+    @OptionParameter(longName = "option23")
+    public String option23;
+
+    @OptionParameter(longName = "option24")
+    public String option24;
+
+    @OptionParameter(longName = "option25")
+    public String option25;
+
+    @OptionParameter(longName = "option26")
+    public String option26;
+
+    @OptionParameter(longName = "option27")
+    public String option27;
+
+    @OptionParameter(longName = "option28")
+    public String option28;
+
+    @OptionParameter(longName = "option29")
+    public String option29;
+
+    @OptionParameter(longName = "option30")
+    public String option30;
+
+    @OptionParameter(longName = "option31")
+    public String option31;
+
+    @OptionParameter(longName = "option32")
+    public String option32;
+
+    @OptionParameter(longName = "option33")
+    public String option33;
+
+    @OptionParameter(longName = "option34")
+    public String option34;
+
+    @OptionParameter(longName = "option35")
+    public String option35;
+
+    @OptionParameter(longName = "option36")
+    public String option36;
+
+    @OptionParameter(longName = "option37")
+    public String option37;
+
+    @OptionParameter(longName = "option38")
+    public String option38;
+
+    @OptionParameter(longName = "option39")
+    public String option39;
+
+    @OptionParameter(longName = "option40")
+    public String option40;
+
+    @OptionParameter(longName = "option41")
+    public String option41;
+
+    @OptionParameter(longName = "option42")
+    public String option42;
+
+    @OptionParameter(longName = "option43")
+    public String option43;
+
+    @OptionParameter(longName = "option44")
+    public String option44;
+
+    @OptionParameter(longName = "option45")
+    public String option45;
+
+    @OptionParameter(longName = "option46")
+    public String option46;
+
+    @OptionParameter(longName = "option47")
+    public String option47;
+
+    @OptionParameter(longName = "option48")
+    public String option48;
+
+    @OptionParameter(longName = "option49")
+    public String option49;
+  }
+
+  public static final List<String> WIDE_ARGS = wideArgs();
+
+  private static List<String> wideArgs() {
+    String[] result = new String[2 * 50];
+    for (int i = 0; i < 50; i++) {
+      String name = String.format("option%02d", i);
+      result[2 * i + 0] = "--" + name;
+      result[2 * i + 1] = name;
+    }
+    return List.of(result);
+  }
+
+  /**
+   * A command tree three subcommands deep, which stresses walking and resolving the tree.
+   */
+  @DiscourseDescription("A deep command")
+  @Configurable(name = "deep", subcommands = {
+      @Subcommand(discriminator = "alpha", configurable = DeepAlphaCommand.class),
+      @Subcommand(discriminator = "bravo", configurable = DeepBravoCommand.class)})
+  public abstract static class DeepCommand {
+    @DiscourseDescription("Print more output")
+    @FlagParameter(shortName = "v", longName = "verbose")
+    public boolean verbose;
+  }
+
+  @Configurable(discriminator = "alpha", subcommands = {
+      @Subcommand(discriminator = "charlie", configurable = DeepCharlieCommand.class),
+      @Subcommand(discriminator = "delta", configurable = DeepDeltaCommand.class)})
+  public abstract static class DeepAlphaCommand extends DeepCommand {
+    @DiscourseDescription("The alpha option")
+    @OptionParameter(shortName = "a", longName = "alpha")
+    public String alpha;
+  }
+
+  @Configurable(discriminator = "bravo")
+  public static class DeepBravoCommand extends DeepCommand {
+    @DiscourseDescription("The bravo option")
+    @OptionParameter(shortName = "b", longName = "bravo")
+    public String bravo;
+  }
+
+  @Configurable(discriminator = "charlie", subcommands = {
+      @Subcommand(discriminator = "echo", configurable = DeepEchoCommand.class),
+      @Subcommand(discriminator = "foxtrot", configurable = DeepFoxtrotCommand.class)})
+  public abstract static class DeepCharlieCommand extends DeepAlphaCommand {
+    @DiscourseDescription("The charlie option")
+    @OptionParameter(shortName = "c", longName = "charlie")
+    public String charlie;
+  }
+
+  @Configurable(discriminator = "delta")
+  public static class DeepDeltaCommand extends DeepAlphaCommand {
+    @DiscourseDescription("The delta option")
+    @OptionParameter(shortName = "d", longName = "delta")
+    public String delta;
+  }
+
+  @Configurable(discriminator = "echo")
+  public static class DeepEchoCommand extends DeepCharlieCommand {
+    @DiscourseDescription("The echo option")
+    @OptionParameter(shortName = "e", longName = "echo")
+    public String echo;
+
+    @DiscourseDescription("The input")
+    @PositionalParameter(position = 0)
+    public String input;
+  }
+
+  @Configurable(discriminator = "foxtrot")
+  public static class DeepFoxtrotCommand extends DeepCharlieCommand {
+    @DiscourseDescription("The foxtrot option")
+    @OptionParameter(shortName = "f", longName = "foxtrot")
+    public String foxtrot;
+  }
+
+  public static final List<String> DEEP_ARGS = List.of("alpha", "charlie", "echo", "-v", "-a",
+      "hello", "-c", "world", "-e", "goodbye", "input");
+
+  /**
+   * A command with 50 {@code int} options, all of which are given, and an {@code int[]} option,
+   * which stresses deserializing and storing primitive values.
+   */
+  @DiscourseDescription("A numeric command")
+  @Configurable(name = "numeric")
+  public static class NumericCommand {
+    @OptionParameter(longName = "option00")
+    public int option00;
+
+    @OptionParameter(longName = "option01")
+    public int option01;
+
+    @OptionParameter(longName = "option02")
+    public int option02;
+
+    @OptionParameter(longName = "option03")
+    public int option03;
+
+    @OptionParameter(longName = "option04")
+    public int option04;
+
+    @OptionParameter(longName = "option05")
+    public int option05;
+
+    @OptionParameter(longName = "option06")
+    public int option06;
+
+    @OptionParameter(longName = "option07")
+    public int option07;
+
+    @OptionParameter(longName = "option08")
+    public int option08;
+
+    @OptionParameter(longName = "option09")
+    public int option09;
+
+    @OptionParameter(longName = "option10")
+    public int option10;
+
+    @OptionParameter(longName = "option11")
+    public int option11;
+
+    @OptionParameter(longName = "option12")
+    public int option12;
+
+    @OptionParameter(longName = "option13")
+    public int option13;
+
+    @OptionParameter(longName = "option14")
+    public int option14;
+
+    @OptionParameter(longName = "option15")
+    public int option15;
+
+    @OptionParameter(longName = "option16")
+    public int option16;
+
+    @OptionParameter(longName = "option17")
+    public int option17;
+
+    @OptionParameter(longName = "option18")
+    public int option18;
+
+    @OptionParameter(longName = "option19")
+    public int option19;
+
+    @OptionParameter(longName = "option20")
+    public int option20;
+
+    @OptionParameter(longName = "option21")
+    public int option21;
+
+    @OptionParameter(longName = "option22")
+    public int option22;
+
+    @OptionParameter(longName = "option23")
+    public int option23;
+
+    @OptionParameter(longName = "option24")
+    public int option24;
+
+    @OptionParameter(longName = "option25")
+    public int option25;
+
+    @OptionParameter(longName = "option26")
+    public int option26;
+
+    @OptionParameter(longName = "option27")
+    public int option27;
+
+    @OptionParameter(longName = "option28")
+    public int option28;
+
+    @OptionParameter(longName = "option29")
+    public int option29;
+
+    @OptionParameter(longName = "option30")
+    public int option30;
+
+    @OptionParameter(longName = "option31")
+    public int option31;
+
+    @OptionParameter(longName = "option32")
+    public int option32;
+
+    @OptionParameter(longName = "option33")
+    public int option33;
+
+    @OptionParameter(longName = "option34")
+    public int option34;
+
+    @OptionParameter(longName = "option35")
+    public int option35;
+
+    @OptionParameter(longName = "option36")
+    public int option36;
+
+    @OptionParameter(longName = "option37")
+    public int option37;
+
+    @OptionParameter(longName = "option38")
+    public int option38;
+
+    @OptionParameter(longName = "option39")
+    public int option39;
+
+    @OptionParameter(longName = "option40")
+    public int option40;
+
+    @OptionParameter(longName = "option41")
+    public int option41;
+
+    @OptionParameter(longName = "option42")
+    public int option42;
+
+    @OptionParameter(longName = "option43")
+    public int option43;
+
+    @OptionParameter(longName = "option44")
+    public int option44;
+
+    @OptionParameter(longName = "option45")
+    public int option45;
+
+    @OptionParameter(longName = "option46")
+    public int option46;
+
+    @OptionParameter(longName = "option47")
+    public int option47;
+
+    @OptionParameter(longName = "option48")
+    public int option48;
+
+    @OptionParameter(longName = "option49")
+    public int option49;
+
+    @OptionParameter(longName = "id")
+    public int[] ids;
+  }
+
+  /**
+   * Every option gets a value too large for the {@link Integer#valueOf(int) Integer cache}, so
+   * that boxing shows up in allocation.
+   */
+  public static final List<String> NUMERIC_ARGS = numericArgs();
+
+  private static List<String> numericArgs() {
+    String[] result = new String[2 * 50];
+    for (int i = 0; i < 50; i++) {
+      result[2 * i + 0] = String.format("--option%02d", i);
+      result[2 * i + 1] = Integer.toString(1000 + i);
+    }
+    return List.of(result);
+  }
+
+  /**
+   * Gives the {@code int[]} option 1,000 values, each too large for the Integer cache.
+   */
+  public static final List<String> NUMERIC_ARRAY_ARGS = numericArrayArgs();
+
+  private static List<String> numericArrayArgs() {
+    String[] result = new String[2 * 1000];
+    for (int i = 0; i < 1000; i++) {
+      result[2 * i + 0] = "--id";
+      result[2 * i + 1] = Integer.toString(1000 + i);
+    }
+    return List.of(result);
+  }
+}
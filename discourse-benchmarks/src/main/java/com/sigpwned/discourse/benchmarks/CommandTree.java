@@ -0,0 +1,32 @@
+package com.sigpwned.discourse.benchmarks;
+
+import static java.util.Objects.requireNonNull;
+import java.util.List;
+import com.sigpwned.discourse.benchmarks.BenchmarkCommands.DeepCommand;
+import com.sigpwned.discourse.benchmarks.BenchmarkCommands.SmallCommand;
+import com.sigpwned.discourse.benchmarks.BenchmarkCommands.WideCommand;
+
+/**
+ * The command trees the benchmarks are parameterized over.
+ */
+public enum CommandTree {
+  SMALL(SmallCommand.class, BenchmarkCommands.SMALL_ARGS),
+  WIDE(WideCommand.class, BenchmarkCommands.WIDE_ARGS),
+  DEEP(DeepCommand.class, BenchmarkCommands.DEEP_ARGS);
+
+  private final Class<?> commandClass;
+  private final List<String> args;
+
+  private CommandTree(Class<?> commandClass, List<String> args) {
+    this.commandClass = requireNonNull(commandClass);
+    this.args = requireNonNull(args);
+  }
+
+  public Class<?> getCommandClass() {
+    return commandClass;
+  }
+
+  public List<String> getArgs() {
+    return args;
+  }
+}
@@ -0,0 +1,127 @@
+package com.sigpwned.discourse.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import com.sigpwned.discourse.core.args.coordinate.PositionalCoordinate;
+import com.sigpwned.discourse.core.command.planned.PlannedCommand;
+import com.sigpwned.discourse.core.document.Block;
+import com.sigpwned.discourse.core.document.Document;
+import com.sigpwned.discourse.core.document.node.TextNode;
+import com.sigpwned.discourse.core.document.render.BlockRendererChain;
+import com.sigpwned.discourse.core.document.render.DocumentSection;
+import com.sigpwned.discourse.core.document.render.NodeRenderer;
+import com.sigpwned.discourse.core.document.render.text.block.TextSubheaderDocumentSectionRenderer;
+import com.sigpwned.discourse.core.format.help.CommandHelpDocumentComposerChain;
+import com.sigpwned.discourse.core.format.help.CommandPropertyAssigningDocumentComposer;
+import com.sigpwned.discourse.core.format.help.CommandSynopsisComposer;
+import com.sigpwned.discourse.core.format.help.SynopsisEntryFormatter;
+import com.sigpwned.discourse.core.format.help.SynopsisEntryFormatterChain;
+import com.sigpwned.discourse.core.format.help.compose.property.DescriptionCommandPropertyHelpDocumentCompser;
+import com.sigpwned.discourse.core.format.help.group.property.FlagsCommandPropertyGroupCommandHelpDocumentComposer;
+import com.sigpwned.discourse.core.format.help.group.property.OptionsCommandPropertyGroupCommandHelpDocumentComposer;
+import com.sigpwned.discourse.core.format.help.model.synopsis.CommandNameCommandSynopsisEntry;
+import com.sigpwned.discourse.core.format.help.model.synopsis.DiscriminatorCommandSynopsisEntry;
+import com.sigpwned.discourse.core.format.help.model.synopsis.OptionsPlaceholderCommandSynopsisEntry;
+import com.sigpwned.discourse.core.format.help.model.synopsis.PositionalArgumentCommandSynopsisEntry;
+import com.sigpwned.discourse.core.format.help.render.text.CommandPropertyGroupBlockTextRenderer;
+import com.sigpwned.discourse.core.format.help.render.text.CommandSynopsisBlockTextRenderer;
+import com.sigpwned.discourse.core.format.help.render.text.synopsis.CommandNameCommandSynopsisEntryTextFormatter;
+import com.sigpwned.discourse.core.format.help.render.text.synopsis.DiscriminatorCommandSynopsisEntryTextFormatter;
+import com.sigpwned.discourse.core.format.help.render.text.synopsis.LiteralSynopsisEntryTextFormatter;
+import com.sigpwned.discourse.core.format.help.render.text.synopsis.OptionsPlaceholderSynopsisEntryTextFormatter;
+import com.sigpwned.discourse.core.format.help.render.text.synopsis.PositionalArgumentSynopsisEntryTextFormatter;
+import com.sigpwned.discourse.core.format.help.synopsis.CommandSynopsisCommandHelpDocumentComposer;
+import com.sigpwned.discourse.core.l11n.UserMessageLocalizer;
+import com.sigpwned.discourse.core.l11n.UserMessageLocalizerChain;
+import com.sigpwned.discourse.core.l11n.util.UserMessages;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationContext;
+import com.sigpwned.discourse.core.pipeline.invocation.LayeredInvocationContext;
+import com.sigpwned.discourse.core.pipeline.invocation.step.PlanStep;
+
+/**
+ * Benchmarks composing a help document for a planned command with the help document composers,
+ * and then rendering it as text. No module registers the help composers yet, so the setup
+ * assembles them here.
+ */
+@State(Scope.Benchmark)
+public class HelpBenchmark extends PipelineBenchmarkBase {
+  private PlannedCommand<?> plannedCommand;
+
+  private InvocationContext helpContext;
+
+  private CommandHelpDocumentComposerChain composer;
+
+  private BlockRendererChain renderer;
+
+  @Override
+  protected void setupBenchmark() {
+    plannedCommand = new PlanStep().plan(
+        pipeline.resolve(tree.getCommandClass(), tree.getArgs()).getCommand(), context);
+
+    composer = new CommandHelpDocumentComposerChain();
+    composer.addLast(new CommandSynopsisCommandHelpDocumentComposer());
+    composer.addLast(new FlagsCommandPropertyGroupCommandHelpDocumentComposer() {});
+    composer.addLast(new OptionsCommandPropertyGroupCommandHelpDocumentComposer() {});
+    composer.addLast(new CommandPropertyAssigningDocumentComposer());
+    composer.addLast(DescriptionCommandPropertyHelpDocumentCompser.INSTANCE);
+
+    renderer = new BlockRendererChain();
+    renderer.addLast(new TextSubheaderDocumentSectionRenderer());
+    renderer.addLast(new CommandSynopsisBlockTextRenderer());
+    renderer.addLast(new CommandPropertyGroupBlockTextRenderer());
+
+    SynopsisEntryFormatterChain synopsisEntryFormatter = new SynopsisEntryFormatterChain();
+    synopsisEntryFormatter.addLast(new CommandNameCommandSynopsisEntryTextFormatter());
+    synopsisEntryFormatter.addLast(new DiscriminatorCommandSynopsisEntryTextFormatter());
+    synopsisEntryFormatter.addLast(new OptionsPlaceholderSynopsisEntryTextFormatter());
+    synopsisEntryFormatter.addLast(new PositionalArgumentSynopsisEntryTextFormatter());
+    synopsisEntryFormatter.addLast(new LiteralSynopsisEntryTextFormatter());
+
+    helpContext = new LayeredInvocationContext(context);
+    helpContext.set(PlannedCommand.class, plannedCommand);
+    helpContext.set(CommandSynopsisComposer.class, (command, synopsis, context) -> {
+      synopsis.getEntries().add(CommandNameCommandSynopsisEntry.INSTANCE);
+      for (int i = 0; i < command.getParents().size(); i++)
+        synopsis.getEntries().add(new DiscriminatorCommandSynopsisEntry(i));
+      synopsis.getEntries().add(new OptionsPlaceholderCommandSynopsisEntry());
+      command.getProperties().stream().flatMap(p -> p.getCoordinates().stream())
+          .filter(PositionalCoordinate.class::isInstance).map(PositionalCoordinate.class::cast)
+          .sorted().map(PositionalArgumentCommandSynopsisEntry::new)
+          .forEach(synopsis.getEntries()::add);
+    });
+    helpContext.set(SynopsisEntryFormatter.class, synopsisEntryFormatter);
+    helpContext.set(UserMessageLocalizer.class, new UserMessageLocalizerChain());
+    helpContext.set(NodeRenderer.class, (document, section, block, node, out, context) -> {
+      if (!(node instanceof TextNode text))
+        return false;
+      out.print(UserMessages.render(text.getText()));
+      return true;
+    });
+  }
+
+  @Benchmark
+  public Document compose() {
+    Document document = new Document();
+    composer.composeCommandHelpDocument(plannedCommand, document, helpContext);
+    return document;
+  }
+
+  @Benchmark
+  public String composeAndRender() throws IOException {
+    Document document = compose();
+
+    ByteArrayOutputStream buf = new ByteArrayOutputStream();
+    try (PrintStream out = new PrintStream(buf, false, StandardCharsets.UTF_8)) {
+      for (DocumentSection section : document.getSections())
+        for (Block block : section.getBlocks())
+          renderer.renderBlock(document, section, block, out, helpContext);
+    }
+
+    return buf.toString(StandardCharsets.UTF_8);
+  }
+}
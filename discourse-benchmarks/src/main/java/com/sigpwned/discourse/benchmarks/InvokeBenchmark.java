@@ -0,0 +1,41 @@
+package com.sigpwned.discourse.benchmarks;
+
+import java.util.Collections;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import com.sigpwned.discourse.core.pipeline.invocation.CompiledCommand;
+
+/**
+ * Benchmarks a whole invocation, both through the pipeline, which scans each command class once
+ * and then reuses the result, and through a {@link CompiledCommand}, one at a time and in batches.
+ */
+@State(Scope.Benchmark)
+public class InvokeBenchmark extends PipelineBenchmarkBase {
+  private static final int BATCH_SIZE = 1000;
+
+  private CompiledCommand<?> compiled;
+
+  @Override
+  protected void setupBenchmark() {
+    compiled = pipeline.compile(tree.getCommandClass());
+  }
+
+  @Benchmark
+  public Object invoke() {
+    return pipeline.invoke(tree.getCommandClass(), tree.getArgs());
+  }
+
+  @Benchmark
+  public Object invokeCompiled() {
+    return compiled.invoke(tree.getArgs());
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public long invokeAllCompiled() {
+    return compiled.invokeAll(Collections.nCopies(BATCH_SIZE, tree.getArgs()).stream())
+        .filter(r -> r.isSuccess()).count();
+  }
+}
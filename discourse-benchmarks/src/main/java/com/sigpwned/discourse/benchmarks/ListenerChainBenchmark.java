@@ -0,0 +1,107 @@
+package com.sigpwned.discourse.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationContext;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipeline;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineListener;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineListenerChain;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineStep;
+import com.sigpwned.discourse.core.pipeline.invocation.LayeredInvocationContext;
+
+/**
+ * Benchmarks calling the listener hooks that every invocation calls but that none of the default
+ * modules' listeners override, which is most of them. {@link #dispatch()} calls them through the
+ * chain's dispatch table, and {@link #loop()} calls them on every listener in the chain, which is
+ * what the chain would do without the table.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ListenerChainBenchmark {
+  public static enum Listeners {
+    /**
+     * A chain with no listeners
+     */
+    NONE,
+
+    /**
+     * The chain of a pipeline built with the default modules
+     */
+    DEFAULT;
+  }
+
+  @Param
+  public Listeners listeners;
+
+  private InvocationPipelineListenerChain chain;
+
+  private InvocationContext context;
+
+  @Setup
+  public void setupListenerChainBenchmark() {
+    final AtomicReference<InvocationPipelineListenerChain> defaultChain = new AtomicReference<>();
+    InvocationPipeline.builder().register(context -> {
+      this.context = new LayeredInvocationContext(context);
+      defaultChain.set(context.get(InvocationPipelineStep.INVOCATION_PIPELINE_LISTENER_KEY)
+          .map(InvocationPipelineListenerChain.class::cast).orElseThrow());
+    }).build();
+
+    switch (listeners) {
+      case NONE:
+        chain = new InvocationPipelineListenerChain();
+        chain.freeze();
+        break;
+      case DEFAULT:
+        chain = defaultChain.get();
+        break;
+      default:
+        throw new AssertionError(listeners);
+    }
+  }
+
+  @Benchmark
+  public void dispatch() {
+    callHooks(chain);
+  }
+
+  @Benchmark
+  public void loop() {
+    for (InvocationPipelineListener listener : chain)
+      callHooks(listener);
+  }
+
+  private void callHooks(InvocationPipelineListener listener) {
+    listener.beforePipeline(context);
+    listener.beforePreprocessArgsStep(List.of(), context);
+    listener.afterPreprocessArgsStep(List.of(), List.of(), context);
+    listener.finallyPreprocessArgsStep(context);
+    listener.beforeTokenizeStep(List.of(), context);
+    listener.afterTokenizeStep(List.of(), List.of(), context);
+    listener.finallyTokenizeStep(context);
+    listener.beforeReduceStep(Map.of(), context);
+    listener.afterReduceStep(Map.of(), Map.of(), context);
+    listener.finallyReduceStep(context);
+    listener.beforeFinishStep(Map.of(), context);
+    listener.afterFinishStep(Map.of(), null, context);
+    listener.finallyFinishStep(context);
+    listener.afterPipeline(context);
+    listener.finallyPipeline(context);
+  }
+}
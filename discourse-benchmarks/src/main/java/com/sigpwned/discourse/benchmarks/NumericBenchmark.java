@@ -0,0 +1,45 @@
+package com.sigpwned.discourse.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import com.sigpwned.discourse.benchmarks.BenchmarkCommands.NumericCommand;
+import com.sigpwned.discourse.core.pipeline.invocation.CompiledCommand;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipeline;
+
+/**
+ * Benchmarks invoking a command with many numeric options, and a command with one numeric array
+ * option with many values. Run with {@code -prof gc}, since allocation is the point.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NumericBenchmark {
+  private CompiledCommand<NumericCommand> compiled;
+
+  @Setup
+  public void setupNumericBenchmark() {
+    compiled = InvocationPipeline.builder().build().compile(NumericCommand.class);
+  }
+
+  @Benchmark
+  public NumericCommand invokeOptions() {
+    return compiled.invoke(BenchmarkCommands.NUMERIC_ARGS);
+  }
+
+  @Benchmark
+  public NumericCommand invokeArray() {
+    return compiled.invoke(BenchmarkCommands.NUMERIC_ARRAY_ARGS);
+  }
+}
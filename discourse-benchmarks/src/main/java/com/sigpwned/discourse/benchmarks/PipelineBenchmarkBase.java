@@ -0,0 +1,51 @@
+package com.sigpwned.discourse.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationContext;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipeline;
+import com.sigpwned.discourse.core.pipeline.invocation.LayeredInvocationContext;
+
+/**
+ * Common setup for the benchmarks. Builds a default {@link InvocationPipeline} and keeps a layer
+ * over its context, so that benchmarks can run individual steps against the same configuration the
+ * pipeline uses. The pipeline's own context is frozen once it is built, so steps that write to the
+ * context write to the layer instead.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public abstract class PipelineBenchmarkBase {
+  @Param
+  public CommandTree tree;
+
+  protected InvocationPipeline pipeline;
+
+  protected InvocationContext context;
+
+  /**
+   * JMH doesn't promise to run a superclass's setup before a subclass's, so this is the only
+   * {@link Setup} method, and subclasses do their own setup in {@link #setupBenchmark()}.
+   */
+  @Setup
+  public final void setupPipelineBenchmarkBase() {
+    pipeline = InvocationPipeline.builder().register(context -> {
+      this.context = new LayeredInvocationContext(context);
+    }).build();
+    setupBenchmark();
+  }
+
+  protected void setupBenchmark() {}
+}
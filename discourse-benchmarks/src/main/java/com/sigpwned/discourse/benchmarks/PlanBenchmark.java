@@ -0,0 +1,36 @@
+package com.sigpwned.discourse.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import com.sigpwned.discourse.core.command.planned.PlannedCommand;
+import com.sigpwned.discourse.core.command.resolved.ResolvedCommand;
+import com.sigpwned.discourse.core.pipeline.invocation.step.PlanStep;
+
+/**
+ * Benchmarks the Plan step against the leaf command each tree's arguments resolve to. The step
+ * remembers its plans, so {@link #plan()} measures planning a command that has been planned
+ * before, and {@link #planUncached()} measures planning a command for the first time.
+ */
+@State(Scope.Benchmark)
+public class PlanBenchmark extends PipelineBenchmarkBase {
+  private PlanStep plan;
+
+  private ResolvedCommand<?> resolvedCommand;
+
+  @Override
+  protected void setupBenchmark() {
+    plan = new PlanStep();
+    resolvedCommand = pipeline.resolve(tree.getCommandClass(), tree.getArgs()).getCommand();
+  }
+
+  @Benchmark
+  public PlannedCommand<?> plan() {
+    return plan.plan(resolvedCommand, context);
+  }
+
+  @Benchmark
+  public PlannedCommand<?> planUncached() {
+    return new PlanStep().plan(resolvedCommand, context);
+  }
+}
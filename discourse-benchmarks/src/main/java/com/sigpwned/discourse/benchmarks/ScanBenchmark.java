@@ -0,0 +1,43 @@
+package com.sigpwned.discourse.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import com.sigpwned.discourse.core.command.tree.Command;
+import com.sigpwned.discourse.core.command.tree.RootCommand;
+import com.sigpwned.discourse.core.command.tree.SuperCommand;
+import com.sigpwned.discourse.core.pipeline.invocation.step.ScanStep;
+
+/**
+ * Benchmarks the Scan step. This calls the step directly, since the pipeline caches its results.
+ * The step only scans the root command, and scans each subcommand the first time it is used, so
+ * {@link #scanAll()} measures scanning the whole command tree.
+ */
+@State(Scope.Benchmark)
+public class ScanBenchmark extends PipelineBenchmarkBase {
+  private ScanStep scan;
+
+  @Override
+  protected void setupBenchmark() {
+    scan = new ScanStep();
+  }
+
+  @Benchmark
+  public RootCommand<?> scan() {
+    return scan.scan(tree.getCommandClass(), context);
+  }
+
+  @Benchmark
+  public RootCommand<?> scanAll() {
+    RootCommand<?> result = scan.scan(tree.getCommandClass(), context);
+    loadAll(result.getRoot());
+    return result;
+  }
+
+  private static void loadAll(Command<?> command) {
+    if (command instanceof SuperCommand<?> supercommand) {
+      for (Command<?> subcommand : supercommand.getSubcommands().values())
+        loadAll(subcommand);
+    }
+  }
+}
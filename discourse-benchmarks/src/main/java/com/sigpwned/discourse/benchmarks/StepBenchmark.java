@@ -0,0 +1,175 @@
+package com.sigpwned.discourse.benchmarks;
+
+import static java.util.stream.Collectors.toMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import com.sigpwned.discourse.core.args.Coordinate;
+import com.sigpwned.discourse.core.args.Token;
+import com.sigpwned.discourse.core.command.planned.PlannedCommand;
+import com.sigpwned.discourse.core.module.core.plan.value.sink.ValueSink;
+import com.sigpwned.discourse.core.module.core.plan.value.sink.ValueSinkDescriptor;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineStep;
+import com.sigpwned.discourse.core.pipeline.invocation.step.AttributeStep;
+import com.sigpwned.discourse.core.pipeline.invocation.step.FinishStep;
+import com.sigpwned.discourse.core.pipeline.invocation.step.FusedParseAttributeGroupStep;
+import com.sigpwned.discourse.core.pipeline.invocation.step.GroupStep;
+import com.sigpwned.discourse.core.pipeline.invocation.step.MapStep;
+import com.sigpwned.discourse.core.pipeline.invocation.step.ParseStep;
+import com.sigpwned.discourse.core.pipeline.invocation.step.PlanStep;
+import com.sigpwned.discourse.core.pipeline.invocation.step.PostprocessArgsStep;
+import com.sigpwned.discourse.core.pipeline.invocation.step.PreprocessArgsStep;
+import com.sigpwned.discourse.core.pipeline.invocation.step.PreprocessCoordinatesStep;
+import com.sigpwned.discourse.core.pipeline.invocation.step.PreprocessTokensStep;
+import com.sigpwned.discourse.core.pipeline.invocation.step.ReduceStep;
+import com.sigpwned.discourse.core.pipeline.invocation.step.TokenizeStep;
+import com.sigpwned.discourse.core.pipeline.invocation.step.resolve.model.CommandResolution;
+
+/**
+ * Benchmarks the steps from Tokenize to Finish in isolation. The setup runs each tree's arguments
+ * through the steps once, including the preprocessing steps, the same way the pipeline does, so
+ * that each benchmark gets the input its step would get during a real invocation.
+ */
+@State(Scope.Benchmark)
+public class StepBenchmark extends PipelineBenchmarkBase {
+  /**
+   * The reducers write into the planned command's value sinks, which are stateful, so each thread
+   * gets its own. None of the benchmark commands have collection properties, so reusing the sinks
+   * from one invocation to the next doesn't change the work they do.
+   */
+  @State(Scope.Thread)
+  public static class Reducers {
+    private Map<String, Function<List<Object>, Object>> reducers;
+
+    @Setup
+    public void setupReducers(StepBenchmark benchmark) {
+      reducers = benchmark.newReducers(benchmark.newPlannedCommand());
+    }
+  }
+
+  private final TokenizeStep tokenize = new TokenizeStep();
+  private final ParseStep parse = new ParseStep();
+  private final AttributeStep attribute = new AttributeStep();
+  private final GroupStep group = new GroupStep();
+  private final FusedParseAttributeGroupStep fused = new FusedParseAttributeGroupStep();
+  private final MapStep map = new MapStep();
+  private final ReduceStep reduce = new ReduceStep();
+  private final PostprocessArgsStep postprocessArgs = new PostprocessArgsStep();
+  private final FinishStep finish = new FinishStep();
+
+  private Map<Coordinate, String> coordinates;
+  private FusedParseAttributeGroupStep.Table fusedTable;
+  private Map<String, Function<String, Object>> mappers;
+  private Consumer<Map<String, Object>> reactor;
+  private Function<Map<String, Object>, ?> constructor;
+
+  private List<String> resolvedArgs;
+  private List<Token> tokenizedArgs;
+  private List<Map.Entry<Coordinate, String>> parsedArgs;
+  private List<Map.Entry<String, String>> attributedArgs;
+  private Map<String, List<String>> groupedArgs;
+  private Map<String, List<Object>> mappedArgs;
+  private Map<String, Object> reducedArgs;
+  private Map<String, Object> postprocessedArgs;
+
+  @Override
+  protected void setupBenchmark() {
+    CommandResolution<?> resolution = pipeline.resolve(tree.getCommandClass(), tree.getArgs());
+
+    // The pipeline resolved the command in a context of its own, so tell the listeners about it
+    // here, e.g., so the required parameters are known when the PostprocessArgs step finishes.
+    context.get(InvocationPipelineStep.INVOCATION_PIPELINE_LISTENER_KEY).orElseThrow()
+        .afterResolveStep(tree.getArgs(), resolution, context);
+    PlannedCommand<?> plannedCommand = newPlannedCommand();
+
+    coordinates = new PreprocessCoordinatesStep().preprocessCoordinates(
+        plannedCommand.getProperties().stream()
+            .flatMap(p -> p.getCoordinates().stream().map(c -> Map.entry(c, p.getName())))
+            .collect(toMap(Map.Entry::getKey, Map.Entry::getValue)),
+        context);
+    fusedTable = new FusedParseAttributeGroupStep.Table(coordinates);
+    mappers = plannedCommand.getProperties().stream()
+        .collect(toMap(p -> p.getName(), p -> p.getDeserializer()::deserialize));
+    reactor = plannedCommand.getReactor();
+    constructor = plannedCommand.getConstructor();
+
+    resolvedArgs = new PreprocessArgsStep().preprocessArgs(resolution.getArgs(), context);
+    tokenizedArgs = new PreprocessTokensStep()
+        .preprocessTokens(tokenize.tokenize(resolvedArgs, context), context);
+    parsedArgs = parse.parse(tokenizedArgs, context);
+    attributedArgs = attribute.attribute(coordinates, parsedArgs, context);
+    groupedArgs = group.group(attributedArgs, context);
+    mappedArgs = map.map(mappers, groupedArgs, context);
+    reducedArgs = reduce.reduce(newReducers(plannedCommand), mappedArgs, context);
+    postprocessedArgs = postprocessArgs.postprocessArgs(reducedArgs, reactor, context);
+  }
+
+  @Benchmark
+  public List<Token> tokenize() {
+    return tokenize.tokenize(resolvedArgs, context);
+  }
+
+  @Benchmark
+  public List<Map.Entry<Coordinate, String>> parse() {
+    return parse.parse(tokenizedArgs, context);
+  }
+
+  @Benchmark
+  public List<Map.Entry<String, String>> attribute() {
+    return attribute.attribute(coordinates, parsedArgs, context);
+  }
+
+  @Benchmark
+  public Map<String, List<String>> group() {
+    return group.group(attributedArgs, context);
+  }
+
+  @Benchmark
+  public Map<String, List<String>> fusedParseAttributeGroup() {
+    return fused.parseAttributeGroup(fusedTable, tokenizedArgs, List.of());
+  }
+
+  @Benchmark
+  public Map<String, List<Object>> map() {
+    return map.map(mappers, groupedArgs, context);
+  }
+
+  @Benchmark
+  public Map<String, Object> reduce(Reducers reducers) {
+    return reduce.reduce(reducers.reducers, mappedArgs, context);
+  }
+
+  @Benchmark
+  public Map<String, Object> postprocessArgs() {
+    return postprocessArgs.postprocessArgs(reducedArgs, reactor, context);
+  }
+
+  @Benchmark
+  public Object finish() {
+    return finish.finish(constructor, postprocessedArgs, context);
+  }
+
+  private PlannedCommand<?> newPlannedCommand() {
+    return new PlanStep().plan(
+        pipeline.resolve(tree.getCommandClass(), tree.getArgs()).getCommand(), context);
+  }
+
+  /**
+   * Mirrors the reducers the pipeline creates for each invocation.
+   */
+  private Map<String, Function<List<Object>, Object>> newReducers(PlannedCommand<?> command) {
+    return command.getProperties().stream().collect(toMap(p -> p.getName(), p -> {
+      final ValueSinkDescriptor sinkDescriptor = p.getSinkDescriptor();
+      return xs -> {
+        final ValueSink sink = sinkDescriptor.newSink();
+        sink.putAll(xs);
+        return sink.get().orElseThrow();
+      };
+    }));
+  }
+}
@@ -19,29 +19,88 @@
  */
 package com.sigpwned.discourse.core;
 
-import static java.util.Collections.unmodifiableList;
+import static java.util.Objects.requireNonNull;
+import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.List;
 import java.util.stream.Stream;
 
 /**
+ * <p>
  * Implements the chain of responsibility pattern.
+ * </p>
+ *
+ * <p>
+ * The elements are stored as an immutable snapshot, which each change replaces with a new one. That
+ * means reading the chain never takes a lock, and a reader never sees a change half made, even if
+ * another thread changes the chain at the same time. Changes are expected to be rare, e.g., while
+ * modules register themselves, and reads to be common, e.g., once per invocation.
+ * </p>
+ *
+ * <p>
+ * Once a chain is {@link #freeze() frozen}, it can no longer change. The
+ * {@link com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineBuilder#build() pipeline
+ * builder} freezes all of its chains, so that nothing can change a pipeline's behavior after it is
+ * built.
+ * </p>
  */
 public class Chain<T> implements Iterable<T> {
 
-  private final LinkedList<T> elements = new LinkedList<>();
+  private volatile List<T> elements = List.of();
+
+  private volatile boolean frozen = false;
+
+  public synchronized void addFirst(T element) {
+    requireNonNull(element);
+    checkNotFrozen();
+    List<T> result = new ArrayList<>(elements.size() + 1);
+    result.add(element);
+    result.addAll(elements);
+    elements = List.copyOf(result);
+  }
+
+  public synchronized void addLast(T element) {
+    requireNonNull(element);
+    checkNotFrozen();
+    List<T> result = new ArrayList<>(elements.size() + 1);
+    result.addAll(elements);
+    result.add(element);
+    elements = List.copyOf(result);
+  }
+
+  /**
+   * Prevents any further changes to this chain. Afterwards, {@link #addFirst(Object)} and
+   * {@link #addLast(Object)} throw {@link IllegalStateException}. Freezing a frozen chain does
+   * nothing. Any change already in progress finishes before the chain is frozen, so the chain does
+   * not change after this method returns.
+   */
+  public synchronized void freeze() {
+    frozen = true;
+  }
+
+  public boolean isFrozen() {
+    return frozen;
+  }
 
-  public void addFirst(T element) {
-    elements.addFirst(element);
+  private void checkNotFrozen() {
+    if (frozen)
+      throw new IllegalStateException("chain is frozen");
   }
 
-  public void addLast(T element) {
-    elements.addLast(element);
+  /**
+   * Returns the elements of this chain as they are right now, in order from first to last. The
+   * list is immutable, and supports fast random access, so hot paths can loop over it by index.
+   * Later changes to the chain do not affect it.
+   *
+   * @return the elements of this chain
+   */
+  protected List<T> elements() {
+    return elements;
   }
 
   @Override
   public Iterator<T> iterator() {
-    return unmodifiableList(elements).iterator();
+    return elements.iterator();
   }
 
   public Stream<T> stream() {
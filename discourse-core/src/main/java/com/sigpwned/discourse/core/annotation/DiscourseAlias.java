@@ -0,0 +1,35 @@
+package com.sigpwned.discourse.core.annotation;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * <p>
+ * An annotation that gives an enum constant other names that users may give as values, in addition
+ * to its {@link Enum#name() name}. For example:
+ * </p>
+ *
+ * <pre>
+ * public enum Region {
+ *   &#64;DiscourseAlias({"us-east-1", "use1"})
+ *   US_EAST_1;
+ * }
+ * </pre>
+ *
+ * <p>
+ * No two constants of the same enum may share a name or alias.
+ * </p>
+ */
+@Retention(RUNTIME)
+@Target({FIELD})
+public @interface DiscourseAlias {
+
+  /**
+   * The other names for the constant.
+   *
+   * @return the other names for the constant
+   */
+  public String[] value();
+}
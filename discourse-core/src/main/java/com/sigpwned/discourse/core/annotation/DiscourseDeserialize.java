@@ -31,5 +31,10 @@ import com.sigpwned.discourse.core.module.core.plan.value.deserializer.ValueDese
 @Target({FIELD, METHOD, PARAMETER})
 public @interface DiscourseDeserialize {
 
+  /**
+   * The deserializer to use. It must have a public default constructor. The pipeline creates one
+   * instance for each type and set of annotations and reuses it, possibly from many threads at once,
+   * so it should be thread-safe.
+   */
   public Class<? extends ValueDeserializer<?>> using();
 }
@@ -0,0 +1,28 @@
+package com.sigpwned.discourse.core.annotation;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * <p>
+ * An annotation that indicates that enum values should be matched to their constants, and
+ * {@link DiscourseAlias aliases}, without regard to case. For example, {@code us-east-1} would
+ * match the constant {@code US_EAST_1} if it had that alias.
+ * </p>
+ *
+ * <p>
+ * The annotation may be placed on a property, in which case it applies to that property only, or
+ * on an enum class, in which case it applies to every property of that type. Matching is
+ * case-sensitive by default.
+ * </p>
+ */
+@Retention(RUNTIME)
+@Target({FIELD, METHOD, PARAMETER, TYPE})
+public @interface DiscourseIgnoreCase {
+
+}
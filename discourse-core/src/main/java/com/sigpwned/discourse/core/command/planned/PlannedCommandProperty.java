@@ -28,7 +28,7 @@ import java.util.Optional;
 import java.util.Set;
 import com.sigpwned.discourse.core.args.Coordinate;
 import com.sigpwned.discourse.core.module.core.plan.value.deserializer.ValueDeserializer;
-import com.sigpwned.discourse.core.module.core.plan.value.sink.ValueSink;
+import com.sigpwned.discourse.core.module.core.plan.value.sink.ValueSinkDescriptor;
 
 public class PlannedCommandProperty {
 
@@ -54,13 +54,19 @@ public class PlannedCommandProperty {
 
   private final Set<Coordinate> coordinates;
 
-  private final ValueSink sink;
+  /**
+   * The sink for the property. This only describes the sink, so that this property can be reused
+   * for many invocations. Each invocation creates its own sink with
+   * {@link ValueSinkDescriptor#newSink()}.
+   */
+  private final ValueSinkDescriptor sinkDescriptor;
 
   private final ValueDeserializer<?> deserializer;
 
   public PlannedCommandProperty(String name, String description, boolean required,
       Object defaultValue, Object exampleValue, List<Annotation> annotations,
-      Set<Coordinate> coordinates, ValueSink sink, ValueDeserializer<?> deserializer) {
+      Set<Coordinate> coordinates, ValueSinkDescriptor sinkDescriptor,
+      ValueDeserializer<?> deserializer) {
     this.name = requireNonNull(name);
     this.description = description;
     this.required = required;
@@ -68,7 +74,7 @@ public class PlannedCommandProperty {
     this.exampleValue = exampleValue;
     this.annotations = unmodifiableList(annotations);
     this.coordinates = unmodifiableSet(coordinates);
-    this.sink = requireNonNull(sink);
+    this.sinkDescriptor = requireNonNull(sinkDescriptor);
     this.deserializer = requireNonNull(deserializer);
   }
 
@@ -122,10 +128,10 @@ public class PlannedCommandProperty {
   }
 
   /**
-   * @return the sink
+   * @return the sinkDescriptor
    */
-  public ValueSink getSink() {
-    return sink;
+  public ValueSinkDescriptor getSinkDescriptor() {
+    return sinkDescriptor;
   }
 
   /**
@@ -7,11 +7,13 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 
 public final class LeafCommand<T> extends Command<T> {
+  private final Class<T> clazz;
   private final List<LeafCommandProperty> properties;
   private final Consumer<Map<String, Object>> reactor;
   private final Function<Map<String, Object>, T> constructor;
 
   /**
+   * @param clazz The class of the command object this command creates.
    * @param description The description of the command.
    * @param properties The properties of the command. This list is not copied or made unmodifiable,
    *        so if the caller wants the list to be immutable, then they will need to handle that
@@ -19,9 +21,10 @@ public final class LeafCommand<T> extends Command<T> {
    * @param reactor The reactor for the command.
    * @param constructor The constructor for the command.
    */
-  public LeafCommand(String description, List<LeafCommandProperty> properties,
+  public LeafCommand(Class<T> clazz, String description, List<LeafCommandProperty> properties,
       Consumer<Map<String, Object>> reactor, Function<Map<String, Object>, T> constructor) {
     super(description);
+    this.clazz = requireNonNull(clazz);
     // Note that we do not make this unmodifiable or even perform a defensive copy. Where or not
     // not this list is mutable is up to the caller.
     this.properties = requireNonNull(properties);
@@ -29,6 +32,13 @@ public final class LeafCommand<T> extends Command<T> {
     this.constructor = requireNonNull(constructor);
   }
 
+  /**
+   * @return the class of the command object this command creates
+   */
+  public Class<T> getClazz() {
+    return clazz;
+  }
+
   /**
    * @return the properties
    */
@@ -1,17 +1,90 @@
 package com.sigpwned.discourse.core.command.tree;
 
 import static java.util.Collections.unmodifiableMap;
+import static java.util.Collections.unmodifiableSet;
+import static java.util.Objects.requireNonNull;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
+/**
+ * <p>
+ * A command that has subcommands, each of which is identified by its discriminator.
+ * </p>
+ *
+ * <p>
+ * The subcommands may be loaded lazily, i.e., the first time they are asked for, so that a large
+ * command tree only pays to load the subcommands that an invocation actually uses. Each subcommand
+ * is loaded at most once, and every caller sees the same instance. Instances may be used from many
+ * threads at once.
+ * </p>
+ */
 public final class SuperCommand<T> extends Command<T> {
+  private final Set<String> discriminators;
+  private final Function<String, Command<? extends T>> loader;
   private final Map<String, Command<? extends T>> subcommands;
 
   public SuperCommand(String description, Map<String, Command<? extends T>> subcommands) {
+    this(description, subcommands.keySet(), subcommands::get);
+    this.subcommands.putAll(subcommands);
+  }
+
+  /**
+   * @param description the description of the command
+   * @param discriminators the discriminators of the subcommands, in order
+   * @param loader loads the subcommand with the given discriminator, which is always one of the
+   *        given discriminators. If it throws, the subcommand is not loaded, and the next attempt
+   *        to load it calls the loader again.
+   */
+  public SuperCommand(String description, Set<String> discriminators,
+      Function<String, Command<? extends T>> loader) {
     super(description);
-    this.subcommands = unmodifiableMap(subcommands);
+    this.discriminators = unmodifiableSet(new LinkedHashSet<>(discriminators));
+    this.loader = requireNonNull(loader);
+    this.subcommands = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * @return the discriminators of the subcommands, in order. Does not load any subcommands.
+   */
+  public Set<String> getDiscriminators() {
+    return discriminators;
+  }
+
+  /**
+   * Returns the subcommand with the given discriminator, loading it if it has not been loaded
+   * already, or empty if there is no such subcommand.
+   */
+  public Optional<Command<? extends T>> getSubcommand(String discriminator) {
+    if (!discriminators.contains(discriminator))
+      return Optional.empty();
+
+    Command<? extends T> result = subcommands.get(discriminator);
+    if (result == null) {
+      // Load outside the map, so that scanning one subcommand never blocks looking up another.
+      // Callers compare leaf commands by identity, so if another thread stored this subcommand
+      // while we were loading it, use theirs and drop ours.
+      final Command<? extends T> loaded = requireNonNull(loader.apply(discriminator));
+      result = subcommands.putIfAbsent(discriminator, loaded);
+      if (result == null)
+        result = loaded;
+    }
+
+    return Optional.of(result);
   }
 
+  /**
+   * Returns all the subcommands, in order. This loads every subcommand that has not been loaded
+   * already, so prefer {@link #getSubcommand(String)} to look up one subcommand.
+   */
   public Map<String, Command<? extends T>> getSubcommands() {
-    return this.subcommands;
+    Map<String, Command<? extends T>> result = new LinkedHashMap<>();
+    for (String discriminator : discriminators)
+      result.put(discriminator, getSubcommand(discriminator).orElseThrow());
+    return unmodifiableMap(result);
   }
 }
@@ -25,4 +25,22 @@ import com.sigpwned.discourse.core.args.Token;
 
 public interface ArgTokenizer {
   public Optional<List<Token>> tokenize(String text);
+
+  /**
+   * Tokenizes the given argument and appends the resulting tokens to the given list. This lets
+   * the caller collect the tokens for all arguments in one list without allocating a list for
+   * each argument. If this tokenizer does not handle the argument, then the list is not modified.
+   * The default implementation delegates to {@link #tokenize(String)}.
+   *
+   * @param text the argument to tokenize
+   * @param tokens the list to append tokens to
+   * @return {@code true} if this tokenizer handled the argument, or {@code false} otherwise
+   */
+  public default boolean tokenizeInto(String text, List<Token> tokens) {
+    Optional<List<Token>> maybeTokens = tokenize(text);
+    if (maybeTokens.isEmpty())
+      return false;
+    tokens.addAll(maybeTokens.orElseThrow());
+    return true;
+  }
 }
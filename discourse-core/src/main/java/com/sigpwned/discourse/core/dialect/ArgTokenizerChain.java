@@ -9,11 +9,24 @@ public class ArgTokenizerChain extends Chain<ArgTokenizer> implements ArgTokeniz
 
   @Override
   public Optional<List<Token>> tokenize(String text) {
-    for (ArgTokenizer tokenizer : this) {
+    final List<ArgTokenizer> tokenizers = elements();
+    for (int i = 0; i < tokenizers.size(); i++) {
+      ArgTokenizer tokenizer = tokenizers.get(i);
       Optional<List<Token>> tokens = tokenizer.tokenize(text);
       if (tokens.isPresent())
         return tokens;
     }
     return Optional.empty();
   }
+
+  @Override
+  public boolean tokenizeInto(String text, List<Token> tokens) {
+    final List<ArgTokenizer> tokenizers = elements();
+    for (int i = 0; i < tokenizers.size(); i++) {
+      ArgTokenizer tokenizer = tokenizers.get(i);
+      if (tokenizer.tokenizeInto(text, tokens))
+        return true;
+    }
+    return false;
+  }
 }
@@ -32,13 +32,27 @@ import com.sigpwned.discourse.core.dialect.unix.tokenize.SeparatorUnixArgTokeniz
 import com.sigpwned.discourse.core.dialect.unix.tokenize.ShortSwitchBundleUnixArgTokenizer;
 import com.sigpwned.discourse.core.dialect.unix.tokenize.ShortSwitchPrefixUnixArgTokenizer;
 import com.sigpwned.discourse.core.dialect.unix.tokenize.ShortSwitchUnixArgTokenizer;
+import com.sigpwned.discourse.core.dialect.unix.tokenize.SinglePassUnixArgTokenizer;
 import com.sigpwned.discourse.core.dialect.unix.tokenize.ValueUnixArgTokenizer;
 
 public final class UnixDialect implements Dialect {
   public static final UnixDialect INSTANCE = new UnixDialect();
 
+  /**
+   * Returns a {@link SinglePassUnixArgTokenizer}, which tokenizes arguments in a single pass. It
+   * produces the same tokens as the {@link #newTokenizerChain() tokenizer chain}, but does much
+   * less work per argument.
+   */
   @Override
   public ArgTokenizer newTokenizer() {
+    return new SinglePassUnixArgTokenizer();
+  }
+
+  /**
+   * Returns the chain of the individual Unix tokenizers, which is useful as a starting point for a
+   * custom dialect that needs to add or replace a tokenizer.
+   */
+  public ArgTokenizerChain newTokenizerChain() {
     ArgTokenizerChain result = new ArgTokenizerChain();
     result.addLast(new SeparatorUnixArgTokenizer());
     result.addLast(new ShortSwitchPrefixUnixArgTokenizer());
@@ -23,14 +23,28 @@ import com.sigpwned.discourse.core.Dialect;
 import com.sigpwned.discourse.core.dialect.windows.format.FlagWindowsArgFormatter;
 import com.sigpwned.discourse.core.dialect.windows.format.OptionWindowsArgFormatter;
 import com.sigpwned.discourse.core.dialect.windows.format.PositionalWindowsArgFormatter;
+import com.sigpwned.discourse.core.dialect.windows.tokenize.SinglePassWindowsArgTokenizer;
 import com.sigpwned.discourse.core.dialect.windows.tokenize.SwitchNameWindowsArgTokenizer;
 import com.sigpwned.discourse.core.dialect.windows.tokenize.ValueWindowsArgTokenizer;
 
 public final class WindowsDialect implements Dialect {
   public static final WindowsDialect INSTANCE = new WindowsDialect();
 
+  /**
+   * Returns a {@link SinglePassWindowsArgTokenizer}, which tokenizes arguments in a single pass. It
+   * produces the same tokens as the {@link #newTokenizerChain() tokenizer chain}, but does much
+   * less work per argument.
+   */
   @Override
   public ArgTokenizer newTokenizer() {
+    return new SinglePassWindowsArgTokenizer();
+  }
+
+  /**
+   * Returns the chain of the individual Windows tokenizers, which is useful as a starting point for
+   * a custom dialect that needs to add or replace a tokenizer.
+   */
+  public ArgTokenizerChain newTokenizerChain() {
     ArgTokenizerChain result = new ArgTokenizerChain();
     result.addLast(new SwitchNameWindowsArgTokenizer());
     result.addLast(new ValueWindowsArgTokenizer());
@@ -4,7 +4,6 @@ import static java.util.Collections.unmodifiableList;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.PrimitiveIterator;
 import com.sigpwned.discourse.core.args.SwitchName;
 import com.sigpwned.discourse.core.args.Token;
 import com.sigpwned.discourse.core.args.token.SwitchNameToken;
@@ -31,15 +30,12 @@ public class ShortSwitchBundleUnixArgTokenizer implements ArgTokenizer, UnixDial
     if (!arg.startsWith(SHORT_NAME_PREFIX) || arg.length() <= 2)
       return Optional.empty();
 
-    String text = arg.substring(SHORT_NAME_PREFIX.length(), arg.length());
-
-    List<Token> tokens = new ArrayList<>();
-    PrimitiveIterator.OfInt iterator = text.chars().iterator();
-    do {
-      char ch = (char) iterator.nextInt();
-      SwitchName name = SwitchName.fromString(String.valueOf(ch));
-      tokens.add(new SwitchNameToken(name, iterator.hasNext()));
-    } while (iterator.hasNext());
+    final int length = arg.length();
+    List<Token> tokens = new ArrayList<>(length - SHORT_NAME_PREFIX.length());
+    for (int i = SHORT_NAME_PREFIX.length(); i < length; i++) {
+      SwitchName name = SwitchName.fromString(String.valueOf(arg.charAt(i)));
+      tokens.add(new SwitchNameToken(name, i < length - 1));
+    }
 
     return Optional.of(unmodifiableList(tokens));
   }
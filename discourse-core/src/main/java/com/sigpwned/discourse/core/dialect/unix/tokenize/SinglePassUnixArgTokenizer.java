@@ -0,0 +1,109 @@
+package com.sigpwned.discourse.core.dialect.unix.tokenize;
+
+import static java.util.Collections.unmodifiableList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import com.sigpwned.discourse.core.args.SwitchName;
+import com.sigpwned.discourse.core.args.Token;
+import com.sigpwned.discourse.core.args.token.SwitchNameToken;
+import com.sigpwned.discourse.core.args.token.ValueToken;
+import com.sigpwned.discourse.core.dialect.ArgTokenizer;
+import com.sigpwned.discourse.core.dialect.UnixDialect;
+import com.sigpwned.discourse.core.dialect.unix.UnixDialectElement;
+
+/**
+ * <p>
+ * Tokenizes arguments exactly like the {@link UnixDialect#newTokenizerChain() chain} of Unix
+ * tokenizers, but classifies each argument by its first two characters in a single pass instead
+ * of offering it to each tokenizer in turn. This is the tokenizer that {@link UnixDialect} uses.
+ * </p>
+ *
+ * <p>
+ * Like {@link SeparatorUnixArgTokenizer}, instances are stateful, since every argument after the
+ * {@link #SEPARATOR separator} is a value. Use a new instance for each invocation.
+ * </p>
+ */
+public class SinglePassUnixArgTokenizer implements ArgTokenizer, UnixDialectElement {
+  private static final char PREFIX = SHORT_NAME_PREFIX.charAt(0);
+
+  private static final char VALUE_SEPARATOR = LONG_NAME_VALUE_SEPARATOR.charAt(0);
+
+  /**
+   * The switch names for the ASCII characters, which are the overwhelmingly common short names.
+   * Switch names are immutable, so we can share them among all instances.
+   */
+  private static final SwitchName[] SHORT_NAMES = new SwitchName[128];
+  static {
+    for (char ch = 0; ch < SHORT_NAMES.length; ch++)
+      SHORT_NAMES[ch] = SwitchName.fromString(String.valueOf(ch));
+  }
+
+  private boolean separatorFound = false;
+
+  @Override
+  public Optional<List<Token>> tokenize(String arg) {
+    List<Token> tokens = new ArrayList<>(1);
+    tokenizeInto(arg, tokens);
+    return Optional.of(unmodifiableList(tokens));
+  }
+
+  /**
+   * Handles every argument, as follows:
+   *
+   * <ul>
+   * <li>After the separator {@code "--"}, any argument is a value</li>
+   * <li>The separator {@code "--"} itself produces no tokens</li>
+   * <li>A long switch with attached value, e.g., {@code "--hello=world"}</li>
+   * <li>A long switch, e.g., {@code "--hello"}</li>
+   * <li>A single short switch, e.g., {@code "-x"}</li>
+   * <li>A bundle of short switches, e.g., {@code "-xyz"}</li>
+   * <li>Anything else, including the literal value {@code "-"}, is a value</li>
+   * </ul>
+   *
+   * @param arg The token to tokenize.
+   * @param tokens The list to append tokens to.
+   * @return {@code true}, always
+   */
+  @Override
+  public boolean tokenizeInto(String arg, List<Token> tokens) {
+    final int length = arg.length();
+
+    if (separatorFound || length < 2 || arg.charAt(0) != PREFIX) {
+      tokens.add(new ValueToken(arg, false));
+      return true;
+    }
+
+    if (arg.charAt(1) == PREFIX) {
+      if (length == 2) {
+        separatorFound = true;
+        return true;
+      }
+
+      final int start = LONG_NAME_PREFIX.length();
+      final int sep = arg.indexOf(VALUE_SEPARATOR, start);
+      if (sep == -1) {
+        tokens.add(new SwitchNameToken(SwitchName.fromString(arg.substring(start)), false));
+      } else {
+        tokens.add(new SwitchNameToken(SwitchName.fromString(arg.substring(start, sep)), false));
+        tokens.add(new ValueToken(arg.substring(sep + 1), true));
+      }
+      return true;
+    }
+
+    for (int i = SHORT_NAME_PREFIX.length(); i < length; i++)
+      tokens.add(new SwitchNameToken(shortName(arg.charAt(i)), i < length - 1));
+
+    return true;
+  }
+
+  public boolean isSeparatorFound() {
+    return separatorFound;
+  }
+
+  private static SwitchName shortName(char ch) {
+    if (ch < SHORT_NAMES.length)
+      return SHORT_NAMES[ch];
+    return SwitchName.fromString(String.valueOf(ch));
+  }
+}
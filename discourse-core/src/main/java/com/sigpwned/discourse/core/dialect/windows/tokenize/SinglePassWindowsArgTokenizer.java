@@ -0,0 +1,49 @@
+package com.sigpwned.discourse.core.dialect.windows.tokenize;
+
+import static java.util.Collections.unmodifiableList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import com.sigpwned.discourse.core.args.SwitchName;
+import com.sigpwned.discourse.core.args.Token;
+import com.sigpwned.discourse.core.args.token.SwitchNameToken;
+import com.sigpwned.discourse.core.args.token.ValueToken;
+import com.sigpwned.discourse.core.dialect.ArgTokenizer;
+import com.sigpwned.discourse.core.dialect.WindowsDialect;
+import com.sigpwned.discourse.core.dialect.windows.WindowsDialectElement;
+
+/**
+ * Tokenizes arguments exactly like the {@link WindowsDialect#newTokenizerChain() chain} of Windows
+ * tokenizers, but classifies each argument by its first character in a single pass instead of
+ * offering it to each tokenizer in turn. This is the tokenizer that {@link WindowsDialect} uses.
+ */
+public class SinglePassWindowsArgTokenizer implements ArgTokenizer, WindowsDialectElement {
+  private static final char PREFIX = SWITCH_NAME_PREFIX.charAt(0);
+
+  @Override
+  public Optional<List<Token>> tokenize(String arg) {
+    List<Token> tokens = new ArrayList<>(1);
+    tokenizeInto(arg, tokens);
+    return Optional.of(unmodifiableList(tokens));
+  }
+
+  /**
+   * Handles every argument. An argument that starts with the {@link #SWITCH_NAME_PREFIX switch
+   * name prefix}, e.g., {@code "/hello"}, is a switch. Anything else, including the literal value
+   * {@code "/"}, is a value.
+   *
+   * @param arg The token to tokenize.
+   * @param tokens The list to append tokens to.
+   * @return {@code true}, always
+   */
+  @Override
+  public boolean tokenizeInto(String arg, List<Token> tokens) {
+    if (arg.length() < 2 || arg.charAt(0) != PREFIX) {
+      tokens.add(new ValueToken(arg, false));
+    } else {
+      tokens.add(new SwitchNameToken(
+          SwitchName.fromString(arg.substring(SWITCH_NAME_PREFIX.length())), false));
+    }
+    return true;
+  }
+}
@@ -16,15 +16,32 @@ public class InvalidArgumentUserDiscourseException extends UserDiscourseExceptio
     this(propertyName, coordinate, value, null);
   }
 
+  /**
+   * @param propertyName the name of the property
+   * @param coordinate the coordinate the value was given at, or {@code null} if unknown
+   * @param value the invalid value
+   * @param cause why the value is invalid, or {@code null} if unknown. If the cause has a message,
+   *        such as a list of valid values, it is included in this exception's message.
+   */
   public InvalidArgumentUserDiscourseException(String propertyName, Coordinate coordinate,
       String value, Throwable cause) {
-    super(format("Invalid argument %s for property %s at %s", value, propertyName, coordinate),
-        cause);
+    super(message(propertyName, coordinate, value, cause), cause);
     this.propertyName = requireNonNull(propertyName);
-    this.coordinate = requireNonNull(coordinate);
+    this.coordinate = coordinate;
     this.value = requireNonNull(value);
   }
 
+  private static String message(String propertyName, Coordinate coordinate, String value,
+      Throwable cause) {
+    StringBuilder result = new StringBuilder();
+    result.append(format("Invalid argument %s for property %s", value, propertyName));
+    if (coordinate != null)
+      result.append(" at ").append(coordinate);
+    if (cause != null && cause.getMessage() != null)
+      result.append(": ").append(cause.getMessage());
+    return result.toString();
+  }
+
   /**
    * @return the propertyName
    */
@@ -33,7 +50,7 @@ public class InvalidArgumentUserDiscourseException extends UserDiscourseExceptio
   }
 
   /**
-   * @return the coordinate
+   * @return the coordinate, or {@code null} if unknown
    */
   public Coordinate getCoordinate() {
     return coordinate;
@@ -30,7 +30,7 @@ public class PositionalArgumentSynopsisEntryTextFormatter implements SynopsisEnt
 
     String result = open + property.getName() + close;
 
-    if (property.getSink().isCollection())
+    if (property.getSinkDescriptor().isCollection())
       result = open + result + " ..." + close;
 
     return Optional.of(result);
@@ -44,6 +44,7 @@ import com.sigpwned.discourse.core.module.core.plan.value.deserializer.LocalDate
 import com.sigpwned.discourse.core.module.core.plan.value.deserializer.LocalDateValueDeserializerFactory;
 import com.sigpwned.discourse.core.module.core.plan.value.deserializer.LocalTimeValueDeserializerFactory;
 import com.sigpwned.discourse.core.module.core.plan.value.deserializer.LongValueDeserializerFactory;
+import com.sigpwned.discourse.core.module.core.plan.value.deserializer.MapEntryValueDeserializerFactory;
 import com.sigpwned.discourse.core.module.core.plan.value.deserializer.PathValueDeserializerFactory;
 import com.sigpwned.discourse.core.module.core.plan.value.deserializer.PatternValueDeserializerFactory;
 import com.sigpwned.discourse.core.module.core.plan.value.deserializer.ShortValueDeserializerFactory;
@@ -54,6 +55,8 @@ import com.sigpwned.discourse.core.module.core.plan.value.deserializer.ValueDese
 import com.sigpwned.discourse.core.module.core.plan.value.sink.ArrayAppendValueSinkFactory;
 import com.sigpwned.discourse.core.module.core.plan.value.sink.AssignValueSinkFactory;
 import com.sigpwned.discourse.core.module.core.plan.value.sink.ListAddValueSinkFactory;
+import com.sigpwned.discourse.core.module.core.plan.value.sink.EnumMapPutValueSinkFactory;
+import com.sigpwned.discourse.core.module.core.plan.value.sink.EnumSetAddValueSinkFactory;
 import com.sigpwned.discourse.core.module.core.plan.value.sink.SetAddValueSinkFactory;
 import com.sigpwned.discourse.core.module.core.plan.value.sink.SortedSetAddValueSinkFactory;
 import com.sigpwned.discourse.core.module.core.plan.value.sink.ValueSinkFactory;
@@ -185,6 +188,10 @@ public class CoreModule extends Module {
 
     // This should be the last resort.
     chain.addLast(FromStringValueDeserializerFactory.INSTANCE);
+
+    // This isn't cacheable, so it goes after the last resort. That way, only the types that nothing
+    // else handles miss the cache.
+    chain.addLast(new MapEntryValueDeserializerFactory(chain));
   }
 
 
@@ -198,8 +205,10 @@ public class CoreModule extends Module {
    * <li>{@link AssignValueSinkFactory}</li>
    * <li>{@link ArrayAppendValueSinkFactory}</li>
    * <li>{@link ListAddValueSinkFactory}</li>
+   * <li>{@link EnumSetAddValueSinkFactory} -- Ahead of the general set sink, for sets of enums</li>
    * <li>{@link SetAddValueSinkFactory}</li>
    * <li>{@link SortedSetAddValueSinkFactory}</li>
+   * <li>{@link EnumMapPutValueSinkFactory} -- For maps with enum keys</li>
    * </ul>
    *
    * @param resolver the sink resolver to register the sinks into
@@ -207,7 +216,9 @@ public class CoreModule extends Module {
   @Override
   public void registerValueSinkFactories(Chain<ValueSinkFactory> chain) {
     chain.addLast(SortedSetAddValueSinkFactory.INSTANCE);
+    chain.addLast(EnumSetAddValueSinkFactory.INSTANCE);
     chain.addLast(SetAddValueSinkFactory.INSTANCE);
+    chain.addLast(EnumMapPutValueSinkFactory.INSTANCE);
     chain.addLast(ListAddValueSinkFactory.INSTANCE);
     chain.addLast(ArrayAppendValueSinkFactory.INSTANCE);
     chain.addLast(AssignValueSinkFactory.INSTANCE);
@@ -1,6 +1,7 @@
 package com.sigpwned.discourse.core.module;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -12,26 +13,34 @@ import com.sigpwned.discourse.core.pipeline.invocation.InvocationContext;
 import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineListener;
 
 public class DefaultParameterValueModule extends com.sigpwned.discourse.core.Module {
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static final InvocationContext.Key<Map<String, Object>> DEFAULT_PARAMETER_VALUES_KEY =
+      (InvocationContext.Key) InvocationContext.Key
+          .of(DefaultParameterValueModule.class.getName() + ".defaultParameterValues", Map.class);
+
   @Override
   public void registerListeners(Chain<InvocationPipelineListener> chain) {
     chain.addFirst(new InvocationPipelineListener() {
-      private Map<String, Object> defaultParameterValues;
-
       @Override
       public <T> void afterPlanStep(ResolvedCommand<? extends T> resolvedCommand,
           PlannedCommand<? extends T> plannedCommand, InvocationContext context) {
-        defaultParameterValues = new HashMap<>();
+        Map<String, Object> defaultParameterValues = new HashMap<>();
         for (PlannedCommandProperty property : plannedCommand.getProperties()) {
           if (property.getDefaultValue().isPresent()) {
             defaultParameterValues.put(property.getName(),
                 property.getDefaultValue().orElseThrow());
           }
         }
+
+        context.set(DEFAULT_PARAMETER_VALUES_KEY, unmodifiableMap(defaultParameterValues));
       }
 
       @Override
       public void afterMapStep(Map<String, List<String>> groupedArgs,
           Map<String, List<Object>> mappedArgs, InvocationContext context) {
+        Map<String, Object> defaultParameterValues = context.get(DEFAULT_PARAMETER_VALUES_KEY)
+            .orElseThrow(key -> new IllegalStateException("defaultParameterValues not set"));
+
         for (Map.Entry<String, Object> defaultParameterValue : defaultParameterValues.entrySet()) {
           if (mappedArgs.getOrDefault(defaultParameterValue.getKey(), emptyList()).isEmpty()) {
             mappedArgs.put(defaultParameterValue.getKey(),
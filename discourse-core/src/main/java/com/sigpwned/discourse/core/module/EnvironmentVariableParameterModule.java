@@ -20,19 +20,17 @@
 package com.sigpwned.discourse.core.module;
 
 import static java.util.Collections.unmodifiableMap;
-import static java.util.Collections.unmodifiableSet;
-import java.util.HashSet;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import com.sigpwned.discourse.core.Chain;
 import com.sigpwned.discourse.core.Module;
 import com.sigpwned.discourse.core.args.Coordinate;
-import com.sigpwned.discourse.core.args.Token;
 import com.sigpwned.discourse.core.module.parameter.environmentvariable.EnvironmentVariableCoordinate;
 import com.sigpwned.discourse.core.module.parameter.environmentvariable.EnvironmentVariableParameter;
 import com.sigpwned.discourse.core.pipeline.invocation.InvocationContext;
-import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineListener;
+import com.sigpwned.discourse.core.pipeline.invocation.step.ParseStep;
 import com.sigpwned.discourse.core.pipeline.invocation.step.preprocess.coordinates.CoordinatesPreprocessor;
 import com.sigpwned.discourse.core.pipeline.invocation.step.scan.SyntaxDetector;
 import com.sigpwned.discourse.core.pipeline.invocation.step.scan.exception.NoAnnotationCoordinatesScanException;
@@ -42,8 +40,6 @@ import com.sigpwned.discourse.core.util.Maybe;
 import com.sigpwned.discourse.core.util.Streams;
 
 public class EnvironmentVariableParameterModule extends Module {
-  private Set<EnvironmentVariableCoordinate> coordinates;
-
   @Override
   public void registerSyntaxDetectors(Chain<SyntaxDetector> chain) {
     chain.addFirst(new SyntaxDetector() {
@@ -72,48 +68,33 @@ public class EnvironmentVariableParameterModule extends Module {
   public void registerCoordinatesPreprocessors(Chain<CoordinatesPreprocessor> chain) {
     chain.addLast(new CoordinatesPreprocessor() {
       @Override
-      public Map<Coordinate, String> preprocess(Map<Coordinate, String> originalCoordinates) {
-        if (coordinates != null) {
-          // Because of the documented order of operations, this should never happen
-          throw new IllegalStateException("coordinates already set");
-        }
+      public Map<Coordinate, String> preprocess(Map<Coordinate, String> coordinates) {
+        // Without an invocation, there is no Parse step to give the variables' values to. The
+        // coordinates don't change either way.
+        return unmodifiableMap(coordinates);
+      }
 
-        Set<EnvironmentVariableCoordinate> coordinates = new HashSet<>();
+      @Override
+      public Map<Coordinate, String> preprocess(Map<Coordinate, String> originalCoordinates,
+          InvocationContext context) {
+        // Values from outside the command line go to the Parse step, which adds them to the
+        // parsed arguments
+        List<Map.Entry<Coordinate, String>> args = new ArrayList<>();
         for (Map.Entry<Coordinate, String> entry : originalCoordinates.entrySet()) {
           Coordinate coordinate = entry.getKey();
           if (coordinate instanceof EnvironmentVariableCoordinate env) {
-            coordinates.add(env);
+            String variableValue = System.getenv(env.getVariableName());
+            if (variableValue != null)
+              args.add(Map.entry(env, variableValue));
           }
         }
 
-        Map<Coordinate, String> preprocessedCoordinates = originalCoordinates;
+        ParseStep.addSupplementaryArgs(context, args);
 
-        EnvironmentVariableParameterModule.this.coordinates = unmodifiableSet(coordinates);
+        Map<Coordinate, String> preprocessedCoordinates = originalCoordinates;
 
         return unmodifiableMap(preprocessedCoordinates);
       }
     });
   }
-
-  @Override
-  public void registerListeners(Chain<InvocationPipelineListener> chain) {
-    chain.addLast(new InvocationPipelineListener() {
-      @Override
-      public void afterParseStep(List<Token> preprocessedTokens,
-          List<Map.Entry<Coordinate, String>> parsedArgs, InvocationContext context) {
-        if (coordinates == null) {
-          // Because of the documented order of operations, this should never happen
-          throw new IllegalStateException("coordinates not set");
-        }
-
-        for (EnvironmentVariableCoordinate coordinate : coordinates) {
-          String variableName = coordinate.getVariableName();
-          String variableValue = System.getenv(variableName);
-          if (variableValue != null) {
-            parsedArgs.add(Map.entry(coordinate, variableValue));
-          }
-        }
-      }
-    });
-  }
 }
@@ -21,6 +21,7 @@ package com.sigpwned.discourse.core.module;
 
 import static java.util.Collections.unmodifiableList;
 import static java.util.Collections.unmodifiableMap;
+import static java.util.Collections.unmodifiableSet;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -48,7 +49,14 @@ import com.sigpwned.discourse.core.util.Maybe;
 import com.sigpwned.discourse.core.util.Streams;
 
 public class FlagParameterModule extends Module {
-  private Set<SwitchName> flags;
+  /**
+   * The switch names of the flags for the current invocation. This is invocation-scoped state, so
+   * it lives in the {@link InvocationContext} instead of a field.
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static final InvocationContext.Key<Set<SwitchName>> FLAGS_KEY =
+      (InvocationContext.Key) InvocationContext.Key
+          .of(FlagParameterModule.class.getName() + ".flags", Set.class);
 
   @Override
   public void registerSyntaxDetectors(Chain<SyntaxDetector> chain) {
@@ -80,41 +88,59 @@ public class FlagParameterModule extends Module {
     chain.addLast(new CoordinatesPreprocessor() {
       @Override
       public Map<Coordinate, String> preprocess(Map<Coordinate, String> coordinates) {
-        if (flags != null) {
-          // Because of the documented order of operations, this should never happen.
-          throw new IllegalStateException("flags already set");
-        }
+        // Without an invocation, there is no Preprocess Tokens step to tell about the flags
+        return toOptionCoordinates(coordinates, new HashSet<>());
+      }
 
+      @Override
+      public Map<Coordinate, String> preprocess(Map<Coordinate, String> coordinates,
+          InvocationContext context) {
         Set<SwitchName> flags = new HashSet<>();
-        Map<Coordinate, String> preprocessedCoordinates = new HashMap<>();
-        for (Map.Entry<Coordinate, String> entry : coordinates.entrySet()) {
-          Coordinate coordinate = entry.getKey();
-          String propertyName = entry.getValue();
-          if (coordinate instanceof FlagCoordinate flag) {
-            flags.add(flag.getName());
-            preprocessedCoordinates.put(new OptionCoordinate(flag.getName()), propertyName);
-          } else {
-            preprocessedCoordinates.put(coordinate, propertyName);
-          }
-        }
+        Map<Coordinate, String> preprocessedCoordinates = toOptionCoordinates(coordinates, flags);
 
-        FlagParameterModule.this.flags = flags;
+        context.set(FLAGS_KEY, unmodifiableSet(flags));
 
-        return unmodifiableMap(preprocessedCoordinates);
+        return preprocessedCoordinates;
       }
     });
   }
 
+  /**
+   * Replaces each flag coordinate with an option coordinate of the same name, and adds that name
+   * to the given flags.
+   */
+  private static Map<Coordinate, String> toOptionCoordinates(Map<Coordinate, String> coordinates,
+      Set<SwitchName> flags) {
+    Map<Coordinate, String> preprocessedCoordinates = new HashMap<>();
+    for (Map.Entry<Coordinate, String> entry : coordinates.entrySet()) {
+      Coordinate coordinate = entry.getKey();
+      String propertyName = entry.getValue();
+      if (coordinate instanceof FlagCoordinate flag) {
+        flags.add(flag.getName());
+        preprocessedCoordinates.put(new OptionCoordinate(flag.getName()), propertyName);
+      } else {
+        preprocessedCoordinates.put(coordinate, propertyName);
+      }
+    }
+    return unmodifiableMap(preprocessedCoordinates);
+  }
+
   @Override
   public void registerTokensPreprocessors(Chain<TokensPreprocessor> chain) {
-    // TODO Where should I get the flags from?
     chain.addLast(new TokensPreprocessor() {
       @Override
       public List<Token> preprocessTokens(List<Token> tokens) {
-        if (flags == null) {
-          // Because of the documented order of operations, this should never happen.
-          throw new IllegalStateException("flags not set");
-        }
+        // Without an invocation, no Preprocess Coordinates step has said which switches are
+        // flags, so there are no values to add
+        return unmodifiableList(tokens);
+      }
+
+      @Override
+      public List<Token> preprocessTokens(List<Token> tokens, InvocationContext context) {
+        // Because of the documented order of operations, this should always be set.
+        Set<SwitchName> flags = context.get(FLAGS_KEY)
+            .orElseThrow(key -> new IllegalStateException("flags not set"));
+
         List<Token> result = new ArrayList<>(tokens.size());
         for (Token token : tokens) {
           result.add(token);
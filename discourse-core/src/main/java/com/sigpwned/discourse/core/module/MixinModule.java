@@ -20,6 +20,7 @@ import com.sigpwned.discourse.core.pipeline.invocation.InvocationContext;
 import com.sigpwned.discourse.core.pipeline.invocation.step.ScanStep;
 import com.sigpwned.discourse.core.pipeline.invocation.step.scan.NamingScheme;
 import com.sigpwned.discourse.core.pipeline.invocation.step.scan.RuleDetector;
+import com.sigpwned.discourse.core.pipeline.invocation.step.scan.BoundRule;
 import com.sigpwned.discourse.core.pipeline.invocation.step.scan.RuleEvaluator;
 import com.sigpwned.discourse.core.pipeline.invocation.step.scan.RuleNominator;
 import com.sigpwned.discourse.core.pipeline.invocation.step.scan.SyntaxDetector;
@@ -30,9 +31,9 @@ import com.sigpwned.discourse.core.pipeline.invocation.step.scan.model.NamedRule
 import com.sigpwned.discourse.core.pipeline.invocation.step.scan.model.NamedSyntax;
 import com.sigpwned.discourse.core.pipeline.invocation.step.scan.model.RuleDetection;
 import com.sigpwned.discourse.core.pipeline.invocation.step.scan.model.SyntaxDetection;
-import com.sigpwned.discourse.core.util.JodaBeanUtils;
 import com.sigpwned.discourse.core.util.Maybe;
 import com.sigpwned.discourse.core.util.MoreLists;
+import com.sigpwned.discourse.core.util.type.TypeShape;
 
 public class MixinModule extends Module {
   // TODO what if someone annotations the field with @DiscourseMixin, but we have to use a setter?
@@ -98,26 +99,19 @@ public class MixinModule extends Module {
     }
   }
 
-  private Set<Class<?>> mixinTypes = new HashSet<>();
-
   @Override
   public void registerSyntaxNominators(final Chain<SyntaxNominator> syntaxNominatorChain) {
     syntaxNominatorChain.addLast(new SyntaxNominator() {
-      private NamingScheme naming;
-      private InvocationContext context;
-
       @Override
       public List<CandidateSyntax> nominateSyntax(Class<?> clazz, InvocationContext context) {
-        this.naming = context.get(ScanStep.NAMING_SCHEME_KEY).orElseThrow();
+        NamingScheme naming = context.get(ScanStep.NAMING_SCHEME_KEY).orElseThrow();
 
-        this.context = context;
-
-        return walk(new ArrayList<>(), new ArrayList<>(), clazz);
+        return walk(naming, context, new ArrayList<>(), new ArrayList<>(), clazz);
       }
 
 
-      private List<CandidateSyntax> walk(List<Class<?>> walking, List<String> lineage,
-          Class<?> clazz) {
+      private List<CandidateSyntax> walk(NamingScheme naming, InvocationContext context,
+          List<Class<?>> walking, List<String> lineage, Class<?> clazz) {
         if (walking.contains(clazz)) {
           walking.add(clazz);
           int index = walking.indexOf(clazz);
@@ -148,13 +142,11 @@ public class MixinModule extends Module {
                       new MixinNomination(String.join(".", lineage), name, candidate.nominated()),
                       candidate.genericType(), candidate.annotations()));
 
-              mixinTypes.add(JodaBeanUtils.eraseToClass(candidate.genericType()));
-
               walking.add(clazz);
               lineage.add(name);
               try {
-                result.addAll(
-                    walk(walking, lineage, JodaBeanUtils.eraseToClass(candidate.genericType())));
+                result.addAll(walk(naming, context, walking, lineage,
+                    TypeShape.of(candidate.genericType()).getRawClass()));
               } finally {
                 walking.remove(walking.size() - 1);
                 lineage.remove(lineage.size() - 1);
@@ -207,22 +199,17 @@ public class MixinModule extends Module {
   @Override
   public void registerRuleNominators(Chain<RuleNominator> ruleNominatorChain) {
     ruleNominatorChain.addLast(new RuleNominator() {
-      private NamingScheme naming;
-      private InvocationContext context;
-
       @Override
       public List<CandidateRule> nominateRules(Class<?> clazz, List<NamedSyntax> syntax,
           InvocationContext context) {
-        this.naming = context.get(ScanStep.NAMING_SCHEME_KEY).orElseThrow();
-
-        this.context = context;
+        NamingScheme naming = context.get(ScanStep.NAMING_SCHEME_KEY).orElseThrow();
 
-        return walk(new ArrayList<>(), new ArrayList<>(), clazz, syntax);
+        return walk(naming, context, new ArrayList<>(), new ArrayList<>(), clazz, syntax);
       }
 
 
-      private List<CandidateRule> walk(List<Class<?>> walking, List<String> lineage, Class<?> clazz,
-          List<NamedSyntax> syntax) {
+      private List<CandidateRule> walk(NamingScheme naming, InvocationContext context,
+          List<Class<?>> walking, List<String> lineage, Class<?> clazz, List<NamedSyntax> syntax) {
         if (walking.contains(clazz)) {
           walking.add(clazz);
           int index = walking.indexOf(clazz);
@@ -255,8 +242,8 @@ public class MixinModule extends Module {
               walking.add(clazz);
               lineage.add(name);
               try {
-                result.addAll(walk(walking, lineage,
-                    JodaBeanUtils.eraseToClass(candidate.genericType()), syntax));
+                result.addAll(walk(naming, context, walking, lineage,
+                    TypeShape.of(candidate.genericType()).getRawClass(), syntax));
               } finally {
                 walking.remove(walking.size() - 1);
                 lineage.remove(lineage.size() - 1);
@@ -352,6 +339,27 @@ public class MixinModule extends Module {
 
         return Optional.empty();
       }
+
+      @Override
+      public Maybe<BoundRule> bind(NamedRule rule) {
+        if (!(rule.nominated() instanceof MixinNomination mixin)) {
+          return Maybe.maybe();
+        }
+
+        for (RuleEvaluator evaluator : ruleEvaluatorChain) {
+          if (evaluator == this)
+            continue;
+
+          Maybe<BoundRule> result =
+              evaluator.bind(new NamedRule(mixin.name, mixin.nominated, rule.genericType(),
+                  rule.annotations(), rule.antecedents(), rule.conditions(), rule.consequent()));
+
+          if (result.isDecided())
+            return result;
+        }
+
+        return Maybe.maybe();
+      }
     });
   }
 
@@ -383,13 +391,20 @@ public class MixinModule extends Module {
       @Override
       public Optional<ValueDeserializer<? extends Object>> getDeserializer(Type genericType,
           List<Annotation> annotations) {
-        if (mixinTypes.contains(JodaBeanUtils.eraseToClass(genericType))) {
+        // Only the mixin fields themselves have this annotation, so this doesn't depend on what
+        // has been scanned so far, and can be cached
+        if (annotations.stream().anyMatch(a -> a instanceof DiscourseMixin)) {
           return Optional.of(s -> {
             throw new UnsupportedOperationException("cannot deserialize mixin type");
           });
         }
         return Optional.empty();
       }
+
+      @Override
+      public boolean isCacheable() {
+        return true;
+      }
     });
   }
 }
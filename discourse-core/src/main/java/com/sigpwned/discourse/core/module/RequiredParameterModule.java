@@ -1,5 +1,6 @@
 package com.sigpwned.discourse.core.module;
 
+import static java.util.Collections.unmodifiableSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -13,15 +14,18 @@ import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineListene
 import com.sigpwned.discourse.core.pipeline.invocation.step.resolve.model.CommandResolution;
 
 public class RequiredParameterModule extends Module {
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static final InvocationContext.Key<Set<String>> REQUIRED_PARAMETERS_KEY =
+      (InvocationContext.Key) InvocationContext.Key
+          .of(RequiredParameterModule.class.getName() + ".requiredParameters", Set.class);
+
   @Override
   public void registerListeners(Chain<InvocationPipelineListener> chain) {
     chain.addFirst(new InvocationPipelineListener() {
-      private Set<String> requiredParameters;
-
       @Override
       public <T> void afterResolveStep(List<String> args, CommandResolution<? extends T> resolution,
           InvocationContext context) {
-        requiredParameters = new HashSet<>();
+        Set<String> requiredParameters = new HashSet<>();
 
         ResolvedCommand<? extends T> resolvedCommand = resolution.getCommand();
 
@@ -30,11 +34,16 @@ public class RequiredParameterModule extends Module {
             requiredParameters.add(property.getName());
           }
         }
+
+        context.set(REQUIRED_PARAMETERS_KEY, unmodifiableSet(requiredParameters));
       }
 
       @Override
       public void afterPostprocessPropertiesStep(Map<String, Object> reducedArgs,
           Map<String, Object> postprocessedArgs, InvocationContext context) {
+        Set<String> requiredParameters = context.get(REQUIRED_PARAMETERS_KEY)
+            .orElseThrow(key -> new IllegalStateException("requiredParameters not set"));
+
         for (String requiredParameter : requiredParameters) {
           if (postprocessedArgs.get(requiredParameter) == null) {
             // TODO better exception
@@ -20,19 +20,17 @@
 package com.sigpwned.discourse.core.module;
 
 import static java.util.Collections.unmodifiableMap;
-import static java.util.Collections.unmodifiableSet;
-import java.util.HashSet;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import com.sigpwned.discourse.core.Chain;
 import com.sigpwned.discourse.core.Module;
 import com.sigpwned.discourse.core.args.Coordinate;
-import com.sigpwned.discourse.core.args.Token;
 import com.sigpwned.discourse.core.module.parameter.systemproperty.SystemPropertyCoordinate;
 import com.sigpwned.discourse.core.module.parameter.systemproperty.SystemPropertyParameter;
 import com.sigpwned.discourse.core.pipeline.invocation.InvocationContext;
-import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineListener;
+import com.sigpwned.discourse.core.pipeline.invocation.step.ParseStep;
 import com.sigpwned.discourse.core.pipeline.invocation.step.preprocess.coordinates.CoordinatesPreprocessor;
 import com.sigpwned.discourse.core.pipeline.invocation.step.scan.SyntaxDetector;
 import com.sigpwned.discourse.core.pipeline.invocation.step.scan.exception.NoAnnotationCoordinatesScanException;
@@ -42,8 +40,6 @@ import com.sigpwned.discourse.core.util.Maybe;
 import com.sigpwned.discourse.core.util.Streams;
 
 public class SystemPropertyParameterModule extends Module {
-  private Set<SystemPropertyCoordinate> coordinates;
-
   @Override
   public void registerSyntaxDetectors(Chain<SyntaxDetector> chain) {
     chain.addFirst(new SyntaxDetector() {
@@ -71,48 +67,33 @@ public class SystemPropertyParameterModule extends Module {
   public void registerCoordinatesPreprocessors(Chain<CoordinatesPreprocessor> chain) {
     chain.addLast(new CoordinatesPreprocessor() {
       @Override
-      public Map<Coordinate, String> preprocess(Map<Coordinate, String> originalCoordinates) {
-        if (coordinates != null) {
-          // Because of the documented order of operations, this should never happen
-          throw new IllegalStateException("coordinates already set");
-        }
+      public Map<Coordinate, String> preprocess(Map<Coordinate, String> coordinates) {
+        // Without an invocation, there is no Parse step to give the properties' values to. The
+        // coordinates don't change either way.
+        return unmodifiableMap(coordinates);
+      }
 
-        Set<SystemPropertyCoordinate> coordinates = new HashSet<>();
+      @Override
+      public Map<Coordinate, String> preprocess(Map<Coordinate, String> originalCoordinates,
+          InvocationContext context) {
+        // Values from outside the command line go to the Parse step, which adds them to the
+        // parsed arguments
+        List<Map.Entry<Coordinate, String>> args = new ArrayList<>();
         for (Map.Entry<Coordinate, String> entry : originalCoordinates.entrySet()) {
           Coordinate coordinate = entry.getKey();
-          if (coordinate instanceof SystemPropertyCoordinate env) {
-            coordinates.add(env);
+          if (coordinate instanceof SystemPropertyCoordinate property) {
+            String propertyValue = System.getProperty(property.getPropertyName());
+            if (propertyValue != null)
+              args.add(Map.entry(property, propertyValue));
           }
         }
 
-        Map<Coordinate, String> preprocessedCoordinates = originalCoordinates;
+        ParseStep.addSupplementaryArgs(context, args);
 
-        SystemPropertyParameterModule.this.coordinates = unmodifiableSet(coordinates);
+        Map<Coordinate, String> preprocessedCoordinates = originalCoordinates;
 
         return unmodifiableMap(preprocessedCoordinates);
       }
     });
   }
-
-  @Override
-  public void registerListeners(Chain<InvocationPipelineListener> chain) {
-    chain.addLast(new InvocationPipelineListener() {
-      @Override
-      public void afterParseStep(List<Token> preprocessedTokens,
-          List<Map.Entry<Coordinate, String>> parsedArgs, InvocationContext context) {
-        if (coordinates == null) {
-          // Because of the documented order of operations, this should never happen
-          throw new IllegalStateException("coordinates not set");
-        }
-
-        for (SystemPropertyCoordinate coordinate : coordinates) {
-          String propertyName = coordinate.getPropertyName();
-          String propertyValue = System.getenv(propertyName);
-          if (propertyValue != null) {
-            parsedArgs.add(Map.entry(coordinate, propertyValue));
-          }
-        }
-      }
-    });
-  }
 }
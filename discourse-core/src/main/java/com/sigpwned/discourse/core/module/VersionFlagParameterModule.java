@@ -19,6 +19,7 @@
  */
 package com.sigpwned.discourse.core.module;
 
+import static java.util.Collections.unmodifiableSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -43,7 +44,10 @@ import com.sigpwned.discourse.core.util.Maybe;
 import com.sigpwned.discourse.core.util.Streams;
 
 public class VersionFlagParameterModule extends Module {
-  private Set<String> propertyNames;
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static final InvocationContext.Key<Set<String>> PROPERTY_NAMES_KEY =
+      (InvocationContext.Key) InvocationContext.Key
+          .of(VersionFlagParameterModule.class.getName() + ".propertyNames", Set.class);
 
   @Override
   public void registerSyntaxDetectors(Chain<SyntaxDetector> chain) {
@@ -76,11 +80,6 @@ public class VersionFlagParameterModule extends Module {
       @Override
       public void beforePreprocessCoordinatesStep(Map<Coordinate, String> originalCoordinates,
           InvocationContext context) {
-        if (propertyNames != null) {
-          // Because of the documented order of operations, this should never happen.
-          throw new IllegalStateException("propertyNames already set");
-        }
-
         Set<String> propertyNames = new HashSet<>();
         for (Map.Entry<Coordinate, String> entry : originalCoordinates.entrySet()) {
           Coordinate coordinate = entry.getKey();
@@ -90,16 +89,15 @@ public class VersionFlagParameterModule extends Module {
           }
         }
 
-        VersionFlagParameterModule.this.propertyNames = propertyNames;
+        context.set(PROPERTY_NAMES_KEY, unmodifiableSet(propertyNames));
       }
 
       @Override
       public void afterMapStep(Map<String, List<String>> groupedArgs,
           Map<String, List<Object>> mappedArgs, InvocationContext context) {
-        if (propertyNames == null) {
-          // Because of the documented order of operations, this should never happen.
-          throw new IllegalStateException("propertyNames not set");
-        }
+        // Because of the documented order of operations, this should always be set.
+        Set<String> propertyNames = context.get(PROPERTY_NAMES_KEY)
+            .orElseThrow(key -> new IllegalStateException("propertyNames not set"));
 
         for (String propertyName : propertyNames) {
           List<Object> mappedArgValues = mappedArgs.get(propertyName);
@@ -36,4 +36,9 @@ public class BigDecimalValueDeserializerFactory implements ValueDeserializerFact
       return Optional.empty();
     return Optional.of(BigDecimal::new);
   }
+
+  @Override
+  public boolean isCacheable() {
+    return true;
+  }
 }
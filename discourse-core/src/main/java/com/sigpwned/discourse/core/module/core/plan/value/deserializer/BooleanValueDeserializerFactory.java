@@ -34,10 +34,10 @@ public class BooleanValueDeserializerFactory implements ValueDeserializerFactory
       List<Annotation> annotations) {
     if (genericType != boolean.class && genericType != Boolean.class)
       return Optional.empty();
-    return Optional.of(new ValueDeserializer<Boolean>() {
+    return Optional.of(new ValueDeserializer.OfBoolean() {
       @Override
-      public Boolean deserialize(String value) {
-        return Boolean.valueOf(value);
+      public boolean deserializeBoolean(String value) {
+        return Boolean.parseBoolean(value);
       }
 
       @Override
@@ -51,4 +51,9 @@ public class BooleanValueDeserializerFactory implements ValueDeserializerFactory
       }
     });
   }
+
+  @Override
+  public boolean isCacheable() {
+    return true;
+  }
 }
@@ -34,4 +34,9 @@ public class ByteValueDeserializerFactory implements ValueDeserializerFactory<By
       return Optional.empty();
     return Optional.of(Byte::valueOf);
   }
+
+  @Override
+  public boolean isCacheable() {
+    return true;
+  }
 }
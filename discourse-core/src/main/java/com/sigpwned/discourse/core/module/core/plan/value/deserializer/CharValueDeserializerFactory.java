@@ -40,4 +40,9 @@ public class CharValueDeserializerFactory implements ValueDeserializerFactory<Ch
       return Character.valueOf(value.charAt(0));
     });
   }
+
+  @Override
+  public boolean isCacheable() {
+    return true;
+  }
 }
@@ -55,4 +55,9 @@ public class DiscourseDeserializeValueSerializerFactory
 
     return Optional.of(deserializer);
   }
+
+  @Override
+  public boolean isCacheable() {
+    return true;
+  }
 }
@@ -28,11 +28,18 @@ public class DoubleValueDeserializerFactory implements ValueDeserializerFactory<
   public static final DoubleValueDeserializerFactory INSTANCE =
       new DoubleValueDeserializerFactory();
 
+  private static final ValueDeserializer.OfDouble DESERIALIZER = Double::parseDouble;
+
   @Override
   public Optional<ValueDeserializer<? extends Double>> getDeserializer(Type genericType,
       List<Annotation> annotations) {
     if (genericType != double.class && genericType != Double.class)
       return Optional.empty();
-    return Optional.of(Double::valueOf);
+    return Optional.of(DESERIALIZER);
+  }
+
+  @Override
+  public boolean isCacheable() {
+    return true;
   }
 }
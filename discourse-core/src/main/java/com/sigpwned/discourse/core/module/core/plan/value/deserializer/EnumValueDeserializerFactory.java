@@ -19,38 +19,190 @@
  */
 package com.sigpwned.discourse.core.module.core.plan.value.deserializer;
 
+import static java.lang.String.format;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import com.sigpwned.discourse.core.annotation.DiscourseAlias;
+import com.sigpwned.discourse.core.annotation.DiscourseIgnoreCase;
+import com.sigpwned.discourse.core.util.Text;
 
+/**
+ * <p>
+ * Deserializes enum constants by {@link Enum#name() name}, or by {@link DiscourseAlias alias}.
+ * Matching is case-sensitive unless the property or the enum class has the
+ * {@link DiscourseIgnoreCase} annotation.
+ * </p>
+ *
+ * <p>
+ * Each enum class gets a lookup table the first time it is used, which is kept for as long as the
+ * class is, so deserializing a value is a hash lookup no matter how many constants there are. If a
+ * value doesn't match, then the exception message names the closest valid values.
+ * </p>
+ */
 public class EnumValueDeserializerFactory implements ValueDeserializerFactory<Enum<?>> {
   public static final EnumValueDeserializerFactory INSTANCE = new EnumValueDeserializerFactory();
 
-  @Override
-  public Optional<ValueDeserializer<? extends Enum<?>>> getDeserializer(Type genericType,
-      List<Annotation> annotations) {
-    List<Enum<?>> cs = null;
-    if (genericType instanceof Class<?>) {
-      Class<?> classType = (Class<?>) genericType;
-      if (classType.getEnumConstants() != null) {
-        cs = new ArrayList<>(classType.getEnumConstants().length);
-        for (Object o : classType.getEnumConstants()) {
-          cs.add((Enum<?>) o);
+  /**
+   * The most suggestions to give for a bad value
+   */
+  private static final int MAX_SUGGESTIONS = 3;
+
+  /**
+   * If an enum has at most this many names and aliases, and none of them is close to a bad value,
+   * then we list them all. Otherwise, the list would be too long to be useful.
+   */
+  private static final int MAX_LISTED_CANDIDATES = 10;
+
+  private static final ClassValue<EnumTable> TABLES = new ClassValue<>() {
+    @Override
+    protected EnumTable computeValue(Class<?> type) {
+      return type.isEnum() ? new EnumTable(type) : null;
+    }
+  };
+
+  /**
+   * The lookup tables and deserializers for one enum class.
+   */
+  private static final class EnumTable {
+    private final Class<?> enumClass;
+
+    /**
+     * Every name and alias
+     */
+    private final Map<String, Enum<?>> exact;
+
+    /**
+     * Every name and alias, in lower case. If two names or aliases are the same in lower case but
+     * belong to different constants, then that key maps to {@code null}, and only matches exactly.
+     */
+    private final Map<String, Enum<?>> folded;
+
+    /**
+     * Every name and alias, in order of declaration, for suggestions
+     */
+    private final List<String> candidates;
+
+    private final boolean ignoreCaseByDefault;
+
+    private final ValueDeserializer<Enum<?>> caseSensitiveDeserializer;
+
+    private final ValueDeserializer<Enum<?>> caseInsensitiveDeserializer;
+
+    public EnumTable(Class<?> enumClass) {
+      Map<String, Enum<?>> exact = new HashMap<>();
+      Map<String, Enum<?>> folded = new HashMap<>();
+      List<String> candidates = new ArrayList<>();
+      for (Object o : enumClass.getEnumConstants()) {
+        Enum<?> constant = (Enum<?>) o;
+        put(enumClass, exact, folded, candidates, constant.name(), constant);
+
+        DiscourseAlias alias;
+        try {
+          alias = enumClass.getDeclaredField(constant.name()).getAnnotation(DiscourseAlias.class);
+        } catch (NoSuchFieldException e) {
+          // Every enum constant is a field of its enum class. This should never happen.
+          throw new AssertionError("enum constant without field", e);
+        }
+        if (alias != null) {
+          for (String name : alias.value())
+            put(enumClass, exact, folded, candidates, name, constant);
         }
       }
+
+      this.enumClass = enumClass;
+      this.exact = exact;
+      this.folded = folded;
+      this.candidates = List.copyOf(candidates);
+      this.ignoreCaseByDefault = enumClass.isAnnotationPresent(DiscourseIgnoreCase.class);
+      this.caseSensitiveDeserializer = s -> deserialize(s, false);
+      this.caseInsensitiveDeserializer = s -> deserialize(s, true);
+    }
+
+    private static void put(Class<?> enumClass, Map<String, Enum<?>> exact,
+        Map<String, Enum<?>> folded, List<String> candidates, String name, Enum<?> constant) {
+      Enum<?> existing = exact.putIfAbsent(name, constant);
+      if (existing != null && existing != constant) {
+        throw new IllegalArgumentException(format("Enum %s uses name %s for both %s and %s",
+            enumClass.getName(), name, existing.name(), constant.name()));
+      }
+      if (existing == null)
+        candidates.add(name);
+
+      String key = name.toLowerCase(Locale.ROOT);
+      if (folded.containsKey(key)) {
+        if (folded.get(key) != constant)
+          folded.put(key, null);
+      } else {
+        folded.put(key, constant);
+      }
+    }
+
+    public ValueDeserializer<Enum<?>> getDeserializer(List<Annotation> annotations) {
+      boolean ignoreCase = ignoreCaseByDefault
+          || annotations.stream().anyMatch(a -> a instanceof DiscourseIgnoreCase);
+      return ignoreCase ? caseInsensitiveDeserializer : caseSensitiveDeserializer;
+    }
+
+    private Enum<?> deserialize(String s, boolean ignoreCase) {
+      Enum<?> result = exact.get(s);
+      if (result == null && ignoreCase)
+        result = folded.get(s.toLowerCase(Locale.ROOT));
+      if (result == null)
+        throw new IllegalArgumentException(unrecognized(s));
+      return result;
+    }
+
+    private String unrecognized(String s) {
+      final String key = s.toLowerCase(Locale.ROOT);
+      final int threshold = Math.max(2, key.length() / 3);
+
+      List<Map.Entry<String, Integer>> distances = new ArrayList<>();
+      for (String candidate : candidates) {
+        int distance = Text.editDistance(key, candidate.toLowerCase(Locale.ROOT));
+        if (distance <= threshold)
+          distances.add(Map.entry(candidate, distance));
+      }
+
+      // The sort is stable, so ties stay in order of declaration
+      List<String> suggestions =
+          distances.stream().sorted(Comparator.comparing(Map.Entry::getValue))
+              .limit(MAX_SUGGESTIONS).map(Map.Entry::getKey).toList();
+
+      if (!suggestions.isEmpty()) {
+        return format("Unrecognized %s value %s, did you mean %s?", enumClass.getSimpleName(), s,
+            String.join(", ", suggestions));
+      }
+      if (candidates.size() <= MAX_LISTED_CANDIDATES) {
+        return format("Unrecognized %s value %s, expected one of %s", enumClass.getSimpleName(),
+            s, String.join(", ", candidates));
+      }
+      return format("Unrecognized %s value %s", enumClass.getSimpleName(), s);
     }
+  }
 
-    if (cs == null)
+  @Override
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public Optional<ValueDeserializer<? extends Enum<?>>> getDeserializer(Type genericType,
+      List<Annotation> annotations) {
+    if (!(genericType instanceof Class<?> classType))
       return Optional.empty();
 
-    final List<Enum<?>> constants = cs;
-    return Optional.of(s -> {
-      for (Enum<?> constant : constants)
-        if (constant.name().equals(s))
-          return constant;
-      throw new IllegalArgumentException(s);
-    });
+    EnumTable table = TABLES.get(classType);
+    if (table == null)
+      return Optional.empty();
+
+    return (Optional) Optional.of(table.getDeserializer(annotations));
+  }
+
+  @Override
+  public boolean isCacheable() {
+    return true;
   }
 }
@@ -36,4 +36,9 @@ public class FileValueDeserializerFactory implements ValueDeserializerFactory<Fi
       return Optional.empty();
     return Optional.of(File::new);
   }
+
+  @Override
+  public boolean isCacheable() {
+    return true;
+  }
 }
@@ -34,4 +34,9 @@ public class FloatValueDeserializerFactory implements ValueDeserializerFactory<F
       return Optional.empty();
     return Optional.of(Float::valueOf);
   }
+
+  @Override
+  public boolean isCacheable() {
+    return true;
+  }
 }
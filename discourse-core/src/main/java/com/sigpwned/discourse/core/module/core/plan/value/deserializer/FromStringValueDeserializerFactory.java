@@ -26,7 +26,7 @@ import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.util.List;
 import java.util.Optional;
-import com.sigpwned.discourse.core.util.JodaBeanUtils;
+import com.sigpwned.discourse.core.util.type.TypeShape;
 
 /**
  * <p>
@@ -48,46 +48,59 @@ public class FromStringValueDeserializerFactory implements ValueDeserializerFact
   public static final FromStringValueDeserializerFactory INSTANCE =
       new FromStringValueDeserializerFactory();
 
+  /**
+   * The fromString method of each class, or {@code null} if it doesn't have a suitable one. Finding
+   * out that a class has no such method costs an exception, so we only look once per class.
+   */
+  private static final ClassValue<Method> FROM_STRING_METHODS = new ClassValue<>() {
+    @Override
+    protected Method computeValue(Class<?> classType) {
+      // Get the fromString method. If the raw type were T, then it should have a signature like:
+      //
+      // public static U fromString(String s);
+      //
+      // Where U extends T. If no such method exists, then we can't deserialize this class.
+      Method fromString;
+      try {
+        fromString = classType.getMethod("fromString", String.class);
+      } catch (NoSuchMethodException e) {
+        // This class has no fromString method. That's fine. It just means that this class is not
+        // deserializable by this factory.
+        return null;
+      }
+      if (!Modifier.isStatic(fromString.getModifiers())) {
+        // The class has a fromString method, but it's not static. That's fine. It just means that
+        // this class is not deserializable by this factory.
+        return null;
+      }
+      if (!Modifier.isPublic(fromString.getModifiers())) {
+        // The class has a fromString method, but it's not public. That's fine. It just means that
+        // this class is not deserializable by this factory.
+        return null;
+      }
+      if (!classType.isAssignableFrom(fromString.getReturnType())) {
+        // The class has a fromString method, but it's return type is not assignable to the class
+        // type. That's fine. It just means that this class is not deserializable by this factory.
+        return null;
+      }
+      return fromString;
+    }
+  };
+
   @Override
   public Optional<ValueDeserializer<? extends Object>> getDeserializer(Type genericType,
       List<Annotation> annotations) {
     // Get the raw class type of the generic type.
-    Class<?> classType = JodaBeanUtils.eraseToClass(genericType);
+    Class<?> classType = TypeShape.of(genericType).getRawClass();
     if (classType == null) {
       // There's nothing wrong with this. It just means that we can't resolve the raw type of this
       // generic type. It may be a type parameter, for example.
       return Optional.empty();
     }
 
-    // Get the fromString method. If the raw type were T, then it should have a signature like:
-    //
-    // public static U fromString(String s);
-    //
-    // Where U extends T. If no such method exists, then we can't deserialize this class.
-    Method fromString;
-    try {
-      fromString = classType.getMethod("fromString", String.class);
-    } catch (NoSuchMethodException e) {
-      // This class has no fromString method. That's fine. It just means that this class is not
-      // deserializable by this factory.
-      return Optional.empty();
-    }
-    if (!Modifier.isStatic(fromString.getModifiers())) {
-      // The class has a fromString method, but it's not static. That's fine. It just means that
-      // this class is not deserializable by this factory.
+    final Method fromString = FROM_STRING_METHODS.get(classType);
+    if (fromString == null)
       return Optional.empty();
-    }
-    if (!Modifier.isPublic(fromString.getModifiers())) {
-      // The class has a fromString method, but it's not public. That's fine. It just means that
-      // this class is not deserializable by this factory.
-      return Optional.empty();
-    }
-    if (!classType.isAssignableFrom(fromString.getReturnType())) {
-      // The class has a fromString method, but it's return type is not assignable to the class
-      // type. That's fine. It just means that this class is not deserializable by this factory.
-      return Optional.empty();
-    }
-
 
     return Optional.of(s -> {
       try {
@@ -104,4 +117,9 @@ public class FromStringValueDeserializerFactory implements ValueDeserializerFact
       }
     });
   }
+
+  @Override
+  public boolean isCacheable() {
+    return true;
+  }
 }
@@ -42,4 +42,9 @@ public class InstantValueDeserializerFactory implements ValueDeserializerFactory
       return Optional.empty();
     return Optional.of(Instant::parse);
   }
+
+  @Override
+  public boolean isCacheable() {
+    return true;
+  }
 }
@@ -27,11 +27,18 @@ import java.util.Optional;
 public class IntValueDeserializerFactory implements ValueDeserializerFactory<Integer> {
   public static final IntValueDeserializerFactory INSTANCE = new IntValueDeserializerFactory();
 
+  private static final ValueDeserializer.OfInt DESERIALIZER = Integer::parseInt;
+
   @Override
   public Optional<ValueDeserializer<? extends Integer>> getDeserializer(Type genericType,
       List<Annotation> annotations) {
     if (genericType != int.class && genericType != Integer.class)
       return Optional.empty();
-    return Optional.of(Integer::valueOf);
+    return Optional.of(DESERIALIZER);
+  }
+
+  @Override
+  public boolean isCacheable() {
+    return true;
   }
 }
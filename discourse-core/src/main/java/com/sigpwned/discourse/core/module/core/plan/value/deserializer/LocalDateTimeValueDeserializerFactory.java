@@ -43,4 +43,9 @@ public class LocalDateTimeValueDeserializerFactory
       return Optional.empty();
     return Optional.of(LocalDateTime::parse);
   }
+
+  @Override
+  public boolean isCacheable() {
+    return true;
+  }
 }
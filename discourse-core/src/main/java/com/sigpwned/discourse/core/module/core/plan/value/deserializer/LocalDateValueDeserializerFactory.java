@@ -42,4 +42,9 @@ public class LocalDateValueDeserializerFactory implements ValueDeserializerFacto
       return Optional.empty();
     return Optional.of(LocalDate::parse);
   }
+
+  @Override
+  public boolean isCacheable() {
+    return true;
+  }
 }
@@ -42,4 +42,9 @@ public class LocalTimeValueDeserializerFactory implements ValueDeserializerFacto
       return Optional.empty();
     return Optional.of(LocalTime::parse);
   }
+
+  @Override
+  public boolean isCacheable() {
+    return true;
+  }
 }
@@ -27,11 +27,18 @@ import java.util.Optional;
 public class LongValueDeserializerFactory implements ValueDeserializerFactory<Long> {
   public static final LongValueDeserializerFactory INSTANCE = new LongValueDeserializerFactory();
 
+  private static final ValueDeserializer.OfLong DESERIALIZER = Long::parseLong;
+
   @Override
   public Optional<ValueDeserializer<? extends Long>> getDeserializer(Type genericType,
       List<Annotation> annotations) {
     if (genericType != long.class && genericType != Long.class)
       return Optional.empty();
-    return Optional.of(Long::valueOf);
+    return Optional.of(DESERIALIZER);
+  }
+
+  @Override
+  public boolean isCacheable() {
+    return true;
   }
 }
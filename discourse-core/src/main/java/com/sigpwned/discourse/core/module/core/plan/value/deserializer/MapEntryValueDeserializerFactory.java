@@ -0,0 +1,73 @@
+package com.sigpwned.discourse.core.module.core.plan.value.deserializer;
+
+import static java.util.Objects.requireNonNull;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.AbstractMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * <p>
+ * Deserializes values of type {@code Map.Entry<K, V>} from strings of the form {@code key=value},
+ * e.g., for options like {@code --limit CPU=4}. The key and value are deserialized by the first
+ * of the given factories, usually the whole deserializer chain, that has a deserializer for
+ * {@code K} and {@code V}, respectively. The factories are consulted each time, so factories added
+ * to the chain after this one are used, too. The string is split at the first {@code =}, so values
+ * may contain {@code =}, but keys may not.
+ * </p>
+ *
+ * <p>
+ * This factory is not {@link #isCacheable() cacheable}, since its answers depend on other
+ * factories', which may not be. It should go at the end of the chain, so that it is only consulted
+ * for the types that no other factory handles.
+ * </p>
+ */
+public class MapEntryValueDeserializerFactory implements ValueDeserializerFactory<Map.Entry<?, ?>> {
+  private final Iterable<? extends ValueDeserializerFactory<?>> factories;
+
+  public MapEntryValueDeserializerFactory(
+      Iterable<? extends ValueDeserializerFactory<?>> factories) {
+    this.factories = requireNonNull(factories);
+  }
+
+  @Override
+  public Optional<ValueDeserializer<? extends Map.Entry<?, ?>>> getDeserializer(Type genericType,
+      List<Annotation> annotations) {
+    if (!(genericType instanceof ParameterizedType parameterizedType)
+        || parameterizedType.getRawType() != Map.Entry.class)
+      return Optional.empty();
+
+    final Type[] arguments = parameterizedType.getActualTypeArguments();
+    final ValueDeserializer<?> keyDeserializer =
+        findDeserializer(arguments[0], annotations);
+    final ValueDeserializer<?> valueDeserializer = findDeserializer(arguments[1], annotations);
+    if (keyDeserializer == null || valueDeserializer == null)
+      return Optional.empty();
+
+    return Optional.of(s -> {
+      int index = s.indexOf('=');
+      if (index == -1)
+        throw new IllegalArgumentException("Expected key=value, but got " + s);
+      return new AbstractMap.SimpleImmutableEntry<>(
+          keyDeserializer.deserialize(s.substring(0, index)),
+          valueDeserializer.deserialize(s.substring(index + 1)));
+    });
+  }
+
+  /**
+   * Returns the deserializer of the first factory that has one for the given type, or
+   * {@code null} if none does
+   */
+  private ValueDeserializer<?> findDeserializer(Type genericType, List<Annotation> annotations) {
+    for (ValueDeserializerFactory<?> factory : factories) {
+      Optional<? extends ValueDeserializer<?>> deserializer =
+          factory.getDeserializer(genericType, annotations);
+      if (deserializer.isPresent())
+        return deserializer.get();
+    }
+    return null;
+  }
+}
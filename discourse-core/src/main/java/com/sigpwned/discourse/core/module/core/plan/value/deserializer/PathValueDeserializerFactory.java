@@ -35,4 +35,9 @@ public class PathValueDeserializerFactory implements ValueDeserializerFactory<Pa
       return Optional.empty();
     return Optional.of(Path::of);
   }
+
+  @Override
+  public boolean isCacheable() {
+    return true;
+  }
 }
@@ -37,4 +37,9 @@ public class PatternValueDeserializerFactory implements ValueDeserializerFactory
       return Optional.empty();
     return Optional.of(Pattern::compile);
   }
+
+  @Override
+  public boolean isCacheable() {
+    return true;
+  }
 }
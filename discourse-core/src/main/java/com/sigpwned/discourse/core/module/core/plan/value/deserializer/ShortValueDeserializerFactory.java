@@ -34,4 +34,9 @@ public class ShortValueDeserializerFactory implements ValueDeserializerFactory<S
       return Optional.empty();
     return Optional.of(Short::valueOf);
   }
+
+  @Override
+  public boolean isCacheable() {
+    return true;
+  }
 }
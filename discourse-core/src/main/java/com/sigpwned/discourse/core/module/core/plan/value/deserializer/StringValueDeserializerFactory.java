@@ -51,4 +51,9 @@ public class StringValueDeserializerFactory implements ValueDeserializerFactory<
       }
     });
   }
+
+  @Override
+  public boolean isCacheable() {
+    return true;
+  }
 }
@@ -35,4 +35,9 @@ public class UriValueDeserializerFactory implements ValueDeserializerFactory<URI
       return Optional.empty();
     return Optional.of(URI::create);
   }
+
+  @Override
+  public boolean isCacheable() {
+    return true;
+  }
 }
@@ -43,4 +43,9 @@ public class UrlValueDeserializerFactory implements ValueDeserializerFactory<URL
       }
     });
   }
+
+  @Override
+  public boolean isCacheable() {
+    return true;
+  }
 }
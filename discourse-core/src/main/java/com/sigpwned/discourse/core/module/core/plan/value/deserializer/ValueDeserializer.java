@@ -23,8 +23,21 @@ import java.util.Optional;
 import com.sigpwned.discourse.core.l11n.UserMessage;
 
 /**
+ * <p>
  * A function that deserializes a string into a value. This is used to convert resolvedCommand line
  * arguments into the appropriate types.
+ * </p>
+ *
+ * <p>
+ * A deserializer from a {@link ValueDeserializerFactory#isCacheable() cacheable} factory may be
+ * reused for many invocations at once, so it should be stateless or otherwise thread-safe.
+ * </p>
+ *
+ * <p>
+ * Deserializers for primitive types may implement {@link OfInt}, {@link OfLong}, {@link OfDouble},
+ * or {@link OfBoolean}, which produce values without boxing them. The pipeline uses these to fill
+ * primitive sinks, such as {@code int[]} properties, without allocating a box for each value.
+ * </p>
  */
 @FunctionalInterface
 public interface ValueDeserializer<T> {
@@ -51,4 +64,56 @@ public interface ValueDeserializer<T> {
   default Optional<UserMessage> example() {
     return Optional.empty();
   }
+
+  /**
+   * A deserializer that produces {@code int} values without boxing them
+   */
+  @FunctionalInterface
+  public static interface OfInt extends ValueDeserializer<Integer> {
+    public int deserializeInt(String value);
+
+    @Override
+    default Integer deserialize(String value) {
+      return deserializeInt(value);
+    }
+  }
+
+  /**
+   * A deserializer that produces {@code long} values without boxing them
+   */
+  @FunctionalInterface
+  public static interface OfLong extends ValueDeserializer<Long> {
+    public long deserializeLong(String value);
+
+    @Override
+    default Long deserialize(String value) {
+      return deserializeLong(value);
+    }
+  }
+
+  /**
+   * A deserializer that produces {@code double} values without boxing them
+   */
+  @FunctionalInterface
+  public static interface OfDouble extends ValueDeserializer<Double> {
+    public double deserializeDouble(String value);
+
+    @Override
+    default Double deserialize(String value) {
+      return deserializeDouble(value);
+    }
+  }
+
+  /**
+   * A deserializer that produces {@code boolean} values without boxing them
+   */
+  @FunctionalInterface
+  public static interface OfBoolean extends ValueDeserializer<Boolean> {
+    public boolean deserializeBoolean(String value);
+
+    @Override
+    default Boolean deserialize(String value) {
+      return deserializeBoolean(value);
+    }
+  }
 }
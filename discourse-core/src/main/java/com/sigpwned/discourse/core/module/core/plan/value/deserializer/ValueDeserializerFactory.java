@@ -32,4 +32,29 @@ public interface ValueDeserializerFactory<T> {
 
   public Optional<ValueDeserializer<? extends T>> getDeserializer(Type genericType,
       List<Annotation> annotations);
+
+  /**
+   * Returns {@code true} if this factory always gives the same answer for the same type and
+   * annotations, and the deserializers it returns are safe to reuse across invocations and threads.
+   * If so, then {@link ValueDeserializerFactoryChain} may remember the answer, including that there
+   * is no deserializer, and skip this factory next time. Factories whose answer depends on other
+   * state, such as what has been scanned so far, should return {@code false}, which is the default.
+   *
+   * @return {@code true} if the chain may cache this factory's answers
+   */
+  default boolean isCacheable() {
+    return false;
+  }
+
+  /**
+   * Returns {@code true} if this factory always gives the same answer for the given type and
+   * annotations, or {@code false} otherwise. The default implementation returns
+   * {@link #isCacheable()}, but factories that delegate to other factories, like
+   * {@link ValueDeserializerFactoryChain}, may know better for a particular type.
+   *
+   * @return {@code true} if the answer for the given type and annotations may be cached
+   */
+  default boolean isCacheable(Type genericType, List<Annotation> annotations) {
+    return isCacheable();
+  }
 }
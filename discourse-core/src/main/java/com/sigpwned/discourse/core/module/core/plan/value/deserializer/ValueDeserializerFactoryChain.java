@@ -22,25 +22,128 @@ package com.sigpwned.discourse.core.module.core.plan.value.deserializer;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import com.sigpwned.discourse.core.Chain;
-import com.sigpwned.discourse.core.util.Chains;
+import com.sigpwned.discourse.core.util.Types;
 
 /**
+ * <p>
  * A chain of {@link ValueDeserializerFactory} instances. This is used to create deserializers for
  * resolvedCommand line arguments. A factory can handle one or more types of values. The chain is
  * searched in order, and the first {@code ValueDeserializerFactory} that handles the given
  * parameters is returned. If no {@code ValueDeserializerFactory} in the chain handles the
  * parameters, then {@link Optional#empty() empty} is returned.
+ * </p>
+ *
+ * <p>
+ * The Plan step asks for a deserializer for every property on every invocation, so the chain
+ * remembers the answer for each type and list of annotations, including when there is no
+ * deserializer. It only does so when every factory it asked is
+ * {@link ValueDeserializerFactory#isCacheable() cacheable}. The cache is cleared whenever the chain
+ * changes. Each answer is kept on the type's {@link Types#findCacheOwner(Type, List) cache owner}
+ * through a {@link ClassValue}, so it goes away when the classes the type mentions are unloaded.
+ * Types without an owner are never cached.
+ * </p>
  */
 public class ValueDeserializerFactoryChain extends Chain<ValueDeserializerFactory<?>>
     implements ValueDeserializerFactory<Object> {
 
+  /**
+   * The deserializer for each type and list of annotations, grouped by cache owner
+   */
+  private static class Cache
+      extends ClassValue<Map<Map.Entry<Type, List<Annotation>>, Optional<ValueDeserializer<?>>>> {
+    @Override
+    protected Map<Map.Entry<Type, List<Annotation>>, Optional<ValueDeserializer<?>>> computeValue(
+        Class<?> type) {
+      return new ConcurrentHashMap<>();
+    }
+  }
+
+  /**
+   * Replaced whenever the chain changes
+   */
+  private volatile Cache cache = new Cache();
+
+  @Override
+  public void addFirst(ValueDeserializerFactory<?> element) {
+    super.addFirst(element);
+    cache = new Cache();
+  }
+
+  @Override
+  public void addLast(ValueDeserializerFactory<?> element) {
+    super.addLast(element);
+    cache = new Cache();
+  }
+
   @Override
   @SuppressWarnings({"unchecked", "rawtypes"})
   public Optional<ValueDeserializer<? extends Object>> getDeserializer(Type genericType,
       List<Annotation> annotations) {
-    return (Optional) Chains.stream(this)
-        .flatMap(f -> f.getDeserializer(genericType, annotations).stream()).findFirst();
+    final Map<Map.Entry<Type, List<Annotation>>, Optional<ValueDeserializer<?>>> cache =
+        getCache(genericType, annotations);
+
+    Optional<ValueDeserializer<?>> result =
+        cache != null ? cache.get(Map.entry(genericType, annotations)) : null;
+    if (result != null)
+      return (Optional) result;
+
+    boolean cacheable = true;
+    result = Optional.empty();
+    final List<ValueDeserializerFactory<?>> factories = elements();
+    for (int i = 0; i < factories.size(); i++) {
+      ValueDeserializerFactory<?> factory = factories.get(i);
+      cacheable = cacheable && factory.isCacheable();
+      Optional<? extends ValueDeserializer<?>> deserializer =
+          factory.getDeserializer(genericType, annotations);
+      if (deserializer.isPresent()) {
+        result = (Optional) deserializer;
+        break;
+      }
+    }
+
+    if (cache != null && cacheable) {
+      // The caller may hold on to the annotations, so keep our own copy
+      cache.putIfAbsent(Map.entry(genericType, List.copyOf(annotations)), result);
+    }
+
+    return (Optional) result;
+  }
+
+  /**
+   * Returns {@code true} if every factory this chain asks about the given type and annotations is
+   * {@link ValueDeserializerFactory#isCacheable(Type, List) cacheable}, or {@code false}
+   * otherwise.
+   */
+  @Override
+  public boolean isCacheable(Type genericType, List<Annotation> annotations) {
+    final Map<Map.Entry<Type, List<Annotation>>, Optional<ValueDeserializer<?>>> cache =
+        getCache(genericType, annotations);
+    if (cache != null && cache.containsKey(Map.entry(genericType, annotations)))
+      return true;
+
+    final List<ValueDeserializerFactory<?>> factories = elements();
+    for (int i = 0; i < factories.size(); i++) {
+      ValueDeserializerFactory<?> factory = factories.get(i);
+      if (!factory.isCacheable(genericType, annotations))
+        return false;
+      if (factory.getDeserializer(genericType, annotations).isPresent())
+        return true;
+    }
+
+    return true;
+  }
+
+  /**
+   * @return the cache for the given type and annotations, or {@code null} if they have no cache
+   *         owner
+   */
+  private Map<Map.Entry<Type, List<Annotation>>, Optional<ValueDeserializer<?>>> getCache(
+      Type genericType, List<Annotation> annotations) {
+    final Cache cache = this.cache;
+    return Types.findCacheOwner(genericType, annotations).map(cache::get).orElse(null);
   }
 }
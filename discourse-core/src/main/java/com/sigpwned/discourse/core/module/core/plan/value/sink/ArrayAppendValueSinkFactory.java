@@ -22,75 +22,386 @@ package com.sigpwned.discourse.core.module.core.plan.value.sink;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Array;
 import java.lang.reflect.Type;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import com.sigpwned.discourse.core.util.Types;
-import com.sigpwned.discourse.core.util.type.ArrayType;
+import com.sigpwned.discourse.core.util.type.TypeShape;
 
 /**
+ * <p>
  * A value sink that stores values by appending them to an array.
+ * </p>
+ *
+ * <p>
+ * The sink grows its array geometrically as values arrive, and trims it to size in
+ * {@link ValueSink#get() get()}, so collecting {@code n} values takes {@code O(n)} time. Arrays of
+ * {@code int}, {@code long}, {@code double}, {@code boolean}, and {@code char} get their own sinks,
+ * which store values directly instead of through reflection.
+ * </p>
  */
 public class ArrayAppendValueSinkFactory implements ValueSinkFactory {
 
   public static final ArrayAppendValueSinkFactory INSTANCE = new ArrayAppendValueSinkFactory();
 
+  /**
+   * The capacity of an array sink after its first value
+   */
+  private static final int MIN_CAPACITY = 8;
+
   @Override
   public Optional<ValueSink> getSink(Type genericType, List<Annotation> annotations) {
-    final ArrayType arrayType;
-    try {
-      arrayType = ArrayType.parse(genericType);
-    } catch (IllegalArgumentException e) {
+    final TypeShape shape = TypeShape.of(genericType);
+    if (shape.getKind() != TypeShape.Kind.ARRAY || !shape.isConcrete())
       return Optional.empty();
+    final Type elementType = shape.getElementType();
+    final Class<?> componentClass = shape.getRawClass().getComponentType();
+
+    if (componentClass == int.class)
+      return Optional.of(new IntArraySink(elementType));
+    if (componentClass == long.class)
+      return Optional.of(new LongArraySink(elementType));
+    if (componentClass == double.class)
+      return Optional.of(new DoubleArraySink(elementType));
+    if (componentClass == boolean.class)
+      return Optional.of(new BooleanArraySink(elementType));
+    if (componentClass == char.class)
+      return Optional.of(new CharArraySink(elementType));
+    if (componentClass.isPrimitive())
+      return Optional.of(new ReflectiveArraySink(elementType, componentClass));
+    return Optional.of(new ObjectArraySink(elementType, componentClass));
+  }
+
+  @Override
+  public boolean isCacheable() {
+    return true;
+  }
+
+  /**
+   * Returns the capacity to grow to so that an array with the given capacity can hold one more
+   * value
+   */
+  private static int grow(int capacity) {
+    if (capacity == Integer.MAX_VALUE)
+      throw new OutOfMemoryError("array too large");
+    return (int) Math.min(Math.max(MIN_CAPACITY, 2L * capacity), Integer.MAX_VALUE - 8);
+  }
+
+  /**
+   * The parts that all array sinks share. Each subclass holds an array of its own type, and a count
+   * of how many of its elements are in use.
+   */
+  private abstract static class ArraySink implements ValueSink {
+    private final Type elementType;
+    protected int size;
+
+    public ArraySink(Type elementType) {
+      this.elementType = elementType;
+    }
+
+    @Override
+    public boolean isCollection() {
+      return true;
+    }
+
+    @Override
+    public Type getGenericType() {
+      return elementType;
     }
-    return Optional.of(new ValueSink() {
-      private Object currentArray = Types.newConcreteArrayInstance(genericType, 0);
 
-      @Override
-      public boolean isCollection() {
+    /**
+     * Makes room for all the values up front, so the array is copied at most once
+     */
+    @Override
+    public void putAll(List<?> values) {
+      final int required = size + values.size();
+      if (required > capacity())
+        resize(required);
+      for (Object value : values)
+        put(value);
+    }
+
+    /**
+     * Returns the length of the current array
+     */
+    protected abstract int capacity();
+
+    /**
+     * Replaces the current array with a copy of the given length
+     */
+    protected abstract void resize(int capacity);
+
+    @Override
+    public int hashCode() {
+      return getGenericType().hashCode();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (other == null) {
+        return false;
+      }
+      if (this == other) {
         return true;
       }
-
-      @Override
-      public Type getGenericType() {
-        return arrayType.getElementType();
+      if (getClass() != other.getClass()) {
+        return false;
       }
+      ValueSink that = (ValueSink) other;
+      return isCollection() == that.isCollection()
+          && Objects.equals(getGenericType(), that.getGenericType());
+    }
+  }
 
-      @Override
-      public void put(Object value) {
-        // Make sure our property value has exactly one empty new value at the top of the array
-        int currentLength = Array.getLength(currentArray);
-        Object newArray = Types.newConcreteArrayInstance(genericType, currentLength + 1);
-        System.arraycopy(currentArray, 0, newArray, 0, currentLength);
-        this.currentArray = newArray;
-        Array.set(this.currentArray, currentLength, value);
-      }
+  // If get() returns the whole array, then it's full, so the next put() will copy it before writing
+  // anything. That means callers never see the array change after get() returns it.
 
-      @Override
-      public Optional<Object> get() {
-        return Optional.of(currentArray);
-      }
+  private static final class ObjectArraySink extends ArraySink {
+    private Object[] array;
 
-      @Override
-      public int hashCode() {
-        return getGenericType().hashCode();
-      }
+    public ObjectArraySink(Type elementType, Class<?> componentClass) {
+      super(elementType);
+      this.array = (Object[]) Array.newInstance(componentClass, 0);
+    }
 
-      @Override
-      public boolean equals(Object other) {
-        if (other == null) {
-          return false;
-        }
-        if (this == other) {
-          return true;
-        }
-        if (getClass() != other.getClass()) {
-          return false;
-        }
-        ValueSink that = (ValueSink) other;
-        return isCollection() == that.isCollection()
-            && Objects.equals(getGenericType(), that.getGenericType());
-      }
-    });
+    @Override
+    public void put(Object value) {
+      if (size == array.length)
+        array = Arrays.copyOf(array, grow(array.length));
+      array[size++] = value;
+    }
+
+    @Override
+    protected int capacity() {
+      return array.length;
+    }
+
+    @Override
+    protected void resize(int capacity) {
+      array = Arrays.copyOf(array, capacity);
+    }
+
+    @Override
+    public Optional<Object> get() {
+      return Optional.of(size == array.length ? array : Arrays.copyOf(array, size));
+    }
+  }
+
+  private static final class IntArraySink extends ArraySink implements ValueSink.OfInt {
+    private int[] array = new int[0];
+
+    public IntArraySink(Type elementType) {
+      super(elementType);
+    }
+
+    @Override
+    public void put(Object value) {
+      putInt((Integer) value);
+    }
+
+    @Override
+    public void putInt(int value) {
+      if (size == array.length)
+        array = Arrays.copyOf(array, grow(array.length));
+      array[size++] = value;
+    }
+
+    @Override
+    protected int capacity() {
+      return array.length;
+    }
+
+    @Override
+    protected void resize(int capacity) {
+      array = Arrays.copyOf(array, capacity);
+    }
+
+    @Override
+    public Optional<Object> get() {
+      return Optional.of(size == array.length ? array : Arrays.copyOf(array, size));
+    }
+  }
+
+  private static final class LongArraySink extends ArraySink implements ValueSink.OfLong {
+    private long[] array = new long[0];
+
+    public LongArraySink(Type elementType) {
+      super(elementType);
+    }
+
+    @Override
+    public void put(Object value) {
+      putLong((Long) value);
+    }
+
+    @Override
+    public void putLong(long value) {
+      if (size == array.length)
+        array = Arrays.copyOf(array, grow(array.length));
+      array[size++] = value;
+    }
+
+    @Override
+    protected int capacity() {
+      return array.length;
+    }
+
+    @Override
+    protected void resize(int capacity) {
+      array = Arrays.copyOf(array, capacity);
+    }
+
+    @Override
+    public Optional<Object> get() {
+      return Optional.of(size == array.length ? array : Arrays.copyOf(array, size));
+    }
+  }
+
+  private static final class DoubleArraySink extends ArraySink implements ValueSink.OfDouble {
+    private double[] array = new double[0];
+
+    public DoubleArraySink(Type elementType) {
+      super(elementType);
+    }
+
+    @Override
+    public void put(Object value) {
+      putDouble((Double) value);
+    }
+
+    @Override
+    public void putDouble(double value) {
+      if (size == array.length)
+        array = Arrays.copyOf(array, grow(array.length));
+      array[size++] = value;
+    }
+
+    @Override
+    protected int capacity() {
+      return array.length;
+    }
+
+    @Override
+    protected void resize(int capacity) {
+      array = Arrays.copyOf(array, capacity);
+    }
+
+    @Override
+    public Optional<Object> get() {
+      return Optional.of(size == array.length ? array : Arrays.copyOf(array, size));
+    }
+  }
+
+  private static final class BooleanArraySink extends ArraySink implements ValueSink.OfBoolean {
+    private boolean[] array = new boolean[0];
+
+    public BooleanArraySink(Type elementType) {
+      super(elementType);
+    }
+
+    @Override
+    public void put(Object value) {
+      putBoolean((Boolean) value);
+    }
+
+    @Override
+    public void putBoolean(boolean value) {
+      if (size == array.length)
+        array = Arrays.copyOf(array, grow(array.length));
+      array[size++] = value;
+    }
+
+    @Override
+    protected int capacity() {
+      return array.length;
+    }
+
+    @Override
+    protected void resize(int capacity) {
+      array = Arrays.copyOf(array, capacity);
+    }
+
+    @Override
+    public Optional<Object> get() {
+      return Optional.of(size == array.length ? array : Arrays.copyOf(array, size));
+    }
+  }
+
+  private static final class CharArraySink extends ArraySink {
+    private char[] array = new char[0];
+
+    public CharArraySink(Type elementType) {
+      super(elementType);
+    }
+
+    @Override
+    public void put(Object value) {
+      putChar((Character) value);
+    }
+
+    public void putChar(char value) {
+      if (size == array.length)
+        array = Arrays.copyOf(array, grow(array.length));
+      array[size++] = value;
+    }
+
+    @Override
+    protected int capacity() {
+      return array.length;
+    }
+
+    @Override
+    protected void resize(int capacity) {
+      array = Arrays.copyOf(array, capacity);
+    }
+
+    @Override
+    public Optional<Object> get() {
+      return Optional.of(size == array.length ? array : Arrays.copyOf(array, size));
+    }
+  }
+
+  /**
+   * For the primitive arrays that don't have their own sink, i.e., {@code byte[]}, {@code short[]},
+   * and {@code float[]}
+   */
+  private static final class ReflectiveArraySink extends ArraySink {
+    private final Class<?> componentClass;
+    private Object array;
+
+    public ReflectiveArraySink(Type elementType, Class<?> componentClass) {
+      super(elementType);
+      this.componentClass = componentClass;
+      this.array = Array.newInstance(componentClass, 0);
+    }
+
+    @Override
+    public void put(Object value) {
+      int capacity = Array.getLength(array);
+      if (size == capacity)
+        array = copyOf(array, grow(capacity));
+      Array.set(array, size++, value);
+    }
+
+    @Override
+    public Optional<Object> get() {
+      return Optional.of(size == Array.getLength(array) ? array : copyOf(array, size));
+    }
+
+    @Override
+    protected int capacity() {
+      return Array.getLength(array);
+    }
+
+    @Override
+    protected void resize(int capacity) {
+      array = copyOf(array, capacity);
+    }
+
+    private Object copyOf(Object original, int length) {
+      Object result = Array.newInstance(componentClass, length);
+      System.arraycopy(original, 0, result, 0, Math.min(length, Array.getLength(original)));
+      return result;
+    }
   }
 }
@@ -26,8 +26,15 @@ import java.util.Objects;
 import java.util.Optional;
 
 /**
+ * <p>
  * A value sink that assigns values to a bean property. Supports assigning values to fields directly
  * or via setter methods.
+ * </p>
+ *
+ * <p>
+ * Properties of type {@code int}, {@code long}, {@code double}, and {@code boolean} get sinks that
+ * also accept their values unboxed, so that only the final value is ever boxed.
+ * </p>
  */
 public class AssignValueSinkFactory implements ValueSinkFactory {
 
@@ -36,50 +43,186 @@ public class AssignValueSinkFactory implements ValueSinkFactory {
 
   @Override
   public Optional<ValueSink> getSink(Type genericType, List<Annotation> annotations) {
-    return Optional.of(new ValueSink() {
-      private Object currentValue;
+    if (genericType == int.class)
+      return Optional.of(new IntAssignSink(genericType));
+    if (genericType == long.class)
+      return Optional.of(new LongAssignSink(genericType));
+    if (genericType == double.class)
+      return Optional.of(new DoubleAssignSink(genericType));
+    if (genericType == boolean.class)
+      return Optional.of(new BooleanAssignSink(genericType));
+    return Optional.of(new ObjectAssignSink(genericType));
+  }
+
+  @Override
+  public boolean isCacheable() {
+    return true;
+  }
+
+  /**
+   * The parts that all assign sinks share
+   */
+  private abstract static class AssignSink implements ValueSink {
+    private final Type genericType;
 
-      @Override
-      public boolean isCollection() {
+    public AssignSink(Type genericType) {
+      this.genericType = genericType;
+    }
+
+    @Override
+    public boolean isCollection() {
+      return false;
+    }
+
+    @Override
+    public Type getGenericType() {
+      return genericType;
+    }
+
+    @Override
+    public int hashCode() {
+      return getGenericType().hashCode();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (other == null) {
         return false;
       }
-
-      @Override
-      public Type getGenericType() {
-        return genericType;
+      if (this == other) {
+        return true;
       }
-
-      @Override
-      public void put(Object value) {
-        // TODO It's strange, but legal to assign null to the property, right?
-        this.currentValue = null;
+      if (getClass() != other.getClass()) {
+        return false;
       }
+      ValueSink that = (ValueSink) other;
+      return isCollection() == that.isCollection()
+          && Objects.equals(getGenericType(), that.getGenericType());
+    }
+  }
 
-      @Override
-      public Optional<Object> get() {
-        return Optional.ofNullable(currentValue);
-      }
+  private static final class ObjectAssignSink extends AssignSink {
+    private Object currentValue;
 
-      @Override
-      public int hashCode() {
-        return getGenericType().hashCode();
-      }
+    public ObjectAssignSink(Type genericType) {
+      super(genericType);
+    }
 
-      @Override
-      public boolean equals(Object other) {
-        if (other == null) {
-          return false;
-        }
-        if (this == other) {
-          return true;
-        }
-        if (getClass() != other.getClass()) {
-          return false;
-        }
-        ValueSink that = (ValueSink) other;
-        return isCollection() == that.isCollection()
-            && Objects.equals(getGenericType(), that.getGenericType());
-      }
-    });
+    @Override
+    public void put(Object value) {
+      // TODO It's strange, but legal to assign null to the property, right?
+      this.currentValue = value;
+    }
+
+    @Override
+    public void putAll(List<?> values) {
+      if (!values.isEmpty())
+        this.currentValue = values.get(values.size() - 1);
+    }
+
+    @Override
+    public Optional<Object> get() {
+      return Optional.ofNullable(currentValue);
+    }
+  }
+
+  private static final class IntAssignSink extends AssignSink implements ValueSink.OfInt {
+    private int currentValue;
+    private boolean assigned;
+
+    public IntAssignSink(Type genericType) {
+      super(genericType);
+    }
+
+    @Override
+    public void put(Object value) {
+      putInt((Integer) value);
+    }
+
+    @Override
+    public void putInt(int value) {
+      this.currentValue = value;
+      this.assigned = true;
+    }
+
+    @Override
+    public Optional<Object> get() {
+      return assigned ? Optional.of(currentValue) : Optional.empty();
+    }
+  }
+
+  private static final class LongAssignSink extends AssignSink implements ValueSink.OfLong {
+    private long currentValue;
+    private boolean assigned;
+
+    public LongAssignSink(Type genericType) {
+      super(genericType);
+    }
+
+    @Override
+    public void put(Object value) {
+      putLong((Long) value);
+    }
+
+    @Override
+    public void putLong(long value) {
+      this.currentValue = value;
+      this.assigned = true;
+    }
+
+    @Override
+    public Optional<Object> get() {
+      return assigned ? Optional.of(currentValue) : Optional.empty();
+    }
+  }
+
+  private static final class DoubleAssignSink extends AssignSink implements ValueSink.OfDouble {
+    private double currentValue;
+    private boolean assigned;
+
+    public DoubleAssignSink(Type genericType) {
+      super(genericType);
+    }
+
+    @Override
+    public void put(Object value) {
+      putDouble((Double) value);
+    }
+
+    @Override
+    public void putDouble(double value) {
+      this.currentValue = value;
+      this.assigned = true;
+    }
+
+    @Override
+    public Optional<Object> get() {
+      return assigned ? Optional.of(currentValue) : Optional.empty();
+    }
+  }
+
+  private static final class BooleanAssignSink extends AssignSink implements ValueSink.OfBoolean {
+    private boolean currentValue;
+    private boolean assigned;
+
+    public BooleanAssignSink(Type genericType) {
+      super(genericType);
+    }
+
+    @Override
+    public void put(Object value) {
+      putBoolean((Boolean) value);
+    }
+
+    @Override
+    public void putBoolean(boolean value) {
+      this.currentValue = value;
+      this.assigned = true;
+    }
+
+    @Override
+    public Optional<Object> get() {
+      return assigned ? Optional.of(currentValue) : Optional.empty();
+    }
   }
 }
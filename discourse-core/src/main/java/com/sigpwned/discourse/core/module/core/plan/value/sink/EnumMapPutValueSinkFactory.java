@@ -0,0 +1,170 @@
+package com.sigpwned.discourse.core.module.core.plan.value.sink;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import com.sigpwned.discourse.core.module.core.plan.value.deserializer.MapEntryValueDeserializerFactory;
+import com.sigpwned.discourse.core.util.Types;
+import com.sigpwned.discourse.core.util.type.TypeShape;
+
+/**
+ * <p>
+ * A value sink that stores keyed values in an {@link EnumMap}, which is an array indexed by the
+ * key's ordinal. Handles properties of type {@code Map<K, V>} and {@code EnumMap<K, V>} for any
+ * enum type {@code K} and any concrete type {@code V}.
+ * </p>
+ *
+ * <p>
+ * The sink takes values of type {@code Map.Entry<K, V>}, which
+ * {@link MapEntryValueDeserializerFactory} deserializes from strings like {@code KEY=value}. If the
+ * same key is given more than once, the last value wins.
+ * </p>
+ */
+public class EnumMapPutValueSinkFactory implements ValueSinkFactory {
+
+  public static final EnumMapPutValueSinkFactory INSTANCE = new EnumMapPutValueSinkFactory();
+
+  @Override
+  public Optional<ValueSink> getSink(Type genericType, List<Annotation> annotations) {
+    final Type keyType;
+    final Type valueType;
+    final TypeShape shape = TypeShape.of(genericType);
+    if (shape.getKind() == TypeShape.Kind.MAP) {
+      keyType = shape.getKeyType();
+      valueType = shape.getElementType();
+    } else if (genericType instanceof ParameterizedType parameterizedType
+        && parameterizedType.getRawType() == EnumMap.class) {
+      keyType = parameterizedType.getActualTypeArguments()[0];
+      valueType = parameterizedType.getActualTypeArguments()[1];
+    } else {
+      return Optional.empty();
+    }
+    if (!(keyType instanceof Class<?> keyClass) || !keyClass.isEnum())
+      return Optional.empty();
+    if (!Types.isConcrete(valueType))
+      return Optional.empty();
+    return Optional.of(new EnumMapSink(keyClass.asSubclass(Enum.class), valueType));
+  }
+
+  @Override
+  public boolean isCacheable() {
+    return true;
+  }
+
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private static final class EnumMapSink implements ValueSink {
+    private final Class<? extends Enum> keyType;
+    private final Type entryType;
+    private final Map map;
+
+    public EnumMapSink(Class<? extends Enum> keyType, Type valueType) {
+      this.keyType = keyType;
+      this.entryType = new EntryType(keyType, valueType);
+      this.map = new EnumMap(keyType);
+    }
+
+    @Override
+    public boolean isCollection() {
+      return true;
+    }
+
+    /**
+     * @return {@code Map.Entry<K, V>}
+     */
+    @Override
+    public Type getGenericType() {
+      return entryType;
+    }
+
+    @Override
+    public void put(Object value) {
+      if (value == null) {
+        throw new IllegalArgumentException("Cannot add null to a map");
+      }
+      Map.Entry<?, ?> entry = (Map.Entry<?, ?>) value;
+      map.put(keyType.cast(entry.getKey()), entry.getValue());
+    }
+
+    @Override
+    public Optional<Object> get() {
+      return Optional.of(map);
+    }
+
+    @Override
+    public int hashCode() {
+      return getGenericType().hashCode();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (other == null) {
+        return false;
+      }
+      if (this == other) {
+        return true;
+      }
+      if (getClass() != other.getClass()) {
+        return false;
+      }
+      ValueSink that = (ValueSink) other;
+      return isCollection() == that.isCollection()
+          && Objects.equals(getGenericType(), that.getGenericType());
+    }
+  }
+
+  /**
+   * The type {@code Map.Entry<K, V>}. Equal to, and with the same hash code as, the JDK's own
+   * parameterized types, so it works as a cache key alongside them.
+   */
+  private static final class EntryType implements ParameterizedType {
+    private final Type[] arguments;
+
+    public EntryType(Type keyType, Type valueType) {
+      this.arguments = new Type[] {keyType, valueType};
+    }
+
+    @Override
+    public Type[] getActualTypeArguments() {
+      return arguments.clone();
+    }
+
+    @Override
+    public Type getRawType() {
+      return Map.Entry.class;
+    }
+
+    @Override
+    public Type getOwnerType() {
+      return Map.class;
+    }
+
+    @Override
+    public int hashCode() {
+      return Arrays.hashCode(arguments) ^ Objects.hashCode(getOwnerType())
+          ^ Objects.hashCode(getRawType());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other)
+        return true;
+      if (!(other instanceof ParameterizedType that))
+        return false;
+      return Objects.equals(getOwnerType(), that.getOwnerType())
+          && Objects.equals(getRawType(), that.getRawType())
+          && Arrays.equals(arguments, that.getActualTypeArguments());
+    }
+
+    @Override
+    public String toString() {
+      return Map.class.getName() + "$Entry<" + arguments[0].getTypeName() + ", "
+          + arguments[1].getTypeName() + ">";
+    }
+  }
+}
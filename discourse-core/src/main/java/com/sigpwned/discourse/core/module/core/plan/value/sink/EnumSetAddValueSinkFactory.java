@@ -0,0 +1,99 @@
+package com.sigpwned.discourse.core.module.core.plan.value.sink;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import com.sigpwned.discourse.core.util.type.TypeShape;
+
+/**
+ * A value sink that stores enum values by adding them to an {@link EnumSet}, which is a bit set,
+ * and so is smaller and faster than the {@link java.util.HashSet} that
+ * {@link SetAddValueSinkFactory} would use. Handles properties of type {@code Set<E>} and
+ * {@code EnumSet<E>} for any enum type {@code E}.
+ */
+public class EnumSetAddValueSinkFactory implements ValueSinkFactory {
+
+  public static final EnumSetAddValueSinkFactory INSTANCE = new EnumSetAddValueSinkFactory();
+
+  @Override
+  public Optional<ValueSink> getSink(Type genericType, List<Annotation> annotations) {
+    final Type elementType;
+    final TypeShape shape = TypeShape.of(genericType);
+    if (shape.getKind() == TypeShape.Kind.SET) {
+      elementType = shape.getElementType();
+    } else if (genericType instanceof ParameterizedType parameterizedType
+        && parameterizedType.getRawType() == EnumSet.class) {
+      elementType = parameterizedType.getActualTypeArguments()[0];
+    } else {
+      return Optional.empty();
+    }
+    if (!(elementType instanceof Class<?> elementClass) || !elementClass.isEnum())
+      return Optional.empty();
+    return Optional.of(new EnumSetSink(elementClass.asSubclass(Enum.class)));
+  }
+
+  @Override
+  public boolean isCacheable() {
+    return true;
+  }
+
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private static final class EnumSetSink implements ValueSink {
+    private final Class<? extends Enum> elementType;
+    private final Set set;
+
+    public EnumSetSink(Class<? extends Enum> elementType) {
+      this.elementType = elementType;
+      this.set = EnumSet.noneOf(elementType);
+    }
+
+    @Override
+    public boolean isCollection() {
+      return true;
+    }
+
+    @Override
+    public Type getGenericType() {
+      return elementType;
+    }
+
+    @Override
+    public void put(Object value) {
+      if (value == null) {
+        throw new IllegalArgumentException("Cannot add null to a set");
+      }
+      set.add(elementType.cast(value));
+    }
+
+    @Override
+    public Optional<Object> get() {
+      return Optional.of(set);
+    }
+
+    @Override
+    public int hashCode() {
+      return getGenericType().hashCode();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (other == null) {
+        return false;
+      }
+      if (this == other) {
+        return true;
+      }
+      if (getClass() != other.getClass()) {
+        return false;
+      }
+      ValueSink that = (ValueSink) other;
+      return isCollection() == that.isCollection()
+          && Objects.equals(getGenericType(), that.getGenericType());
+    }
+  }
+}
@@ -25,10 +25,11 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import com.sigpwned.discourse.core.util.type.ListType;
+import com.sigpwned.discourse.core.util.type.TypeShape;
 
 /**
- * A value sink that stores values by appending them to a list.
+ * A value sink that stores values by appending them to a list. Given many values at once, the sink
+ * copies them into a list of exactly the right size.
  */
 public class ListAddValueSinkFactory implements ValueSinkFactory {
 
@@ -36,14 +37,12 @@ public class ListAddValueSinkFactory implements ValueSinkFactory {
 
   @Override
   public Optional<ValueSink> getSink(Type genericType, List<Annotation> annotations) {
-    final ListType listType;
-    try {
-      listType = ListType.parse(genericType);
-    } catch (IllegalArgumentException e) {
+    final TypeShape shape = TypeShape.of(genericType);
+    if (shape.getKind() != TypeShape.Kind.LIST || !shape.isConcrete())
       return Optional.empty();
-    }
+    final Type elementType = shape.getElementType();
     return Optional.of(new ValueSink() {
-      private final List list = new ArrayList<>();
+      private List<Object> list = new ArrayList<>();
 
       @Override
       public boolean isCollection() {
@@ -52,7 +51,7 @@ public class ListAddValueSinkFactory implements ValueSinkFactory {
 
       @Override
       public Type getGenericType() {
-        return listType.getElementType();
+        return elementType;
       }
 
       @Override
@@ -63,6 +62,20 @@ public class ListAddValueSinkFactory implements ValueSinkFactory {
         list.add(value);
       }
 
+      @Override
+      public void putAll(List<?> values) {
+        for (Object value : values) {
+          if (value == null) {
+            throw new IllegalArgumentException("Cannot add null to a list");
+          }
+        }
+        if (list.isEmpty()) {
+          list = new ArrayList<>(values);
+        } else {
+          list.addAll(values);
+        }
+      }
+
       @Override
       public Optional<Object> get() {
         return Optional.of(list);
@@ -90,4 +103,9 @@ public class ListAddValueSinkFactory implements ValueSinkFactory {
       }
     });
   }
+
+  @Override
+  public boolean isCacheable() {
+    return true;
+  }
 }
@@ -26,10 +26,11 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import com.sigpwned.discourse.core.util.type.SetType;
+import com.sigpwned.discourse.core.util.type.TypeShape;
 
 /**
- * A value sink that stores values by appending them to a list.
+ * A value sink that stores values by adding them to a set. Given many values at once, the sink
+ * sizes its set once so that it never rehashes.
  */
 public class SetAddValueSinkFactory implements ValueSinkFactory {
 
@@ -37,14 +38,12 @@ public class SetAddValueSinkFactory implements ValueSinkFactory {
 
   @Override
   public Optional<ValueSink> getSink(Type genericType, List<Annotation> annotations) {
-    final SetType setType;
-    try {
-      setType = SetType.parse(genericType);
-    } catch (IllegalArgumentException e) {
+    final TypeShape shape = TypeShape.of(genericType);
+    if (shape.getKind() != TypeShape.Kind.SET || !shape.isConcrete())
       return Optional.empty();
-    }
+    final Type elementType = shape.getElementType();
     return Optional.of(new ValueSink() {
-      private final Set set = new HashSet<>();
+      private Set<Object> set = new HashSet<>();
 
       @Override
       public boolean isCollection() {
@@ -53,7 +52,7 @@ public class SetAddValueSinkFactory implements ValueSinkFactory {
 
       @Override
       public Type getGenericType() {
-        return setType.getElementType();
+        return elementType;
       }
 
       @Override
@@ -64,6 +63,20 @@ public class SetAddValueSinkFactory implements ValueSinkFactory {
         set.add(value);
       }
 
+      @Override
+      public void putAll(List<?> values) {
+        for (Object value : values) {
+          if (value == null) {
+            throw new IllegalArgumentException("Cannot add null to a set");
+          }
+        }
+        if (set.isEmpty()) {
+          // Big enough that adding every value never rehashes, even if they're all distinct
+          set = new HashSet<>(Math.max((int) (values.size() / 0.75f) + 1, 16));
+        }
+        set.addAll(values);
+      }
+
       @Override
       public Optional<Object> get() {
         return Optional.of(set);
@@ -91,4 +104,9 @@ public class SetAddValueSinkFactory implements ValueSinkFactory {
       }
     });
   }
+
+  @Override
+  public boolean isCacheable() {
+    return true;
+  }
 }
@@ -24,12 +24,11 @@ import java.lang.reflect.Type;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.SortedSet;
 import java.util.TreeSet;
-import com.sigpwned.discourse.core.util.type.SortedSetType;
+import com.sigpwned.discourse.core.util.type.TypeShape;
 
 /**
- * A value sink that stores values by appending them to a list.
+ * A value sink that stores values by adding them to a sorted set.
  */
 public class SortedSetAddValueSinkFactory implements ValueSinkFactory {
 
@@ -37,14 +36,12 @@ public class SortedSetAddValueSinkFactory implements ValueSinkFactory {
 
   @Override
   public Optional<ValueSink> getSink(Type genericType, List<Annotation> annotations) {
-    final SortedSetType setType;
-    try {
-      setType = SortedSetType.parse(genericType);
-    } catch (IllegalArgumentException e) {
+    final TypeShape shape = TypeShape.of(genericType);
+    if (shape.getKind() != TypeShape.Kind.SORTED_SET || !shape.isConcrete())
       return Optional.empty();
-    }
+    final Type elementType = shape.getElementType();
     return Optional.of(new ValueSink() {
-      private final SortedSet set = new TreeSet<>();
+      private final TreeSet<Object> set = new TreeSet<>();
 
       @Override
       public boolean isCollection() {
@@ -53,7 +50,7 @@ public class SortedSetAddValueSinkFactory implements ValueSinkFactory {
 
       @Override
       public Type getGenericType() {
-        return setType.getElementType();
+        return elementType;
       }
 
       @Override
@@ -64,6 +61,16 @@ public class SortedSetAddValueSinkFactory implements ValueSinkFactory {
         set.add(value);
       }
 
+      @Override
+      public void putAll(List<?> values) {
+        for (Object value : values) {
+          if (value == null) {
+            throw new IllegalArgumentException("Cannot add null to a set");
+          }
+        }
+        set.addAll(values);
+      }
+
       @Override
       public Optional<Object> get() {
         return Optional.of(set);
@@ -91,4 +98,9 @@ public class SortedSetAddValueSinkFactory implements ValueSinkFactory {
       }
     });
   }
+
+  @Override
+  public boolean isCacheable() {
+    return true;
+  }
 }
@@ -41,7 +41,16 @@ import java.util.Set;
  * Set}</li>
  * <li>{@link com.sigpwned.discourse.core.module.core.plan.value.sink.SortedSetAddValueSinkFactory Collect in
  * SortedSet}</li>
+ * <li>{@link com.sigpwned.discourse.core.module.core.plan.value.sink.EnumSetAddValueSinkFactory Collect in
+ * EnumSet}</li>
+ * <li>{@link com.sigpwned.discourse.core.module.core.plan.value.sink.EnumMapPutValueSinkFactory Collect in
+ * EnumMap}</li>
  * </ul>
+ *
+ * <p>
+ * Sinks that store primitive values may implement {@link OfInt}, {@link OfLong},
+ * {@link OfDouble}, or {@link OfBoolean}, which accept values without boxing them.
+ * </p>
  */
 public interface ValueSink {
 
@@ -65,6 +74,19 @@ public interface ValueSink {
    */
   public void put(Object value);
 
+  /**
+   * Writes all the given values into the sink, in order. This must have the same effect as calling
+   * {@link #put(Object)} with each value in turn, which is what the default implementation does,
+   * but sinks that know how many values are coming can do better, e.g., by sizing their storage
+   * once or by sorting all the values at once.
+   *
+   * @param values the values to write
+   */
+  default void putAll(List<?> values) {
+    for (Object value : values)
+      put(value);
+  }
+
   /**
    * Returns the value stored in the sink. If the sink is has {@link #put(Object) received} zero
    * values, this method returns an empty {@link Optional}. Otherwise, this method returns the value
@@ -73,4 +95,40 @@ public interface ValueSink {
    * @return the value stored in the sink
    */
   public Optional<Object> get();
+
+  /**
+   * A sink that accepts {@code int} values without boxing them. Calling
+   * {@link #putInt(int)} must have the same effect as calling {@link #put(Object)} with the boxed
+   * value.
+   */
+  public static interface OfInt extends ValueSink {
+    public void putInt(int value);
+  }
+
+  /**
+   * A sink that accepts {@code long} values without boxing them. Calling
+   * {@link #putLong(long)} must have the same effect as calling {@link #put(Object)} with the boxed
+   * value.
+   */
+  public static interface OfLong extends ValueSink {
+    public void putLong(long value);
+  }
+
+  /**
+   * A sink that accepts {@code double} values without boxing them. Calling
+   * {@link #putDouble(double)} must have the same effect as calling {@link #put(Object)} with the
+   * boxed value.
+   */
+  public static interface OfDouble extends ValueSink {
+    public void putDouble(double value);
+  }
+
+  /**
+   * A sink that accepts {@code boolean} values without boxing them. Calling
+   * {@link #putBoolean(boolean)} must have the same effect as calling {@link #put(Object)} with the
+   * boxed value.
+   */
+  public static interface OfBoolean extends ValueSink {
+    public void putBoolean(boolean value);
+  }
 }
@@ -0,0 +1,37 @@
+package com.sigpwned.discourse.core.module.core.plan.value.sink;
+
+import java.lang.reflect.Type;
+
+/**
+ * <p>
+ * An immutable description of an assignment target. Where a {@link ValueSink} accumulates the
+ * values of one property during one invocation, a descriptor only describes the sink, and creates a
+ * {@link #newSink() new, empty sink} for each invocation. This allows a planned command to be
+ * computed once and reused for many invocations, even at the same time.
+ * </p>
+ *
+ * @see ValueSinkFactory#getSinkDescriptor(Type, java.util.List)
+ */
+public interface ValueSinkDescriptor {
+  /**
+   * Returns {@code true} if the sinks this descriptor creates accept multiple values, or
+   * {@code false} otherwise.
+   *
+   * @see ValueSink#isCollection()
+   */
+  public boolean isCollection();
+
+  /**
+   * Returns the type of the values the sinks this descriptor creates accept.
+   *
+   * @see ValueSink#getGenericType()
+   */
+  public Type getGenericType();
+
+  /**
+   * Creates a new, empty sink.
+   *
+   * @return the new sink
+   */
+  public ValueSink newSink();
+}
@@ -30,4 +30,64 @@ import java.util.Optional;
 public interface ValueSinkFactory {
 
   public Optional<ValueSink> getSink(Type genericType, List<Annotation> annotations);
+
+  /**
+   * Returns a descriptor of the sink this factory would create for the given type and annotations,
+   * or {@link Optional#empty() empty} if this factory does not handle them. Unlike a sink, the
+   * descriptor holds no values, so it can be kept and used to create sinks for many invocations.
+   * The default implementation asks {@link #getSink(Type, List)} for a sink to learn its shape,
+   * and again each time the descriptor creates a sink.
+   *
+   * @see ValueSinkDescriptor
+   */
+  default Optional<ValueSinkDescriptor> getSinkDescriptor(Type genericType,
+      List<Annotation> annotations) {
+    final List<Annotation> annotationsCopy = List.copyOf(annotations);
+    return getSink(genericType, annotationsCopy).map(sink -> {
+      final boolean collection = sink.isCollection();
+      final Type sinkType = sink.getGenericType();
+      return new ValueSinkDescriptor() {
+        @Override
+        public boolean isCollection() {
+          return collection;
+        }
+
+        @Override
+        public Type getGenericType() {
+          return sinkType;
+        }
+
+        @Override
+        public ValueSink newSink() {
+          return getSink(genericType, annotationsCopy).orElseThrow(() -> new IllegalStateException(
+              "sink factory no longer handles " + genericType.getTypeName()));
+        }
+      };
+    });
+  }
+
+  /**
+   * Returns {@code true} if this factory always gives the same answer for the same type and
+   * annotations. If so, then {@link ValueSinkFactoryChain} may remember which factory handles a
+   * type and go straight to it next time. Sinks hold the values they receive, so the chain still
+   * asks that factory for a new sink every time. Factories whose answer depends on other state
+   * should return {@code false}, which is the default.
+   *
+   * @return {@code true} if the chain may cache which factory handles a type
+   */
+  default boolean isCacheable() {
+    return false;
+  }
+
+  /**
+   * Returns {@code true} if this factory always gives the same answer for the given type and
+   * annotations, or {@code false} otherwise. The default implementation returns
+   * {@link #isCacheable()}, but factories that delegate to other factories, like
+   * {@link ValueSinkFactoryChain}, may know better for a particular type.
+   *
+   * @return {@code true} if the answer for the given type and annotations may be cached
+   */
+  default boolean isCacheable(Type genericType, List<Annotation> annotations) {
+    return isCacheable();
+  }
 }
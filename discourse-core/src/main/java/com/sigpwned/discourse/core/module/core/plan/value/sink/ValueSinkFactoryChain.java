@@ -22,11 +22,14 @@ package com.sigpwned.discourse.core.module.core.plan.value.sink;
 import static java.util.Objects.requireNonNull;
 
 import com.sigpwned.discourse.core.Chain;
-import com.sigpwned.discourse.core.util.Chains;
+import com.sigpwned.discourse.core.util.Types;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /**
  * A chain of {@link ValueSinkFactory} instances. This is used to create sinks for resolvedCommand
@@ -34,27 +37,151 @@ import java.util.Optional;
  * and the first {@code ValueSinkFactory} that handles the given parameters is returned. If no
  * {@code ValueSinkFactory} in the chain handles the parameters, then the default
  * {@code ValueSinkFactory} is returned.
+ *
+ * <p>
+ * The Plan step asks for a sink for every property on every invocation, so the chain remembers
+ * which factory handled each type and list of annotations, and goes straight to that factory next
+ * time. It only does so when every factory it asked is {@link ValueSinkFactory#isCacheable()
+ * cacheable}. The cache is cleared whenever the chain changes. Each answer is kept on the type's
+ * {@link Types#findCacheOwner(Type, List) cache owner} through a {@link ClassValue}, so it goes
+ * away when the classes the type mentions are unloaded. Types without an owner are never cached.
+ * </p>
  */
 public class ValueSinkFactoryChain extends Chain<ValueSinkFactory> implements ValueSinkFactory {
 
   private ValueSinkFactory defaultSink;
 
+  /**
+   * The factory that handles each type and list of annotations, grouped by cache owner
+   */
+  private static class Cache
+      extends ClassValue<Map<Map.Entry<Type, List<Annotation>>, ValueSinkFactory>> {
+    @Override
+    protected Map<Map.Entry<Type, List<Annotation>>, ValueSinkFactory> computeValue(
+        Class<?> type) {
+      return new ConcurrentHashMap<>();
+    }
+  }
+
+  /**
+   * Replaced whenever the chain or its default changes
+   */
+  private volatile Cache cache = new Cache();
+
   public ValueSinkFactoryChain() {
     defaultSink = new AssignValueSinkFactory();
   }
 
+  @Override
+  public void addFirst(ValueSinkFactory element) {
+    super.addFirst(element);
+    cache = new Cache();
+  }
+
+  @Override
+  public void addLast(ValueSinkFactory element) {
+    super.addLast(element);
+    cache = new Cache();
+  }
+
   @Override
   public Optional<ValueSink> getSink(Type genericType, List<Annotation> annotations) {
-    Optional<ValueSink> result = Chains.stream(this)
-        .flatMap(factory -> factory.getSink(genericType, annotations).stream()).findFirst();
-    if (result.isPresent()) {
-      return result;
+    return ask(genericType, annotations, factory -> factory.getSink(genericType, annotations));
+  }
+
+  /**
+   * Returns the descriptor from the factory that handles the given type and annotations, so that
+   * the sinks the descriptor creates come straight from that factory rather than through this
+   * chain.
+   */
+  @Override
+  public Optional<ValueSinkDescriptor> getSinkDescriptor(Type genericType,
+      List<Annotation> annotations) {
+    return ask(genericType, annotations,
+        factory -> factory.getSinkDescriptor(genericType, annotations));
+  }
+
+  /**
+   * Returns {@code true} if every factory this chain asks about the given type and annotations is
+   * {@link ValueSinkFactory#isCacheable(Type, List) cacheable}, or {@code false} otherwise.
+   */
+  @Override
+  public boolean isCacheable(Type genericType, List<Annotation> annotations) {
+    final Map<Map.Entry<Type, List<Annotation>>, ValueSinkFactory> cache =
+        getCache(genericType, annotations);
+    if (cache != null && cache.containsKey(Map.entry(genericType, annotations)))
+      return true;
+
+    final List<ValueSinkFactory> factories = elements();
+    for (int i = 0; i < factories.size(); i++) {
+      ValueSinkFactory factory = factories.get(i);
+      if (!factory.isCacheable(genericType, annotations))
+        return false;
+      if (factory.getSink(genericType, annotations).isPresent())
+        return true;
+    }
+
+    return getDefaultSink().isCacheable(genericType, annotations);
+  }
+
+  /**
+   * Asks the factory that handles the given type and annotations the given question, trying each
+   * factory in turn and then the default until one of them answers.
+   */
+  private <R> Optional<R> ask(Type genericType, List<Annotation> annotations,
+      Function<ValueSinkFactory, Optional<R>> question) {
+    final Map<Map.Entry<Type, List<Annotation>>, ValueSinkFactory> cache =
+        getCache(genericType, annotations);
+
+    ValueSinkFactory cached = cache != null ? cache.get(Map.entry(genericType, annotations)) : null;
+    if (cached != null) {
+      Optional<R> result = question.apply(cached);
+      if (result.isPresent())
+        return result;
+      // The factory said it was cacheable, but changed its mind. Do it the long way.
     }
-    return getDefaultSink().getSink(genericType, annotations);
+
+    boolean cacheable = true;
+    final List<ValueSinkFactory> factories = elements();
+    for (int i = 0; i < factories.size(); i++) {
+      ValueSinkFactory factory = factories.get(i);
+      cacheable = cacheable && factory.isCacheable();
+      Optional<R> result = question.apply(factory);
+      if (result.isPresent()) {
+        if (cacheable)
+          remember(cache, genericType, annotations, factory);
+        return result;
+      }
+    }
+
+    ValueSinkFactory defaultSink = getDefaultSink();
+    Optional<R> result = question.apply(defaultSink);
+    if (result.isPresent() && cacheable && defaultSink.isCacheable())
+      remember(cache, genericType, annotations, defaultSink);
+    return result;
+  }
+
+  /**
+   * @return the cache for the given type and annotations, or {@code null} if they have no cache
+   *         owner
+   */
+  private Map<Map.Entry<Type, List<Annotation>>, ValueSinkFactory> getCache(Type genericType,
+      List<Annotation> annotations) {
+    final Cache cache = this.cache;
+    return Types.findCacheOwner(genericType, annotations).map(cache::get).orElse(null);
+  }
+
+  private static void remember(Map<Map.Entry<Type, List<Annotation>>, ValueSinkFactory> cache,
+      Type genericType, List<Annotation> annotations, ValueSinkFactory factory) {
+    if (cache == null)
+      return;
+    // The caller may hold on to the annotations, so keep our own copy
+    cache.putIfAbsent(Map.entry(genericType, List.copyOf(annotations)), factory);
   }
 
   public void setDefaultSink(ValueSinkFactory defaultSink) {
     this.defaultSink = requireNonNull(defaultSink);
+    cache = new Cache();
   }
 
   public ValueSinkFactory getDefaultSink() {
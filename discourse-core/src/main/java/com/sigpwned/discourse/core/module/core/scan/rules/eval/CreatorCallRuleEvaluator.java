@@ -19,17 +19,21 @@
  */
 package com.sigpwned.discourse.core.module.core.scan.rules.eval;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import com.sigpwned.discourse.core.annotation.DiscourseCreator;
 import com.sigpwned.discourse.core.exception.InternalDiscourseException;
+import com.sigpwned.discourse.core.pipeline.invocation.step.scan.BoundRule;
 import com.sigpwned.discourse.core.pipeline.invocation.step.scan.RuleEvaluator;
 import com.sigpwned.discourse.core.pipeline.invocation.step.scan.exception.RuleEvaluationFailureScanException;
 import com.sigpwned.discourse.core.pipeline.invocation.step.scan.model.NamedRule;
+import com.sigpwned.discourse.core.util.Maybe;
 import com.sigpwned.discourse.core.util.Reflection;
 
 public class CreatorCallRuleEvaluator implements RuleEvaluator {
@@ -93,4 +97,44 @@ public class CreatorCallRuleEvaluator implements RuleEvaluator {
     return Optional.empty();
   }
 
+  @Override
+  public Maybe<BoundRule> bind(NamedRule rule) {
+    // Pass the antecedents in the same order as run() does.
+    final List<String> parameters = List.copyOf(rule.antecedents());
+
+    if (rule.nominated() instanceof Constructor<?> constructor
+        && constructor.getAnnotation(DiscourseCreator.class) != null
+        && Modifier.isPublic(constructor.getModifiers())
+        && !Reflection.hasDefaultConstructorSignature(constructor)) {
+      // Square deal. This is what we're here for.
+      MethodHandle handle;
+      try {
+        handle =
+            RuleHandles.lookup(constructor.getDeclaringClass()).unreflectConstructor(constructor);
+      } catch (IllegalAccessException e) {
+        // We can't bind this one, so run() will have to evaluate it every time.
+        return Maybe.no();
+      }
+
+      return Maybe.yes(new BoundRule(rule, constructor.getDeclaringClass(), parameters, handle));
+    }
+
+    if (rule.nominated() instanceof Method method
+        && method.getAnnotation(DiscourseCreator.class) != null
+        && Modifier.isPublic(method.getModifiers())
+        && Reflection.hasFactoryMethodSignature(method)) {
+      // Square deal. This is what we're here for.
+      MethodHandle handle;
+      try {
+        handle = RuleHandles.lookup(method.getDeclaringClass()).unreflect(method);
+      } catch (IllegalAccessException e) {
+        // We can't bind this one, so run() will have to evaluate it every time.
+        return Maybe.no();
+      }
+
+      return Maybe.yes(new BoundRule(rule, method.getDeclaringClass(), parameters, handle));
+    }
+
+    return Maybe.maybe();
+  }
 }
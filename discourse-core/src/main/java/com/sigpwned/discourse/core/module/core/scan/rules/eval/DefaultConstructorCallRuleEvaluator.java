@@ -19,16 +19,20 @@
  */
 package com.sigpwned.discourse.core.module.core.scan.rules.eval;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import com.sigpwned.discourse.core.exception.InternalDiscourseException;
 import com.sigpwned.discourse.core.exception.internal.IllegalArgumentInternalDiscourseException;
+import com.sigpwned.discourse.core.pipeline.invocation.step.scan.BoundRule;
 import com.sigpwned.discourse.core.pipeline.invocation.step.scan.RuleEvaluator;
 import com.sigpwned.discourse.core.pipeline.invocation.step.scan.exception.RuleEvaluationFailureScanException;
 import com.sigpwned.discourse.core.pipeline.invocation.step.scan.model.NamedRule;
+import com.sigpwned.discourse.core.util.Maybe;
 import com.sigpwned.discourse.core.util.Reflection;
 
 public class DefaultConstructorCallRuleEvaluator implements RuleEvaluator {
@@ -68,4 +72,31 @@ public class DefaultConstructorCallRuleEvaluator implements RuleEvaluator {
     return Optional.of(Optional.of(instance));
   }
 
+  @Override
+  public Maybe<BoundRule> bind(NamedRule rule) {
+    if (rule.nominated() instanceof Constructor<?> constructor
+        && Modifier.isPublic(constructor.getModifiers())
+        && Reflection.hasDefaultConstructorSignature(constructor)) {
+      // Square deal. This is what we're here for.
+    } else {
+      // We don't execute this guy.
+      return Maybe.maybe();
+    }
+
+    if (rule.antecedents().size() != 0) {
+      throw new IllegalArgumentInternalDiscourseException(
+          "Default constructor rules must have exactly zero antecedents");
+    }
+
+    MethodHandle handle;
+    try {
+      handle =
+          RuleHandles.lookup(constructor.getDeclaringClass()).unreflectConstructor(constructor);
+    } catch (IllegalAccessException e) {
+      // We can't bind this one, so run() will have to evaluate it every time.
+      return Maybe.no();
+    }
+
+    return Maybe.yes(new BoundRule(rule, constructor.getDeclaringClass(), List.of(), handle));
+  }
 }
@@ -0,0 +1,25 @@
+package com.sigpwned.discourse.core.module.core.scan.rules.eval;
+
+import java.lang.invoke.MethodHandles;
+
+/**
+ * Helpers for binding rules to method handles.
+ */
+final class RuleHandles {
+  private RuleHandles() {}
+
+  /**
+   * Returns a lookup with private access to the given class, if we can get one, or a public lookup
+   * otherwise. Private access lets us bind the public members of classes that are not public
+   * themselves, like nested configuration classes, without {@code setAccessible}. We can get
+   * private access to any class on the class path, and to any class in a named module that opens
+   * its package to us.
+   */
+  static MethodHandles.Lookup lookup(Class<?> clazz) {
+    try {
+      return MethodHandles.privateLookupIn(clazz, MethodHandles.lookup());
+    } catch (IllegalAccessException e) {
+      return MethodHandles.publicLookup();
+    }
+  }
+}
@@ -19,6 +19,7 @@
  */
 package com.sigpwned.discourse.core.module.core.scan.rules.eval;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
@@ -30,9 +31,11 @@ import java.util.Optional;
 import java.util.function.Function;
 import com.sigpwned.discourse.core.exception.InternalDiscourseException;
 import com.sigpwned.discourse.core.exception.internal.IllegalArgumentInternalDiscourseException;
+import com.sigpwned.discourse.core.pipeline.invocation.step.scan.BoundRule;
 import com.sigpwned.discourse.core.pipeline.invocation.step.scan.RuleEvaluator;
 import com.sigpwned.discourse.core.pipeline.invocation.step.scan.exception.RuleEvaluationFailureScanException;
 import com.sigpwned.discourse.core.pipeline.invocation.step.scan.model.NamedRule;
+import com.sigpwned.discourse.core.util.Maybe;
 import com.sigpwned.discourse.core.util.Reflection;
 
 public class SetterMethodCallRuleEvaluator implements RuleEvaluator {
@@ -48,22 +51,10 @@ public class SetterMethodCallRuleEvaluator implements RuleEvaluator {
       return Optional.empty();
     }
 
-    if (rule.antecedents().size() != 2) {
-      throw new IllegalArgumentInternalDiscourseException(
-          "Setter method call rules must have exactly two antecedents");
-    }
-
-    List<String> antecedentsList = new ArrayList<>(rule.antecedents());
-    antecedentsList
-        .sort(Comparator.comparingInt(String::length).thenComparing(Function.identity()));
+    List<String> antecedentsList = instanceAndValueNames(rule);
     String instanceName = antecedentsList.get(0);
     String valueName = antecedentsList.get(1);
 
-    if (!valueName.startsWith(instanceName)) {
-      throw new IllegalArgumentInternalDiscourseException(
-          "Cannot assign value to field of instance: " + antecedentsList);
-    }
-
     Object instance = input.get(instanceName);
     Object value = input.get(valueName);
 
@@ -82,4 +73,50 @@ public class SetterMethodCallRuleEvaluator implements RuleEvaluator {
     return Optional.of(Optional.empty());
   }
 
+  @Override
+  public Maybe<BoundRule> bind(NamedRule rule) {
+    if (rule.nominated() instanceof Method method && Modifier.isPublic(method.getModifiers())
+        && Reflection.hasInstanceSetterSignature(method)) {
+      // Square deal. This is what we're here for.
+    } else {
+      // We don't execute this guy.
+      return Maybe.maybe();
+    }
+
+    List<String> parameters = instanceAndValueNames(rule);
+
+    MethodHandle handle;
+    try {
+      handle = RuleHandles.lookup(method.getDeclaringClass()).unreflect(method);
+    } catch (IllegalAccessException e) {
+      // We can't bind this one, so run() will have to evaluate it every time.
+      return Maybe.no();
+    }
+
+    return Maybe.yes(new BoundRule(rule, method.getDeclaringClass(), parameters, handle));
+  }
+
+  /**
+   * Returns the names of the instance and the value, in that order. The value is a property of the
+   * instance, so its name starts with the instance's name.
+   */
+  private static List<String> instanceAndValueNames(NamedRule rule) {
+    if (rule.antecedents().size() != 2) {
+      throw new IllegalArgumentInternalDiscourseException(
+          "Setter method call rules must have exactly two antecedents");
+    }
+
+    List<String> antecedentsList = new ArrayList<>(rule.antecedents());
+    antecedentsList
+        .sort(Comparator.comparingInt(String::length).thenComparing(Function.identity()));
+    String instanceName = antecedentsList.get(0);
+    String valueName = antecedentsList.get(1);
+
+    if (!valueName.startsWith(instanceName)) {
+      throw new IllegalArgumentInternalDiscourseException(
+          "Cannot assign value to field of instance: " + antecedentsList);
+    }
+
+    return antecedentsList;
+  }
 }
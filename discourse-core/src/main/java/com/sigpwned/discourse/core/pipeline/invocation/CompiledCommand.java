@@ -0,0 +1,91 @@
+package com.sigpwned.discourse.core.pipeline.invocation;
+
+import static java.util.Objects.requireNonNull;
+import java.util.List;
+import java.util.stream.Stream;
+import com.sigpwned.discourse.core.command.tree.RootCommand;
+
+/**
+ * <p>
+ * A command that has been {@link InvocationPipeline#compile(Class) compiled} by an
+ * {@link InvocationPipeline}. Compilation runs the Scan step exactly once, so each invocation only
+ * runs the steps from Resolve to Finish.
+ * </p>
+ *
+ * <p>
+ * Instances are immutable and may be invoked concurrently from multiple threads. Each invocation
+ * keeps its own state in a {@link LayeredInvocationContext} over the pipeline's context that no
+ * other invocation uses at the same time. {@link #invoke(List)} creates a new one for each call,
+ * and {@link #invokeAll(Stream)} reuses them within a batch, clearing each between uses. Invoking a
+ * compiled command never changes the pipeline.
+ * </p>
+ *
+ * <p>
+ * Compiling a command only scans its root command. Each subcommand is scanned the first time it is
+ * invoked. Use {@link #validateAll()} to scan the whole command tree up front.
+ * </p>
+ *
+ * @param <T> the type of the command object
+ * @see InvocationPipeline#compile(Class)
+ */
+public final class CompiledCommand<T> {
+  private final InvocationPipeline pipeline;
+  private final RootCommand<T> root;
+
+  CompiledCommand(InvocationPipeline pipeline, RootCommand<T> root) {
+    this.pipeline = requireNonNull(pipeline);
+    this.root = requireNonNull(root);
+  }
+
+  /**
+   * Runs all steps from Resolve to Finish against the given arguments.
+   *
+   * @param args the application arguments
+   * @return the fully constructed command object
+   */
+  public T invoke(List<String> args) {
+    return pipeline.invoke(this, args);
+  }
+
+  /**
+   * <p>
+   * Runs all steps from Resolve to Finish once for each of the given argument lists, e.g., each
+   * line of an archive of command lines, and returns one {@link InvocationResult} per argument
+   * list, in the same order. A failed invocation produces a failed result instead of throwing, so
+   * one bad command line does not stop the batch.
+   * </p>
+   *
+   * <p>
+   * The returned stream is lazy, and is parallel if and only if the given stream is. To run the
+   * batch in parallel, pass a {@link Stream#parallel() parallel} stream. Invocations in the batch
+   * reuse invocation contexts rather than creating a new one for each argument list. A context is
+   * cleared as soon as its invocation finishes, and is never shared beyond the batch.
+   * </p>
+   *
+   * @param argss the application arguments for each invocation
+   * @return the result of each invocation
+   */
+  public Stream<InvocationResult<T>> invokeAll(Stream<List<String>> argss) {
+    return pipeline.invokeAll(this, argss);
+  }
+
+  /**
+   * Scans every subcommand of this command that has not been scanned already, so that any problems
+   * with the command tree are reported now instead of when the subcommand is first invoked.
+   *
+   * @return this command
+   * @see InvocationPipeline#validateAll(Class)
+   */
+  public CompiledCommand<T> validateAll() {
+    pipeline.doValidateAll(root.getRoot());
+    return this;
+  }
+
+  public RootCommand<T> getRoot() {
+    return root;
+  }
+
+  public InvocationPipeline getPipeline() {
+    return pipeline;
+  }
+}
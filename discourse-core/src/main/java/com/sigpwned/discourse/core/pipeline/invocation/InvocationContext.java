@@ -1,26 +1,87 @@
 package com.sigpwned.discourse.core.pipeline.invocation;
 
 import static java.util.Objects.requireNonNull;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import com.sigpwned.discourse.core.optional.OptionalInvocationContextProperty;
 
 public interface InvocationContext {
+  /**
+   * <p>
+   * The key of a value in an {@link InvocationContext}. Keys are compared by name and type.
+   * </p>
+   *
+   * <p>
+   * The first {@value #MAX_SLOTS} distinct keys, which in practice are the well-known keys that the
+   * steps declare as constants and so are created at class-init time, each get a fixed slot index,
+   * which {@link SlotInvocationContext} uses to store their values in an array instead of a map.
+   * {@link #of(Class)} and {@link #of(String, Class)} return the same instance every time they are
+   * given the same name and type, so looking a value up by its type allocates nothing.
+   * </p>
+   */
   public static class Key<T> {
+    /**
+     * The number of keys that get slot indices. Any further keys have no slot, and contexts store
+     * their values in a map instead.
+     */
+    public static final int MAX_SLOTS = 64;
+
+    /**
+     * Keys with no name, by type
+     */
+    private static final ClassValue<Key<?>> UNNAMED_KEYS = new ClassValue<>() {
+      @Override
+      protected Key<?> computeValue(Class<?> type) {
+        return new Key<>(null, type, nextSlot());
+      }
+    };
+
+    /**
+     * Keys with a name, by type and then name
+     */
+    private static final ClassValue<Map<String, Key<?>>> NAMED_KEYS = new ClassValue<>() {
+      @Override
+      protected Map<String, Key<?>> computeValue(Class<?> type) {
+        return new ConcurrentHashMap<>();
+      }
+    };
+
+    private static final AtomicInteger NEXT_SLOT = new AtomicInteger();
+
+    private static int nextSlot() {
+      final int slot = NEXT_SLOT.getAndIncrement();
+      return slot < MAX_SLOTS ? slot : -1;
+    }
+
     public static <T> Key<T> of(Class<T> type) {
       return of(null, type);
     }
 
+    @SuppressWarnings("unchecked")
     public static <T> Key<T> of(String name, Class<T> type) {
-      return new Key<>(name, type);
+      if (name == null)
+        return (Key<T>) UNNAMED_KEYS.get(type);
+      return (Key<T>) NAMED_KEYS.get(type).computeIfAbsent(name,
+          n -> new Key<>(n, type, nextSlot()));
     }
 
     private final String name;
     private final Class<T> type;
+    private final int slot;
+    private final OptionalInvocationContextProperty<T, T> empty;
 
     public Key(String name, Class<T> type) {
+      this(name, type, of(name, type).slot);
+    }
+
+    private Key(String name, Class<T> type, int slot) {
       this.name = name;
       this.type = requireNonNull(type);
+      this.slot = slot;
+      this.empty = OptionalInvocationContextProperty.empty(this);
     }
 
     public Optional<String> getName() {
@@ -31,6 +92,20 @@ public interface InvocationContext {
       return type;
     }
 
+    /**
+     * @return the slot index of this key, or {@code -1} if it has none
+     */
+    int getSlot() {
+      return slot;
+    }
+
+    /**
+     * @return an empty property for this key, which is shared since properties are immutable
+     */
+    OptionalInvocationContextProperty<T, T> emptyProperty() {
+      return empty;
+    }
+
     public boolean isAssignableFrom(Key<?> that) {
       return Objects.equals(this.name, that.name) && this.type.isAssignableFrom(that.type);
     }
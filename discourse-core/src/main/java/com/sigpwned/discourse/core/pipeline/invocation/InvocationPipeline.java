@@ -7,17 +7,22 @@ import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import com.sigpwned.discourse.core.Chain;
 import com.sigpwned.discourse.core.args.Coordinate;
 import com.sigpwned.discourse.core.args.Token;
 import com.sigpwned.discourse.core.command.planned.ParentCommand;
 import com.sigpwned.discourse.core.command.planned.PlannedCommand;
+import com.sigpwned.discourse.core.command.planned.PlannedCommandProperty;
 import com.sigpwned.discourse.core.command.resolved.ResolvedCommand;
 import com.sigpwned.discourse.core.command.tree.Command;
 import com.sigpwned.discourse.core.command.tree.LeafCommand;
@@ -26,9 +31,12 @@ import com.sigpwned.discourse.core.command.tree.SuperCommand;
 import com.sigpwned.discourse.core.exception.InternalDiscourseException;
 import com.sigpwned.discourse.core.exception.internal.IllegalArgumentInternalDiscourseException;
 import com.sigpwned.discourse.core.module.CoreModule;
+import com.sigpwned.discourse.core.module.core.plan.value.deserializer.ValueDeserializer;
 import com.sigpwned.discourse.core.module.core.plan.value.sink.ValueSink;
+import com.sigpwned.discourse.core.module.core.plan.value.sink.ValueSinkDescriptor;
 import com.sigpwned.discourse.core.pipeline.invocation.step.AttributeStep;
 import com.sigpwned.discourse.core.pipeline.invocation.step.FinishStep;
+import com.sigpwned.discourse.core.pipeline.invocation.step.FusedParseAttributeGroupStep;
 import com.sigpwned.discourse.core.pipeline.invocation.step.GroupStep;
 import com.sigpwned.discourse.core.pipeline.invocation.step.MapStep;
 import com.sigpwned.discourse.core.pipeline.invocation.step.ParseStep;
@@ -41,11 +49,12 @@ import com.sigpwned.discourse.core.pipeline.invocation.step.ReduceStep;
 import com.sigpwned.discourse.core.pipeline.invocation.step.ResolveStep;
 import com.sigpwned.discourse.core.pipeline.invocation.step.ScanStep;
 import com.sigpwned.discourse.core.pipeline.invocation.step.TokenizeStep;
-import com.sigpwned.discourse.core.pipeline.invocation.step.postprocess.args.ArgsPostprocessor;
-import com.sigpwned.discourse.core.pipeline.invocation.step.postprocess.args.ArgsPostprocessorChain;
+import com.sigpwned.discourse.core.pipeline.invocation.step.map.PrimitiveMappedValues;
+import com.sigpwned.discourse.core.pipeline.invocation.step.map.PrimitiveMapper;
 import com.sigpwned.discourse.core.pipeline.invocation.step.resolve.CommandResolver;
 import com.sigpwned.discourse.core.pipeline.invocation.step.resolve.exception.PartialCommandResolutionResolveException;
 import com.sigpwned.discourse.core.pipeline.invocation.step.resolve.model.CommandResolution;
+import com.sigpwned.discourse.core.pipeline.invocation.step.scan.ScanException;
 
 /**
  * <p>
@@ -84,7 +93,8 @@ import com.sigpwned.discourse.core.pipeline.invocation.step.resolve.model.Comman
  * <li>Reduce: Reduce the mapped arguments. This involves reducing the mapped arguments to a single
  * value for each property, e.g., choosing the first value or creating a list.</li>
  * <li>PostprocessArgs: Postprocess the reduced arguments. This allows customizations late access to
- * the reduced arguments, for example for validation.</li>
+ * the reduced arguments, for example for validation. The command's reactor always runs last in
+ * this step.</li>
  * <li>Finish: Finish the command invocation. This involves constructing the command object and
  * populating it with the reduced arguments.</li>
  * </ol>
@@ -111,10 +121,12 @@ public class InvocationPipeline {
         boolean resolved = false;
         if (command instanceof SuperCommand<? extends T> superCommand) {
           String nextArg = iterator.next();
-          Command<? extends T> subCommand = superCommand.getSubcommands().get(nextArg);
-          if (subCommand != null) {
+          // Only load the subcommand we need, not its siblings
+          Optional<? extends Command<? extends T>> subCommand =
+              superCommand.getSubcommand(nextArg);
+          if (subCommand.isPresent()) {
             parents.add(new ParentCommand(nextArg, command.getDescription().orElse(null)));
-            command = subCommand;
+            command = subCommand.orElseThrow();
             iterator.remove();
             resolved = true;
           }
@@ -149,8 +161,119 @@ public class InvocationPipeline {
   private final ReduceStep reduce;
   private final PostprocessArgsStep postprocessArgs;
   private final FinishStep finish;
+
+  /**
+   * The context that the modules registered into. Once the pipeline is built, this context is only
+   * ever read, so invocations on many threads can share it without locking. Each invocation writes
+   * its own state to a {@link #newInvocationContext() layer} over it instead.
+   */
   private final InvocationContext context;
 
+  /**
+   * Runs the Parse, Attribute, and Group steps in one pass when nobody is watching them.
+   */
+  private final FusedParseAttributeGroupStep fusedParseAttributeGroup =
+      new FusedParseAttributeGroupStep();
+
+  /**
+   * {@code true} if the Parse, Attribute, and Group steps are the standard implementations, and so
+   * can be replaced by the fused step, or {@code false} otherwise.
+   */
+  private final boolean standardParseAttributeGroup;
+
+  /**
+   * {@code true} if the coordinates preprocessors are the ones the default modules register, and
+   * so give the same coordinates for the same properties on every invocation, or {@code false}
+   * otherwise. Only then can the fused step reuse one coordinate table for every invocation.
+   */
+  private final boolean standardCoordinatesPreprocessor;
+
+  /**
+   * The {@link #getCoordinatesPreprocessorSignature(InvocationContext) coordinates preprocessor
+   * signature} of the default modules, computed the first time it's needed.
+   */
+  private static class DefaultCoordinatesPreprocessorSignature {
+    public static final List<Class<?>> INSTANCE = compute();
+
+    private static List<Class<?>> compute() {
+      List<List<Class<?>>> result = new ArrayList<>(1);
+      InvocationPipeline.builder().register(context -> {
+        result.add(getCoordinatesPreprocessorSignature(context));
+      });
+      return result.get(0);
+    }
+  }
+
+  /**
+   * The Scan step results for each command class. The Scan step depends only on the command class
+   * and on the modules registered with this pipeline, which do not change after the pipeline is
+   * built, so each command class only needs to be scanned once per pipeline. We use a
+   * {@link ClassValue} so that this cache never keeps a command class or its class loader alive,
+   * e.g., after an application is undeployed from an application server.
+   */
+  private final ClassValue<AtomicReference<RootCommand<?>>> scans = new ClassValue<>() {
+    @Override
+    protected AtomicReference<RootCommand<?>> computeValue(Class<?> type) {
+      return new AtomicReference<>();
+    }
+  };
+
+  /**
+   * What the steps after the Plan step need to know about a planned command's properties: the
+   * property for each coordinate, and the mapper and reducer for each property. These depend only
+   * on the planned properties, so they can be reused for as long as the Plan step reuses its plan.
+   */
+  private static final class PropertyTables {
+    private final List<PlannedCommandProperty> properties;
+    private final Map<Coordinate, String> coordinates;
+    private final Map<String, Function<String, Object>> mappers;
+    private final Map<String, Function<List<Object>, Object>> reducers;
+
+    /**
+     * The fused step's table for the preprocessed coordinates, built by the first invocation that
+     * needs it.
+     */
+    private volatile FusedParseAttributeGroupStep.Table fusedTable;
+
+    private PropertyTables(List<PlannedCommandProperty> properties,
+        Map<Coordinate, String> coordinates, Map<String, Function<String, Object>> mappers,
+        Map<String, Function<List<Object>, Object>> reducers) {
+      this.properties = requireNonNull(properties);
+      this.coordinates = unmodifiableMap(coordinates);
+      this.mappers = unmodifiableMap(mappers);
+      this.reducers = unmodifiableMap(reducers);
+    }
+
+    /**
+     * Returns the fused step's table for these properties, building it from the given preprocessed
+     * coordinates if this is the first invocation to ask. This is only correct if the coordinates
+     * preprocessors give the same coordinates on every invocation.
+     */
+    private FusedParseAttributeGroupStep.Table fusedTable(
+        Map<Coordinate, String> preprocessedCoordinates) {
+      FusedParseAttributeGroupStep.Table result = fusedTable;
+      if (result == null) {
+        // If two threads build the table at once, either may win. They are the same.
+        result = new FusedParseAttributeGroupStep.Table(preprocessedCoordinates);
+        fusedTable = result;
+      }
+      return result;
+    }
+  }
+
+  /**
+   * The most recent property tables for each command class. The Plan step hands out the same
+   * properties for as long as it reuses a plan, so the tables are reused as long as the properties
+   * are the same instance. As with {@link #scans}, we use a {@link ClassValue} so that this cache
+   * never keeps a command class alive.
+   */
+  private final ClassValue<AtomicReference<PropertyTables>> propertyTables = new ClassValue<>() {
+    @Override
+    protected AtomicReference<PropertyTables> computeValue(Class<?> type) {
+      return new AtomicReference<>();
+    }
+  };
+
   public InvocationPipeline(ScanStep scan, ResolveStep resolve, PlanStep plan,
       PreprocessCoordinatesStep preprocessCoordinates, PreprocessArgsStep preprocessArgs,
       TokenizeStep tokenize, PreprocessTokensStep preprocessTokens, ParseStep parse,
@@ -171,6 +294,10 @@ public class InvocationPipeline {
     this.postprocessArgs = requireNonNull(postprocessProperties);
     this.finish = requireNonNull(finish);
     this.context = requireNonNull(context);
+    this.standardParseAttributeGroup = parse.getClass() == ParseStep.class
+        && attribute.getClass() == AttributeStep.class && group.getClass() == GroupStep.class;
+    this.standardCoordinatesPreprocessor = getCoordinatesPreprocessorSignature(context)
+        .equals(DefaultCoordinatesPreprocessorSignature.INSTANCE);
   }
 
   /**
@@ -181,11 +308,70 @@ public class InvocationPipeline {
    * @return
    */
   public <T> RootCommand<T> scan(Class<T> clazz) {
+    final InvocationContext context = newInvocationContext();
+
+    RootCommand<T> root;
+
+    try {
+      getListener(context).beforePipeline(context);
+      root = doScan(clazz);
+      getListener(context).afterPipeline(context);
+    } catch (Exception e) {
+      getListener(context).catchPipeline(e, context);
+      throw e;
+    } finally {
+      getListener(context).finallyPipeline(context);
+    }
+
+    return root;
+  }
+
+  /**
+   * Runs the Scan step once and returns a {@link CompiledCommand} that runs the steps from Resolve
+   * to Finish each time it is invoked. The compiled command is immutable and may be invoked
+   * concurrently, since each invocation keeps its state in its own
+   * {@link #newInvocationContext() invocation context}.
+   * 
+   * @param <T>
+   * @param clazz
+   * @return
+   */
+  public <T> CompiledCommand<T> compile(Class<T> clazz) {
+    final InvocationContext context = newInvocationContext();
+
     RootCommand<T> root;
+    try {
+      getListener(context).beforePipeline(context);
+      root = doScan(clazz);
+      getListener(context).afterPipeline(context);
+    } catch (Exception e) {
+      getListener(context).catchPipeline(e, context);
+      throw e;
+    } finally {
+      getListener(context).finallyPipeline(context);
+    }
 
+    return new CompiledCommand<>(this, root);
+  }
+
+  /**
+   * Runs the Scan step for the given class, and then loads every subcommand in its command tree.
+   * The Scan step only loads subcommands as invocations use them, so this is the way to find
+   * problems with any command in the tree up front, e.g., in a unit test.
+   *
+   * @param <T> the type of the command object
+   * @param clazz the command class
+   * @return the command tree, with every subcommand loaded
+   * @throws ScanException if any command in the tree is invalid
+   */
+  public <T> RootCommand<T> validateAll(Class<T> clazz) {
+    final InvocationContext context = newInvocationContext();
+
+    RootCommand<T> root;
     try {
       getListener(context).beforePipeline(context);
-      root = scan.scan(clazz, context);
+      root = doScan(clazz);
+      doValidateAll(root.getRoot());
       getListener(context).afterPipeline(context);
     } catch (Exception e) {
       getListener(context).catchPipeline(e, context);
@@ -197,6 +383,16 @@ public class InvocationPipeline {
     return root;
   }
 
+  /**
+   * Loads every subcommand under the given command.
+   */
+  protected void doValidateAll(Command<?> command) {
+    if (command instanceof SuperCommand<?> supercommand) {
+      for (Command<?> subcommand : supercommand.getSubcommands().values())
+        doValidateAll(subcommand);
+    }
+  }
+
   /**
    * Runs steps from Scan to Resolve.
    * 
@@ -205,11 +401,13 @@ public class InvocationPipeline {
    * @return
    */
   public <T> CommandResolution<? extends T> resolve(Class<T> clazz, List<String> args) {
+    final InvocationContext context = newInvocationContext();
+
     CommandResolution<? extends T> resolution;
 
     try {
       getListener(context).beforePipeline(context);
-      resolution = doScanToResolve(clazz, args);
+      resolution = doScanToResolve(clazz, args, context);
       getListener(context).afterPipeline(context);
     } catch (Exception e) {
       getListener(context).catchPipeline(e, context);
@@ -230,10 +428,12 @@ public class InvocationPipeline {
    * @return
    */
   public <T> T invoke(ResolvedCommand<T> command, List<String> args) {
+    final InvocationContext context = newInvocationContext();
+
     T instance;
     try {
       getListener(context).beforePipeline(context);
-      instance = doPlanToFinish(command, args);
+      instance = doPlanToFinish(command, args, context);
       getListener(context).afterPipeline(context);
     } catch (Exception e) {
       getListener(context).catchPipeline(e, context);
@@ -253,11 +453,77 @@ public class InvocationPipeline {
    * @return
    */
   public <T> T invoke(Class<T> clazz, List<String> args) {
+    final InvocationContext context = newInvocationContext();
+
+    T instance;
+    try {
+      getListener(context).beforePipeline(context);
+      CommandResolution<? extends T> resolution = doScanToResolve(clazz, args, context);
+      instance = doPlanToFinish(resolution.getCommand(), resolution.getArgs(), context);
+      getListener(context).afterPipeline(context);
+    } catch (Exception e) {
+      getListener(context).catchPipeline(e, context);
+      throw e;
+    } finally {
+      getListener(context).finallyPipeline(context);
+    }
+    return instance;
+  }
+
+  /**
+   * Compiles the given class and invokes it once for each of the given argument lists.
+   * 
+   * @see #compile(Class)
+   * @see CompiledCommand#invokeAll(Stream)
+   */
+  public <T> Stream<InvocationResult<T>> invokeAll(Class<T> clazz, Stream<List<String>> argss) {
+    return compile(clazz).invokeAll(argss);
+  }
+
+  /**
+   * Runs steps from Resolve to Finish against an already-compiled command in a new
+   * {@link #newInvocationContext() invocation context}.
+   * 
+   * @see CompiledCommand#invoke(List)
+   */
+  <T> T invoke(CompiledCommand<T> command, List<String> args) {
+    return invoke(command, args, newInvocationContext());
+  }
+
+  /**
+   * Runs steps from Resolve to Finish against an already-compiled command once for each of the
+   * given argument lists. Invocations borrow their invocation context from a pool that belongs to
+   * this batch, and {@link LayeredInvocationContext#clear() clear} it before returning it, so no
+   * thread keeps an invocation's state once the invocation is done, and the pool becomes garbage
+   * along with the stream.
+   *
+   * @see CompiledCommand#invokeAll(Stream)
+   */
+  <T> Stream<InvocationResult<T>> invokeAll(CompiledCommand<T> command,
+      Stream<List<String>> argss) {
+    final Queue<LayeredInvocationContext> contexts = new ConcurrentLinkedQueue<>();
+    return argss.map(args -> {
+      LayeredInvocationContext context = contexts.poll();
+      if (context == null)
+        context = newInvocationContext();
+      try {
+        return InvocationResult.success(args, invoke(command, args, context));
+      } catch (RuntimeException e) {
+        return InvocationResult.failure(args, e);
+      } finally {
+        context.clear();
+        contexts.offer(context);
+      }
+    });
+  }
+
+  private <T> T invoke(CompiledCommand<T> command, List<String> args,
+      InvocationContext context) {
     T instance;
     try {
       getListener(context).beforePipeline(context);
-      CommandResolution<? extends T> resolution = doScanToResolve(clazz, args);
-      instance = doPlanToFinish(resolution.getCommand(), resolution.getArgs());
+      CommandResolution<? extends T> resolution = doResolve(command.getRoot(), args, context);
+      instance = doPlanToFinish(resolution.getCommand(), resolution.getArgs(), context);
       getListener(context).afterPipeline(context);
     } catch (Exception e) {
       getListener(context).catchPipeline(e, context);
@@ -268,47 +534,65 @@ public class InvocationPipeline {
     return instance;
   }
 
-  protected <T> CommandResolution<? extends T> doScanToResolve(Class<T> clazz, List<String> args) {
-    RootCommand<T> rootCommand = scan.scan(clazz, context);
+  /**
+   * Runs the Scan step for the given class, or returns the result of a previous scan of the same
+   * class by this pipeline. Every caller gets the same tree for the same class. The Scan step
+   * listener hooks only fire when the class is actually scanned.
+   */
+  @SuppressWarnings("unchecked")
+  protected <T> RootCommand<T> doScan(Class<T> clazz) {
+    final AtomicReference<RootCommand<?>> cached = scans.get(clazz);
+
+    RootCommand<?> result = cached.get();
+    if (result == null) {
+      // The tree keeps the context it was scanned in to load subcommands later, maybe during other
+      // invocations, so it gets a context of its own rather than the caller's. Callers compare
+      // commands by identity, so if another thread published a tree first, use that one instead.
+      final RootCommand<T> scanned = scan.scan(clazz, newInvocationContext());
+      if (cached.compareAndSet(null, scanned))
+        result = scanned;
+      else
+        result = cached.get();
+    }
+
+    return (RootCommand<T>) result;
+  }
 
+  protected <T> CommandResolution<? extends T> doScanToResolve(Class<T> clazz, List<String> args,
+      InvocationContext context) {
+    RootCommand<T> rootCommand = doScan(clazz);
+
+    return doResolve(rootCommand, args, context);
+  }
+
+  protected <T> CommandResolution<? extends T> doResolve(RootCommand<T> rootCommand,
+      List<String> args, InvocationContext context) {
     context.set(ResolveStep.COMMAND_RESOLVER_KEY, new RootCommandResolver<>(rootCommand));
 
     context.set(InvocationPipelineStep.ROOT_COMMAND_KEY, rootCommand);
 
-    CommandResolution<? extends T> commandResolution = resolve.<T>resolve(args, context);
+    // The resolver consumes the subcommand names from its arguments, so give it its own copy
+    CommandResolution<? extends T> commandResolution =
+        resolve.<T>resolve(new ArrayList<>(args), context);
+
+    context.set(InvocationPipelineStep.RESOLVED_COMMAND_KEY, commandResolution.getCommand());
 
     return commandResolution;
   }
 
   protected <T> T doPlanToFinish(ResolvedCommand<? extends T> resolvedCommand,
-      List<String> resolvedArgs) {
+      List<String> resolvedArgs, InvocationContext context) {
     PlannedCommand<? extends T> plannedCommand = plan.plan(resolvedCommand, context);
 
-    context.get(PostprocessArgsStep.ARGS_POSTPROCESSOR_KEY).map(ArgsPostprocessorChain.class::cast)
-        .orElseThrow().addLast(new ArgsPostprocessor() {
-          @Override
-          public Map<String, Object> postprocessProperties(Map<String, Object> properties,
-              InvocationContext context) {
-            properties = new HashMap<>(properties);
-            plannedCommand.getReactor().accept(properties);
-            return unmodifiableMap(properties);
-          }
-        });
-
-    Map<Coordinate, String> commandProperties = plannedCommand.getProperties().stream()
-        .flatMap(p -> p.getCoordinates().stream().map(c -> Map.entry(c, p)))
-        .collect(groupingBy(Map.Entry::getKey, Collectors.collectingAndThen(toList(), xs -> {
-          if (xs.size() != 1) {
-            // TODO command name
-            throw new IllegalArgumentInternalDiscourseException(
-                format("Planned command %s has multiple properties with name %s", "commandname",
-                    xs.get(0).getKey()));
-          }
-          return xs.get(0).getValue().getName();
-        })));
+    PropertyTables tables = toPropertyTables(resolvedCommand.getCommand().getClazz(),
+        plannedCommand.getProperties());
+
+    // Modules add supplementary arguments while preprocessing coordinates, so start from none. The
+    // context may be shared with earlier invocations, so we can't just assume it's empty.
+    context.set(ParseStep.SUPPLEMENTARY_ARGS_KEY, List.of());
 
     Map<Coordinate, String> preprocessedCoordinates =
-        preprocessCoordinates.preprocessCoordinates(commandProperties, context);
+        preprocessCoordinates.preprocessCoordinates(tables.coordinates, context);
 
     List<String> preprocessedArgs = preprocessArgs.preprocessArgs(resolvedArgs, context);
 
@@ -316,43 +600,164 @@ public class InvocationPipeline {
 
     List<Token> preprocessedTokens = preprocessTokens.preprocessTokens(tokens, context);
 
-    List<Map.Entry<Coordinate, String>> parsedArgs = parse.parse(preprocessedTokens, context);
+    Map<String, List<String>> groupedArgs;
+    if (isFusable(context)) {
+      groupedArgs = fusedParseAttributeGroup.parseAttributeGroup(
+          tables.fusedTable(preprocessedCoordinates), preprocessedTokens,
+          ParseStep.getSupplementaryArgs(context));
+    } else {
+      List<Map.Entry<Coordinate, String>> parsedArgs = parse.parse(preprocessedTokens, context);
 
-    List<Map.Entry<String, String>> attributedArgs =
-        attribute.attribute(preprocessedCoordinates, parsedArgs, context);
+      List<Map.Entry<String, String>> attributedArgs =
+          attribute.attribute(preprocessedCoordinates, parsedArgs, context);
 
-    Map<String, List<String>> groupedArgs = group.group(attributedArgs, context);
+      groupedArgs = group.group(attributedArgs, context);
+    }
 
     // TODO Is this where we should be throwing deserialization exceptions?
-    Map<String, Function<String, Object>> mappers = plannedCommand.getProperties().stream()
-        .collect(toMap(p -> p.getName(), p -> p.getDeserializer()::deserialize));
-
-    Map<String, List<Object>> mappedArgs = map.map(mappers, groupedArgs, context);
-
-    Map<String, Function<List<Object>, Object>> reducers =
-        plannedCommand.getProperties().stream().collect(toMap(p -> p.getName(), p -> {
-          final ValueSink sink = p.getSink();
-          return xs -> {
-            for (Object x : xs)
-              sink.put(x);
-            return sink.get().orElseThrow(() -> {
-              // Given how we got here, there must be values in xs. Therefore, if sink.get() is
-              // empty, there is a bug in the framework. A sink must return a value if it has
-              // received at least one value.
-              throw new InternalDiscourseException("sink returned empty");
-            });
-          };
-        }));
-
-    Map<String, Object> reducedArgs = reduce.reduce(reducers, mappedArgs, context);
-
-    Map<String, Object> postprocessedArgs = postprocessArgs.postprocessArgs(reducedArgs, context);
+    Map<String, List<Object>> mappedArgs = map.map(tables.mappers, groupedArgs, context);
+
+    Map<String, Object> reducedArgs = reduce.reduce(tables.reducers, mappedArgs, context);
+
+    // The reactor runs as the last part of the PostprocessArgs step rather than as a member of the
+    // postprocessor chain, so the chain is never changed during an invocation.
+    Map<String, Object> postprocessedArgs =
+        postprocessArgs.postprocessArgs(reducedArgs, plannedCommand.getReactor(), context);
 
     T instance = finish.finish(plannedCommand.getConstructor(), postprocessedArgs, context);
 
     return instance;
   }
 
+  /**
+   * Returns the property tables for the given planned properties of the given command class,
+   * reusing the most recent ones if they were built from the same properties.
+   */
+  private PropertyTables toPropertyTables(Class<?> clazz,
+      List<PlannedCommandProperty> properties) {
+    final AtomicReference<PropertyTables> cached = propertyTables.get(clazz);
+    PropertyTables result = cached.get();
+    if (result == null || result.properties != properties) {
+      Map<Coordinate, String> coordinates = properties.stream()
+          .flatMap(p -> p.getCoordinates().stream().map(c -> Map.entry(c, p)))
+          .collect(groupingBy(Map.Entry::getKey, Collectors.collectingAndThen(toList(), xs -> {
+            if (xs.size() != 1) {
+              // TODO command name
+              throw new IllegalArgumentInternalDiscourseException(
+                  format("Planned command %s has multiple properties with name %s",
+                      "commandname", xs.get(0).getKey()));
+            }
+            return xs.get(0).getValue().getName();
+          })));
+
+      Map<String, Function<String, Object>> mappers = properties.stream()
+          .collect(toMap(p -> p.getName(), p -> toMapper(p.getDeserializer())));
+
+      Map<String, Function<List<Object>, Object>> reducers = properties.stream()
+          .collect(toMap(p -> p.getName(), p -> toReducer(p.getSinkDescriptor())));
+
+      // Nothing compares the tables by identity, so if two threads build them at once, either
+      // may win.
+      result = new PropertyTables(properties, coordinates, mappers, reducers);
+      cached.set(result);
+    }
+    return result;
+  }
+
+  /**
+   * Returns {@code true} if this invocation can use the
+   * {@link FusedParseAttributeGroupStep fused Parse, Attribute, and Group step}, i.e., if the
+   * three steps and the coordinates preprocessors are the standard implementations and no listener
+   * observes the three steps, or {@code false} otherwise.
+   */
+  protected boolean isFusable(InvocationContext context) {
+    if (!standardParseAttributeGroup || !standardCoordinatesPreprocessor)
+      return false;
+    return getListener(context) instanceof InvocationPipelineListenerChain chain
+        && !chain.observesParseAttributeOrGroupStep();
+  }
+
+  /**
+   * Describes the coordinates preprocessor of the given context by its class, followed by the
+   * classes of its elements if it is a chain. Two contexts with the same signature preprocess
+   * coordinates the same way.
+   */
+  private static List<Class<?>> getCoordinatesPreprocessorSignature(InvocationContext context) {
+    Object value =
+        context.get(PreprocessCoordinatesStep.COORDINATES_PREPROCESSOR_KEY).orElse(null);
+
+    List<Class<?>> result = new ArrayList<>();
+    if (value != null) {
+      result.add(value.getClass());
+      if (value instanceof Chain<?> chain)
+        for (Object element : chain)
+          result.add(element.getClass());
+    }
+    return result;
+  }
+
+  /**
+   * Creates the function that the Map step uses to deserialize one property's values. Primitive
+   * deserializers become {@link PrimitiveMapper primitive mappers}, so that the Map step can keep
+   * their values unboxed.
+   */
+  protected Function<String, Object> toMapper(ValueDeserializer<?> deserializer) {
+    if (deserializer instanceof ValueDeserializer.OfInt intDeserializer)
+      return (PrimitiveMapper.OfInt) intDeserializer::deserializeInt;
+    if (deserializer instanceof ValueDeserializer.OfLong longDeserializer)
+      return (PrimitiveMapper.OfLong) longDeserializer::deserializeLong;
+    if (deserializer instanceof ValueDeserializer.OfDouble doubleDeserializer)
+      return (PrimitiveMapper.OfDouble) doubleDeserializer::deserializeDouble;
+    if (deserializer instanceof ValueDeserializer.OfBoolean booleanDeserializer)
+      return (PrimitiveMapper.OfBoolean) booleanDeserializer::deserializeBoolean;
+    return deserializer::deserialize;
+  }
+
+  /**
+   * Creates the function that the Reduce step uses to combine one property's values. If the values
+   * are {@link PrimitiveMappedValues primitive} and the sink accepts the same primitive type, then
+   * the values go into the sink without ever being boxed. Otherwise, they all go into the sink at
+   * once, so it can size itself for them. Each call of the function puts the values into a
+   * {@link ValueSinkDescriptor#newSink() new sink}, so the function holds no state of its own.
+   */
+  protected Function<List<Object>, Object> toReducer(ValueSinkDescriptor sinkDescriptor) {
+    return xs -> {
+      final ValueSink sink = sinkDescriptor.newSink();
+      if (xs instanceof PrimitiveMappedValues.OfInt ints && sink instanceof ValueSink.OfInt s) {
+        for (int i = 0; i < ints.size(); i++)
+          s.putInt(ints.getInt(i));
+      } else if (xs instanceof PrimitiveMappedValues.OfLong longs
+          && sink instanceof ValueSink.OfLong s) {
+        for (int i = 0; i < longs.size(); i++)
+          s.putLong(longs.getLong(i));
+      } else if (xs instanceof PrimitiveMappedValues.OfDouble doubles
+          && sink instanceof ValueSink.OfDouble s) {
+        for (int i = 0; i < doubles.size(); i++)
+          s.putDouble(doubles.getDouble(i));
+      } else if (xs instanceof PrimitiveMappedValues.OfBoolean booleans
+          && sink instanceof ValueSink.OfBoolean s) {
+        for (int i = 0; i < booleans.size(); i++)
+          s.putBoolean(booleans.getBoolean(i));
+      } else {
+        sink.putAll(xs);
+      }
+      return sink.get().orElseThrow(() -> {
+        // Given how we got here, there must be values in xs. Therefore, if sink.get() is
+        // empty, there is a bug in the framework. A sink must return a value if it has
+        // received at least one value.
+        throw new InternalDiscourseException("sink returned empty");
+      });
+    };
+  }
+
+  /**
+   * Creates the context for a single invocation. Values written during the invocation go to the
+   * new context, so they are never visible to other invocations.
+   */
+  protected LayeredInvocationContext newInvocationContext() {
+    return new LayeredInvocationContext(context);
+  }
+
   protected InvocationPipelineListener getListener(InvocationContext context) {
     return context.get(InvocationPipelineStep.INVOCATION_PIPELINE_LISTENER_KEY).orElseThrow();
   }
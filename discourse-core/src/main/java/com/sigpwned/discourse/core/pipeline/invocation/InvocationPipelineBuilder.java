@@ -2,15 +2,14 @@ package com.sigpwned.discourse.core.pipeline.invocation;
 
 import static java.util.stream.Collectors.joining;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import com.sigpwned.discourse.core.Chain;
 import com.sigpwned.discourse.core.Dialect;
 import com.sigpwned.discourse.core.Module;
 import com.sigpwned.discourse.core.dialect.UnixDialect;
@@ -19,7 +18,6 @@ import com.sigpwned.discourse.core.format.HelpFormatter;
 import com.sigpwned.discourse.core.format.VersionFormatter;
 import com.sigpwned.discourse.core.module.core.plan.value.deserializer.ValueDeserializerFactoryChain;
 import com.sigpwned.discourse.core.module.core.plan.value.sink.ValueSinkFactoryChain;
-import com.sigpwned.discourse.core.optional.OptionalInvocationContextProperty;
 import com.sigpwned.discourse.core.pipeline.invocation.step.AttributeStep;
 import com.sigpwned.discourse.core.pipeline.invocation.step.FinishStep;
 import com.sigpwned.discourse.core.pipeline.invocation.step.GroupStep;
@@ -53,27 +51,12 @@ import com.sigpwned.discourse.core.pipeline.invocation.step.scan.SyntaxRequiredC
 public class InvocationPipelineBuilder {
   private static final Logger LOGGER = LoggerFactory.getLogger(InvocationPipelineBuilder.class);
 
-  private final InvocationContext context;
+  private final BuilderInvocationContext context;
   private final Set<Class<? extends Module>> loaded;
 
   public InvocationPipelineBuilder() {
     this.loaded = new HashSet<>();
-    this.context = new InvocationContext() {
-      private final Map<InvocationContext.Key<?>, Object> values = new HashMap<>();
-
-      @Override
-      public <T> OptionalInvocationContextProperty<T, T> get(InvocationContext.Key<T> key) {
-        Object value = values.get(key);
-        if (value == null)
-          return OptionalInvocationContextProperty.empty(key);
-        return OptionalInvocationContextProperty.of(key, key.getType().cast(value));
-      }
-
-      @Override
-      public <T> void set(InvocationContext.Key<T> key, T value) {
-        values.put(key, value);
-      }
-    };
+    this.context = new BuilderInvocationContext();
     register(context -> {
       // Single values
       context.set(Dialect.class, new UnixDialect());
@@ -225,14 +208,59 @@ public class InvocationPipelineBuilder {
   public InvocationPipelineBuilder register(Consumer<InvocationContext> withContext) {
     if (withContext == null)
       throw new NullPointerException();
+    if (context.isFrozen())
+      throw new IllegalStateException("pipeline already built");
     withContext.accept(context);
     return this;
   }
 
+  /**
+   * Builds the pipeline. This {@link Chain#freeze() freezes} every chain the modules registered
+   * into, so that the pipeline's behavior can't change after it is built, and so that invocations
+   * can read the chains from many threads at once. The pipeline shares this builder's context,
+   * which is frozen, too, so changing this builder afterwards, e.g., by registering more modules
+   * or setting a value in its context, fails with an {@link IllegalStateException}. Invocations
+   * write their own state to a layer over the context instead.
+   */
   public InvocationPipeline build() {
+    context.freeze();
     return new InvocationPipeline(new ScanStep(), new ResolveStep(), new PlanStep(),
         new PreprocessCoordinatesStep(), new PreprocessArgsStep(), new TokenizeStep(),
         new PreprocessTokensStep(), new ParseStep(), new AttributeStep(), new GroupStep(),
         new MapStep(), new ReduceStep(), new PostprocessArgsStep(), new FinishStep(), context);
   }
+
+  /**
+   * The context that modules register into. It remembers its values so that the builder can find
+   * all the chains in it when it freezes them.
+   */
+  private static final class BuilderInvocationContext extends SlotInvocationContext {
+    private boolean frozen = false;
+
+    @Override
+    public <T> void set(InvocationContext.Key<T> key, T value) {
+      if (frozen)
+        throw new IllegalStateException("pipeline already built");
+      super.set(key, value);
+    }
+
+    @Override
+    public void clear() {
+      if (frozen)
+        throw new IllegalStateException("pipeline already built");
+      super.clear();
+    }
+
+    public void freeze() {
+      for (Object value : values()) {
+        if (value instanceof Chain<?> chain)
+          chain.freeze();
+      }
+      frozen = true;
+    }
+
+    public boolean isFrozen() {
+      return frozen;
+    }
+  }
 }
@@ -1,9 +1,7 @@
 package com.sigpwned.discourse.core.pipeline.invocation;
 
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.lang.reflect.Proxy;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -17,29 +15,331 @@ import com.sigpwned.discourse.core.pipeline.invocation.step.resolve.model.Comman
 import com.sigpwned.discourse.core.pipeline.invocation.step.scan.model.PreparedClass;
 import com.sigpwned.discourse.core.pipeline.invocation.step.scan.model.WalkedClass;
 
+/**
+ * <p>
+ * A chain of {@link InvocationPipelineListener listeners}. Each hook is dispatched to the listeners
+ * in the chain in order.
+ * </p>
+ *
+ * <p>
+ * Most listeners override only a few of the many hooks, so the chain builds a dispatch table that
+ * holds, for each hook, only the listeners that actually override it. The table is built once,
+ * using reflection, when the chain is {@link #freeze() frozen}, which the pipeline builder does
+ * when it builds the pipeline. After that, calling a hook is a plain loop over an array, and
+ * calling a hook that no listener overrides is a loop over an empty array. A chain that is not
+ * frozen yet builds its table the first time a hook is called after the chain changes.
+ * </p>
+ */
 public class InvocationPipelineListenerChain extends Chain<InvocationPipelineListener>
     implements InvocationPipelineListener {
-  private final InvocationPipelineListener delegate;
-
-  public InvocationPipelineListenerChain() {
-    // This is by far the simplest way to implement a chain of listeners for a type with so many
-    // methods. It may be slower, but it is much easier to maintain and extend.
-    this.delegate = (InvocationPipelineListener) Proxy.newProxyInstance(
-        Thread.currentThread().getContextClassLoader(),
-        new Class[] {InvocationPipelineListener.class}, new InvocationHandler() {
-          @Override
-          public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-            for (InvocationPipelineListener listener : InvocationPipelineListenerChain.this) {
-              try {
-                method.invoke(listener, args);
-              } catch (InvocationTargetException e) {
-                // Unwrap the exception and rethrow it
-                throw e.getCause();
-              }
-            }
-            return null;
-          }
-        });
+  /**
+   * The listeners that override each hook, in chain order. There is one field per hook, named
+   * after the hook.
+   */
+  private static final class Dispatch {
+    /**
+     * The chain's listeners when this table was built. The chain replaces its list on every
+     * change, so this table is current exactly as long as the chain's list is this instance.
+     */
+    final List<InvocationPipelineListener> listeners;
+
+    final InvocationPipelineListener[] beforePipeline;
+    final InvocationPipelineListener[] afterPipeline;
+    final InvocationPipelineListener[] catchPipeline;
+    final InvocationPipelineListener[] finallyPipeline;
+    final InvocationPipelineListener[] beforeScanStep;
+    final InvocationPipelineListener[] afterScanStep;
+    final InvocationPipelineListener[] catchScanStep;
+    final InvocationPipelineListener[] finallyScanStep;
+    final InvocationPipelineListener[] beforeScanStepWalk;
+    final InvocationPipelineListener[] afterScanStepWalk;
+    final InvocationPipelineListener[] catchScanStepWalk;
+    final InvocationPipelineListener[] finallyScanStepWalk;
+    final InvocationPipelineListener[] beforeScanStepPrepare;
+    final InvocationPipelineListener[] afterScanStepPrepare;
+    final InvocationPipelineListener[] catchScanStepPrepare;
+    final InvocationPipelineListener[] finallyScanStepPrepare;
+    final InvocationPipelineListener[] beforeScanStepTree;
+    final InvocationPipelineListener[] afterScanStepTree;
+    final InvocationPipelineListener[] catchScanStepTree;
+    final InvocationPipelineListener[] finallyScanStepTree;
+    final InvocationPipelineListener[] beforeResolveStep;
+    final InvocationPipelineListener[] afterResolveStep;
+    final InvocationPipelineListener[] catchResolveStep;
+    final InvocationPipelineListener[] finallyResolveStep;
+    final InvocationPipelineListener[] beforePlanStep;
+    final InvocationPipelineListener[] afterPlanStep;
+    final InvocationPipelineListener[] catchPlanStep;
+    final InvocationPipelineListener[] finallyPlanStep;
+    final InvocationPipelineListener[] beforePreprocessCoordinatesStep;
+    final InvocationPipelineListener[] afterPreprocessCoordinatesStep;
+    final InvocationPipelineListener[] catchPreprocessCoordinatesStep;
+    final InvocationPipelineListener[] finallyPreprocessCoordinatesStep;
+    final InvocationPipelineListener[] beforePreprocessArgsStep;
+    final InvocationPipelineListener[] afterPreprocessArgsStep;
+    final InvocationPipelineListener[] catchPreprocessArgsStep;
+    final InvocationPipelineListener[] finallyPreprocessArgsStep;
+    final InvocationPipelineListener[] beforeTokenizeStep;
+    final InvocationPipelineListener[] afterTokenizeStep;
+    final InvocationPipelineListener[] catchTokenizeStep;
+    final InvocationPipelineListener[] finallyTokenizeStep;
+    final InvocationPipelineListener[] beforePreprocessTokensStep;
+    final InvocationPipelineListener[] afterPreprocessTokensStep;
+    final InvocationPipelineListener[] catchPreprocessTokensStep;
+    final InvocationPipelineListener[] finallyPreprocessTokensStep;
+    final InvocationPipelineListener[] beforeParseStep;
+    final InvocationPipelineListener[] afterParseStep;
+    final InvocationPipelineListener[] catchParseStep;
+    final InvocationPipelineListener[] finallyParseStep;
+    final InvocationPipelineListener[] beforeAttributeStep;
+    final InvocationPipelineListener[] afterAttributeStep;
+    final InvocationPipelineListener[] catchAttributeStep;
+    final InvocationPipelineListener[] finallyAttributeStep;
+    final InvocationPipelineListener[] beforeGroupStep;
+    final InvocationPipelineListener[] afterGroupStep;
+    final InvocationPipelineListener[] catchGroupStep;
+    final InvocationPipelineListener[] finallyGroupStep;
+    final InvocationPipelineListener[] beforeMapStep;
+    final InvocationPipelineListener[] afterMapStep;
+    final InvocationPipelineListener[] catchMapStep;
+    final InvocationPipelineListener[] finallyMapStep;
+    final InvocationPipelineListener[] beforeReduceStep;
+    final InvocationPipelineListener[] afterReduceStep;
+    final InvocationPipelineListener[] catchReduceStep;
+    final InvocationPipelineListener[] finallyReduceStep;
+    final InvocationPipelineListener[] beforePostprocessPropertiesStep;
+    final InvocationPipelineListener[] afterPostprocessPropertiesStep;
+    final InvocationPipelineListener[] catchPostprocessPropertiesStep;
+    final InvocationPipelineListener[] finallyPostprocessPropertiesStep;
+    final InvocationPipelineListener[] beforeFinishStep;
+    final InvocationPipelineListener[] afterFinishStep;
+    final InvocationPipelineListener[] catchFinishStep;
+    final InvocationPipelineListener[] finallyFinishStep;
+
+    public Dispatch(List<InvocationPipelineListener> listeners) {
+      this.listeners = listeners;
+      beforePipeline = overriding(listeners, "beforePipeline", InvocationContext.class);
+      afterPipeline = overriding(listeners, "afterPipeline", InvocationContext.class);
+      catchPipeline = overriding(listeners, "catchPipeline",
+          Throwable.class, InvocationContext.class);
+      finallyPipeline = overriding(listeners, "finallyPipeline", InvocationContext.class);
+      beforeScanStep = overriding(listeners, "beforeScanStep",
+          Class.class, InvocationContext.class);
+      afterScanStep = overriding(listeners, "afterScanStep",
+          Class.class, RootCommand.class, InvocationContext.class);
+      catchScanStep = overriding(listeners, "catchScanStep",
+          Throwable.class, InvocationContext.class);
+      finallyScanStep = overriding(listeners, "finallyScanStep", InvocationContext.class);
+      beforeScanStepWalk = overriding(listeners, "beforeScanStepWalk",
+          Class.class, InvocationContext.class);
+      afterScanStepWalk = overriding(listeners, "afterScanStepWalk",
+          Class.class, List.class, InvocationContext.class);
+      catchScanStepWalk = overriding(listeners, "catchScanStepWalk",
+          Throwable.class, InvocationContext.class);
+      finallyScanStepWalk = overriding(listeners, "finallyScanStepWalk", InvocationContext.class);
+      beforeScanStepPrepare = overriding(listeners, "beforeScanStepPrepare",
+          List.class, InvocationContext.class);
+      afterScanStepPrepare = overriding(listeners, "afterScanStepPrepare",
+          List.class, List.class, InvocationContext.class);
+      catchScanStepPrepare = overriding(listeners, "catchScanStepPrepare",
+          Throwable.class, InvocationContext.class);
+      finallyScanStepPrepare = overriding(listeners, "finallyScanStepPrepare",
+          InvocationContext.class);
+      beforeScanStepTree = overriding(listeners, "beforeScanStepTree",
+          List.class, InvocationContext.class);
+      afterScanStepTree = overriding(listeners, "afterScanStepTree",
+          List.class, RootCommand.class, InvocationContext.class);
+      catchScanStepTree = overriding(listeners, "catchScanStepTree",
+          Throwable.class, InvocationContext.class);
+      finallyScanStepTree = overriding(listeners, "finallyScanStepTree", InvocationContext.class);
+      beforeResolveStep = overriding(listeners, "beforeResolveStep",
+          List.class, InvocationContext.class);
+      afterResolveStep = overriding(listeners, "afterResolveStep",
+          List.class, CommandResolution.class, InvocationContext.class);
+      catchResolveStep = overriding(listeners, "catchResolveStep",
+          Throwable.class, InvocationContext.class);
+      finallyResolveStep = overriding(listeners, "finallyResolveStep", InvocationContext.class);
+      beforePlanStep = overriding(listeners, "beforePlanStep",
+          ResolvedCommand.class, InvocationContext.class);
+      afterPlanStep = overriding(listeners, "afterPlanStep",
+          ResolvedCommand.class, PlannedCommand.class, InvocationContext.class);
+      catchPlanStep = overriding(listeners, "catchPlanStep",
+          Throwable.class, InvocationContext.class);
+      finallyPlanStep = overriding(listeners, "finallyPlanStep", InvocationContext.class);
+      beforePreprocessCoordinatesStep = overriding(listeners, "beforePreprocessCoordinatesStep",
+          Map.class, InvocationContext.class);
+      afterPreprocessCoordinatesStep = overriding(listeners, "afterPreprocessCoordinatesStep",
+          Map.class, Map.class, InvocationContext.class);
+      catchPreprocessCoordinatesStep = overriding(listeners, "catchPreprocessCoordinatesStep",
+          Throwable.class, InvocationContext.class);
+      finallyPreprocessCoordinatesStep = overriding(listeners, "finallyPreprocessCoordinatesStep",
+          InvocationContext.class);
+      beforePreprocessArgsStep = overriding(listeners, "beforePreprocessArgsStep",
+          List.class, InvocationContext.class);
+      afterPreprocessArgsStep = overriding(listeners, "afterPreprocessArgsStep",
+          List.class, List.class, InvocationContext.class);
+      catchPreprocessArgsStep = overriding(listeners, "catchPreprocessArgsStep",
+          Throwable.class, InvocationContext.class);
+      finallyPreprocessArgsStep = overriding(listeners, "finallyPreprocessArgsStep",
+          InvocationContext.class);
+      beforeTokenizeStep = overriding(listeners, "beforeTokenizeStep",
+          List.class, InvocationContext.class);
+      afterTokenizeStep = overriding(listeners, "afterTokenizeStep",
+          List.class, List.class, InvocationContext.class);
+      catchTokenizeStep = overriding(listeners, "catchTokenizeStep",
+          Throwable.class, InvocationContext.class);
+      finallyTokenizeStep = overriding(listeners, "finallyTokenizeStep", InvocationContext.class);
+      beforePreprocessTokensStep = overriding(listeners, "beforePreprocessTokensStep",
+          List.class, InvocationContext.class);
+      afterPreprocessTokensStep = overriding(listeners, "afterPreprocessTokensStep",
+          List.class, List.class, InvocationContext.class);
+      catchPreprocessTokensStep = overriding(listeners, "catchPreprocessTokensStep",
+          Throwable.class, InvocationContext.class);
+      finallyPreprocessTokensStep = overriding(listeners, "finallyPreprocessTokensStep",
+          InvocationContext.class);
+      beforeParseStep = overriding(listeners, "beforeParseStep",
+          List.class, InvocationContext.class);
+      afterParseStep = overriding(listeners, "afterParseStep",
+          List.class, List.class, InvocationContext.class);
+      catchParseStep = overriding(listeners, "catchParseStep",
+          Throwable.class, InvocationContext.class);
+      finallyParseStep = overriding(listeners, "finallyParseStep", InvocationContext.class);
+      beforeAttributeStep = overriding(listeners, "beforeAttributeStep",
+          List.class, InvocationContext.class);
+      afterAttributeStep = overriding(listeners, "afterAttributeStep",
+          List.class, List.class, InvocationContext.class);
+      catchAttributeStep = overriding(listeners, "catchAttributeStep",
+          Throwable.class, InvocationContext.class);
+      finallyAttributeStep = overriding(listeners, "finallyAttributeStep", InvocationContext.class);
+      beforeGroupStep = overriding(listeners, "beforeGroupStep",
+          List.class, InvocationContext.class);
+      afterGroupStep = overriding(listeners, "afterGroupStep",
+          List.class, Map.class, InvocationContext.class);
+      catchGroupStep = overriding(listeners, "catchGroupStep",
+          Throwable.class, InvocationContext.class);
+      finallyGroupStep = overriding(listeners, "finallyGroupStep", InvocationContext.class);
+      beforeMapStep = overriding(listeners, "beforeMapStep", Map.class, InvocationContext.class);
+      afterMapStep = overriding(listeners, "afterMapStep",
+          Map.class, Map.class, InvocationContext.class);
+      catchMapStep = overriding(listeners, "catchMapStep",
+          Throwable.class, InvocationContext.class);
+      finallyMapStep = overriding(listeners, "finallyMapStep", InvocationContext.class);
+      beforeReduceStep = overriding(listeners, "beforeReduceStep",
+          Map.class, InvocationContext.class);
+      afterReduceStep = overriding(listeners, "afterReduceStep",
+          Map.class, Map.class, InvocationContext.class);
+      catchReduceStep = overriding(listeners, "catchReduceStep",
+          Throwable.class, InvocationContext.class);
+      finallyReduceStep = overriding(listeners, "finallyReduceStep", InvocationContext.class);
+      beforePostprocessPropertiesStep = overriding(listeners, "beforePostprocessPropertiesStep",
+          Map.class, InvocationContext.class);
+      afterPostprocessPropertiesStep = overriding(listeners, "afterPostprocessPropertiesStep",
+          Map.class, Map.class, InvocationContext.class);
+      catchPostprocessPropertiesStep = overriding(listeners, "catchPostprocessPropertiesStep",
+          Throwable.class, InvocationContext.class);
+      finallyPostprocessPropertiesStep = overriding(listeners, "finallyPostprocessPropertiesStep",
+          InvocationContext.class);
+      beforeFinishStep = overriding(listeners, "beforeFinishStep",
+          Map.class, InvocationContext.class);
+      afterFinishStep = overriding(listeners, "afterFinishStep",
+          Map.class, Object.class, InvocationContext.class);
+      catchFinishStep = overriding(listeners, "catchFinishStep",
+          Throwable.class, InvocationContext.class);
+      finallyFinishStep = overriding(listeners, "finallyFinishStep", InvocationContext.class);
+    }
+  }
+
+  /**
+   * Returns the given listeners that override the given hook, in order.
+   */
+  private static InvocationPipelineListener[] overriding(
+      List<InvocationPipelineListener> listeners, String name, Class<?>... parameterTypes) {
+    final Method hook;
+    try {
+      hook = InvocationPipelineListener.class.getMethod(name, parameterTypes);
+    } catch (NoSuchMethodException e) {
+      // The hook names and types are fixed, so this is a bug in this class.
+      throw new AssertionError("no listener hook " + name, e);
+    }
+
+    List<InvocationPipelineListener> result = new ArrayList<>(listeners.size());
+    for (InvocationPipelineListener listener : listeners) {
+      if (overrides(listener.getClass(), hook))
+        result.add(listener);
+    }
+
+    return result.toArray(new InvocationPipelineListener[0]);
+  }
+
+  /**
+   * Returns {@code true} if the given listener class overrides the given default hook, or
+   * {@code false} otherwise.
+   */
+  private static boolean overrides(Class<?> listenerClass, Method hook) {
+    final Method method;
+    try {
+      method = listenerClass.getMethod(hook.getName(), hook.getParameterTypes());
+    } catch (NoSuchMethodException e) {
+      // Every listener has every hook, even if only by default, so this should never happen.
+      throw new AssertionError("no listener hook " + hook.getName(), e);
+    }
+    return method.getDeclaringClass() != InvocationPipelineListener.class;
+  }
+
+  /**
+   * The most recent dispatch table, or {@code null} if none has been built yet. It may be out of
+   * date if the chain changed since it was built, which {@link #dispatch()} checks.
+   */
+  private volatile Dispatch dispatch;
+
+  /**
+   * Freezes this chain and builds its dispatch table. This holds the same lock as
+   * {@link #addFirst(InvocationPipelineListener) addFirst} and
+   * {@link #addLast(InvocationPipelineListener) addLast}, so the table always has every listener.
+   */
+  @Override
+  public synchronized void freeze() {
+    if (isFrozen())
+      return;
+    super.freeze();
+    dispatch = new Dispatch(elements());
+  }
+
+  /**
+   * Returns {@code true} if any listener in this chain overrides any hook of the Parse, Attribute,
+   * or Group steps, or {@code false} otherwise. If not, then the pipeline is free to run those
+   * steps without calling their hooks.
+   */
+  public boolean observesParseAttributeOrGroupStep() {
+    Dispatch d = dispatch();
+    return d.beforeParseStep.length != 0 || d.afterParseStep.length != 0
+        || d.catchParseStep.length != 0 || d.finallyParseStep.length != 0
+        || d.beforeAttributeStep.length != 0 || d.afterAttributeStep.length != 0
+        || d.catchAttributeStep.length != 0 || d.finallyAttributeStep.length != 0
+        || d.beforeGroupStep.length != 0 || d.afterGroupStep.length != 0
+        || d.catchGroupStep.length != 0 || d.finallyGroupStep.length != 0;
+  }
+
+  /**
+   * Returns {@code true} if any listener in this chain overrides
+   * {@link InvocationPipelineListener#beforePlanStep(ResolvedCommand, InvocationContext)
+   * beforePlanStep}, or {@code false} otherwise. If not, then nobody can change a command before it
+   * is planned, and the Plan step is free to reuse an earlier plan of the same command.
+   */
+  public boolean observesBeforePlanStep() {
+    return dispatch().beforePlanStep.length != 0;
+  }
+
+  private Dispatch dispatch() {
+    final List<InvocationPipelineListener> listeners = elements();
+    Dispatch result = dispatch;
+    if (result == null || result.listeners != listeners) {
+      // Each table is built from one snapshot of the listeners and checked against the current
+      // one, so a table built from an older snapshot is never used, whichever thread stores last.
+      result = new Dispatch(listeners);
+      dispatch = result;
+    }
+    return result;
   }
 
   /**
@@ -47,7 +347,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    * @see com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineListener#beforePipeline(com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
    */
   public void beforePipeline(InvocationContext context) {
-    delegate.beforePipeline(context);
+    for (InvocationPipelineListener listener : dispatch().beforePipeline)
+      listener.beforePipeline(context);
   }
 
   /**
@@ -55,7 +356,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    * @see com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineListener#afterPipeline(com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
    */
   public void afterPipeline(InvocationContext context) {
-    delegate.afterPipeline(context);
+    for (InvocationPipelineListener listener : dispatch().afterPipeline)
+      listener.afterPipeline(context);
   }
 
   /**
@@ -65,7 +367,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    *      com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
    */
   public void catchPipeline(Throwable t, InvocationContext context) {
-    delegate.catchPipeline(t, context);
+    for (InvocationPipelineListener listener : dispatch().catchPipeline)
+      listener.catchPipeline(t, context);
   }
 
   /**
@@ -73,7 +376,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    * @see com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineListener#finallyPipeline(com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
    */
   public void finallyPipeline(InvocationContext context) {
-    delegate.finallyPipeline(context);
+    for (InvocationPipelineListener listener : dispatch().finallyPipeline)
+      listener.finallyPipeline(context);
   }
 
   /**
@@ -84,7 +388,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    *      com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
    */
   public <T> void beforeScanStep(Class<T> clazz, InvocationContext context) {
-    delegate.beforeScanStep(clazz, context);
+    for (InvocationPipelineListener listener : dispatch().beforeScanStep)
+      listener.beforeScanStep(clazz, context);
   }
 
   /**
@@ -97,7 +402,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    *      com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
    */
   public <T> void afterScanStep(Class<T> clazz, RootCommand<T> root, InvocationContext context) {
-    delegate.afterScanStep(clazz, root, context);
+    for (InvocationPipelineListener listener : dispatch().afterScanStep)
+      listener.afterScanStep(clazz, root, context);
   }
 
   /**
@@ -107,7 +413,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    *      com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
    */
   public void catchScanStep(Throwable t, InvocationContext context) {
-    delegate.catchScanStep(t, context);
+    for (InvocationPipelineListener listener : dispatch().catchScanStep)
+      listener.catchScanStep(t, context);
   }
 
   /**
@@ -115,7 +422,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    * @see com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineListener#finallyScanStep(com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
    */
   public void finallyScanStep(InvocationContext context) {
-    delegate.finallyScanStep(context);
+    for (InvocationPipelineListener listener : dispatch().finallyScanStep)
+      listener.finallyScanStep(context);
   }
 
   /**
@@ -126,7 +434,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    *      com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
    */
   public <T> void beforeScanStepWalk(Class<T> clazz, InvocationContext context) {
-    delegate.beforeScanStepWalk(clazz, context);
+    for (InvocationPipelineListener listener : dispatch().beforeScanStepWalk)
+      listener.beforeScanStepWalk(clazz, context);
   }
 
   /**
@@ -139,7 +448,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    */
   public <T> void afterScanStepWalk(Class<T> clazz, List<WalkedClass<? extends T>> walkedClasses,
       InvocationContext context) {
-    delegate.afterScanStepWalk(clazz, walkedClasses, context);
+    for (InvocationPipelineListener listener : dispatch().afterScanStepWalk)
+      listener.afterScanStepWalk(clazz, walkedClasses, context);
   }
 
   /**
@@ -149,7 +459,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    *      com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
    */
   public void catchScanStepWalk(Throwable t, InvocationContext context) {
-    delegate.catchScanStepWalk(t, context);
+    for (InvocationPipelineListener listener : dispatch().catchScanStepWalk)
+      listener.catchScanStepWalk(t, context);
   }
 
   /**
@@ -157,7 +468,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    * @see com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineListener#finallyScanStepWalk(com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
    */
   public void finallyScanStepWalk(InvocationContext context) {
-    delegate.finallyScanStepWalk(context);
+    for (InvocationPipelineListener listener : dispatch().finallyScanStepWalk)
+      listener.finallyScanStepWalk(context);
   }
 
   /**
@@ -169,7 +481,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    */
   public <T> void beforeScanStepPrepare(List<WalkedClass<? extends T>> walkedClasses,
       InvocationContext context) {
-    delegate.beforeScanStepPrepare(walkedClasses, context);
+    for (InvocationPipelineListener listener : dispatch().beforeScanStepPrepare)
+      listener.beforeScanStepPrepare(walkedClasses, context);
   }
 
   /**
@@ -182,7 +495,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    */
   public <T> void afterScanStepPrepare(List<WalkedClass<? extends T>> walkedClasses,
       List<PreparedClass<? extends T>> preparedClasses, InvocationContext context) {
-    delegate.afterScanStepPrepare(walkedClasses, preparedClasses, context);
+    for (InvocationPipelineListener listener : dispatch().afterScanStepPrepare)
+      listener.afterScanStepPrepare(walkedClasses, preparedClasses, context);
   }
 
   /**
@@ -192,7 +506,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    *      com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
    */
   public void catchScanStepPrepare(Throwable t, InvocationContext context) {
-    delegate.catchScanStepPrepare(t, context);
+    for (InvocationPipelineListener listener : dispatch().catchScanStepPrepare)
+      listener.catchScanStepPrepare(t, context);
   }
 
   /**
@@ -200,7 +515,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    * @see com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineListener#finallyScanStepPrepare(com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
    */
   public void finallyScanStepPrepare(InvocationContext context) {
-    delegate.finallyScanStepPrepare(context);
+    for (InvocationPipelineListener listener : dispatch().finallyScanStepPrepare)
+      listener.finallyScanStepPrepare(context);
   }
 
   /**
@@ -212,7 +528,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    */
   public <T> void beforeScanStepTree(List<PreparedClass<? extends T>> preparedClasses,
       InvocationContext context) {
-    delegate.beforeScanStepTree(preparedClasses, context);
+    for (InvocationPipelineListener listener : dispatch().beforeScanStepTree)
+      listener.beforeScanStepTree(preparedClasses, context);
   }
 
   /**
@@ -226,7 +543,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    */
   public <T> void afterScanStepTree(List<PreparedClass<? extends T>> preparedClasses,
       RootCommand<T> root, InvocationContext context) {
-    delegate.afterScanStepTree(preparedClasses, root, context);
+    for (InvocationPipelineListener listener : dispatch().afterScanStepTree)
+      listener.afterScanStepTree(preparedClasses, root, context);
   }
 
   /**
@@ -236,7 +554,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    *      com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
    */
   public void catchScanStepTree(Throwable t, InvocationContext context) {
-    delegate.catchScanStepTree(t, context);
+    for (InvocationPipelineListener listener : dispatch().catchScanStepTree)
+      listener.catchScanStepTree(t, context);
   }
 
   /**
@@ -244,7 +563,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    * @see com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineListener#finallyScanStepTree(com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
    */
   public void finallyScanStepTree(InvocationContext context) {
-    delegate.finallyScanStepTree(context);
+    for (InvocationPipelineListener listener : dispatch().finallyScanStepTree)
+      listener.finallyScanStepTree(context);
   }
 
   /**
@@ -254,7 +574,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    *      com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
    */
   public void beforeResolveStep(List<String> args, InvocationContext context) {
-    delegate.beforeResolveStep(args, context);
+    for (InvocationPipelineListener listener : dispatch().beforeResolveStep)
+      listener.beforeResolveStep(args, context);
   }
 
   /**
@@ -267,7 +588,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    */
   public <T> void afterResolveStep(List<String> args, CommandResolution<? extends T> resolution,
       InvocationContext context) {
-    delegate.afterResolveStep(args, resolution, context);
+    for (InvocationPipelineListener listener : dispatch().afterResolveStep)
+      listener.afterResolveStep(args, resolution, context);
   }
 
   /**
@@ -277,7 +599,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    *      com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
    */
   public void catchResolveStep(Throwable t, InvocationContext context) {
-    delegate.catchResolveStep(t, context);
+    for (InvocationPipelineListener listener : dispatch().catchResolveStep)
+      listener.catchResolveStep(t, context);
   }
 
   /**
@@ -285,7 +608,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    * @see com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineListener#finallyResolveStep(com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
    */
   public void finallyResolveStep(InvocationContext context) {
-    delegate.finallyResolveStep(context);
+    for (InvocationPipelineListener listener : dispatch().finallyResolveStep)
+      listener.finallyResolveStep(context);
   }
 
   /**
@@ -297,7 +621,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    */
   public <T> void beforePlanStep(ResolvedCommand<? extends T> resolvedCommand,
       InvocationContext context) {
-    delegate.beforePlanStep(resolvedCommand, context);
+    for (InvocationPipelineListener listener : dispatch().beforePlanStep)
+      listener.beforePlanStep(resolvedCommand, context);
   }
 
   /**
@@ -311,7 +636,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    */
   public <T> void afterPlanStep(ResolvedCommand<? extends T> resolvedCommand,
       PlannedCommand<? extends T> plannedCommand, InvocationContext context) {
-    delegate.afterPlanStep(resolvedCommand, plannedCommand, context);
+    for (InvocationPipelineListener listener : dispatch().afterPlanStep)
+      listener.afterPlanStep(resolvedCommand, plannedCommand, context);
   }
 
   /**
@@ -321,7 +647,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    *      com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
    */
   public void catchPlanStep(Throwable t, InvocationContext context) {
-    delegate.catchPlanStep(t, context);
+    for (InvocationPipelineListener listener : dispatch().catchPlanStep)
+      listener.catchPlanStep(t, context);
   }
 
   /**
@@ -329,7 +656,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    * @see com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineListener#finallyPlanStep(com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
    */
   public void finallyPlanStep(InvocationContext context) {
-    delegate.finallyPlanStep(context);
+    for (InvocationPipelineListener listener : dispatch().finallyPlanStep)
+      listener.finallyPlanStep(context);
   }
 
   /**
@@ -340,7 +668,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    */
   public void beforePreprocessCoordinatesStep(Map<Coordinate, String> originalCoordinates,
       InvocationContext context) {
-    delegate.beforePreprocessCoordinatesStep(originalCoordinates, context);
+    for (InvocationPipelineListener listener : dispatch().beforePreprocessCoordinatesStep)
+      listener.beforePreprocessCoordinatesStep(originalCoordinates, context);
   }
 
   /**
@@ -352,7 +681,9 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    */
   public void afterPreprocessCoordinatesStep(Map<Coordinate, String> originalCoordinates,
       Map<Coordinate, String> preprocessedCoordinates, InvocationContext context) {
-    delegate.afterPreprocessCoordinatesStep(originalCoordinates, preprocessedCoordinates, context);
+    for (InvocationPipelineListener listener : dispatch().afterPreprocessCoordinatesStep)
+      listener.afterPreprocessCoordinatesStep(originalCoordinates, preprocessedCoordinates,
+          context);
   }
 
   /**
@@ -362,7 +693,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    *      com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
    */
   public void catchPreprocessCoordinatesStep(Throwable t, InvocationContext context) {
-    delegate.catchPreprocessCoordinatesStep(t, context);
+    for (InvocationPipelineListener listener : dispatch().catchPreprocessCoordinatesStep)
+      listener.catchPreprocessCoordinatesStep(t, context);
   }
 
   /**
@@ -370,7 +702,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    * @see com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineListener#finallyPreprocessCoordinatesStep(com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
    */
   public void finallyPreprocessCoordinatesStep(InvocationContext context) {
-    delegate.finallyPreprocessCoordinatesStep(context);
+    for (InvocationPipelineListener listener : dispatch().finallyPreprocessCoordinatesStep)
+      listener.finallyPreprocessCoordinatesStep(context);
   }
 
   /**
@@ -380,7 +713,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    *      com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
    */
   public void beforePreprocessArgsStep(List<String> args, InvocationContext context) {
-    delegate.beforePreprocessArgsStep(args, context);
+    for (InvocationPipelineListener listener : dispatch().beforePreprocessArgsStep)
+      listener.beforePreprocessArgsStep(args, context);
   }
 
   /**
@@ -392,7 +726,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    */
   public void afterPreprocessArgsStep(List<String> args, List<String> preprocessedArgs,
       InvocationContext context) {
-    delegate.afterPreprocessArgsStep(args, preprocessedArgs, context);
+    for (InvocationPipelineListener listener : dispatch().afterPreprocessArgsStep)
+      listener.afterPreprocessArgsStep(args, preprocessedArgs, context);
   }
 
   /**
@@ -402,7 +737,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    *      com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
    */
   public void catchPreprocessArgsStep(Throwable t, InvocationContext context) {
-    delegate.catchPreprocessArgsStep(t, context);
+    for (InvocationPipelineListener listener : dispatch().catchPreprocessArgsStep)
+      listener.catchPreprocessArgsStep(t, context);
   }
 
   /**
@@ -410,7 +746,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    * @see com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineListener#finallyPreprocessArgsStep(com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
    */
   public void finallyPreprocessArgsStep(InvocationContext context) {
-    delegate.finallyPreprocessArgsStep(context);
+    for (InvocationPipelineListener listener : dispatch().finallyPreprocessArgsStep)
+      listener.finallyPreprocessArgsStep(context);
   }
 
   /**
@@ -420,7 +757,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    *      com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
    */
   public void beforeTokenizeStep(List<String> args, InvocationContext context) {
-    delegate.beforeTokenizeStep(args, context);
+    for (InvocationPipelineListener listener : dispatch().beforeTokenizeStep)
+      listener.beforeTokenizeStep(args, context);
   }
 
   /**
@@ -431,7 +769,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    *      java.util.List, com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
    */
   public void afterTokenizeStep(List<String> args, List<Token> tokens, InvocationContext context) {
-    delegate.afterTokenizeStep(args, tokens, context);
+    for (InvocationPipelineListener listener : dispatch().afterTokenizeStep)
+      listener.afterTokenizeStep(args, tokens, context);
   }
 
   /**
@@ -441,7 +780,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    *      com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
    */
   public void catchTokenizeStep(Throwable t, InvocationContext context) {
-    delegate.catchTokenizeStep(t, context);
+    for (InvocationPipelineListener listener : dispatch().catchTokenizeStep)
+      listener.catchTokenizeStep(t, context);
   }
 
   /**
@@ -449,7 +789,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    * @see com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineListener#finallyTokenizeStep(com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
    */
   public void finallyTokenizeStep(InvocationContext context) {
-    delegate.finallyTokenizeStep(context);
+    for (InvocationPipelineListener listener : dispatch().finallyTokenizeStep)
+      listener.finallyTokenizeStep(context);
   }
 
   /**
@@ -459,7 +800,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    *      com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
    */
   public void beforePreprocessTokensStep(List<Token> tokens, InvocationContext context) {
-    delegate.beforePreprocessTokensStep(tokens, context);
+    for (InvocationPipelineListener listener : dispatch().beforePreprocessTokensStep)
+      listener.beforePreprocessTokensStep(tokens, context);
   }
 
   /**
@@ -471,7 +813,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    */
   public void afterPreprocessTokensStep(List<Token> tokens, List<Token> preprocessedTokens,
       InvocationContext context) {
-    delegate.afterPreprocessTokensStep(tokens, preprocessedTokens, context);
+    for (InvocationPipelineListener listener : dispatch().afterPreprocessTokensStep)
+      listener.afterPreprocessTokensStep(tokens, preprocessedTokens, context);
   }
 
   /**
@@ -481,7 +824,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    *      com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
    */
   public void catchPreprocessTokensStep(Throwable t, InvocationContext context) {
-    delegate.catchPreprocessTokensStep(t, context);
+    for (InvocationPipelineListener listener : dispatch().catchPreprocessTokensStep)
+      listener.catchPreprocessTokensStep(t, context);
   }
 
   /**
@@ -489,7 +833,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    * @see com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineListener#finallyPreprocessTokensStep(com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
    */
   public void finallyPreprocessTokensStep(InvocationContext context) {
-    delegate.finallyPreprocessTokensStep(context);
+    for (InvocationPipelineListener listener : dispatch().finallyPreprocessTokensStep)
+      listener.finallyPreprocessTokensStep(context);
   }
 
   /**
@@ -499,7 +844,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    *      com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
    */
   public void beforeParseStep(List<Token> tokens, InvocationContext context) {
-    delegate.beforeParseStep(tokens, context);
+    for (InvocationPipelineListener listener : dispatch().beforeParseStep)
+      listener.beforeParseStep(tokens, context);
   }
 
   /**
@@ -511,7 +857,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    */
   public void afterParseStep(List<Token> tokens, List<Entry<Coordinate, String>> parsedArgs,
       InvocationContext context) {
-    delegate.afterParseStep(tokens, parsedArgs, context);
+    for (InvocationPipelineListener listener : dispatch().afterParseStep)
+      listener.afterParseStep(tokens, parsedArgs, context);
   }
 
   /**
@@ -521,7 +868,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    *      com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
    */
   public void catchParseStep(Throwable t, InvocationContext context) {
-    delegate.catchParseStep(t, context);
+    for (InvocationPipelineListener listener : dispatch().catchParseStep)
+      listener.catchParseStep(t, context);
   }
 
   /**
@@ -529,7 +877,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    * @see com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineListener#finallyParseStep(com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
    */
   public void finallyParseStep(InvocationContext context) {
-    delegate.finallyParseStep(context);
+    for (InvocationPipelineListener listener : dispatch().finallyParseStep)
+      listener.finallyParseStep(context);
   }
 
   /**
@@ -540,7 +889,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    */
   public void beforeAttributeStep(List<Entry<Coordinate, String>> parsedArgs,
       InvocationContext context) {
-    delegate.beforeAttributeStep(parsedArgs, context);
+    for (InvocationPipelineListener listener : dispatch().beforeAttributeStep)
+      listener.beforeAttributeStep(parsedArgs, context);
   }
 
   /**
@@ -552,7 +902,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    */
   public void afterAttributeStep(List<Entry<Coordinate, String>> parsedArgs,
       List<Entry<String, String>> attributedArgs, InvocationContext context) {
-    delegate.afterAttributeStep(parsedArgs, attributedArgs, context);
+    for (InvocationPipelineListener listener : dispatch().afterAttributeStep)
+      listener.afterAttributeStep(parsedArgs, attributedArgs, context);
   }
 
   /**
@@ -562,7 +913,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    *      com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
    */
   public void catchAttributeStep(Throwable t, InvocationContext context) {
-    delegate.catchAttributeStep(t, context);
+    for (InvocationPipelineListener listener : dispatch().catchAttributeStep)
+      listener.catchAttributeStep(t, context);
   }
 
   /**
@@ -570,7 +922,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    * @see com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineListener#finallyAttributeStep(com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
    */
   public void finallyAttributeStep(InvocationContext context) {
-    delegate.finallyAttributeStep(context);
+    for (InvocationPipelineListener listener : dispatch().finallyAttributeStep)
+      listener.finallyAttributeStep(context);
   }
 
   /**
@@ -581,7 +934,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    */
   public void beforeGroupStep(List<Entry<String, String>> attributedArgs,
       InvocationContext context) {
-    delegate.beforeGroupStep(attributedArgs, context);
+    for (InvocationPipelineListener listener : dispatch().beforeGroupStep)
+      listener.beforeGroupStep(attributedArgs, context);
   }
 
   /**
@@ -593,7 +947,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    */
   public void afterGroupStep(List<Entry<String, String>> attributedArgs,
       Map<String, List<String>> groupedArgs, InvocationContext context) {
-    delegate.afterGroupStep(attributedArgs, groupedArgs, context);
+    for (InvocationPipelineListener listener : dispatch().afterGroupStep)
+      listener.afterGroupStep(attributedArgs, groupedArgs, context);
   }
 
   /**
@@ -603,7 +958,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    *      com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
    */
   public void catchGroupStep(Throwable t, InvocationContext context) {
-    delegate.catchGroupStep(t, context);
+    for (InvocationPipelineListener listener : dispatch().catchGroupStep)
+      listener.catchGroupStep(t, context);
   }
 
   /**
@@ -611,7 +967,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    * @see com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineListener#finallyGroupStep(com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
    */
   public void finallyGroupStep(InvocationContext context) {
-    delegate.finallyGroupStep(context);
+    for (InvocationPipelineListener listener : dispatch().finallyGroupStep)
+      listener.finallyGroupStep(context);
   }
 
   /**
@@ -621,7 +978,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    *      com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
    */
   public void beforeMapStep(Map<String, List<String>> groupedArgs, InvocationContext context) {
-    delegate.beforeMapStep(groupedArgs, context);
+    for (InvocationPipelineListener listener : dispatch().beforeMapStep)
+      listener.beforeMapStep(groupedArgs, context);
   }
 
   /**
@@ -633,7 +991,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    */
   public void afterMapStep(Map<String, List<String>> groupedArgs,
       Map<String, List<Object>> mappedArgs, InvocationContext context) {
-    delegate.afterMapStep(groupedArgs, mappedArgs, context);
+    for (InvocationPipelineListener listener : dispatch().afterMapStep)
+      listener.afterMapStep(groupedArgs, mappedArgs, context);
   }
 
   /**
@@ -643,7 +1002,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    *      com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
    */
   public void catchMapStep(Throwable t, InvocationContext context) {
-    delegate.catchMapStep(t, context);
+    for (InvocationPipelineListener listener : dispatch().catchMapStep)
+      listener.catchMapStep(t, context);
   }
 
   /**
@@ -651,7 +1011,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    * @see com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineListener#finallyMapStep(com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
    */
   public void finallyMapStep(InvocationContext context) {
-    delegate.finallyMapStep(context);
+    for (InvocationPipelineListener listener : dispatch().finallyMapStep)
+      listener.finallyMapStep(context);
   }
 
   /**
@@ -661,7 +1022,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    *      com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
    */
   public void beforeReduceStep(Map<String, List<Object>> mappedArgs, InvocationContext context) {
-    delegate.beforeReduceStep(mappedArgs, context);
+    for (InvocationPipelineListener listener : dispatch().beforeReduceStep)
+      listener.beforeReduceStep(mappedArgs, context);
   }
 
   /**
@@ -673,7 +1035,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    */
   public void afterReduceStep(Map<String, List<Object>> mappedArgs, Map<String, Object> sinkedArgs,
       InvocationContext context) {
-    delegate.afterReduceStep(mappedArgs, sinkedArgs, context);
+    for (InvocationPipelineListener listener : dispatch().afterReduceStep)
+      listener.afterReduceStep(mappedArgs, sinkedArgs, context);
   }
 
   /**
@@ -683,7 +1046,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    *      com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
    */
   public void catchReduceStep(Throwable t, InvocationContext context) {
-    delegate.catchReduceStep(t, context);
+    for (InvocationPipelineListener listener : dispatch().catchReduceStep)
+      listener.catchReduceStep(t, context);
   }
 
   /**
@@ -691,7 +1055,53 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    * @see com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineListener#finallyReduceStep(com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
    */
   public void finallyReduceStep(InvocationContext context) {
-    delegate.finallyReduceStep(context);
+    for (InvocationPipelineListener listener : dispatch().finallyReduceStep)
+      listener.finallyReduceStep(context);
+  }
+
+  /**
+   * @param sinkedArgs
+   * @param context
+   * @see com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineListener#beforePostprocessPropertiesStep(java.util.Map,
+   *      com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
+   */
+  public void beforePostprocessPropertiesStep(Map<String, Object> sinkedArgs,
+      InvocationContext context) {
+    for (InvocationPipelineListener listener : dispatch().beforePostprocessPropertiesStep)
+      listener.beforePostprocessPropertiesStep(sinkedArgs, context);
+  }
+
+  /**
+   * @param sinkedArgs
+   * @param postprocessedArgs
+   * @param context
+   * @see com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineListener#afterPostprocessPropertiesStep(java.util.Map,
+   *      java.util.Map, com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
+   */
+  public void afterPostprocessPropertiesStep(Map<String, Object> sinkedArgs,
+      Map<String, Object> postprocessedArgs, InvocationContext context) {
+    for (InvocationPipelineListener listener : dispatch().afterPostprocessPropertiesStep)
+      listener.afterPostprocessPropertiesStep(sinkedArgs, postprocessedArgs, context);
+  }
+
+  /**
+   * @param t
+   * @param context
+   * @see com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineListener#catchPostprocessPropertiesStep(java.lang.Throwable,
+   *      com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
+   */
+  public void catchPostprocessPropertiesStep(Throwable t, InvocationContext context) {
+    for (InvocationPipelineListener listener : dispatch().catchPostprocessPropertiesStep)
+      listener.catchPostprocessPropertiesStep(t, context);
+  }
+
+  /**
+   * @param context
+   * @see com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineListener#finallyPostprocessPropertiesStep(com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
+   */
+  public void finallyPostprocessPropertiesStep(InvocationContext context) {
+    for (InvocationPipelineListener listener : dispatch().finallyPostprocessPropertiesStep)
+      listener.finallyPostprocessPropertiesStep(context);
   }
 
   /**
@@ -701,7 +1111,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    *      com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
    */
   public void beforeFinishStep(Map<String, Object> sinkedArgs, InvocationContext context) {
-    delegate.beforeFinishStep(sinkedArgs, context);
+    for (InvocationPipelineListener listener : dispatch().beforeFinishStep)
+      listener.beforeFinishStep(sinkedArgs, context);
   }
 
   /**
@@ -713,7 +1124,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    */
   public void afterFinishStep(Map<String, Object> sinkedArgs, Object result,
       InvocationContext context) {
-    delegate.afterFinishStep(sinkedArgs, result, context);
+    for (InvocationPipelineListener listener : dispatch().afterFinishStep)
+      listener.afterFinishStep(sinkedArgs, result, context);
   }
 
   /**
@@ -723,7 +1135,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    *      com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
    */
   public void catchFinishStep(Throwable t, InvocationContext context) {
-    delegate.catchFinishStep(t, context);
+    for (InvocationPipelineListener listener : dispatch().catchFinishStep)
+      listener.catchFinishStep(t, context);
   }
 
   /**
@@ -731,7 +1144,8 @@ public class InvocationPipelineListenerChain extends Chain<InvocationPipelineLis
    * @see com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineListener#finallyFinishStep(com.sigpwned.discourse.core.pipeline.invocation.InvocationContext)
    */
   public void finallyFinishStep(InvocationContext context) {
-    delegate.finallyFinishStep(context);
+    for (InvocationPipelineListener listener : dispatch().finallyFinishStep)
+      listener.finallyFinishStep(context);
   }
 
 }
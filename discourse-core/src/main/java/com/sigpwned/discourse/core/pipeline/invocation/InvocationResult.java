@@ -0,0 +1,65 @@
+package com.sigpwned.discourse.core.pipeline.invocation;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.Objects.requireNonNull;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The outcome of one invocation in a batch, i.e., either the command object that the invocation
+ * built or the exception that it threw, together with the arguments it was invoked with.
+ *
+ * @param <T> the type of the command object
+ * @see CompiledCommand#invokeAll(java.util.stream.Stream)
+ */
+public final class InvocationResult<T> {
+  public static <T> InvocationResult<T> success(List<String> args, T instance) {
+    return new InvocationResult<>(args, requireNonNull(instance), null);
+  }
+
+  public static <T> InvocationResult<T> failure(List<String> args, RuntimeException exception) {
+    return new InvocationResult<>(args, null, requireNonNull(exception));
+  }
+
+  private final List<String> args;
+  private final T instance;
+  private final RuntimeException exception;
+
+  private InvocationResult(List<String> args, T instance, RuntimeException exception) {
+    this.args = unmodifiableList(args);
+    this.instance = instance;
+    this.exception = exception;
+  }
+
+  public List<String> getArgs() {
+    return args;
+  }
+
+  public boolean isSuccess() {
+    return exception == null;
+  }
+
+  public Optional<T> getInstance() {
+    return Optional.ofNullable(instance);
+  }
+
+  public Optional<RuntimeException> getException() {
+    return Optional.ofNullable(exception);
+  }
+
+  /**
+   * Returns the command object if the invocation succeeded, or throws the exception that the
+   * invocation threw otherwise.
+   */
+  public T orElseThrow() {
+    if (exception != null)
+      throw exception;
+    return instance;
+  }
+
+  @Override
+  public String toString() {
+    return isSuccess() ? "InvocationResult [args=" + args + ", instance=" + instance + "]"
+        : "InvocationResult [args=" + args + ", exception=" + exception + "]";
+  }
+}
@@ -0,0 +1,47 @@
+package com.sigpwned.discourse.core.pipeline.invocation;
+
+import static java.util.Objects.requireNonNull;
+import com.sigpwned.discourse.core.optional.OptionalInvocationContextProperty;
+
+/**
+ * An {@link InvocationContext} that layers its own values over a parent context. Reads fall
+ * through to the parent when this layer has no value for a key, and writes only ever touch this
+ * layer. This allows each invocation to keep its own state without affecting the parent or any
+ * other invocation that shares it. Setting a key to {@code null} hides the parent's value for that
+ * key, just as it would clear the value of a context without a parent. The layer starts out with no storage at all, and only grows
+ * storage for the slots that the invocation actually writes, so creating one is cheap.
+ *
+ * <p>
+ * Instances are not thread-safe, and are intended to be used by one invocation at a time. The
+ * parent is only read, so it may be shared safely among layers as long as it is not modified.
+ * </p>
+ */
+public class LayeredInvocationContext extends SlotInvocationContext {
+  private final InvocationContext parent;
+
+  public LayeredInvocationContext(InvocationContext parent) {
+    this.parent = requireNonNull(parent);
+  }
+
+  @Override
+  public <T> OptionalInvocationContextProperty<T, T> get(InvocationContext.Key<T> key) {
+    final OptionalInvocationContextProperty<T, T> result = find(key);
+    if (result == null)
+      return parent.get(key);
+    return result;
+  }
+
+  @Override
+  public <T> void set(InvocationContext.Key<T> key, T value) {
+    if (value == null) {
+      // Remember that the key is cleared, so reads do not fall through to the parent
+      store(key, key.emptyProperty());
+    } else {
+      super.set(key, value);
+    }
+  }
+
+  public InvocationContext getParent() {
+    return parent;
+  }
+}
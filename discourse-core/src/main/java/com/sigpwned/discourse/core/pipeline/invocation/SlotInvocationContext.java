@@ -0,0 +1,109 @@
+package com.sigpwned.discourse.core.pipeline.invocation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import com.sigpwned.discourse.core.optional.OptionalInvocationContextProperty;
+
+/**
+ * <p>
+ * An {@link InvocationContext} that stores the values of keys with a
+ * {@link InvocationContext.Key slot index} in an array, and the values of any other keys in a map.
+ * It stores each value already wrapped in an {@link OptionalInvocationContextProperty}, so looking
+ * up a value allocates nothing.
+ * </p>
+ *
+ * <p>
+ * Instances are not thread-safe. Once no more values are set, they may be read from many threads
+ * at once.
+ * </p>
+ */
+public class SlotInvocationContext implements InvocationContext {
+  private static final OptionalInvocationContextProperty<?, ?>[] EMPTY_SLOTS =
+      new OptionalInvocationContextProperty<?, ?>[0];
+
+  private OptionalInvocationContextProperty<?, ?>[] slots;
+  private Map<InvocationContext.Key<?>, OptionalInvocationContextProperty<?, ?>> overflow;
+
+  public SlotInvocationContext() {
+    this.slots = EMPTY_SLOTS;
+    this.overflow = null;
+  }
+
+  @Override
+  public <T> OptionalInvocationContextProperty<T, T> get(InvocationContext.Key<T> key) {
+    final OptionalInvocationContextProperty<T, T> result = find(key);
+    return result != null ? result : key.emptyProperty();
+  }
+
+  @Override
+  public <T> void set(InvocationContext.Key<T> key, T value) {
+    store(key,
+        value != null ? OptionalInvocationContextProperty.of(key, key.getType().cast(value)) : null);
+  }
+
+  /**
+   * Stores the given property as the value of the given key in this context, or removes the key's
+   * value if the property is {@code null}. The property may be empty, which subclasses can use to
+   * record that the key has no value here without looking elsewhere.
+   */
+  protected <T> void store(InvocationContext.Key<T> key,
+      OptionalInvocationContextProperty<T, T> property) {
+    final int slot = key.getSlot();
+    if (slot >= 0) {
+      if (slot >= slots.length) {
+        if (property == null)
+          return;
+        slots = Arrays.copyOf(slots, Math.max(slot + 1, Math.min(2 * slots.length + 8,
+            InvocationContext.Key.MAX_SLOTS)));
+      }
+      slots[slot] = property;
+    } else if (property != null) {
+      if (overflow == null)
+        overflow = new HashMap<>();
+      overflow.put(key, property);
+    } else if (overflow != null) {
+      overflow.remove(key);
+    }
+  }
+
+  /**
+   * Returns the value of the given key in this context, or {@code null} if it has none. Unlike
+   * {@link #get(InvocationContext.Key)}, this method does not return an empty property, so that
+   * subclasses can tell whether to look elsewhere.
+   */
+  @SuppressWarnings("unchecked")
+  protected <T> OptionalInvocationContextProperty<T, T> find(InvocationContext.Key<T> key) {
+    final int slot = key.getSlot();
+    if (slot >= 0)
+      return slot < slots.length ? (OptionalInvocationContextProperty<T, T>) slots[slot] : null;
+    return overflow != null ? (OptionalInvocationContextProperty<T, T>) overflow.get(key) : null;
+  }
+
+  /**
+   * @return all the values in this context, in no particular order
+   */
+  protected List<Object> values() {
+    final List<Object> result = new ArrayList<>();
+    for (OptionalInvocationContextProperty<?, ?> slot : slots)
+      if (slot != null && slot.isPresent())
+        result.add(slot.get());
+    if (overflow != null)
+      for (OptionalInvocationContextProperty<?, ?> property : overflow.values())
+        if (property.isPresent())
+          result.add(property.get());
+    return result;
+  }
+
+  /**
+   * Removes all values from this context. Keeps the slot array, so that reusing the context does
+   * not allocate.
+   */
+  public void clear() {
+    Arrays.fill(slots, null);
+    if (overflow != null)
+      overflow.clear();
+  }
+}
@@ -30,7 +30,7 @@ public class FinishStep extends InvocationPipelineStepBase {
       getListener(context).finallyFinishStep(context);
     }
 
-    return finisher.apply(reducedArgs);
+    return instance;
   }
 
   protected <T> T doFinish(Function<Map<String, Object>, T> finisher,
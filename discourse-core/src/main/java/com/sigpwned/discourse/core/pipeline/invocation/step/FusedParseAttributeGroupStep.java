@@ -0,0 +1,196 @@
+package com.sigpwned.discourse.core.pipeline.invocation.step;
+
+import static java.util.Collections.unmodifiableMap;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import com.sigpwned.discourse.core.args.Coordinate;
+import com.sigpwned.discourse.core.args.SwitchName;
+import com.sigpwned.discourse.core.args.Token;
+import com.sigpwned.discourse.core.args.coordinate.OptionCoordinate;
+import com.sigpwned.discourse.core.args.coordinate.PositionalCoordinate;
+import com.sigpwned.discourse.core.args.token.SwitchNameToken;
+import com.sigpwned.discourse.core.args.token.ValueToken;
+import com.sigpwned.discourse.core.exception.InternalDiscourseException;
+import com.sigpwned.discourse.core.exception.internal.IllegalArgumentInternalDiscourseException;
+import com.sigpwned.discourse.core.pipeline.invocation.step.parse.exception.MissingOptionValueParseException;
+
+/**
+ * <p>
+ * Does the work of the {@link ParseStep Parse}, {@link AttributeStep Attribute}, and
+ * {@link GroupStep Group} steps in one pass, without calling any listener hooks. The result is the
+ * same as running the three steps one after the other, including which exception is thrown for
+ * bad input, but the parsed and attributed arguments never exist as entries. Instead, each property
+ * gets an integer ordinal, each coordinate is resolved to an ordinal through a table, and each
+ * value goes straight into its property's slot.
+ * </p>
+ *
+ * <p>
+ * The pipeline only uses this step when no listener observes the three steps it replaces, and
+ * when those steps are the standard implementations, since otherwise someone would notice that
+ * they didn't run. The caller builds the {@link Table table} for a command's coordinates once, and
+ * keeps it for as long as the coordinates stay the same, so an invocation does no hashing to find
+ * it.
+ * </p>
+ */
+public class FusedParseAttributeGroupStep {
+  /**
+   * The coordinates of a command, resolved to property ordinals. Tables are immutable, so they
+   * may be shared among invocations on many threads.
+   */
+  public static final class Table {
+    /**
+     * The name of the property with each ordinal.
+     */
+    private final String[] names;
+
+    /**
+     * The ordinal of the property for each coordinate. We only use this for supplementary
+     * arguments, since the arrays below are faster for options and positionals.
+     */
+    private final Map<Coordinate, Integer> coordinates;
+
+    /**
+     * The ordinal of the property for each option name.
+     */
+    private final Map<SwitchName, Integer> options;
+
+    /**
+     * The ordinal of the property for each position, or -1 if no property has that position.
+     */
+    private final int[] positionals;
+
+    public Table(Map<Coordinate, String> propertyNames) {
+      Map<String, Integer> ordinals = new HashMap<>();
+      Map<Coordinate, Integer> coordinates = new HashMap<>();
+      Map<SwitchName, Integer> options = new HashMap<>();
+      int maxPosition = -1;
+      for (Map.Entry<Coordinate, String> e : propertyNames.entrySet()) {
+        Integer ordinal = ordinals.computeIfAbsent(e.getValue(), k -> ordinals.size());
+        coordinates.put(e.getKey(), ordinal);
+        if (e.getKey() instanceof OptionCoordinate option) {
+          options.put(option.getName(), ordinal);
+        } else if (e.getKey() instanceof PositionalCoordinate positional) {
+          maxPosition = Math.max(maxPosition, positional.getPosition());
+        }
+      }
+
+      int[] positionals = new int[maxPosition + 1];
+      Arrays.fill(positionals, -1);
+      for (Map.Entry<Coordinate, String> e : propertyNames.entrySet()) {
+        if (e.getKey() instanceof PositionalCoordinate positional)
+          positionals[positional.getPosition()] = ordinals.get(e.getValue());
+      }
+
+      String[] names = new String[ordinals.size()];
+      for (Map.Entry<String, Integer> e : ordinals.entrySet())
+        names[e.getValue()] = e.getKey();
+
+      this.names = names;
+      this.coordinates = coordinates;
+      this.options = options;
+      this.positionals = positionals;
+    }
+  }
+
+  public Map<String, List<String>> parseAttributeGroup(Table table, List<Token> tokens,
+      List<Map.Entry<Coordinate, String>> supplementaryArgs) {
+    // The ordinal and value of each argument, in order. There are at most as many arguments as
+    // there are tokens, plus the supplementary arguments.
+    final int size = tokens.size();
+    final int[] ordinals = new int[size + supplementaryArgs.size()];
+    final String[] values = new String[size + supplementaryArgs.size()];
+    final int[] counts = new int[table.names.length];
+    int length = 0;
+
+    // Attribute errors come after parse errors, since the Attribute step only runs once the Parse
+    // step has finished, so we remember the first one and throw it at the end.
+    Coordinate unattributed = null;
+
+    // The Parse step never advances the position, so every positional value gets position 0. We
+    // do the same, since the two paths must agree.
+    final int position = 0;
+
+    int index = 0;
+    while (index < size) {
+      Token token = tokens.get(index);
+
+      int ordinal;
+      String value;
+      if (token instanceof SwitchNameToken nameToken) {
+        if (index + 1 >= size)
+          throw new MissingOptionValueParseException(nameToken.getName());
+
+        Token nextToken = tokens.get(index + 1);
+        if (!(nextToken instanceof ValueToken valueToken))
+          throw new MissingOptionValueParseException(nameToken.getName());
+
+        Integer maybeOrdinal = table.options.get(nameToken.getName());
+        ordinal = maybeOrdinal != null ? maybeOrdinal : -1;
+        if (ordinal == -1 && unattributed == null)
+          unattributed = new OptionCoordinate(nameToken.getName());
+        value = valueToken.getValue();
+
+        index = index + 2;
+      } else if (token instanceof ValueToken valueToken) {
+        ordinal = position < table.positionals.length ? table.positionals[position] : -1;
+        if (ordinal == -1 && unattributed == null)
+          unattributed = PositionalCoordinate.of(position);
+        value = valueToken.getValue();
+
+        index = index + 1;
+      } else {
+        // In order for this to happen, the user must have registered a module that introduces a
+        // new token type, but doesn't handle it properly. This is a framework error, but the
+        // underlying cause probably lives in a third-party module.
+        throw new IllegalArgumentInternalDiscourseException(
+            "Invalid token type: " + token.getClass().getName());
+      }
+
+      if (ordinal != -1) {
+        ordinals[length] = ordinal;
+        values[length] = value;
+        counts[ordinal] = counts[ordinal] + 1;
+        length = length + 1;
+      }
+    }
+
+    // Like the Parse step, add the supplementary arguments at the end
+    for (Map.Entry<Coordinate, String> supplementaryArg : supplementaryArgs) {
+      Integer ordinal = table.coordinates.get(supplementaryArg.getKey());
+      if (ordinal == null) {
+        if (unattributed == null)
+          unattributed = supplementaryArg.getKey();
+        continue;
+      }
+      ordinals[length] = ordinal;
+      values[length] = supplementaryArg.getValue();
+      counts[ordinal] = counts[ordinal] + 1;
+      length = length + 1;
+    }
+
+    if (unattributed != null) {
+      // See AttributeStep for why this is an internal exception.
+      throw new InternalDiscourseException("no property name for " + unattributed);
+    }
+
+    // Gather each property's values into an array of exactly the right size, in order
+    final String[][] slots = new String[counts.length][];
+    final int[] filled = new int[counts.length];
+    for (int i = 0; i < length; i++) {
+      final int ordinal = ordinals[i];
+      if (slots[ordinal] == null)
+        slots[ordinal] = new String[counts[ordinal]];
+      slots[ordinal][filled[ordinal]++] = values[i];
+    }
+
+    Map<String, List<String>> result = new HashMap<>();
+    for (int ordinal = 0; ordinal < slots.length; ordinal++) {
+      if (slots[ordinal] != null)
+        result.put(table.names[ordinal], List.of(slots[ordinal]));
+    }
+
+    return unmodifiableMap(result);
+  }
+}
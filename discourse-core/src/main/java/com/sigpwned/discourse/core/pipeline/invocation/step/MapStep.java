@@ -9,10 +9,14 @@ import com.sigpwned.discourse.core.exception.user.InvalidArgumentUserDiscourseEx
 import com.sigpwned.discourse.core.pipeline.invocation.InvocationContext;
 import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineStep;
 import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineStepBase;
+import com.sigpwned.discourse.core.pipeline.invocation.step.map.PrimitiveMappedValues;
+import com.sigpwned.discourse.core.pipeline.invocation.step.map.PrimitiveMapper;
 
 /**
  * A {@link InvocationPipelineStep invocation pipeline step} that maps the grouped command line
  * arguments from their string representations to their actual values, i.e., deserialization.
+ * Properties whose mapper is a {@link PrimitiveMapper} get their values as
+ * {@link PrimitiveMappedValues}, which hold them unboxed.
  * 
  * @link InvocationPipeline
  */
@@ -45,16 +49,26 @@ public class MapStep extends InvocationPipelineStepBase {
 
       Function<String, Object> mapper = mappers.get(propertyName);
 
-      List<Object> mappedValues = new ArrayList<>(stringValues.size());
-      for (String stringValue : stringValues) {
-        Object mappedValue;
-        try {
-          mappedValue = mapper.apply(stringValue);
-        } catch (Exception e) {
-          // TODO We need a coordinate here, please
-          throw new InvalidArgumentUserDiscourseException(propertyName, null, stringValue, e);
+      List<Object> mappedValues;
+      if (mapper instanceof PrimitiveMapper.OfInt intMapper) {
+        mappedValues = mapInts(propertyName, intMapper, stringValues);
+      } else if (mapper instanceof PrimitiveMapper.OfLong longMapper) {
+        mappedValues = mapLongs(propertyName, longMapper, stringValues);
+      } else if (mapper instanceof PrimitiveMapper.OfDouble doubleMapper) {
+        mappedValues = mapDoubles(propertyName, doubleMapper, stringValues);
+      } else if (mapper instanceof PrimitiveMapper.OfBoolean booleanMapper) {
+        mappedValues = mapBooleans(propertyName, booleanMapper, stringValues);
+      } else {
+        mappedValues = new ArrayList<>(stringValues.size());
+        for (String stringValue : stringValues) {
+          Object mappedValue;
+          try {
+            mappedValue = mapper.apply(stringValue);
+          } catch (Exception e) {
+            throw invalidArgument(propertyName, stringValue, e);
+          }
+          mappedValues.add(mappedValue);
         }
-        mappedValues.add(mappedValue);
       }
 
       result.put(propertyName, mappedValues);
@@ -62,4 +76,66 @@ public class MapStep extends InvocationPipelineStepBase {
 
     return result;
   }
+
+  private PrimitiveMappedValues.OfInt mapInts(String propertyName,
+      PrimitiveMapper.OfInt mapper, List<String> stringValues) {
+    int[] mappedValues = new int[stringValues.size()];
+    for (int i = 0; i < mappedValues.length; i++) {
+      String stringValue = stringValues.get(i);
+      try {
+        mappedValues[i] = mapper.mapInt(stringValue);
+      } catch (Exception e) {
+        throw invalidArgument(propertyName, stringValue, e);
+      }
+    }
+    return new PrimitiveMappedValues.OfInt(mappedValues);
+  }
+
+  private PrimitiveMappedValues.OfLong mapLongs(String propertyName,
+      PrimitiveMapper.OfLong mapper, List<String> stringValues) {
+    long[] mappedValues = new long[stringValues.size()];
+    for (int i = 0; i < mappedValues.length; i++) {
+      String stringValue = stringValues.get(i);
+      try {
+        mappedValues[i] = mapper.mapLong(stringValue);
+      } catch (Exception e) {
+        throw invalidArgument(propertyName, stringValue, e);
+      }
+    }
+    return new PrimitiveMappedValues.OfLong(mappedValues);
+  }
+
+  private PrimitiveMappedValues.OfDouble mapDoubles(String propertyName,
+      PrimitiveMapper.OfDouble mapper, List<String> stringValues) {
+    double[] mappedValues = new double[stringValues.size()];
+    for (int i = 0; i < mappedValues.length; i++) {
+      String stringValue = stringValues.get(i);
+      try {
+        mappedValues[i] = mapper.mapDouble(stringValue);
+      } catch (Exception e) {
+        throw invalidArgument(propertyName, stringValue, e);
+      }
+    }
+    return new PrimitiveMappedValues.OfDouble(mappedValues);
+  }
+
+  private PrimitiveMappedValues.OfBoolean mapBooleans(String propertyName,
+      PrimitiveMapper.OfBoolean mapper, List<String> stringValues) {
+    boolean[] mappedValues = new boolean[stringValues.size()];
+    for (int i = 0; i < mappedValues.length; i++) {
+      String stringValue = stringValues.get(i);
+      try {
+        mappedValues[i] = mapper.mapBoolean(stringValue);
+      } catch (Exception e) {
+        throw invalidArgument(propertyName, stringValue, e);
+      }
+    }
+    return new PrimitiveMappedValues.OfBoolean(mappedValues);
+  }
+
+  private InvalidArgumentUserDiscourseException invalidArgument(String propertyName,
+      String stringValue, Exception cause) {
+    // TODO We need a coordinate here, please
+    return new InvalidArgumentUserDiscourseException(propertyName, null, stringValue, cause);
+  }
 }
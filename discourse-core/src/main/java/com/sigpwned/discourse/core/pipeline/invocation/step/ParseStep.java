@@ -17,6 +17,37 @@ import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineStepBas
 import com.sigpwned.discourse.core.pipeline.invocation.step.parse.exception.MissingOptionValueParseException;
 
 public class ParseStep extends InvocationPipelineStepBase {
+  /**
+   * Arguments that come from somewhere other than the command line, e.g., environment variables.
+   * Modules add them during the PreprocessCoordinates step using
+   * {@link #addSupplementaryArgs(InvocationContext, List)}, and the Parse step adds them to the end
+   * of the parsed arguments.
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public static final InvocationContext.Key<List<Map.Entry<Coordinate, String>>> SUPPLEMENTARY_ARGS_KEY =
+      (InvocationContext.Key) InvocationContext.Key
+          .of(ParseStep.class.getName() + ".supplementaryArgs", List.class);
+
+  /**
+   * Adds the given arguments to the supplementary arguments for the current invocation.
+   *
+   * @see #SUPPLEMENTARY_ARGS_KEY
+   */
+  public static void addSupplementaryArgs(InvocationContext context,
+      List<Map.Entry<Coordinate, String>> args) {
+    if (args.isEmpty())
+      return;
+    List<Map.Entry<Coordinate, String>> supplementaryArgs =
+        new ArrayList<>(getSupplementaryArgs(context));
+    supplementaryArgs.addAll(args);
+    context.set(SUPPLEMENTARY_ARGS_KEY, unmodifiableList(supplementaryArgs));
+  }
+
+  public static List<Map.Entry<Coordinate, String>> getSupplementaryArgs(
+      InvocationContext context) {
+    return context.get(SUPPLEMENTARY_ARGS_KEY).orElse(List.of());
+  }
+
   public List<Map.Entry<Coordinate, String>> parse(List<Token> tokens, InvocationContext context) {
     InvocationPipelineListener listener = getListener(context);
 
@@ -24,6 +55,11 @@ public class ParseStep extends InvocationPipelineStepBase {
     try {
       listener.beforeParseStep(tokens, context);
       result = doParse(tokens);
+      List<Map.Entry<Coordinate, String>> supplementaryArgs = getSupplementaryArgs(context);
+      if (!supplementaryArgs.isEmpty()) {
+        result = new ArrayList<>(result);
+        result.addAll(supplementaryArgs);
+      }
       listener.afterParseStep(tokens, result, context);
     } catch (Throwable problem) {
       listener.catchParseStep(problem, context);
@@ -1,7 +1,23 @@
 package com.sigpwned.discourse.core.pipeline.invocation.step;
 
+import static java.util.Objects.requireNonNull;
+import java.io.File;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
 import com.sigpwned.discourse.core.command.planned.ParentCommand;
 import com.sigpwned.discourse.core.command.planned.PlannedCommand;
 import com.sigpwned.discourse.core.command.planned.PlannedCommandProperty;
@@ -10,10 +26,12 @@ import com.sigpwned.discourse.core.command.tree.LeafCommand;
 import com.sigpwned.discourse.core.command.tree.LeafCommandProperty;
 import com.sigpwned.discourse.core.module.core.plan.value.deserializer.ValueDeserializer;
 import com.sigpwned.discourse.core.module.core.plan.value.deserializer.ValueDeserializerFactory;
-import com.sigpwned.discourse.core.module.core.plan.value.sink.ValueSink;
+import com.sigpwned.discourse.core.module.core.plan.value.sink.ValueSinkDescriptor;
 import com.sigpwned.discourse.core.module.core.plan.value.sink.ValueSinkFactory;
 import com.sigpwned.discourse.core.pipeline.invocation.InvocationContext;
 import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipeline;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineListener;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineListenerChain;
 import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineStep;
 import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineStepBase;
 import com.sigpwned.discourse.core.pipeline.invocation.step.plan.exception.InvalidDefaultValuePlanException;
@@ -22,8 +40,28 @@ import com.sigpwned.discourse.core.pipeline.invocation.step.plan.exception.NoDes
 import com.sigpwned.discourse.core.pipeline.invocation.step.plan.exception.NoSinkAvailablePlanException;
 
 /**
+ * <p>
  * A {@link InvocationPipelineStep invocation pipeline step} that creates a plan to create and
  * populate the resolved command object using application arguments.
+ * </p>
+ *
+ * <p>
+ * A plan holds no per-invocation state, since its properties only
+ * {@link ValueSinkDescriptor describe} their sinks, so the step remembers the plan for each leaf
+ * command and reuses it next time. It only does so when no listener observes
+ * {@link InvocationPipelineListener#beforePlanStep(ResolvedCommand, InvocationContext)
+ * beforePlanStep}, since such a listener may change the command before it is planned, and when
+ * the sink and deserializer factories are {@link ValueSinkFactory#isCacheable(Type, List)
+ * cacheable} for every property.
+ * </p>
+ *
+ * <p>
+ * Each invocation gets its own default and example values, since a command may change the values
+ * it is given. If every default and example value in a plan is of a type that is known to be
+ * immutable, e.g., {@link String} or {@link Integer}, then invocations share the plan's values.
+ * Otherwise, each invocation that reuses the plan deserializes them again with the plan's
+ * deserializers.
+ * </p>
  * 
  * @see InvocationPipeline
  */
@@ -35,6 +73,53 @@ public class PlanStep extends InvocationPipelineStepBase {
   public static final InvocationContext.Key<ValueSinkFactory> VALUE_SINK_FACTORY_KEY =
       InvocationContext.Key.of(ValueSinkFactory.class);
 
+  /**
+   * The types of values that no one can change, so invocations can share them. Enums and paths
+   * are checked separately.
+   */
+  private static final Set<Class<?>> IMMUTABLE_VALUE_TYPES = Set.of(String.class, Boolean.class,
+      Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class,
+      Double.class, BigInteger.class, BigDecimal.class, Instant.class, LocalDate.class,
+      LocalDateTime.class, LocalTime.class, File.class, URI.class, URL.class, Pattern.class,
+      UUID.class);
+
+  /**
+   * A plan, and what it was planned from. The plan can be reused for the same leaf command and
+   * factories.
+   */
+  private static final class CachedPlan {
+    private final LeafCommand<?> leaf;
+    private final ValueSinkFactory sinkFactory;
+    private final ValueDeserializerFactory<?> deserializerFactory;
+    private final PlannedCommand<?> plannedCommand;
+
+    /**
+     * Whether invocations can share the plan's default and example values
+     */
+    private final boolean shareable;
+
+    private CachedPlan(LeafCommand<?> leaf, ValueSinkFactory sinkFactory,
+        ValueDeserializerFactory<?> deserializerFactory, PlannedCommand<?> plannedCommand,
+        boolean shareable) {
+      this.leaf = requireNonNull(leaf);
+      this.sinkFactory = requireNonNull(sinkFactory);
+      this.deserializerFactory = requireNonNull(deserializerFactory);
+      this.plannedCommand = requireNonNull(plannedCommand);
+      this.shareable = shareable;
+    }
+  }
+
+  /**
+   * The most recent plan for each command class. We use a {@link ClassValue} so that this cache
+   * never keeps a command class or its class loader alive.
+   */
+  private final ClassValue<AtomicReference<CachedPlan>> plans = new ClassValue<>() {
+    @Override
+    protected AtomicReference<CachedPlan> computeValue(Class<?> type) {
+      return new AtomicReference<>();
+    }
+  };
+
   public <T> PlannedCommand<T> plan(ResolvedCommand<T> resolvedCommand, InvocationContext context) {
     ValueSinkFactory sinkFactory = context.get(VALUE_SINK_FACTORY_KEY).orElseThrow();
 
@@ -43,14 +128,27 @@ public class PlanStep extends InvocationPipelineStepBase {
 
     PlannedCommand<T> plannedCommand;
     try {
-      ResolvedCommand<T> mutableResolvedCommand = mutableCopyOf(resolvedCommand);
+      if (getListener(context) instanceof InvocationPipelineListenerChain chain
+          && !chain.observesBeforePlanStep()) {
+        // Nobody can change the command before we plan it, so an earlier plan will do
+        plannedCommand = findPlan(resolvedCommand, sinkFactory, deserializerFactory);
+        if (plannedCommand == null) {
+          plannedCommand = doPlan(resolvedCommand.getCommand(), sinkFactory, deserializerFactory,
+              resolvedCommand, context);
+          rememberPlan(resolvedCommand.getCommand(), sinkFactory, deserializerFactory,
+              plannedCommand);
+        }
 
-      getListener(context).beforePlanStep(mutableResolvedCommand, context);
+      } else {
+        ResolvedCommand<T> mutableResolvedCommand = mutableCopyOf(resolvedCommand);
+
+        getListener(context).beforePlanStep(mutableResolvedCommand, context);
 
-      ResolvedCommand<T> immutableResolvedCommand = immutableCopyOf(mutableResolvedCommand);
+        ResolvedCommand<T> immutableResolvedCommand = immutableCopyOf(mutableResolvedCommand);
 
-      plannedCommand = doPlan(immutableResolvedCommand.getCommand(), sinkFactory,
-          deserializerFactory, resolvedCommand, context);
+        plannedCommand = doPlan(immutableResolvedCommand.getCommand(), sinkFactory,
+            deserializerFactory, resolvedCommand, context);
+      }
 
       getListener(context).afterPlanStep(resolvedCommand, plannedCommand, context);
     } catch (Throwable e) {
@@ -63,13 +161,109 @@ public class PlanStep extends InvocationPipelineStepBase {
     return plannedCommand;
   }
 
+  /**
+   * Returns the remembered plan for the given command, if it was planned from the same leaf
+   * command with the same factories, or {@code null} otherwise.
+   */
+  @SuppressWarnings("unchecked")
+  private <T> PlannedCommand<T> findPlan(ResolvedCommand<T> resolvedCommand,
+      ValueSinkFactory sinkFactory, ValueDeserializerFactory<?> deserializerFactory) {
+    final LeafCommand<T> leaf = resolvedCommand.getCommand();
+    final CachedPlan cached = plans.get(leaf.getClazz()).get();
+    if (cached == null || cached.leaf != leaf || cached.sinkFactory != sinkFactory
+        || cached.deserializerFactory != deserializerFactory)
+      return null;
+
+    final PlannedCommand<T> plannedCommand = (PlannedCommand<T>) cached.plannedCommand;
+    if (cached.shareable && plannedCommand.getParents().equals(resolvedCommand.getParents())
+        && plannedCommand.getName().equals(resolvedCommand.getName())
+        && plannedCommand.getVersion().equals(resolvedCommand.getVersion()))
+      return plannedCommand;
+
+    // The same leaf, reached a different way, e.g., by an alias, or with values this invocation
+    // needs its own copy of. Otherwise, the properties are the same.
+    final List<PlannedCommandProperty> properties;
+    if (cached.shareable)
+      properties = plannedCommand.getProperties();
+    else
+      properties = withOwnValues(leaf, plannedCommand.getProperties());
+    return new PlannedCommand<>(resolvedCommand.getParents(),
+        resolvedCommand.getName().orElse(null), resolvedCommand.getVersion().orElse(null),
+        plannedCommand.getDescription().orElse(null), properties, plannedCommand.getReactor(),
+        plannedCommand.getConstructor());
+  }
+
+  /**
+   * Returns a copy of the given planned properties of the given leaf command, with default and
+   * example values deserialized again, so that no other invocation has them.
+   */
+  private List<PlannedCommandProperty> withOwnValues(LeafCommand<?> leaf,
+      List<PlannedCommandProperty> plannedProperties) {
+    List<PlannedCommandProperty> result = new ArrayList<>(plannedProperties.size());
+    for (int i = 0; i < plannedProperties.size(); i++) {
+      LeafCommandProperty property = leaf.getProperties().get(i);
+      PlannedCommandProperty plannedProperty = plannedProperties.get(i);
+      if (property.getDefaultValue().isEmpty() && property.getExampleValue().isEmpty()) {
+        result.add(plannedProperty);
+        continue;
+      }
+
+      ValueDeserializer<?> deserializer = plannedProperty.getDeserializer();
+      result.add(new PlannedCommandProperty(plannedProperty.getName(),
+          plannedProperty.getDescription().orElse(null), plannedProperty.isRequired(),
+          deserializeDefaultValue(leaf, property, deserializer),
+          deserializeExampleValue(leaf, property, deserializer), plannedProperty.getAnnotations(),
+          plannedProperty.getCoordinates(), plannedProperty.getSinkDescriptor(), deserializer));
+    }
+    return result;
+  }
+
+  /**
+   * Remembers the given plan for the given leaf command, if the factories would give the same
+   * sinks and deserializers for its properties next time.
+   */
+  private void rememberPlan(LeafCommand<?> leaf, ValueSinkFactory sinkFactory,
+      ValueDeserializerFactory<?> deserializerFactory, PlannedCommand<?> plannedCommand) {
+    for (LeafCommandProperty property : leaf.getProperties()) {
+      if (!sinkFactory.isCacheable(property.getGenericType(), property.getAnnotations()))
+        return;
+    }
+    for (PlannedCommandProperty property : plannedCommand.getProperties()) {
+      if (!deserializerFactory.isCacheable(property.getSinkDescriptor().getGenericType(),
+          property.getAnnotations()))
+        return;
+    }
+
+    boolean shareable = true;
+    for (PlannedCommandProperty property : plannedCommand.getProperties()) {
+      if (!isImmutable(property.getDefaultValue().orElse(null))
+          || !isImmutable(property.getExampleValue().orElse(null))) {
+        shareable = false;
+        break;
+      }
+    }
+
+    plans.get(leaf.getClazz())
+        .set(new CachedPlan(leaf, sinkFactory, deserializerFactory, plannedCommand, shareable));
+  }
+
+  /**
+   * Returns {@code true} if the given value is {@code null} or of a type that is known to be
+   * immutable, or {@code false} otherwise.
+   */
+  private static boolean isImmutable(Object value) {
+    return value == null || IMMUTABLE_VALUE_TYPES.contains(value.getClass())
+        || value instanceof Enum || value instanceof Path;
+  }
+
   protected <T> PlannedCommand<T> doPlan(LeafCommand<T> leaf, ValueSinkFactory sinkFactory,
       ValueDeserializerFactory<?> deserializerFactory, ResolvedCommand<T> resolvedCommand,
       InvocationContext context) {
     List<PlannedCommandProperty> properties = new ArrayList<>(leaf.getProperties().size());
 
     for (LeafCommandProperty property : leaf.getProperties()) {
-      ValueSink sink = sinkFactory.getSink(property.getGenericType(), property.getAnnotations())
+      ValueSinkDescriptor sink = sinkFactory
+          .getSinkDescriptor(property.getGenericType(), property.getAnnotations())
           .orElseThrow(() -> {
             return new NoSinkAvailablePlanException(leaf, property);
           });
@@ -79,31 +273,9 @@ public class PlanStep extends InvocationPipelineStepBase {
             return new NoDeserializerAvailablePlanException(leaf, property);
           });
 
-      Object defaultValue;
-      if (property.getDefaultValue().isPresent()) {
-        String defaultValueString = property.getDefaultValue().orElseThrow();
-        try {
-          defaultValue = deserializer.deserialize(defaultValueString);
-        } catch (Exception e) {
-          throw new InvalidDefaultValuePlanException(leaf, property.getName(), defaultValueString,
-              e);
-        }
-      } else {
-        defaultValue = null;
-      }
+      Object defaultValue = deserializeDefaultValue(leaf, property, deserializer);
 
-      Object exampleValue;
-      if (property.getExampleValue().isPresent()) {
-        String exampleValueString = property.getExampleValue().orElseThrow();
-        try {
-          exampleValue = deserializer.deserialize(exampleValueString);
-        } catch (Exception e) {
-          throw new InvalidExampleValuePlanException(leaf, property.getName(), exampleValueString,
-              e);
-        }
-      } else {
-        exampleValue = null;
-      }
+      Object exampleValue = deserializeExampleValue(leaf, property, deserializer);
 
       properties.add(new PlannedCommandProperty(property.getName(),
           property.getDescription().orElse(null), property.isRequired(), defaultValue, exampleValue,
@@ -115,11 +287,36 @@ public class PlanStep extends InvocationPipelineStepBase {
         leaf.getDescription().orElse(null), properties, leaf.getReactor(), leaf.getConstructor());
   }
 
+  private Object deserializeDefaultValue(LeafCommand<?> leaf, LeafCommandProperty property,
+      ValueDeserializer<?> deserializer) {
+    if (property.getDefaultValue().isEmpty())
+      return null;
+    String defaultValueString = property.getDefaultValue().orElseThrow();
+    try {
+      return deserializer.deserialize(defaultValueString);
+    } catch (Exception e) {
+      throw new InvalidDefaultValuePlanException(leaf, property.getName(), defaultValueString, e);
+    }
+  }
+
+  private Object deserializeExampleValue(LeafCommand<?> leaf, LeafCommandProperty property,
+      ValueDeserializer<?> deserializer) {
+    if (property.getExampleValue().isEmpty())
+      return null;
+    String exampleValueString = property.getExampleValue().orElseThrow();
+    try {
+      return deserializer.deserialize(exampleValueString);
+    } catch (Exception e) {
+      throw new InvalidExampleValuePlanException(leaf, property.getName(), exampleValueString, e);
+    }
+  }
+
   protected <T> ResolvedCommand<T> mutableCopyOf(ResolvedCommand<T> originalResolvedCommand) {
     LeafCommand<T> originalLeafCommand = originalResolvedCommand.getCommand();
 
     LeafCommand<T> mutableLeafCommand =
-        new LeafCommand<T>(originalLeafCommand.getDescription().orElse(null),
+        new LeafCommand<T>(originalLeafCommand.getClazz(),
+            originalLeafCommand.getDescription().orElse(null),
             new ArrayList<>(originalLeafCommand.getProperties()), originalLeafCommand.getReactor(),
             originalLeafCommand.getConstructor());
     List<ParentCommand> mutableParents = new ArrayList<>(originalResolvedCommand.getParents());
@@ -132,7 +329,8 @@ public class PlanStep extends InvocationPipelineStepBase {
     LeafCommand<T> originalLeafCommand = originalResolvedCommand.getCommand();
 
     LeafCommand<T> immutableLeafCommand =
-        new LeafCommand<T>(originalLeafCommand.getDescription().orElse(null),
+        new LeafCommand<T>(originalLeafCommand.getClazz(),
+            originalLeafCommand.getDescription().orElse(null),
             List.copyOf(originalLeafCommand.getProperties()), originalLeafCommand.getReactor(),
             originalLeafCommand.getConstructor());
     List<ParentCommand> immutableParents = List.copyOf(originalResolvedCommand.getParents());
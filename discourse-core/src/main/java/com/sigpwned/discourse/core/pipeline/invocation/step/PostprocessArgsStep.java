@@ -1,6 +1,9 @@
 package com.sigpwned.discourse.core.pipeline.invocation.step;
 
+import static java.util.Collections.unmodifiableMap;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Consumer;
 import com.sigpwned.discourse.core.pipeline.invocation.InvocationContext;
 import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipeline;
 import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineStep;
@@ -19,12 +22,30 @@ public class PostprocessArgsStep extends InvocationPipelineStepBase {
 
   public Map<String, Object> postprocessArgs(Map<String, Object> reducedArgs,
       InvocationContext context) {
+    return postprocessArgs(reducedArgs, null, context);
+  }
+
+  /**
+   * Postprocesses the reduced arguments, and then runs the given command reactor over the result.
+   * The reactor always runs last, after every {@link ArgsPostprocessor}, and inside this step, so
+   * listeners that run after this step see the arguments the reactor produced. The reactor runs
+   * over a private copy of the arguments, so the configured postprocessors never change.
+   *
+   * @param reducedArgs the reduced arguments
+   * @param reactor the command reactor, or {@code null} to run only the postprocessors
+   * @param context the invocation context
+   * @return the postprocessed arguments
+   */
+  public Map<String, Object> postprocessArgs(Map<String, Object> reducedArgs,
+      Consumer<Map<String, Object>> reactor, InvocationContext context) {
     ArgsPostprocessor postprocessor = context.get(ARGS_POSTPROCESSOR_KEY).orElseThrow();
 
     Map<String, Object> postprocessedArgs;
     try {
       getListener(context).beforePostprocessPropertiesStep(reducedArgs, context);
       postprocessedArgs = doPostprocessArgs(postprocessor, reducedArgs, context);
+      if (reactor != null)
+        postprocessedArgs = doReact(reactor, postprocessedArgs, context);
       getListener(context).afterPostprocessPropertiesStep(reducedArgs, postprocessedArgs, context);
     } catch (Exception e) {
       getListener(context).catchPostprocessPropertiesStep(e, context);
@@ -40,4 +61,11 @@ public class PostprocessArgsStep extends InvocationPipelineStepBase {
       Map<String, Object> properties, InvocationContext context) {
     return postprocessor.postprocessProperties(properties, context);
   }
+
+  protected Map<String, Object> doReact(Consumer<Map<String, Object>> reactor,
+      Map<String, Object> properties, InvocationContext context) {
+    properties = new HashMap<>(properties);
+    reactor.accept(properties);
+    return unmodifiableMap(properties);
+  }
 }
@@ -23,7 +23,7 @@ public class PreprocessArgsStep extends InvocationPipelineStepBase {
     List<String> preprocessedArgs;
     try {
       getListener(context).beforePreprocessArgsStep(resolvedArgs, context);
-      preprocessedArgs = doPreprocessArgs(preprocessor, resolvedArgs);
+      preprocessedArgs = doPreprocessArgs(preprocessor, resolvedArgs, context);
       getListener(context).afterPreprocessArgsStep(resolvedArgs, preprocessedArgs, context);
     } catch (Throwable e) {
       getListener(context).catchPreprocessArgsStep(e, context);
@@ -32,11 +32,11 @@ public class PreprocessArgsStep extends InvocationPipelineStepBase {
       getListener(context).finallyPreprocessArgsStep(context);
     }
 
-    return preprocessor.preprocess(preprocessedArgs);
+    return preprocessedArgs;
   }
 
   protected List<String> doPreprocessArgs(ArgsPreprocessor preprocessor,
-      List<String> resolvedArgs) {
-    return preprocessor.preprocess(resolvedArgs);
+      List<String> resolvedArgs, InvocationContext context) {
+    return preprocessor.preprocess(resolvedArgs, context);
   }
 }
@@ -25,7 +25,7 @@ public class PreprocessCoordinatesStep extends InvocationPipelineStepBase {
     Map<Coordinate, String> preprocessedCoordinates;
     try {
       getListener(context).beforePreprocessCoordinatesStep(originalCoordinates, context);
-      preprocessedCoordinates = doPreprocess(preprocessor, originalCoordinates);
+      preprocessedCoordinates = doPreprocess(preprocessor, originalCoordinates, context);
       getListener(context).afterPreprocessCoordinatesStep(originalCoordinates,
           preprocessedCoordinates, context);
     } catch (Throwable e) {
@@ -39,7 +39,7 @@ public class PreprocessCoordinatesStep extends InvocationPipelineStepBase {
   }
 
   protected Map<Coordinate, String> doPreprocess(CoordinatesPreprocessor preprocessor,
-      Map<Coordinate, String> originalCoordinates) {
-    return preprocessor.preprocess(originalCoordinates);
+      Map<Coordinate, String> originalCoordinates, InvocationContext context) {
+    return preprocessor.preprocess(originalCoordinates, context);
   }
 }
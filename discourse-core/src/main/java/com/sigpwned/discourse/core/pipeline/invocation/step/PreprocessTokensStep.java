@@ -26,7 +26,7 @@ public class PreprocessTokensStep extends InvocationPipelineStepBase {
     List<Token> preprocessedTokens;
     try {
       getListener(context).beforePreprocessTokensStep(originalTokens, context);
-      preprocessedTokens = doPreprocessTokens(preprocessor, originalTokens);
+      preprocessedTokens = doPreprocessTokens(preprocessor, originalTokens, context);
       getListener(context).afterPreprocessTokensStep(originalTokens, preprocessedTokens, context);
     } catch (Throwable e) {
       getListener(context).catchPreprocessTokensStep(e, context);
@@ -35,11 +35,11 @@ public class PreprocessTokensStep extends InvocationPipelineStepBase {
       getListener(context).finallyPreprocessTokensStep(context);
     }
 
-    return preprocessor.preprocessTokens(preprocessedTokens);
+    return preprocessedTokens;
   }
 
   protected List<Token> doPreprocessTokens(TokensPreprocessor preprocessor,
-      List<Token> originalTokens) {
-    return preprocessor.preprocessTokens(originalTokens);
+      List<Token> originalTokens, InvocationContext context) {
+    return preprocessor.preprocessTokens(originalTokens, context);
   }
 }
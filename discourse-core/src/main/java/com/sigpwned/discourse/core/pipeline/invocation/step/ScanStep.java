@@ -1,23 +1,22 @@
 package com.sigpwned.discourse.core.pipeline.invocation.step;
 
 import static com.sigpwned.discourse.core.util.MoreCollectors.duplicates;
+import static java.util.Collections.unmodifiableMap;
 import static java.util.stream.Collectors.toSet;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Queue;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import com.sigpwned.discourse.core.Chain;
 import com.sigpwned.discourse.core.annotation.Configurable;
 import com.sigpwned.discourse.core.annotation.DiscourseDescription;
 import com.sigpwned.discourse.core.command.Discriminator;
@@ -25,11 +24,13 @@ import com.sigpwned.discourse.core.command.tree.Command;
 import com.sigpwned.discourse.core.command.tree.LeafCommand;
 import com.sigpwned.discourse.core.command.tree.LeafCommandProperty;
 import com.sigpwned.discourse.core.command.tree.RootCommand;
-import com.sigpwned.discourse.core.exception.InternalDiscourseException;
 import com.sigpwned.discourse.core.pipeline.invocation.InvocationContext;
 import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipeline;
 import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineStep;
 import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineStepBase;
+import com.sigpwned.discourse.core.pipeline.invocation.LayeredInvocationContext;
+import com.sigpwned.discourse.core.pipeline.invocation.step.scan.CommandModel;
+import com.sigpwned.discourse.core.pipeline.invocation.step.scan.CommandModelFingerprint;
 import com.sigpwned.discourse.core.pipeline.invocation.step.scan.NamingScheme;
 import com.sigpwned.discourse.core.pipeline.invocation.step.scan.RuleDetector;
 import com.sigpwned.discourse.core.pipeline.invocation.step.scan.RuleEvaluator;
@@ -74,14 +75,21 @@ import com.sigpwned.discourse.core.pipeline.invocation.step.scan.model.SuperComm
 import com.sigpwned.discourse.core.pipeline.invocation.step.scan.model.SyntaxDetection;
 import com.sigpwned.discourse.core.pipeline.invocation.step.scan.model.WalkedClass;
 import com.sigpwned.discourse.core.pipeline.invocation.step.scan.util.MoreRules;
-import com.sigpwned.discourse.core.util.Graphs;
 import com.sigpwned.discourse.core.util.Maybe;
 import com.sigpwned.discourse.core.util.MoreSets;
 import com.sigpwned.discourse.core.util.Streams;
 
 /**
+ * <p>
  * A {@link InvocationPipelineStep invocation pipeline step} that scans a class for command-related
  * metadata and constructs a command tree.
+ * </p>
+ *
+ * <p>
+ * If the discourse-processor annotation processor generated a {@link CommandModel command model}
+ * for a leaf command, and the pipeline scans the way the default modules do, then the step reads
+ * the command's syntax and rules from the model instead of reflecting over the command class.
+ * </p>
  * 
  * @see InvocationPipeline
  */
@@ -121,6 +129,51 @@ public class ScanStep extends InvocationPipelineStepBase {
   public static final InvocationContext.Key<SyntaxDescriber> SYNTAX_DESCRIBER_KEY =
       InvocationContext.Key.of(SyntaxDescriber.class);
 
+  /**
+   * The values in the context that decide what a {@link CommandModel command model} says. If all of
+   * them are the ones the default modules register, then the Scan step can use a command model
+   * instead of reflecting over the command class.
+   */
+  private static final List<InvocationContext.Key<?>> COMMAND_MODEL_KEYS = List.of(
+      NAMING_SCHEME_KEY, SYNTAX_NOMINATOR_KEY, SYNTAX_DETECTOR_KEY, RULE_NOMINATOR_KEY,
+      RULE_DETECTOR_KEY, RULE_EVALUATOR_KEY, SYNTAX_REQUIRED_CHECKER_KEY,
+      SYNTAX_DEFAULT_VALUE_EXTRACTOR_KEY);
+
+  /**
+   * The {@link #getCommandModelSignature(InvocationContext) command model signature} of the
+   * default modules, computed the first time it's needed.
+   */
+  private static class DefaultCommandModelSignature {
+    public static final List<List<Class<?>>> INSTANCE = compute();
+
+    private static List<List<Class<?>>> compute() {
+      List<List<List<Class<?>>>> result = new ArrayList<>(1);
+      InvocationPipeline.builder().register(context -> {
+        result.add(getCommandModelSignature(context));
+      });
+      return result.get(0);
+    }
+  }
+
+  /**
+   * <p>
+   * Scans the given command class and returns its command tree.
+   * </p>
+   *
+   * <p>
+   * The scan only walks and prepares the root command. Each subcommand is walked and prepared the
+   * first time it is used, so an invocation of a large command tree only pays for the path it
+   * uses, and any problems with a subcommand are only reported once that subcommand is used. To
+   * walk and prepare the whole tree up front, e.g., in a test, use
+   * {@link InvocationPipeline#validateAll(Class)}.
+   * </p>
+   *
+   * <p>
+   * Subcommands are loaded in a new {@link LayeredInvocationContext layer} over the given context,
+   * possibly by other threads, so the given context must not change once this method returns. Only
+   * the walk and prepare listener hooks fire for subcommands.
+   * </p>
+   */
   public final <T> RootCommand<T> scan(Class<T> clazz, InvocationContext context) {
     RootCommand<T> tree;
 
@@ -139,7 +192,8 @@ public class ScanStep extends InvocationPipelineStepBase {
   }
 
   private <T> RootCommand<T> doScan(Class<T> clazz, InvocationContext context) {
-    List<WalkedClass<? extends T>> walkedClasses = doWalkStep(clazz, context);
+    List<WalkedClass<? extends T>> walkedClasses =
+        doWalkStep(Optional.empty(), clazz, context);
 
     List<PreparedClass<? extends T>> preparedClasses = doPrepareStep(walkedClasses, context);
 
@@ -148,13 +202,30 @@ public class ScanStep extends InvocationPipelineStepBase {
     return tree;
   }
 
-  private <T> List<WalkedClass<? extends T>> doWalkStep(Class<T> clazz, InvocationContext context) {
+  /**
+   * Walks and prepares the given subcommand class, and builds its command. Runs in its own layer
+   * over the context of the scan that found the supercommand.
+   */
+  private <T> Command<? extends T> doScanSubcommand(SuperCommand<? super T> supercommand,
+      Class<T> clazz, InvocationContext context) {
+    List<WalkedClass<? extends T>> walkedClasses =
+        doWalkStep(Optional.of(supercommand), clazz, context);
+
+    List<PreparedClass<? extends T>> preparedClasses = doPrepareStep(walkedClasses, context);
+
+    RuleEvaluator evaluator = context.get(RULE_EVALUATOR_KEY).orElseThrow();
+
+    return toCommand(new RulesEngine(evaluator), preparedClasses.get(0), context);
+  }
+
+  private <T> List<WalkedClass<? extends T>> doWalkStep(
+      Optional<SuperCommand<? super T>> supercommand, Class<T> clazz, InvocationContext context) {
     SubCommandScanner scanner = context.get(SUB_COMMAND_SCANNER_KEY).orElseThrow();
 
     List<WalkedClass<? extends T>> walkedClasses;
     try {
       getListener(context).beforeScanStepWalk(clazz, context);
-      walkedClasses = walkStep(scanner, clazz, context);
+      walkedClasses = walkStep(scanner, supercommand, clazz, context);
       getListener(context).afterScanStepWalk(clazz, walkedClasses, context);
     } catch (Throwable t) {
       getListener(context).catchScanStepWalk(t, context);
@@ -165,124 +236,107 @@ public class ScanStep extends InvocationPipelineStepBase {
     return walkedClasses;
   }
 
+  /**
+   * Walks the given command class, which is a subcommand of the given supercommand, if any. Only
+   * walks the class itself. Its subcommands are walked separately, once they are used.
+   *
+   * @return the walked class, which is the only element of the list
+   */
   @SuppressWarnings({"unchecked", "rawtypes"})
-  protected <T> List<WalkedClass<? extends T>> walkStep(SubCommandScanner scanner, Class<T> clazz,
+  protected <T> List<WalkedClass<? extends T>> walkStep(SubCommandScanner scanner,
+      Optional<SuperCommand<? super T>> maybeSupercommand, Class<T> currentClazz,
       InvocationContext context) {
-    record WalkingClass<T>(Optional<SuperCommand<? super T>> supercommand, Class<T> clazz) {
+    SuperCommand<? super T> supercommand = maybeSupercommand.orElse(null);
+
+    // It's a hard requirement that all command classes have a @Configurable annotation. This is
+    // how we know that a class is a command class, and it's how we know what the discriminator
+    // is, plus various other metadata.
+    Configurable configurable = currentClazz.getAnnotation(Configurable.class);
+    if (configurable == null) {
+      throw new NotConfigurableScanException(currentClazz);
     }
 
-    List<WalkedClass<? extends T>> walkedClasses = new ArrayList<>();
-
-    Queue<WalkingClass<? extends T>> queue = new LinkedList<>();
-    queue.add(new WalkingClass<>(Optional.empty(), clazz));
-    do {
-      WalkingClass<? extends T> current = queue.poll();
-      SuperCommand<? super T> supercommand = (SuperCommand) current.supercommand().orElse(null);
-      Class<? extends T> currentClazz = (Class) current.clazz();
-
-      // It's a hard requirement that all command classes have a @Configurable annotation. This is
-      // how we know that a class is a command class, and it's how we know what the discriminator
-      // is, plus various other metadata.
-      Configurable configurable = currentClazz.getAnnotation(Configurable.class);
-      if (configurable == null) {
-        throw new NotConfigurableScanException(currentClazz);
+    // We need to validate some things about our command structure, depending on whether or not
+    // we have a supercommand.
+    if (supercommand != null) {
+      // This is an important test. We want to ensure that the superclazz is actually a superclass
+      // of the clazz to enforce that the result of a subcommand is assignable to the type of the
+      // supercommand. This is a useful invariant, but it also guarantees that there are no cycles
+      // in the inheritance graph.
+      if (!supercommand.clazz().isAssignableFrom(currentClazz)) {
+        throw new SubCommandDoesNotExtendSuperCommandScanException(supercommand.clazz(),
+            currentClazz);
       }
 
-      // We need to validate some things about our command structure, depending on whether or not
-      // we have a supercommand.
-      if (supercommand != null) {
-        // This is an important test. We want to ensure that the superclazz is actually a superclass
-        // of the clazz to enforce that the result of a subcommand is assignable to the type of the
-        // supercommand. This is a useful invariant, but it also guarantees that there are no cycles
-        // in the inheritance graph.
-        if (!supercommand.clazz().isAssignableFrom(currentClazz)) {
-          throw new SubCommandDoesNotExtendSuperCommandScanException(supercommand.clazz(),
-              currentClazz);
-        }
-
-        // If we have a supercommand, then we need to have a discriminator.
-        if (configurable.discriminator().isEmpty()) {
-          throw new NoDiscriminatorScanException(currentClazz);
-        }
-
-        // If we have a supercommand, then we need to ensure that the discriminator matches the
-        // discriminator of the supercommand.
-        Discriminator configurableDiscriminator;
-        try {
-          configurableDiscriminator = Discriminator.of(configurable.discriminator());
-        } catch (IllegalArgumentException e) {
-          throw new InvalidDiscriminatorScanException(currentClazz, configurable.discriminator());
-        }
-        if (!configurableDiscriminator.equals(supercommand.discriminator())) {
-          throw new DiscriminatorMismatchScanException(currentClazz, supercommand.discriminator(),
-              configurableDiscriminator);
-        }
-      } else {
-        // If we don't have a supercommand, then we should not have a discriminator.
-        if (!configurable.discriminator().isEmpty()) {
-          throw new UnexpectedDiscriminatorScanException(currentClazz);
-        }
+      // If we have a supercommand, then we need to have a discriminator.
+      if (configurable.discriminator().isEmpty()) {
+        throw new NoDiscriminatorScanException(currentClazz);
       }
 
-      List<Map.Entry<String, Class<? extends T>>> subcommands =
-          (List) scanner.scanForSubCommands(currentClazz).orElseGet(Collections::emptyList);
-
-      // A Command with SubCommands (i.e., a SuperCommand) has some special requirements. A Command
-      // with no SubCommands has some special requirements, too. Let's enforce them both here.
-      if (subcommands.isEmpty()) {
-        // This is a leaf command. Leaf commands must not be abstract.
-        if (Modifier.isAbstract(currentClazz.getModifiers())) {
-          throw new LeafCommandAbstractScanException(currentClazz);
-        }
-      } else {
-        // This is a super command. Super commands must be abstract.
-        if (!Modifier.isAbstract(currentClazz.getModifiers())) {
-          throw new SuperCommandNotAbstractScanException(currentClazz);
-        }
+      // If we have a supercommand, then we need to ensure that the discriminator matches the
+      // discriminator of the supercommand.
+      Discriminator configurableDiscriminator;
+      try {
+        configurableDiscriminator = Discriminator.of(configurable.discriminator());
+      } catch (IllegalArgumentException e) {
+        throw new InvalidDiscriminatorScanException(currentClazz, configurable.discriminator());
+      }
+      if (!configurableDiscriminator.equals(supercommand.discriminator())) {
+        throw new DiscriminatorMismatchScanException(currentClazz, supercommand.discriminator(),
+            configurableDiscriminator);
+      }
+    } else {
+      // If we don't have a supercommand, then we should not have a discriminator.
+      if (!configurable.discriminator().isEmpty()) {
+        throw new UnexpectedDiscriminatorScanException(currentClazz);
       }
+    }
 
-      walkedClasses
-          .add(new WalkedClass(Optional.ofNullable(supercommand), currentClazz, configurable));
-
-      for (Map.Entry<String, Class<? extends T>> e : subcommands) {
-        // This is a little ticklish. Depending on the subcommand scanner(s) in use, the
-        // discriminator might come from the class itself, or it might come from the subcommand. We
-        // do our best providing a pointer to the offending discriminator.
-        Discriminator expectedDiscriminator;
-        try {
-          expectedDiscriminator = Discriminator.of(e.getKey());
-        } catch (IllegalArgumentException x) {
-          throw new InvalidDiscriminatorScanException(currentClazz, e.getKey());
-        }
+    List<Map.Entry<String, Class<? extends T>>> subcommands =
+        (List) scanner.scanForSubCommands(currentClazz).orElseGet(Collections::emptyList);
 
-        Class<? extends T> subcommand = e.getValue();
+    // A Command with SubCommands (i.e., a SuperCommand) has some special requirements. A Command
+    // with no SubCommands has some special requirements, too. Let's enforce them both here.
+    if (subcommands.isEmpty()) {
+      // This is a leaf command. Leaf commands must not be abstract.
+      if (Modifier.isAbstract(currentClazz.getModifiers())) {
+        throw new LeafCommandAbstractScanException(currentClazz);
+      }
+    } else {
+      // This is a super command. Super commands must be abstract.
+      if (!Modifier.isAbstract(currentClazz.getModifiers())) {
+        throw new SuperCommandNotAbstractScanException(currentClazz);
+      }
+    }
 
-        queue.add(new WalkingClass(
-            Optional.of(new SuperCommand<>(currentClazz, expectedDiscriminator)), subcommand));
+    List<Discriminator> discriminators = new ArrayList<>(subcommands.size());
+    Map<Discriminator, Class<? extends T>> subcommandClasses = new LinkedHashMap<>();
+    for (Map.Entry<String, Class<? extends T>> e : subcommands) {
+      // This is a little ticklish. Depending on the subcommand scanner(s) in use, the
+      // discriminator might come from the class itself, or it might come from the subcommand. We
+      // do our best providing a pointer to the offending discriminator.
+      Discriminator expectedDiscriminator;
+      try {
+        expectedDiscriminator = Discriminator.of(e.getKey());
+      } catch (IllegalArgumentException x) {
+        throw new InvalidDiscriminatorScanException(currentClazz, e.getKey());
       }
-    } while (!queue.isEmpty());
 
-    // For each class, we need to ensure that there are no duplicate discriminators. This is a
-    // requirement for the command hierarchy to be well-defined. It's fine if two different
-    // supercommands have subcommands with the same distriminator. It's not fine if one supercommand
-    // has two subcommands with the same discriminator.
-    for (WalkedClass<? extends T> walkedClass : walkedClasses) {
-      // Let's look for all subcommands of this class.
-      final Class<?> superclazz = walkedClass.clazz();
-
-      // Here are the subcommands of this class.
-      List<WalkedClass<?>> subcommands =
-          (List) walkedClasses.stream().filter(wc -> wc.supercommand().isPresent())
-              .filter(wc -> wc.supercommand().orElseThrow().clazz() == superclazz).toList();
-
-      // Are there any duplicate discriminators?
-      subcommands.stream().map(sc -> sc.supercommand().orElseThrow().discriminator())
-          .collect(duplicates()).ifPresent(duplicateDiscriminators -> {
-            throw new DuplicateDiscriminatorsScanException(superclazz, duplicateDiscriminators);
-          });
+      discriminators.add(expectedDiscriminator);
+      subcommandClasses.putIfAbsent(expectedDiscriminator, e.getValue());
     }
 
-    return walkedClasses;
+    // We need to ensure that there are no duplicate discriminators. This is a requirement for the
+    // command hierarchy to be well-defined. It's fine if two different supercommands have
+    // subcommands with the same distriminator. It's not fine if one supercommand has two
+    // subcommands with the same discriminator. Each subcommand must use the discriminator its
+    // supercommand gives it, so we can check here, without looking at the subcommands themselves.
+    discriminators.stream().collect(duplicates()).ifPresent(duplicateDiscriminators -> {
+      throw new DuplicateDiscriminatorsScanException(currentClazz, duplicateDiscriminators);
+    });
+
+    return List.of(new WalkedClass(maybeSupercommand, currentClazz, configurable,
+        unmodifiableMap(subcommandClasses)));
   }
 
   private <T> List<PreparedClass<? extends T>> doPrepareStep(
@@ -318,9 +372,10 @@ public class ScanStep extends InvocationPipelineStepBase {
       InvocationContext context) {
     List<PreparedClass<? extends T>> preparedClasses = new ArrayList<>(walkedClasses.size());
 
+    final boolean defaultScan = isDefaultScan(context);
+
     for (WalkedClass<? extends T> walkedClass : walkedClasses) {
-      boolean hasSubcommands = walkedClasses.stream().flatMap(wc -> wc.supercommand().stream())
-          .anyMatch(sc -> sc.clazz().equals(walkedClass.clazz()));
+      boolean hasSubcommands = !walkedClass.subcommands().isEmpty();
 
       CommandBody body;
       if (hasSubcommands) {
@@ -335,9 +390,15 @@ public class ScanStep extends InvocationPipelineStepBase {
         // SYNTAX /////////////////////////////////////////////////////////////////////////////////
         ///////////////////////////////////////////////////////////////////////////////////////////
 
+        // If the pipeline scans the way the default modules do, and the annotation processor
+        // generated a model of this class, then the model tells us its syntax and rules, and we
+        // don't have to reflect over the whole class to find them.
+        CommandModel model = defaultScan ? findCommandModel(clazz).orElse(null) : null;
+
         // Nominate all our candidate syntax. That is, we want to identify all the various and
         // sundry class members that might be syntax-bearing.
-        List<CandidateSyntax> candidateSyntax = syntaxNominator.nominateSyntax(clazz, context);
+        List<CandidateSyntax> candidateSyntax = model != null ? model.nominateSyntax(clazz)
+            : syntaxNominator.nominateSyntax(clazz, context);
 
         // Let's deduplicate our candidates at the record level. We don't want to process
         // duplicates. In theory, it's an error if our syntax nominators nominate the same thing
@@ -401,67 +462,75 @@ public class ScanStep extends InvocationPipelineStepBase {
         // RULES //////////////////////////////////////////////////////////////////////////////////
         ///////////////////////////////////////////////////////////////////////////////////////////
 
-        // Nominate all our candidate rules. That is, we want to identify all the various and
-        // sundry class members that might be rules.
-        List<CandidateRule> candidateRules = ruleNominator.nominateRules(clazz, syntax, context);
-
-        // Let's deduplicate our candidates at the record level. We don't want to process
-        // duplicates. In theory, it's an error if our syntax nominators nominate the same thing
-        // twice, but if we can just remove duplicates and carry on with our lives, then we should.
-        if (new HashSet<>(candidateRules).size() != candidateRules.size()) {
-          // Welp, we have duplicates. Remove them, preserving order, and log an error.
-          if (LOGGER.isDebugEnabled())
-            LOGGER.debug("Ignoring exact duplicates for rule nominees {}",
-                Streams.duplicates(candidateRules.stream()).map(CandidateRule::nominated)
-                    .collect(toSet()));
-          candidateRules = candidateRules.stream().distinct().toList();
-        }
-
-        // If we still have duplicates at the nominee level after removing duplicates at the record
-        // level, then we have a problem.
-        candidateRules.stream().map(CandidateRule::nominated).collect(duplicates())
-            .ifPresent(duplicateRuleNominees -> {
-              throw new DuplicateRuleNomineesScanException(clazz, duplicateRuleNominees);
-            });
+        List<NamedRule> rules;
+        if (model != null) {
+          // The model's rules are the evaluated rules of the best reaction, and the annotation
+          // processor already checked them the same way we check them below.
+          rules = model.rules(clazz);
+        } else {
+          // Nominate all our candidate rules. That is, we want to identify all the various and
+          // sundry class members that might be rules.
+          List<CandidateRule> candidateRules = ruleNominator.nominateRules(clazz, syntax, context);
+
+          // Let's deduplicate our candidates at the record level. We don't want to process
+          // duplicates. In theory, it's an error if our syntax nominators nominate the same
+          // thing twice, but if we can just remove duplicates and carry on with our lives, then
+          // we should.
+          if (new HashSet<>(candidateRules).size() != candidateRules.size()) {
+            // Welp, we have duplicates. Remove them, preserving order, and log an error.
+            if (LOGGER.isDebugEnabled())
+              LOGGER.debug("Ignoring exact duplicates for rule nominees {}",
+                  Streams.duplicates(candidateRules.stream()).map(CandidateRule::nominated)
+                      .collect(toSet()));
+            candidateRules = candidateRules.stream().distinct().toList();
+          }
 
-        // Detect all the rules. That is, we want to identify all the rule-bearing class members
-        // from among the candidates that are actually rules.
-        List<DetectedRule> detectedRules = new ArrayList<>();
-        for (CandidateRule cri : candidateRules) {
-          Maybe<RuleDetection> maybeRuleDetection =
-              ruleDetector.detectRule(clazz, syntax, cri, context);
-          if (maybeRuleDetection.isYes()) {
-            detectedRules
-                .add(DetectedRule.fromCandidateAndDetection(cri, maybeRuleDetection.orElseThrow()));
-          } else {
-            // This is fine. Not every candidate is actually a rule.
+          // If we still have duplicates at the nominee level after removing duplicates at the
+          // record level, then we have a problem.
+          candidateRules.stream().map(CandidateRule::nominated).collect(duplicates())
+              .ifPresent(duplicateRuleNominees -> {
+                throw new DuplicateRuleNomineesScanException(clazz, duplicateRuleNominees);
+              });
+
+          // Detect all the rules. That is, we want to identify all the rule-bearing class members
+          // from among the candidates that are actually rules.
+          List<DetectedRule> detectedRules = new ArrayList<>();
+          for (CandidateRule cri : candidateRules) {
+            Maybe<RuleDetection> maybeRuleDetection =
+                ruleDetector.detectRule(clazz, syntax, cri, context);
+            if (maybeRuleDetection.isYes()) {
+              detectedRules.add(
+                  DetectedRule.fromCandidateAndDetection(cri, maybeRuleDetection.orElseThrow()));
+            } else {
+              // This is fine. Not every candidate is actually a rule.
+            }
           }
-        }
 
-        // Now that we have all our rules, let's name them.
-        List<NamedRule> rules = new ArrayList<>();
-        for (DetectedRule dri : detectedRules) {
-          if (dri.hasConsequent()) {
-            // We only name consequents. Antecedents come named. So we only need to name the
-            // rule if it has a consequent.
-            Maybe<String> maybeName = naming.name(dri.nominated());
-            if (maybeName.isYes()) {
-              rules.add(new NamedRule(dri.humanReadableName(), dri.nominated(), dri.genericType(),
-                  dri.annotations(), dri.antecedents(), dri.conditions(),
-                  Optional.of(maybeName.orElseThrow())));
-            } else if (maybeName.isNo()) {
-              // It's hard to think of a situation where a rule would be rejected at the naming
-              // stage, but if it happens, we should log it and carry on.
-              if (LOGGER.isDebugEnabled())
-                LOGGER.debug("Ignoring rule nominee {} due to naming rejection", dri.nominated());
+          // Now that we have all our rules, let's name them.
+          rules = new ArrayList<>();
+          for (DetectedRule dri : detectedRules) {
+            if (dri.hasConsequent()) {
+              // We only name consequents. Antecedents come named. So we only need to name the
+              // rule if it has a consequent.
+              Maybe<String> maybeName = naming.name(dri.nominated());
+              if (maybeName.isYes()) {
+                rules.add(new NamedRule(dri.humanReadableName(), dri.nominated(), dri.genericType(),
+                    dri.annotations(), dri.antecedents(), dri.conditions(),
+                    Optional.of(maybeName.orElseThrow())));
+              } else if (maybeName.isNo()) {
+                // It's hard to think of a situation where a rule would be rejected at the naming
+                // stage, but if it happens, we should log it and carry on.
+                if (LOGGER.isDebugEnabled())
+                  LOGGER.debug("Ignoring rule nominee {} due to naming rejection", dri.nominated());
+              } else {
+                // This is not OK. Everything has to be named.
+                throw new UnnamedRuleConsequentScanException(clazz, dri.nominated());
+              }
             } else {
-              // This is not OK. Everything has to be named.
-              throw new UnnamedRuleConsequentScanException(clazz, dri.nominated());
+              // No consequent, no name.
+              rules.add(new NamedRule(dri.humanReadableName(), dri.nominated(), dri.genericType(),
+                  dri.annotations(), dri.antecedents(), dri.conditions(), Optional.empty()));
             }
-          } else {
-            // No consequent, no name.
-            rules.add(new NamedRule(dri.humanReadableName(), dri.nominated(), dri.genericType(),
-                dri.annotations(), dri.antecedents(), dri.conditions(), Optional.empty()));
           }
         }
 
@@ -509,116 +578,16 @@ public class ScanStep extends InvocationPipelineStepBase {
               namedSyntax.annotations()));
         }
 
-        // TODO Should we defer validation of the rules until later? Developers may customize after.
-        // Do we have a clear winner for evaluation and construction?
-        Set<String> allPropertyNames = new HashSet<>();
-        for (LeafCommandProperty property : properties)
-          allPropertyNames.add(property.getName());
-
-        // We sort by the highest number of consumed properties first, then by the lowest number of
-        // evaluated rules. Give me the most bang (side effects) for the least buck (work).
-        List<MoreRules.Reaction> reactions = MoreRules.react(rules, allPropertyNames).stream()
-            .sorted(Comparator.<MoreRules.Reaction>comparingInt(ri -> -ri.consumed().size())
-                .thenComparingInt(ri -> ri.evaluated().size()))
-            .toList();
-        if (reactions.isEmpty()) {
-          // I'm not even sure how this would happen. A class with no fields and no default
-          // constructor? We should catch that earlier. But better safe...
-          throw new InternalDiscourseException("Failed to test rules");
-        }
-        boolean alternativeReactionExists = false;
-        MoreRules.Reaction bestReaction = reactions.get(0);
-        for (int i = 1; i < reactions.size(); i++) {
-          MoreRules.Reaction ri = reactions.get(i);
-          if (!bestReaction.consumed().containsAll(ri.consumed())) {
-            // Oops. Different sets of rules do different work. That's not good.
-            throw new DivergentRulesScanException(clazz,
-                MoreSets.difference(ri.consumed(), bestReaction.consumed()));
-          }
-          if (ri.consumed().size() == bestReaction.consumed().size()
-              && ri.evaluated().size() == bestReaction.evaluated().size()) {
-            alternativeReactionExists = true;
-          }
-        }
-        if (!bestReaction.consumed().containsAll(allPropertyNames)) {
-          // Oops. Not all properties are consumed. That's not good.
-          throw new InsufficientRulesScanException(clazz, allPropertyNames,
-              MoreSets.difference(allPropertyNames, bestReaction.consumed()));
-        }
-        if (alternativeReactionExists) {
-          // Oops. There are multiple ways to evaluate and construct the command. That's not good.
-          if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug(
-                "There is no best way to evaluate and construct the command, so process may not be deterministic.");
-          }
-        }
-
-        // What about required properties?
-        Set<String> guaranteedPropertyNames = new HashSet<>();
-        for (LeafCommandProperty property : properties)
-          if (property.isGuaranted())
-            guaranteedPropertyNames.add(property.getName());
-
-        // If we have just the required syntax, then can we create everything?
-        List<MoreRules.Reaction> guaranteedReactions =
-            MoreRules.react(rules, guaranteedPropertyNames).stream()
-                .sorted(Comparator.<MoreRules.Reaction>comparingInt(ri -> -ri.consumed().size())
-                    .thenComparingInt(ri -> ri.evaluated().size()))
-                .toList();
-        if (guaranteedReactions.isEmpty()) {
-          // Is this even possible?
-          throw new InternalDiscourseException("Failed to test guaranteed rules");
-        }
-        MoreRules.Reaction bestGuaranteedReaction = guaranteedReactions.get(0);
-
-        // TODO instance constant
-        // Set<String> requiredPropertyNames = new HashSet<>(guaranteedPropertyNames);
-        // requiredPropertyNames.add("");
-
-        // If we have just the required syntax, then can we create all the required fields?
-        if (!bestGuaranteedReaction.consumed().containsAll(guaranteedPropertyNames)) {
-          // Oops. Not all required properties are consumed. That's not good.
-          throw new InsufficientRulesScanException(clazz, guaranteedPropertyNames,
-              MoreSets.difference(guaranteedPropertyNames, bestGuaranteedReaction.consumed()));
-        }
-        if (!bestGuaranteedReaction.produced().contains("")) {
-          // Welp, we didn't create our instance. That's bad.
-          // TODO We could be clearer in how we "phrase" <instance> here
-          throw new InsufficientRulesScanException(clazz, guaranteedPropertyNames,
-              Set.of("<instance>"));
-        }
-
-        // What about all the other property names? If we have the guaranteed property names PLUS
-        // one other, then can we assign the other?
-        for (String propertyName : allPropertyNames) {
-          if (guaranteedPropertyNames.contains(propertyName))
-            continue;
-
-          Set<String> availableNames = new HashSet<>(guaranteedPropertyNames);
-          availableNames.add(propertyName);
-
-          MoreRules.Reaction reaction = MoreRules.react(rules, availableNames).stream()
-              .sorted(Comparator.<MoreRules.Reaction>comparingInt(ri -> -ri.consumed().size())
-                  .thenComparingInt(ri -> ri.evaluated().size()))
-              .findFirst().orElseThrow(() -> new AssertionError("Failed to test guaranteed rules"));
-
-          if (!reaction.consumed().containsAll(availableNames)) {
-            // Oops. Not all required properties are consumed. That's not good.
-            throw new InsufficientRulesScanException(clazz, availableNames,
-                MoreSets.difference(availableNames, reaction.consumed()));
-          }
-          if (!reaction.produced().contains("")) {
-            // Welp, we didn't create our instance. That's bad.
-            throw new InsufficientRulesScanException(clazz, availableNames, Set.of("<instance>"));
-          }
-        }
+        // If we have a model, then the annotation processor already analyzed its rules.
+        List<NamedRule> evaluatedRules =
+            model != null ? rules : analyzeRules(clazz, properties, rules);
 
         // We have a clear winner for evaluation and construction. Let's build our body.
-        body = new CommandBody(properties, bestReaction.evaluated());
+        body = new CommandBody(properties, evaluatedRules);
       }
 
       preparedClasses.add(new PreparedClass(walkedClass.supercommand(), walkedClass.clazz(),
-          walkedClass.configurable(), Optional.ofNullable(body)));
+          walkedClass.configurable(), walkedClass.subcommands(), Optional.ofNullable(body)));
     }
 
     // Make sure our prepared classes have unique coordinates
@@ -641,6 +610,169 @@ public class ScanStep extends InvocationPipelineStepBase {
     return preparedClasses;
   }
 
+  /**
+   * Checks that the given rules can create an instance of the given command class and assign all
+   * of its properties, whichever properties are given, and returns the rules to evaluate, in order.
+   * The annotation processor runs the same checks at compile time.
+   */
+  private List<NamedRule> analyzeRules(Class<?> clazz, List<LeafCommandProperty> properties,
+      List<NamedRule> rules) {
+    // TODO Should we defer validation of the rules until later? Developers may customize after.
+    // Do we have a clear winner for evaluation and construction?
+    Set<String> allPropertyNames = new HashSet<>();
+    for (LeafCommandProperty property : properties)
+      allPropertyNames.add(property.getName());
+
+    // The analyzer finds the reaction with the highest number of consumed properties first,
+    // then the lowest number of evaluated rules. Give me the most bang (side effects) for the
+    // least buck (work).
+    MoreRules.Analyzer analyzer = MoreRules.analyzer(rules);
+    MoreRules.Analyzer.Analysis analysis = analyzer.analyze(allPropertyNames);
+    if (!analysis.divergent().isEmpty()) {
+      // Oops. Different sets of rules do different work. That's not good.
+      throw new DivergentRulesScanException(clazz, analysis.divergent());
+    }
+    MoreRules.Reaction bestReaction = analysis.best();
+    if (!bestReaction.consumed().containsAll(allPropertyNames)) {
+      // Oops. Not all properties are consumed. That's not good.
+      throw new InsufficientRulesScanException(clazz, allPropertyNames,
+          MoreSets.difference(allPropertyNames, bestReaction.consumed()));
+    }
+    if (analysis.ambiguous()) {
+      // Oops. There are multiple ways to evaluate and construct the command. That's not good.
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug(
+            "There is no best way to evaluate and construct the command, so process may not be deterministic.");
+      }
+    }
+
+    // What about required properties?
+    Set<String> guaranteedPropertyNames = new HashSet<>();
+    for (LeafCommandProperty property : properties)
+      if (property.isGuaranted())
+        guaranteedPropertyNames.add(property.getName());
+
+    // If we have just the required syntax, then can we create everything?
+    MoreRules.Reaction bestGuaranteedReaction =
+        analyzer.analyze(guaranteedPropertyNames).best();
+
+    // Set<String> requiredPropertyNames = new HashSet<>(guaranteedPropertyNames);
+    // requiredPropertyNames.add(MoreRules.INSTANCE_PROPERTY_NAME);
+
+    // If we have just the required syntax, then can we create all the required fields?
+    if (!bestGuaranteedReaction.consumed().containsAll(guaranteedPropertyNames)) {
+      // Oops. Not all required properties are consumed. That's not good.
+      throw new InsufficientRulesScanException(clazz, guaranteedPropertyNames,
+          MoreSets.difference(guaranteedPropertyNames, bestGuaranteedReaction.consumed()));
+    }
+    if (!bestGuaranteedReaction.produced().contains(MoreRules.INSTANCE_PROPERTY_NAME)) {
+      // Welp, we didn't create our instance. That's bad.
+      // TODO We could be clearer in how we "phrase" <instance> here
+      throw new InsufficientRulesScanException(clazz, guaranteedPropertyNames,
+          Set.of("<instance>"));
+    }
+
+    // What about all the other property names? If we have the guaranteed property names PLUS
+    // one other, then can we assign the other?
+    for (String propertyName : allPropertyNames) {
+      if (guaranteedPropertyNames.contains(propertyName))
+        continue;
+
+      Set<String> availableNames = new HashSet<>(guaranteedPropertyNames);
+      availableNames.add(propertyName);
+
+      MoreRules.Analyzer.Analysis reaction = analyzer.analyze(availableNames);
+
+      if (!reaction.consumesAll(availableNames)) {
+        // Oops. Not all required properties are consumed. That's not good.
+        throw new InsufficientRulesScanException(clazz, availableNames,
+            MoreSets.difference(availableNames, reaction.best().consumed()));
+      }
+      if (!reaction.produces(MoreRules.INSTANCE_PROPERTY_NAME)) {
+        // Welp, we didn't create our instance. That's bad.
+        throw new InsufficientRulesScanException(clazz, availableNames, Set.of("<instance>"));
+      }
+    }
+
+    return bestReaction.evaluated();
+  }
+
+  /**
+   * Returns {@code true} if the given context scans command classes the way the default modules
+   * do, i.e., if a {@link CommandModel command model} generated for the default modules describes
+   * what a scan with this context would find.
+   */
+  protected boolean isDefaultScan(InvocationContext context) {
+    return getCommandModelSignature(context).equals(DefaultCommandModelSignature.INSTANCE);
+  }
+
+  /**
+   * Describes the values of the given context that decide what a scan finds by their classes,
+   * i.e., the class of each value, followed by the classes of its elements if it is a chain. Two
+   * contexts with the same signature scan every command class the same way.
+   */
+  private static List<List<Class<?>>> getCommandModelSignature(InvocationContext context) {
+    List<List<Class<?>>> result = new ArrayList<>(COMMAND_MODEL_KEYS.size());
+    for (InvocationContext.Key<?> key : COMMAND_MODEL_KEYS) {
+      Object value = context.get(key).orElse(null);
+
+      List<Class<?>> classes = new ArrayList<>();
+      if (value != null) {
+        classes.add(value.getClass());
+        if (value instanceof Chain<?> chain)
+          for (Object element : chain)
+            classes.add(element.getClass());
+      }
+
+      result.add(classes);
+    }
+    return result;
+  }
+
+  /**
+   * Finds the {@link CommandModel command model} the annotation processor generated for the given
+   * command class, if any, and if it is not out of date.
+   */
+  protected Optional<CommandModel> findCommandModel(Class<?> clazz) {
+    Class<?> modelClass;
+    try {
+      modelClass = Class.forName(CommandModel.getModelClassName(clazz.getName()), true,
+          clazz.getClassLoader());
+    } catch (ClassNotFoundException e) {
+      // This is fine. The class was not compiled with the annotation processor.
+      return Optional.empty();
+    }
+
+    if (!CommandModel.class.isAssignableFrom(modelClass))
+      return Optional.empty();
+
+    CommandModel model;
+    try {
+      model = (CommandModel) modelClass.getConstructor().newInstance();
+    } catch (ReflectiveOperationException e) {
+      if (LOGGER.isDebugEnabled())
+        LOGGER.debug("Ignoring command model {} for {}", modelClass.getName(), clazz.getName(), e);
+      return Optional.empty();
+    }
+
+    // Two command classes can have the same model class name, e.g., Foo$Bar and Foo_Bar. Only use
+    // the model if it's for this class.
+    if (!model.getCommandClassName().equals(clazz.getName()))
+      return Optional.empty();
+
+    // The command class may have changed since the model was generated, e.g., if it was recompiled
+    // without the annotation processor. A stale model would silently drop new properties, so only
+    // use the model if it still describes the class.
+    if (!model.getFingerprint().equals(CommandModelFingerprint.of(clazz))) {
+      if (LOGGER.isDebugEnabled())
+        LOGGER.debug("Ignoring out-of-date command model {} for {}", modelClass.getName(),
+            clazz.getName());
+      return Optional.empty();
+    }
+
+    return Optional.of(model);
+  }
+
   private <T> RootCommand<T> doTreeStep(List<PreparedClass<? extends T>> preparedClasses,
       InvocationContext context) {
     RuleEvaluator evaluator = context.get(RULE_EVALUATOR_KEY).orElseThrow();
@@ -662,123 +794,77 @@ public class ScanStep extends InvocationPipelineStepBase {
     return root;
   }
 
+  /**
+   * Builds the command tree from the given prepared classes, which contain exactly one root
+   * command. The subcommands of the root command are loaded the first time they are used.
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
   protected <T> RootCommand<T> treeStep(RulesEngine reactor,
       List<PreparedClass<? extends T>> preparedClasses, InvocationContext context) {
-    // We need to visit our classes in dependency order. That is, we want to process a node only
-    // after all of its dependencies have been processed. (So, leaves first, root last.) We will
-    // need a dependency graph to compute that, so let's build it here.
-    Map<Class<?>, Set<Class<?>>> shallowDependencies = new HashMap<>();
-    for (PreparedClass<? extends T> bodiedClass : preparedClasses) {
-      shallowDependencies.put(bodiedClass.clazz(), new HashSet<>());
-    }
-    for (PreparedClass<? extends T> bodiedClass : preparedClasses) {
-      if (bodiedClass.supercommand().isPresent()) {
-        SuperCommand<?> supercommand = bodiedClass.supercommand().get();
-        shallowDependencies.get(supercommand.clazz()).add(bodiedClass.clazz());
-      }
-    }
-
-    // Now compute the topological ordering of our graph. In other words, we want to sort our
-    // classes in dependency order. We want to process a node only after all of its dependencies
-    // have been processed. So leaves first, root last.
-    List<Class<?>> sortedClasses = new ArrayList<>(shallowDependencies.keySet());
-    sortedClasses.sort(Graphs.topologicalOrdering(shallowDependencies));
-
-
-    // Let's gather our discriminators
-    Map<Class<?>, Discriminator> discriminators = new HashMap<>();
-    for (PreparedClass<? extends T> bodiedClass : preparedClasses) {
-      if (bodiedClass.supercommand().isPresent()) {
-        discriminators.put(bodiedClass.clazz(), bodiedClass.supercommand().get().discriminator());
-      }
+    List<PreparedClass<? extends T>> roots =
+        preparedClasses.stream().filter(pc -> pc.supercommand().isEmpty()).toList();
+    if (roots.size() != 1) {
+      throw new AssertionError("expected exactly one root command, got " + roots);
     }
 
-    // Now let's create our nodes in the order we just sorted them. This will ensure that we
-    // process a node only after all of its dependencies have been processed.
-    List<RootCommand<?>> roots = new ArrayList<>();
-    Map<Class<?>, Command<?>> subcommands = new HashMap<>();
-    for (PreparedClass<? extends T> preparedClass : preparedClasses) {
-      Class<?> clazz = preparedClass.clazz();
+    PreparedClass<? extends T> root = roots.get(0);
 
-      Set<Class<?>> deps = shallowDependencies.get(clazz);
-      if (deps == null) {
-        throw new AssertionError("no dependencies for " + clazz);
-      }
-
-      Map<Discriminator, Command<?>> subs = new HashMap<>();
-      for (Class<?> dep : deps) {
-        Command<?> sub = subcommands.get(dep);
-        if (sub == null) {
-          throw new AssertionError("no subcommand for " + dep);
-        }
-
-        Discriminator discriminator = discriminators.get(dep);
-        if (discriminator == null) {
-          throw new AssertionError("no discriminator for " + dep);
-        }
-
-        subs.put(discriminator, sub);
-      }
-
-      String description;
-      DiscourseDescription descriptionAnnotation =
-          preparedClass.clazz().getAnnotation(DiscourseDescription.class);
-      if (descriptionAnnotation != null) {
-        description = descriptionAnnotation.value();
-      } else {
-        description = null;
-      }
-
-      // TODO should command be generic?
-      Command<?> command;
-      if (subs.isEmpty()) {
-        CommandBody body = preparedClass.body().orElseThrow(() -> {
-          throw new LeafCommandMissingBodyScanException(preparedClass.clazz());
-        });
-        // We want the leaf command to be immutable by default. If anyone wants to make it mutable
-        // down the line, they can always make a copy.
-        List<LeafCommandProperty> immutablePropertiesCopy = List.copyOf(body.getProperties());
-        command = new LeafCommand<>(description, immutablePropertiesCopy,
-            toReactor(reactor, body.getRules()), toConstructor(preparedClass.clazz()));
-      } else {
-        command = new com.sigpwned.discourse.core.command.tree.SuperCommand(description, subs);
-      }
-
-      if (preparedClass.supercommand().isPresent()) {
-        // This is a subcommand
-        Discriminator discriminator = discriminators.get(clazz);
-        if (discriminator == null) {
-          throw new AssertionError("no discriminator for " + clazz);
-        }
+    return new RootCommand(root.configurable().name(), root.configurable().version(),
+        toCommand(reactor, root, context));
+  }
 
-        subcommands.put(clazz, command);
-      } else {
-        // This is a root command
-        roots.add(new RootCommand(preparedClass.configurable().name(),
-            preparedClass.configurable().version(), command));
-      }
+  private <T> Command<T> toCommand(RulesEngine reactor, PreparedClass<T> preparedClass,
+      InvocationContext context) {
+    String description;
+    DiscourseDescription descriptionAnnotation =
+        preparedClass.clazz().getAnnotation(DiscourseDescription.class);
+    if (descriptionAnnotation != null) {
+      description = descriptionAnnotation.value();
+    } else {
+      description = null;
     }
 
-    if (roots.size() != 1) {
-      throw new AssertionError("expected exactly one root command, got " + roots);
+    if (preparedClass.subcommands().isEmpty()) {
+      CommandBody body = preparedClass.body().orElseThrow(() -> {
+        throw new LeafCommandMissingBodyScanException(preparedClass.clazz());
+      });
+      // We want the leaf command to be immutable by default. If anyone wants to make it mutable
+      // down the line, they can always make a copy.
+      List<LeafCommandProperty> immutablePropertiesCopy = List.copyOf(body.getProperties());
+      return toLeafCommand(preparedClass.clazz(), description, immutablePropertiesCopy,
+          toReactor(reactor, body.getRules()));
     }
 
-    return (RootCommand<T>) roots.get(0);
+    // SuperCommand looks up its subcommands by the raw discriminator text
+    final Map<String, SuperCommand<T>> supercommands = new LinkedHashMap<>();
+    for (Discriminator discriminator : preparedClass.subcommands().keySet())
+      supercommands.put(discriminator.toString(),
+          new SuperCommand<>(preparedClass.clazz(), discriminator));
+
+    return new com.sigpwned.discourse.core.command.tree.SuperCommand<>(description,
+        supercommands.keySet(), discriminator -> {
+          SuperCommand<T> supercommand = supercommands.get(discriminator);
+          return doScanSubcommand(supercommand,
+              preparedClass.subcommands().get(supercommand.discriminator()),
+              new LayeredInvocationContext(context));
+        });
   }
 
   private Consumer<Map<String, Object>> toReactor(RulesEngine reactor, List<NamedRule> rules) {
-    return arguments -> {
-      // TODO instance constant
-      Map<String, Object> reacted = reactor.run(arguments, rules);
-      arguments.clear();
-      arguments.putAll(reacted);
-    };
+    // Compile the rules once, here, instead of working out their order every time the command is
+    // invoked. The rules are the evaluated rules of the best reaction, so they're in order.
+    final RulesEngine.CompiledRules compiled = reactor.compile(rules);
+    return compiled::apply;
+  }
+
+  private <T> LeafCommand<T> toLeafCommand(Class<T> clazz, String description,
+      List<LeafCommandProperty> properties, Consumer<Map<String, Object>> reactor) {
+    return new LeafCommand<>(clazz, description, properties, reactor, toConstructor(clazz));
   }
 
   private <T> Function<Map<String, Object>, T> toConstructor(Class<T> clazz) {
     return arguments -> {
-      // TODO instance constant
-      Object instance = arguments.get("");
+      Object instance = arguments.get(MoreRules.INSTANCE_PROPERTY_NAME);
       return clazz.cast(instance);
     };
   }
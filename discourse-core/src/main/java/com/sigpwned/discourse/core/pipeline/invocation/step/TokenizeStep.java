@@ -45,18 +45,19 @@ public class TokenizeStep extends InvocationPipelineStepBase {
   }
 
   protected List<Token> doTokenize(Dialect dialect, List<String> args) {
-    List<Token> result = new ArrayList<>();
+    // Most arguments produce exactly one token, so this is usually the right size
+    List<Token> result = new ArrayList<>(args.size());
 
     ArgTokenizer tokenizer = dialect.newTokenizer();
     for (String arg : args) {
-      result.addAll(tokenizer.tokenize(arg).orElseThrow(() -> {
+      if (!tokenizer.tokenizeInto(arg, result)) {
         // This is ticklish. This could be considered invalid user input, which would obviously be a
         // user error, or it could be considered missing required syntax support, which would be
         // an application error. We'll treat it as a user error for now, since this is one of the
         // few parts of the application that actually deals with user input directly, but we might
         // need to revisit this later.
-        return new InvalidSyntaxParseException(arg);
-      }));
+        throw new InvalidSyntaxParseException(arg);
+      }
     }
 
     return unmodifiableList(result);
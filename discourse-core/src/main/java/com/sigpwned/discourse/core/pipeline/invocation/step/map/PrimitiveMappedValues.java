@@ -0,0 +1,111 @@
+package com.sigpwned.discourse.core.pipeline.invocation.step.map;
+
+import static java.util.Objects.requireNonNull;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+import com.sigpwned.discourse.core.pipeline.invocation.step.MapStep;
+
+/**
+ * <p>
+ * The mapped values of one property, stored as an array of primitives. The {@link MapStep Map step}
+ * produces these for properties with a {@link PrimitiveMapper}, and the Reduce step hands the
+ * values to a primitive {@link com.sigpwned.discourse.core.module.core.plan.value.sink.ValueSink
+ * sink} without boxing them.
+ * </p>
+ *
+ * <p>
+ * To everyone else, these are ordinary unmodifiable lists. Listeners that look at the mapped
+ * arguments see boxed values, which {@link #get(int)} creates on demand.
+ * </p>
+ */
+public abstract class PrimitiveMappedValues extends AbstractList<Object> implements RandomAccess {
+  private PrimitiveMappedValues() {}
+
+  public static final class OfInt extends PrimitiveMappedValues {
+    private final int[] values;
+
+    public OfInt(int[] values) {
+      this.values = requireNonNull(values);
+    }
+
+    public int getInt(int index) {
+      return values[index];
+    }
+
+    @Override
+    public Integer get(int index) {
+      return values[index];
+    }
+
+    @Override
+    public int size() {
+      return values.length;
+    }
+  }
+
+  public static final class OfLong extends PrimitiveMappedValues {
+    private final long[] values;
+
+    public OfLong(long[] values) {
+      this.values = requireNonNull(values);
+    }
+
+    public long getLong(int index) {
+      return values[index];
+    }
+
+    @Override
+    public Long get(int index) {
+      return values[index];
+    }
+
+    @Override
+    public int size() {
+      return values.length;
+    }
+  }
+
+  public static final class OfDouble extends PrimitiveMappedValues {
+    private final double[] values;
+
+    public OfDouble(double[] values) {
+      this.values = requireNonNull(values);
+    }
+
+    public double getDouble(int index) {
+      return values[index];
+    }
+
+    @Override
+    public Double get(int index) {
+      return values[index];
+    }
+
+    @Override
+    public int size() {
+      return values.length;
+    }
+  }
+
+  public static final class OfBoolean extends PrimitiveMappedValues {
+    private final boolean[] values;
+
+    public OfBoolean(boolean[] values) {
+      this.values = requireNonNull(values);
+    }
+
+    public boolean getBoolean(int index) {
+      return values[index];
+    }
+
+    @Override
+    public Boolean get(int index) {
+      return values[index];
+    }
+
+    @Override
+    public int size() {
+      return values.length;
+    }
+  }
+}
@@ -0,0 +1,57 @@
+package com.sigpwned.discourse.core.pipeline.invocation.step.map;
+
+import java.util.function.Function;
+import com.sigpwned.discourse.core.pipeline.invocation.step.MapStep;
+
+/**
+ * <p>
+ * A mapper for the {@link MapStep Map step} that can produce primitive values without boxing them.
+ * When a property's mapper implements one of these interfaces, the Map step stores its values in
+ * the matching {@link PrimitiveMappedValues} list instead of as boxes.
+ * </p>
+ *
+ * <p>
+ * As with {@link java.util.PrimitiveIterator}, this interface only groups its specializations.
+ * </p>
+ */
+public interface PrimitiveMapper extends Function<String, Object> {
+  @FunctionalInterface
+  public static interface OfInt extends PrimitiveMapper {
+    public int mapInt(String value);
+
+    @Override
+    default Object apply(String value) {
+      return mapInt(value);
+    }
+  }
+
+  @FunctionalInterface
+  public static interface OfLong extends PrimitiveMapper {
+    public long mapLong(String value);
+
+    @Override
+    default Object apply(String value) {
+      return mapLong(value);
+    }
+  }
+
+  @FunctionalInterface
+  public static interface OfDouble extends PrimitiveMapper {
+    public double mapDouble(String value);
+
+    @Override
+    default Object apply(String value) {
+      return mapDouble(value);
+    }
+  }
+
+  @FunctionalInterface
+  public static interface OfBoolean extends PrimitiveMapper {
+    public boolean mapBoolean(String value);
+
+    @Override
+    default Object apply(String value) {
+      return mapBoolean(value);
+    }
+  }
+}
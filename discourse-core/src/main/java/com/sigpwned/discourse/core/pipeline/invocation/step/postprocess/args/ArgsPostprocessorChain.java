@@ -1,5 +1,6 @@
 package com.sigpwned.discourse.core.pipeline.invocation.step.postprocess.args;
 
+import java.util.List;
 import java.util.Map;
 import com.sigpwned.discourse.core.Chain;
 import com.sigpwned.discourse.core.pipeline.invocation.InvocationContext;
@@ -9,7 +10,9 @@ public class ArgsPostprocessorChain extends Chain<ArgsPostprocessor>
   @Override
   public Map<String, Object> postprocessProperties(Map<String, Object> properties,
       InvocationContext context) {
-    for (ArgsPostprocessor postprocessor : this) {
+    final List<ArgsPostprocessor> postprocessors = elements();
+    for (int i = 0; i < postprocessors.size(); i++) {
+      ArgsPostprocessor postprocessor = postprocessors.get(i);
       properties = postprocessor.postprocessProperties(properties, context);
     }
     return properties;
@@ -1,7 +1,22 @@
 package com.sigpwned.discourse.core.pipeline.invocation.step.preprocess.args;
 
 import java.util.List;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationContext;
 
 public interface ArgsPreprocessor {
+  /**
+   * Preprocesses the given arguments outside of any invocation. Preprocessors that pass state to
+   * later steps through the invocation context only do the part of their work that does not
+   * need it.
+   */
   public List<String> preprocess(List<String> resolvedArgs);
+
+  /**
+   * Preprocesses the given arguments during the given invocation. The pipeline always calls this
+   * method. By default, it ignores the context and calls {@link #preprocess(List)}, so
+   * preprocessors that don't need the context only have to implement that.
+   */
+  default List<String> preprocess(List<String> resolvedArgs, InvocationContext context) {
+    return preprocess(resolvedArgs);
+  }
 }
@@ -2,13 +2,26 @@ package com.sigpwned.discourse.core.pipeline.invocation.step.preprocess.args;
 
 import java.util.List;
 import com.sigpwned.discourse.core.Chain;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationContext;
 
 public class ArgsPreprocessorChain extends Chain<ArgsPreprocessor> implements ArgsPreprocessor {
   @Override
   public List<String> preprocess(List<String> resolvedArgs) {
-    for (ArgsPreprocessor preprocessor : this) {
+    final List<ArgsPreprocessor> preprocessors = elements();
+    for (int i = 0; i < preprocessors.size(); i++) {
+      ArgsPreprocessor preprocessor = preprocessors.get(i);
       resolvedArgs = preprocessor.preprocess(resolvedArgs);
     }
     return resolvedArgs;
   }
+
+  @Override
+  public List<String> preprocess(List<String> resolvedArgs, InvocationContext context) {
+    final List<ArgsPreprocessor> preprocessors = elements();
+    for (int i = 0; i < preprocessors.size(); i++) {
+      ArgsPreprocessor preprocessor = preprocessors.get(i);
+      resolvedArgs = preprocessor.preprocess(resolvedArgs, context);
+    }
+    return resolvedArgs;
+  }
 }
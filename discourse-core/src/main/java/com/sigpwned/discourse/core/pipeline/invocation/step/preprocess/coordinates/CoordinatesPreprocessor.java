@@ -2,7 +2,23 @@ package com.sigpwned.discourse.core.pipeline.invocation.step.preprocess.coordina
 
 import java.util.Map;
 import com.sigpwned.discourse.core.args.Coordinate;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationContext;
 
 public interface CoordinatesPreprocessor {
+  /**
+   * Preprocesses the given coordinates outside of any invocation. Preprocessors that pass state to
+   * later steps through the invocation context only do the part of their work that does not
+   * need it.
+   */
   public Map<Coordinate, String> preprocess(Map<Coordinate, String> originalCoordinates);
+
+  /**
+   * Preprocesses the given coordinates during the given invocation. The pipeline always calls this
+   * method. By default, it ignores the context and calls {@link #preprocess(Map)}, so
+   * preprocessors that don't need the context only have to implement that.
+   */
+  default Map<Coordinate, String> preprocess(Map<Coordinate, String> originalCoordinates,
+      InvocationContext context) {
+    return preprocess(originalCoordinates);
+  }
 }
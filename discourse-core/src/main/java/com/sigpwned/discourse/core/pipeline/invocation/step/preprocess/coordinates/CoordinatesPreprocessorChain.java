@@ -1,19 +1,34 @@
 package com.sigpwned.discourse.core.pipeline.invocation.step.preprocess.coordinates;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import com.sigpwned.discourse.core.Chain;
 import com.sigpwned.discourse.core.args.Coordinate;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationContext;
 
 public class CoordinatesPreprocessorChain extends Chain<CoordinatesPreprocessor>
     implements CoordinatesPreprocessor {
-
   @Override
   public Map<Coordinate, String> preprocess(Map<Coordinate, String> originalCoordinates) {
     Map<Coordinate, String> coordinates = new HashMap<>(originalCoordinates);
-    for (CoordinatesPreprocessor preprocessor : this) {
+    final List<CoordinatesPreprocessor> preprocessors = elements();
+    for (int i = 0; i < preprocessors.size(); i++) {
+      CoordinatesPreprocessor preprocessor = preprocessors.get(i);
       coordinates = preprocessor.preprocess(coordinates);
     }
     return coordinates;
   }
+
+  @Override
+  public Map<Coordinate, String> preprocess(Map<Coordinate, String> originalCoordinates,
+      InvocationContext context) {
+    Map<Coordinate, String> coordinates = new HashMap<>(originalCoordinates);
+    final List<CoordinatesPreprocessor> preprocessors = elements();
+    for (int i = 0; i < preprocessors.size(); i++) {
+      CoordinatesPreprocessor preprocessor = preprocessors.get(i);
+      coordinates = preprocessor.preprocess(coordinates, context);
+    }
+    return coordinates;
+  }
 }
@@ -2,7 +2,22 @@ package com.sigpwned.discourse.core.pipeline.invocation.step.preprocess.tokens;
 
 import java.util.List;
 import com.sigpwned.discourse.core.args.Token;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationContext;
 
 public interface TokensPreprocessor {
+  /**
+   * Preprocesses the given tokens outside of any invocation. Preprocessors that pass state to
+   * later steps through the invocation context only do the part of their work that does not
+   * need it.
+   */
   public List<Token> preprocessTokens(List<Token> tokens);
+
+  /**
+   * Preprocesses the given tokens during the given invocation. The pipeline always calls this
+   * method. By default, it ignores the context and calls {@link #preprocessTokens(List)}, so
+   * preprocessors that don't need the context only have to implement that.
+   */
+  default List<Token> preprocessTokens(List<Token> tokens, InvocationContext context) {
+    return preprocessTokens(tokens);
+  }
 }
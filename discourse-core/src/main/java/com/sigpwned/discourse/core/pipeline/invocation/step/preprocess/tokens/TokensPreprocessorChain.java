@@ -3,15 +3,27 @@ package com.sigpwned.discourse.core.pipeline.invocation.step.preprocess.tokens;
 import java.util.List;
 import com.sigpwned.discourse.core.Chain;
 import com.sigpwned.discourse.core.args.Token;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationContext;
 
 public class TokensPreprocessorChain extends Chain<TokensPreprocessor>
     implements TokensPreprocessor {
-
   @Override
   public List<Token> preprocessTokens(List<Token> tokens) {
-    for (TokensPreprocessor preprocessor : this) {
+    final List<TokensPreprocessor> preprocessors = elements();
+    for (int i = 0; i < preprocessors.size(); i++) {
+      TokensPreprocessor preprocessor = preprocessors.get(i);
       tokens = preprocessor.preprocessTokens(tokens);
     }
     return tokens;
   }
+
+  @Override
+  public List<Token> preprocessTokens(List<Token> tokens, InvocationContext context) {
+    final List<TokensPreprocessor> preprocessors = elements();
+    for (int i = 0; i < preprocessors.size(); i++) {
+      TokensPreprocessor preprocessor = preprocessors.get(i);
+      tokens = preprocessor.preprocessTokens(tokens, context);
+    }
+    return tokens;
+  }
 }
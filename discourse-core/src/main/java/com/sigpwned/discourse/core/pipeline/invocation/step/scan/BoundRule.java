@@ -0,0 +1,104 @@
+package com.sigpwned.discourse.core.pipeline.invocation.step.scan;
+
+import static java.util.Objects.requireNonNull;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import com.sigpwned.discourse.core.pipeline.invocation.step.scan.exception.RuleEvaluationFailureScanException;
+import com.sigpwned.discourse.core.pipeline.invocation.step.scan.model.NamedRule;
+
+/**
+ * <p>
+ * A {@link NamedRule rule} that has been bound ahead of time to the {@link MethodHandle} that
+ * evaluates it. Binding happens once, when the command is scanned, so evaluating a bound rule is a
+ * direct call, with no reflective lookups or access checks.
+ * </p>
+ *
+ * <p>
+ * The handle takes the values of the rule's {@link #getParameters() parameters} as its arguments,
+ * in order, and returns the value of the rule's consequent. If the rule has no consequent, then the
+ * handle's return value is ignored.
+ * </p>
+ *
+ * @see RuleEvaluator#bind(NamedRule)
+ */
+public final class BoundRule {
+  /**
+   * The largest number of parameters that {@link #evaluate(Object[])} passes to the handle
+   * directly instead of spreading them from an array.
+   */
+  private static final int MAX_DIRECT_ARITY = 3;
+
+  private final NamedRule rule;
+  private final Class<?> clazz;
+  private final List<String> parameters;
+  private final MethodHandle handle;
+
+  /**
+   * @param rule the rule
+   * @param clazz the class that declares the rule, for error messages
+   * @param parameters the names of the antecedents to pass to the handle, in order
+   * @param handle the handle that evaluates the rule, which must take exactly one argument per
+   *        parameter
+   */
+  public BoundRule(NamedRule rule, Class<?> clazz, List<String> parameters, MethodHandle handle) {
+    this.rule = requireNonNull(rule);
+    this.clazz = requireNonNull(clazz);
+    this.parameters = List.copyOf(parameters);
+    if (handle.type().parameterCount() != this.parameters.size())
+      throw new IllegalArgumentException("handle must take one argument per parameter");
+
+    // Adapt the handle to take Objects and return an Object, whatever its actual type, so that we
+    // can call it with invokeExact. A void handle returns null. Rules almost never have more than
+    // a few antecedents, so we call small handles with their arguments directly, and only spread
+    // an array for big ones. A spreader costs an extra adapter per handle, and once the JVM
+    // customizes each of those separately, it is much slower than a direct call.
+    MethodHandle generic = handle.asType(MethodType.genericMethodType(this.parameters.size()));
+    if (this.parameters.size() > MAX_DIRECT_ARITY)
+      generic = generic.asSpreader(Object[].class, this.parameters.size());
+    this.handle = generic;
+  }
+
+  /**
+   * Evaluates the rule.
+   *
+   * @param arguments the values of the rule's {@link #getParameters() parameters}, in order
+   * @return the value of the rule's consequent, or {@code null} if the rule has no consequent
+   * @throws RuleEvaluationFailureScanException if the underlying code throws an exception
+   */
+  public Object evaluate(Object[] arguments) {
+    if (arguments.length != parameters.size())
+      throw new IllegalArgumentException("expected one argument per parameter");
+
+    try {
+      switch (arguments.length) {
+        case 0:
+          return (Object) handle.invokeExact();
+        case 1:
+          return (Object) handle.invokeExact(arguments[0]);
+        case 2:
+          return (Object) handle.invokeExact(arguments[0], arguments[1]);
+        case 3:
+          return (Object) handle.invokeExact(arguments[0], arguments[1], arguments[2]);
+        default:
+          return (Object) handle.invokeExact(arguments);
+      }
+    } catch (Error e) {
+      if (e instanceof ExceptionInInitializerError)
+        throw new RuleEvaluationFailureScanException(clazz, rule.humanReadableName(), e);
+      throw e;
+    } catch (Throwable e) {
+      // Welp, that's no good. The underlying code threw an exception. That's an application
+      // problem.
+      throw new RuleEvaluationFailureScanException(clazz, rule.humanReadableName(), e);
+    }
+  }
+
+  public NamedRule getRule() {
+    return rule;
+  }
+
+  public List<String> getParameters() {
+    return parameters;
+  }
+}
@@ -0,0 +1,84 @@
+package com.sigpwned.discourse.core.pipeline.invocation.step.scan;
+
+import java.util.List;
+import com.sigpwned.discourse.core.pipeline.invocation.step.ScanStep;
+import com.sigpwned.discourse.core.pipeline.invocation.step.scan.model.CandidateSyntax;
+import com.sigpwned.discourse.core.pipeline.invocation.step.scan.model.NamedRule;
+
+/**
+ * <p>
+ * The syntax and rules of one leaf command, worked out at compile time. The discourse-processor
+ * annotation processor generates a model for each leaf command it can, following the syntax
+ * nominators, rule nominators, and rule detectors of the default modules. It also runs the same
+ * rules analysis the {@link ScanStep Scan step} does, so the model's rules are already the rules to
+ * evaluate, in order.
+ * </p>
+ *
+ * <p>
+ * The Scan step uses the model of a command class instead of reflecting over the class when the
+ * pipeline's naming schemes, syntax nominators and detectors, rule nominators, detectors, and
+ * evaluators, required checkers, and default value extractors are exactly the ones the default
+ * modules register. Otherwise, it ignores the model. It still detects and names the model's
+ * candidate syntax itself, so the syntax detectors decide coordinates either way.
+ * </p>
+ *
+ * <p>
+ * The model of a command class {@code com.example.Foo$Bar} is the class
+ * {@code com.example.Foo_Bar_DiscourseModel} in the same package and class loader, which must have
+ * a public default constructor. The model should be compiled along with its command class. If the
+ * command class changed since, e.g., because it was recompiled without the annotation processor,
+ * then its {@link #getFingerprint() fingerprint} no longer matches, and the Scan step reflects over
+ * it instead.
+ * </p>
+ *
+ * @see CommandModelBase
+ */
+public interface CommandModel {
+  /**
+   * The suffix of the name of a model class
+   */
+  public static final String CLASS_NAME_SUFFIX = "_DiscourseModel";
+
+  /**
+   * Returns the binary name of the model class for the command class with the given binary name.
+   *
+   * @param commandClassName the binary name of the command class, e.g., {@code com.example.Foo$Bar}
+   * @return the binary name of the model class, e.g., {@code com.example.Foo_Bar_DiscourseModel}
+   */
+  public static String getModelClassName(String commandClassName) {
+    return commandClassName.replace('$', '_') + CLASS_NAME_SUFFIX;
+  }
+
+  /**
+   * @return the binary name of the command class this model describes
+   */
+  public String getCommandClassName();
+
+  /**
+   * Returns the {@link CommandModelFingerprint fingerprint} of the command class as it was when
+   * this model was generated. The Scan step only uses this model if the command class still has
+   * the same fingerprint.
+   *
+   * @return the fingerprint
+   */
+  public String getFingerprint();
+
+  /**
+   * Returns the candidate syntax of the given command class, in the order the default syntax
+   * nominators would nominate it. Only candidates that the default syntax detectors detect as
+   * syntax are included.
+   *
+   * @param clazz the command class
+   * @return the candidate syntax
+   */
+  public List<CandidateSyntax> nominateSyntax(Class<?> clazz);
+
+  /**
+   * Returns the rules to evaluate to create an instance of the given command class, in order. These
+   * are the evaluated rules of the best reaction to all the command's properties.
+   *
+   * @param clazz the command class
+   * @return the rules
+   */
+  public List<NamedRule> rules(Class<?> clazz);
+}
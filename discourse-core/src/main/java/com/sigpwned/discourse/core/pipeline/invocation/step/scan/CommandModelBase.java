@@ -0,0 +1,193 @@
+package com.sigpwned.discourse.core.pipeline.invocation.step.scan;
+
+import static java.util.Collections.emptySet;
+import static java.util.Objects.requireNonNull;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import com.sigpwned.discourse.core.pipeline.invocation.step.scan.model.CandidateSyntax;
+import com.sigpwned.discourse.core.pipeline.invocation.step.scan.model.NamedRule;
+import com.sigpwned.discourse.core.pipeline.invocation.step.scan.util.MoreRules;
+
+/**
+ * <p>
+ * A base class for generated {@link CommandModel command models}. It looks up the members of the
+ * command class by name instead of scanning them, and builds the same candidate syntax and rules
+ * for them that the default nominators and detectors would.
+ * </p>
+ *
+ * <p>
+ * Members are looked up by the binary names of their parameter types, as {@link Class#getName()}
+ * gives them, so that generated code never has to refer to a type it cannot access. Superclass
+ * members are looked up by their depth, i.e., the number of superclasses between the command class
+ * and the class that declares the member.
+ * </p>
+ */
+public abstract class CommandModelBase implements CommandModel {
+  private final String commandClassName;
+
+  /**
+   * The declared methods of each class the model has looked up a method of, by name
+   */
+  private final Map<Class<?>, Map<String, List<Method>>> declaredMethods =
+      new ConcurrentHashMap<>();
+
+  protected CommandModelBase(String commandClassName) {
+    this.commandClassName = requireNonNull(commandClassName);
+  }
+
+  @Override
+  public String getCommandClassName() {
+    return commandClassName;
+  }
+
+  /**
+   * Returns the field with the given name that the given ancestor of the given class declares.
+   */
+  protected Field field(Class<?> clazz, int depth, String name) {
+    Class<?> ancestor = ancestor(clazz, depth);
+    try {
+      return ancestor.getDeclaredField(name);
+    } catch (NoSuchFieldException e) {
+      throw new IllegalStateException(
+          "model for " + getCommandClassName() + " is out of date, no field " + name, e);
+    }
+  }
+
+  /**
+   * Returns the method with the given name and parameter types that the given ancestor of the
+   * given class declares.
+   */
+  protected Method method(Class<?> clazz, int depth, String name, String... parameterTypeNames) {
+    Class<?> ancestor = ancestor(clazz, depth);
+    for (Method method : declaredMethods(ancestor).getOrDefault(name, List.of())) {
+      if (hasParameterTypes(method, parameterTypeNames))
+        return method;
+    }
+    throw new IllegalStateException("model for " + getCommandClassName()
+        + " is out of date, no method " + name + Arrays.toString(parameterTypeNames));
+  }
+
+  /**
+   * Returns the constructor of the given class with the given parameter types.
+   */
+  protected Constructor<?> constructor(Class<?> clazz, String... parameterTypeNames) {
+    for (Constructor<?> constructor : clazz.getDeclaredConstructors()) {
+      if (hasParameterTypes(constructor, parameterTypeNames))
+        return constructor;
+    }
+    throw new IllegalStateException("model for " + getCommandClassName()
+        + " is out of date, no constructor " + Arrays.toString(parameterTypeNames));
+  }
+
+  /**
+   * The candidate syntax for a field, as {@code FieldSyntaxNominator} nominates it
+   */
+  protected CandidateSyntax fieldSyntax(Field field) {
+    return new CandidateSyntax(field.getName(), field, field.getGenericType(),
+        List.of(field.getAnnotations()));
+  }
+
+  /**
+   * The candidate syntax for a setter method, as {@code SetterMethodSyntaxNominator} nominates it
+   */
+  protected CandidateSyntax setterSyntax(Method method) {
+    return new CandidateSyntax(method.getName(), method, method.getGenericParameterTypes()[0],
+        List.of(method.getAnnotations()));
+  }
+
+  /**
+   * The candidate syntax for a getter method, as {@code GetterMethodSyntaxNominator} nominates it
+   */
+  protected CandidateSyntax getterSyntax(Method method) {
+    return new CandidateSyntax(method.getName(), method, method.getGenericReturnType(),
+        List.of(method.getAnnotations()));
+  }
+
+  /**
+   * The candidate syntax for a parameter of a creator constructor, as
+   * {@code CreatorSyntaxNominator} nominates it
+   */
+  protected CandidateSyntax parameterSyntax(Constructor<?> constructor, int index) {
+    Parameter parameter = constructor.getParameters()[index];
+    return new CandidateSyntax("constructor", parameter, parameter.getParameterizedType(),
+        List.of(parameter.getAnnotations()));
+  }
+
+  /**
+   * The rule that assigns the property with the given name to a field, as
+   * {@code FieldRuleDetector} detects it
+   */
+  protected NamedRule fieldRule(Field field, String name) {
+    return new NamedRule(field.getName(), field, field.getGenericType(),
+        List.of(field.getAnnotations()), Set.of(MoreRules.INSTANCE_PROPERTY_NAME, name),
+        emptySet(), Optional.empty());
+  }
+
+  /**
+   * The rule that passes the property with the given name to a setter method, as
+   * {@code SetterMethodRuleDetector} detects it
+   */
+  protected NamedRule setterRule(Method method, String name) {
+    return new NamedRule(method.getName(), method, method.getGenericParameterTypes()[0],
+        List.of(method.getAnnotations()), Set.of(MoreRules.INSTANCE_PROPERTY_NAME, name),
+        emptySet(), Optional.empty());
+  }
+
+  /**
+   * The rule that calls a constructor of the given class with the properties with the given names,
+   * in order, and produces the property with the given name, as {@code DefaultConstructorRuleDetector}
+   * and {@code CreatorRuleDetector} detect it
+   */
+  protected NamedRule constructorRule(Class<?> clazz, Constructor<?> constructor, String name,
+      String... antecedents) {
+    // The creator evaluator passes the antecedents in order, so keep them in order.
+    return new NamedRule("constructor", constructor, clazz, List.of(constructor.getAnnotations()),
+        new LinkedHashSet<>(List.of(antecedents)), emptySet(), Optional.of(name));
+  }
+
+  /**
+   * Returns the methods the given class declares, other than bridge methods, by name. Each class's
+   * methods are only listed once per model, however many of them the model looks up.
+   */
+  private Map<String, List<Method>> declaredMethods(Class<?> clazz) {
+    return declaredMethods.computeIfAbsent(clazz, c -> {
+      Map<String, List<Method>> result = new HashMap<>();
+      for (Method method : c.getDeclaredMethods())
+        if (!method.isBridge())
+          result.computeIfAbsent(method.getName(), k -> new ArrayList<>(1)).add(method);
+      return result;
+    });
+  }
+
+  private Class<?> ancestor(Class<?> clazz, int depth) {
+    Class<?> ancestor = clazz;
+    for (int i = 0; i < depth && ancestor != null; i++)
+      ancestor = ancestor.getSuperclass();
+    if (ancestor == null)
+      throw new IllegalStateException("model for " + getCommandClassName()
+          + " is out of date, no superclass at depth " + depth);
+    return ancestor;
+  }
+
+  private static boolean hasParameterTypes(Executable executable, String[] parameterTypeNames) {
+    Class<?>[] parameterTypes = executable.getParameterTypes();
+    if (parameterTypes.length != parameterTypeNames.length)
+      return false;
+    for (int i = 0; i < parameterTypes.length; i++)
+      if (!parameterTypes[i].getName().equals(parameterTypeNames[i]))
+        return false;
+    return true;
+  }
+}
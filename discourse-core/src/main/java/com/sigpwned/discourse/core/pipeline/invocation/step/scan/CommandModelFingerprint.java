@@ -0,0 +1,196 @@
+package com.sigpwned.discourse.core.pipeline.invocation.step.scan;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import com.sigpwned.discourse.core.annotation.DiscourseAttribute;
+import com.sigpwned.discourse.core.annotation.DiscourseCreator;
+import com.sigpwned.discourse.core.annotation.DiscourseDefaultValue;
+import com.sigpwned.discourse.core.annotation.DiscourseIgnore;
+import com.sigpwned.discourse.core.annotation.DiscourseMixin;
+import com.sigpwned.discourse.core.annotation.DiscourseRequired;
+import com.sigpwned.discourse.core.annotation.FlagParameter;
+import com.sigpwned.discourse.core.annotation.HelpFlagParameter;
+import com.sigpwned.discourse.core.annotation.OptionParameter;
+import com.sigpwned.discourse.core.annotation.PositionalParameter;
+import com.sigpwned.discourse.core.annotation.VersionFlagParameter;
+import com.sigpwned.discourse.core.module.parameter.environmentvariable.EnvironmentVariableParameter;
+import com.sigpwned.discourse.core.module.parameter.systemproperty.SystemPropertyParameter;
+
+/**
+ * <p>
+ * Computes the fingerprint of a command class, i.e., a digest of everything a
+ * {@link CommandModel command model} depends on: the superclass chain, the members of each class in
+ * it that carry any of the {@link #ANNOTATIONS fingerprinted annotations}, and the public
+ * constructors of the command class. If a command class changes after its model was generated,
+ * then its fingerprint changes, too, and the Scan step reflects over it instead of using the
+ * stale model.
+ * </p>
+ *
+ * <p>
+ * The annotation processor describes the command class at compile time and the Scan step describes
+ * it at runtime, so both build the same entries with the methods here, and then
+ * {@link #digest(Collection) digest} them. Types are named as {@link Class#getName()} names them.
+ * </p>
+ */
+public final class CommandModelFingerprint {
+  private CommandModelFingerprint() {
+  }
+
+  /**
+   * The annotations that decide what a command model says about a member. Only members that carry
+   * at least one of them are part of the fingerprint.
+   */
+  public static final List<Class<? extends Annotation>> ANNOTATIONS =
+      List.of(OptionParameter.class, PositionalParameter.class, FlagParameter.class,
+          HelpFlagParameter.class, VersionFlagParameter.class, EnvironmentVariableParameter.class,
+          SystemPropertyParameter.class, DiscourseIgnore.class, DiscourseAttribute.class,
+          DiscourseCreator.class, DiscourseMixin.class, DiscourseRequired.class,
+          DiscourseDefaultValue.class);
+
+  /**
+   * The modifiers that decide what a command model says about a member
+   */
+  public static final int MODIFIERS = Modifier.PUBLIC | Modifier.STATIC | Modifier.FINAL;
+
+  /**
+   * Returns the fingerprint of the given command class as it is at runtime.
+   */
+  public static String of(Class<?> clazz) {
+    List<String> entries = new ArrayList<>();
+
+    Class<?> ancestor = clazz;
+    for (int depth = 0; ancestor != null; depth++, ancestor = ancestor.getSuperclass()) {
+      entries.add(ancestor(depth, ancestor.getName()));
+      for (Field field : ancestor.getDeclaredFields()) {
+        List<String> annotations = annotations(field.getAnnotations());
+        if (!field.isSynthetic() && !annotations.isEmpty())
+          entries.add(field(depth, field.getName(), field.getType().getName(),
+              field.getModifiers(), annotations));
+      }
+      for (Method method : ancestor.getDeclaredMethods()) {
+        // Bridge methods copy the annotations of the methods they bridge to
+        List<String> annotations = annotations(method.getAnnotations());
+        if (!method.isSynthetic() && !method.isBridge() && !annotations.isEmpty())
+          entries.add(method(depth, method.getName(), parameterTypeNames(method),
+              method.getReturnType().getName(), method.getModifiers(), annotations));
+      }
+    }
+
+    for (Constructor<?> constructor : clazz.getDeclaredConstructors()) {
+      if (constructor.isSynthetic() || !Modifier.isPublic(constructor.getModifiers()))
+        continue;
+      List<List<String>> parameterAnnotations = new ArrayList<>();
+      for (Parameter parameter : constructor.getParameters())
+        parameterAnnotations.add(annotations(parameter.getAnnotations()));
+      entries.add(constructor(parameterTypeNames(constructor), constructor.getModifiers(),
+          annotations(constructor.getAnnotations()), parameterAnnotations));
+    }
+
+    return digest(entries);
+  }
+
+  /**
+   * The entry for the class at the given depth of the superclass chain
+   */
+  public static String ancestor(int depth, String className) {
+    return "class " + depth + " " + className;
+  }
+
+  /**
+   * The entry for an annotated field that the class at the given depth declares
+   */
+  public static String field(int depth, String name, String typeName, int modifiers,
+      List<String> annotations) {
+    return "field " + depth + " " + name + " " + typeName + " " + modifiers(modifiers) + " "
+        + annotations;
+  }
+
+  /**
+   * The entry for an annotated method that the class at the given depth declares
+   */
+  public static String method(int depth, String name, List<String> parameterTypeNames,
+      String returnTypeName, int modifiers, List<String> annotations) {
+    return "method " + depth + " " + name + " " + parameterTypeNames + " " + returnTypeName + " "
+        + modifiers(modifiers) + " " + annotations;
+  }
+
+  /**
+   * The entry for a public constructor of the command class
+   */
+  public static String constructor(List<String> parameterTypeNames, int modifiers,
+      List<String> annotations, List<List<String>> parameterAnnotations) {
+    return "constructor " + parameterTypeNames + " " + modifiers(modifiers) + " " + annotations
+        + " " + parameterAnnotations;
+  }
+
+  /**
+   * Describes one of the {@link #ANNOTATIONS fingerprinted annotations} of a member. Only the
+   * value of {@link DiscourseAttribute} is part of the fingerprint, since it names the member's
+   * property. The values of the other annotations are read from the command class at runtime.
+   *
+   * @param typeName the name of the annotation type
+   * @param attribute the value of the annotation if it is {@link DiscourseAttribute}, or
+   *        {@code null} otherwise
+   */
+  public static String annotation(String typeName, String attribute) {
+    return attribute != null ? typeName + "(" + attribute + ")" : typeName;
+  }
+
+  /**
+   * Returns the digest of the given entries, which does not depend on their order.
+   */
+  public static String digest(Collection<String> entries) {
+    List<String> sorted = new ArrayList<>(entries);
+    sorted.sort(null);
+
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      // Every Java platform is required to support SHA-256
+      throw new AssertionError(e);
+    }
+    for (String entry : sorted) {
+      digest.update(entry.getBytes(StandardCharsets.UTF_8));
+      digest.update((byte) '\n');
+    }
+
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  private static List<String> annotations(Annotation[] annotations) {
+    List<String> result = new ArrayList<>();
+    for (Class<? extends Annotation> annotationType : ANNOTATIONS) {
+      for (Annotation annotation : annotations) {
+        if (annotation.annotationType() == annotationType) {
+          String attribute = annotation instanceof DiscourseAttribute a ? a.value() : null;
+          result.add(annotation(annotationType.getName(), attribute));
+        }
+      }
+    }
+    return result;
+  }
+
+  private static List<String> parameterTypeNames(Executable executable) {
+    List<String> result = new ArrayList<>();
+    for (Class<?> parameterType : executable.getParameterTypes())
+      result.add(parameterType.getName());
+    return result;
+  }
+
+  private static String modifiers(int modifiers) {
+    return Modifier.toString(modifiers & MODIFIERS);
+  }
+}
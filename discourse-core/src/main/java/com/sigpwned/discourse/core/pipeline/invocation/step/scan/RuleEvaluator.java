@@ -3,7 +3,21 @@ package com.sigpwned.discourse.core.pipeline.invocation.step.scan;
 import java.util.Map;
 import java.util.Optional;
 import com.sigpwned.discourse.core.pipeline.invocation.step.scan.model.NamedRule;
+import com.sigpwned.discourse.core.util.Maybe;
 
 public interface RuleEvaluator {
   public Optional<Optional<Object>> run(Map<String, Object> input, NamedRule rule);
+
+  /**
+   * Binds the given rule ahead of time, so that it can be evaluated without any further lookups.
+   * This is called once per rule when a command is scanned.
+   *
+   * @return yes if this evaluator evaluates the given rule and has bound it, maybe if this evaluator
+   *         does not evaluate the given rule, or no if this evaluator may evaluate the given rule
+   *         but cannot bind it, in which case the rule is evaluated with {@link #run(Map, NamedRule)}
+   *         every time. The default is no, which is always safe.
+   */
+  public default Maybe<BoundRule> bind(NamedRule rule) {
+    return Maybe.no();
+  }
 }
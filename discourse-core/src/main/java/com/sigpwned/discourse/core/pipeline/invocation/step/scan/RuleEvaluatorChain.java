@@ -4,6 +4,7 @@ import java.util.Map;
 import java.util.Optional;
 import com.sigpwned.discourse.core.Chain;
 import com.sigpwned.discourse.core.pipeline.invocation.step.scan.model.NamedRule;
+import com.sigpwned.discourse.core.util.Maybe;
 
 public class RuleEvaluatorChain extends Chain<RuleEvaluator> implements RuleEvaluator {
   @Override
@@ -16,4 +17,17 @@ public class RuleEvaluatorChain extends Chain<RuleEvaluator> implements RuleEval
     }
     return Optional.empty();
   }
+
+  @Override
+  public Maybe<BoundRule> bind(NamedRule rule) {
+    // We have to ask in the same order as run, or we might bind a rule to a different evaluator
+    // than the one that would run it.
+    for (RuleEvaluator evaluator : this) {
+      Maybe<BoundRule> result = evaluator.bind(rule);
+      if (result.isDecided()) {
+        return result;
+      }
+    }
+    return Maybe.maybe();
+  }
 }
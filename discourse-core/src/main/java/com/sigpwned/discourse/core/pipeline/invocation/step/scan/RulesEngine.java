@@ -19,17 +19,22 @@
  */
 package com.sigpwned.discourse.core.pipeline.invocation.step.scan;
 
+import static java.util.Collections.nCopies;
 import static java.util.Collections.unmodifiableMap;
 import static java.util.Objects.requireNonNull;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.ToIntFunction;
 import com.sigpwned.discourse.core.exception.InternalDiscourseException;
+import com.sigpwned.discourse.core.exception.internal.IllegalArgumentInternalDiscourseException;
 import com.sigpwned.discourse.core.pipeline.invocation.step.scan.model.NamedRule;
+import com.sigpwned.discourse.core.util.Maybe;
 
 
 public class RulesEngine {
@@ -39,42 +44,333 @@ public class RulesEngine {
     this.evaluator = requireNonNull(evaluator);
   }
 
-  public Map<String, Object> run(Map<String, Object> input, List<NamedRule> rules) {
-    input = new HashMap<>(input);
-
-    rules = new ArrayList<>(rules);
-
-    boolean changed;
-    do {
-      changed = false;
-
-      Iterator<NamedRule> iterator = rules.iterator();
-      while (iterator.hasNext()) {
-        NamedRule rule = iterator.next();
-        if (ready(input, rule)) {
-          iterator.remove();
-
-          Optional<Optional<Object>> maybeEvaluated = getEvaluator().run(input, rule);
-          if (maybeEvaluated.isEmpty()) {
-            // This is a framework exception, in that it's not the application developer's (direct)
-            // fault, but the error is likely to be in a module. We'll treat this as a framework
-            // exception here, but maybe we should hint at a module problem in the message.
-            throw new InternalDiscourseException("Failed to evaluate rule " + rule);
+  /**
+   * A list of rules that have been bound ahead of time, where possible.
+   *
+   * @see RulesEngine#prepare(List)
+   */
+  public final class PreparedRules {
+    private final List<NamedRule> rules;
+
+    /**
+     * The binding of each rule, in the same order as the rules, or {@code null} if the rule could
+     * not be bound.
+     */
+    private final List<BoundRule> bindings;
+
+    private PreparedRules(List<NamedRule> rules, List<BoundRule> bindings) {
+      this.rules = requireNonNull(rules);
+      this.bindings = requireNonNull(bindings);
+    }
+
+    /**
+     * Runs the rules against the given input, exactly as {@link RulesEngine#run(Map, List)} would.
+     */
+    public Map<String, Object> run(Map<String, Object> input) {
+      input = new HashMap<>(input);
+
+      List<Integer> remaining = new ArrayList<>(rules.size());
+      for (int i = 0; i < rules.size(); i++)
+        remaining.add(i);
+
+      boolean changed;
+      do {
+        changed = false;
+
+        Iterator<Integer> iterator = remaining.iterator();
+        while (iterator.hasNext()) {
+          int index = iterator.next();
+          NamedRule rule = rules.get(index);
+          if (ready(input, rule)) {
+            iterator.remove();
+
+            BoundRule binding = bindings.get(index);
+            if (binding != null) {
+              evaluate(input, binding);
+            } else {
+              evaluate(input, rule);
+            }
+
+            changed = true;
           }
+        }
+      } while (changed);
+
+      return unmodifiableMap(input);
+    }
+  }
+
+  /**
+   * <p>
+   * A list of rules compiled into a straight-line plan. Each property the rules mention is
+   * resolved to a slot index ahead of time, and each rule becomes one step that reads its
+   * antecedents from slots and writes its consequent to a slot, so running the plan is one pass
+   * over the steps with no rescanning and no set lookups.
+   * </p>
+   *
+   * <p>
+   * A step is skipped if its rule is not {@link RulesEngine#ready(Map, NamedRule) ready} when the
+   * pass reaches it. Because the rules are in dependency order, that gives the same result as
+   * {@link RulesEngine#run(Map, List)}.
+   * </p>
+   *
+   * @see RulesEngine#compile(List)
+   */
+  public final class CompiledRules {
+    /**
+     * Marks a slot whose property is not present. Properties can be present with a {@code null}
+     * value, so we can't use {@code null}.
+     */
+    private static final Object ABSENT = new Object();
+
+    private final String[] names;
+    private final Step[] steps;
+
+    private CompiledRules(String[] names, Step[] steps) {
+      this.names = requireNonNull(names);
+      this.steps = requireNonNull(steps);
+    }
+
+    /**
+     * Runs the plan against the given input, exactly as {@link RulesEngine#run(Map, List)} would.
+     */
+    public Map<String, Object> run(Map<String, Object> input) {
+      Map<String, Object> result = new HashMap<>(input);
+      apply(result);
+      return unmodifiableMap(result);
+    }
 
-          Optional<Object> maybeConsequent = maybeEvaluated.get();
-          if (maybeConsequent.isPresent()) {
-            String consequentName = rule.consequent().orElseThrow();
-            Object consequentValue = maybeConsequent.orElseThrow();
-            input.put(consequentName, consequentValue);
+    /**
+     * Runs the plan against the given properties, and adds the consequents it produces to them.
+     */
+    public void apply(Map<String, Object> properties) {
+      final Object[] slots = new Object[names.length];
+      for (int i = 0; i < names.length; i++) {
+        Object value = properties.get(names[i]);
+        if (value == null && !properties.containsKey(names[i]))
+          value = ABSENT;
+        slots[i] = value;
+      }
+
+      for (Step step : steps) {
+        if (!step.isReady(slots))
+          continue;
+
+        if (step.binding != null) {
+          Object[] arguments = new Object[step.parameters.length];
+          for (int i = 0; i < arguments.length; i++)
+            arguments[i] = slots[step.parameters[i]];
+
+          Object consequentValue = step.binding.evaluate(arguments);
+
+          if (step.consequent != -1) {
+            slots[step.consequent] = consequentValue;
+            properties.put(names[step.consequent], consequentValue);
           }
+        } else {
+          // We couldn't bind this rule, so the evaluator needs to see everything computed so far.
+          // The properties are kept up to date as we go for exactly this reason.
+          evaluate(properties, step.rule);
 
-          changed = true;
+          // The evaluator may produce nothing, in which case the consequent stays absent.
+          if (step.consequent != -1) {
+            final String name = names[step.consequent];
+            slots[step.consequent] =
+                properties.containsKey(name) ? properties.get(name) : CompiledRules.ABSENT;
+          }
         }
       }
-    } while (changed);
+    }
+  }
+
+  /**
+   * One rule of a {@link CompiledRules compiled plan}, with all its properties resolved to slots.
+   */
+  private static final class Step {
+    public final NamedRule rule;
+
+    /**
+     * The binding of the rule, or {@code null} if the rule could not be bound.
+     */
+    public final BoundRule binding;
 
-    return unmodifiableMap(input);
+    public final int[] antecedents;
+
+    /**
+     * The slots of the rule's conditions. The rule is ready if any one condition has all its slots
+     * present. If the rule has no conditions, then it is ready as soon as its antecedents are.
+     */
+    public final int[][] conditions;
+
+    /**
+     * The slots of the binding's parameters, in order, if the rule was bound.
+     */
+    public final int[] parameters;
+
+    /**
+     * The slot of the rule's consequent, or {@code -1} if the rule has no consequent.
+     */
+    public final int consequent;
+
+    public Step(NamedRule rule, BoundRule binding, int[] antecedents, int[][] conditions,
+        int[] parameters, int consequent) {
+      this.rule = requireNonNull(rule);
+      this.binding = binding;
+      this.antecedents = requireNonNull(antecedents);
+      this.conditions = requireNonNull(conditions);
+      this.parameters = parameters;
+      this.consequent = consequent;
+    }
+
+    public boolean isReady(Object[] slots) {
+      for (int antecedent : antecedents)
+        if (slots[antecedent] == CompiledRules.ABSENT)
+          return false;
+
+      if (conditions.length == 0)
+        return true;
+
+      for (int[] condition : conditions) {
+        boolean met = true;
+        for (int slot : condition) {
+          if (slots[slot] == CompiledRules.ABSENT) {
+            met = false;
+            break;
+          }
+        }
+        if (met)
+          return true;
+      }
+
+      return false;
+    }
+  }
+
+  /**
+   * <p>
+   * Compiles the given rules into a straight-line plan. The rules must already be in dependency
+   * order, i.e., no rule may depend on a property that a later rule produces. The
+   * {@link com.sigpwned.discourse.core.pipeline.invocation.step.scan.util.MoreRules.Reaction#evaluated()
+   * evaluated} rules of a reaction are always in dependency order.
+   * </p>
+   *
+   * <p>
+   * The rules are also bound with this engine's evaluator, where possible, as in
+   * {@link #prepare(List)}.
+   * </p>
+   *
+   * @throws IllegalArgumentInternalDiscourseException if the rules are not in dependency order
+   */
+  public CompiledRules compile(List<NamedRule> rules) {
+    final Set<String> produced = new HashSet<>();
+    for (NamedRule rule : rules)
+      rule.consequent().ifPresent(produced::add);
+
+    final Map<String, Integer> slots = new HashMap<>();
+    final List<String> names = new ArrayList<>();
+    final ToIntFunction<String> slot = name -> slots.computeIfAbsent(name, n -> {
+      names.add(n);
+      return names.size() - 1;
+    });
+
+    final Set<String> producedSoFar = new HashSet<>();
+    final Step[] steps = new Step[rules.size()];
+    for (int i = 0; i < rules.size(); i++) {
+      NamedRule rule = rules.get(i);
+
+      Set<String> dependencies = new HashSet<>(rule.antecedents());
+      if (rule.conditions() != null)
+        rule.conditions().forEach(dependencies::addAll);
+      for (String dependency : dependencies) {
+        if (produced.contains(dependency) && !producedSoFar.contains(dependency)) {
+          throw new IllegalArgumentInternalDiscourseException(
+              "Rule " + rule + " depends on " + dependency + " before it is produced");
+        }
+      }
+
+      int[] antecedents = rule.antecedents().stream().mapToInt(slot).toArray();
+
+      int[][] conditions;
+      if (rule.conditions() != null) {
+        conditions = rule.conditions().stream()
+            .map(condition -> condition.stream().mapToInt(slot).toArray()).toArray(int[][]::new);
+      } else {
+        conditions = new int[0][];
+      }
+
+      Maybe<BoundRule> maybeBinding = getEvaluator().bind(rule);
+      BoundRule binding = maybeBinding.isYes() ? maybeBinding.orElseThrow() : null;
+
+      int[] parameters = null;
+      if (binding != null)
+        parameters = binding.getParameters().stream().mapToInt(slot).toArray();
+
+      int consequent = rule.consequent().map(slot::applyAsInt).orElse(-1);
+
+      rule.consequent().ifPresent(producedSoFar::add);
+
+      steps[i] = new Step(rule, binding, antecedents, conditions, parameters, consequent);
+    }
+
+    return new CompiledRules(names.toArray(String[]::new), steps);
+  }
+
+  /**
+   * Binds the given rules with this engine's evaluator, where possible, so that they can be run
+   * many times without looking up their members each time.
+   */
+  public PreparedRules prepare(List<NamedRule> rules) {
+    rules = List.copyOf(rules);
+
+    List<BoundRule> bindings = new ArrayList<>(rules.size());
+    for (NamedRule rule : rules) {
+      Maybe<BoundRule> maybeBinding = getEvaluator().bind(rule);
+      bindings.add(maybeBinding.isYes() ? maybeBinding.orElseThrow() : null);
+    }
+
+    return new PreparedRules(rules, bindings);
+  }
+
+  /**
+   * Runs the given rules against the given input once. The rules are evaluated without binding
+   * them first, since binding only pays for itself over many runs. Callers that run the same rules
+   * many times should {@link #prepare(List) prepare} or {@link #compile(List) compile} them once
+   * and keep the result.
+   */
+  public Map<String, Object> run(Map<String, Object> input, List<NamedRule> rules) {
+    rules = List.copyOf(rules);
+    return new PreparedRules(rules, nCopies(rules.size(), null)).run(input);
+  }
+
+  private void evaluate(Map<String, Object> input, BoundRule binding) {
+    List<String> parameters = binding.getParameters();
+
+    Object[] arguments = new Object[parameters.size()];
+    for (int i = 0; i < arguments.length; i++)
+      arguments[i] = input.get(parameters.get(i));
+
+    Object consequentValue = binding.evaluate(arguments);
+
+    Optional<String> maybeConsequentName = binding.getRule().consequent();
+    if (maybeConsequentName.isPresent())
+      input.put(maybeConsequentName.orElseThrow(), consequentValue);
+  }
+
+  private void evaluate(Map<String, Object> input, NamedRule rule) {
+    Optional<Optional<Object>> maybeEvaluated = getEvaluator().run(input, rule);
+    if (maybeEvaluated.isEmpty()) {
+      // This is a framework exception, in that it's not the application developer's (direct)
+      // fault, but the error is likely to be in a module. We'll treat this as a framework
+      // exception here, but maybe we should hint at a module problem in the message.
+      throw new InternalDiscourseException("Failed to evaluate rule " + rule);
+    }
+
+    Optional<Object> maybeConsequent = maybeEvaluated.get();
+    if (maybeConsequent.isPresent()) {
+      String consequentName = rule.consequent().orElseThrow();
+      Object consequentValue = maybeConsequent.orElseThrow();
+      input.put(consequentName, consequentValue);
+    }
   }
 
   protected static boolean ready(Map<String, Object> input, NamedRule rule) {
@@ -21,18 +21,22 @@ package com.sigpwned.discourse.core.pipeline.invocation.step.scan.model;
 
 import static com.sigpwned.discourse.core.util.MoreCollectors.duplicates;
 import static java.util.Objects.requireNonNull;
+import java.util.Map;
 import java.util.Optional;
 import com.sigpwned.discourse.core.annotation.Configurable;
+import com.sigpwned.discourse.core.command.Discriminator;
 import com.sigpwned.discourse.core.command.tree.LeafCommandProperty;
 import com.sigpwned.discourse.core.pipeline.invocation.step.scan.exception.DuplicateCoordinatesScanException;
 import com.sigpwned.discourse.core.pipeline.invocation.step.scan.exception.DuplicatePropertyNamesScanException;
 
 public record PreparedClass<T>(Optional<SuperCommand<? super T>> supercommand, Class<T> clazz,
-    Configurable configurable, Optional<CommandBody> body) {
+    Configurable configurable, Map<Discriminator, Class<? extends T>> subcommands,
+    Optional<CommandBody> body) {
 
   public PreparedClass {
     clazz = requireNonNull(clazz);
     configurable = requireNonNull(configurable);
+    subcommands = requireNonNull(subcommands);
     if (body.isPresent()) {
       final Class<T> theclazz = clazz;
       final CommandBody thebody = body.orElseThrow();
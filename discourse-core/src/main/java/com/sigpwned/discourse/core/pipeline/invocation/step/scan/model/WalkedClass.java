@@ -19,9 +19,15 @@
  */
 package com.sigpwned.discourse.core.pipeline.invocation.step.scan.model;
 
+import java.util.Map;
 import java.util.Optional;
 import com.sigpwned.discourse.core.annotation.Configurable;
+import com.sigpwned.discourse.core.command.Discriminator;
 
+/**
+ * A command class that has been walked, along with the classes of its subcommands, in order. The
+ * subcommands themselves are not walked until they are used.
+ */
 public record WalkedClass<T>(Optional<SuperCommand<? super T>> supercommand, Class<T> clazz,
-    Configurable configurable) {
+    Configurable configurable, Map<Discriminator, Class<? extends T>> subcommands) {
 }
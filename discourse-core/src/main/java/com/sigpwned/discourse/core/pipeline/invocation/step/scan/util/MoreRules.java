@@ -22,9 +22,13 @@ package com.sigpwned.discourse.core.pipeline.invocation.step.scan.util;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.unmodifiableList;
 import static java.util.Collections.unmodifiableSet;
+import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toCollection;
 import static java.util.stream.Collectors.toList;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -33,6 +37,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.IntStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.sigpwned.discourse.core.pipeline.invocation.step.scan.model.NamedRule;
@@ -43,6 +48,13 @@ import com.sigpwned.discourse.core.util.MoreSets;
 public class MoreRules {
   private static final Logger LOGGER = LoggerFactory.getLogger(MoreRules.class);
 
+  /**
+   * The name of the property that holds the command instance. Rules that construct the instance
+   * have this as their consequent, and rules that assign properties to the instance have it as an
+   * antecedent.
+   */
+  public static final String INSTANCE_PROPERTY_NAME = "";
+
   /**
    * Determine whether the given set of guaranteed rules is sufficient to satisfy the given set of
    * necessary rules. If this method returns {@code true}, then it is guaranteed that a solution
@@ -226,6 +238,450 @@ public class MoreRules {
     return unmodifiableList(result);
   }
 
+  /**
+   * <p>
+   * Returns an {@link Analyzer analyzer} for the given rules. An analyzer answers the questions
+   * that callers usually ask of {@link #react(List, Set)} -- which reaction is best, whether some
+   * other reaction consumes properties that the best one does not, and whether there is more than
+   * one best reaction -- without enumerating every combination of rules.
+   * </p>
+   *
+   * <p>
+   * The analyzer indexes the rules once, so it is cheap to analyze the same rules against many
+   * different sets of available properties.
+   * </p>
+   *
+   * @param rules The rules to analyze.
+   * @return An analyzer for the given rules.
+   */
+  public static Analyzer analyzer(List<NamedRule> rules) {
+    return new Analyzer(rules);
+  }
+
+  /**
+   * <p>
+   * Analyzes a fixed list of rules against sets of available properties. Each property is encoded
+   * as one bit, each rule as the indexes of its antecedents and consequent, and each question is
+   * answered by a dataflow analysis over bit sets that is linear in the size of the rules.
+   * </p>
+   *
+   * <p>
+   * Like {@link MoreRules#react(List, Set)}, a reaction chooses one rule for each consequent, and
+   * available properties take precedence over rules that would produce them. The analysis first
+   * finds every rule that could possibly be evaluated, using all alternatives at once. No reaction
+   * can consume any property that those rules do not, so their antecedents are an upper bound. It
+   * then chooses the alternative for each consequent that consumes the most properties that would
+   * otherwise go unconsumed. If that reaction reaches the upper bound, then it is the best reaction
+   * and no reaction diverges from it. That is the case for all well-formed commands. Otherwise,
+   * the analysis falls back to trying the combinations of the consequents that have more than one
+   * alternative, as {@link MoreRules#react(List, Set)} does, but gives up after
+   * {@value #MAX_COMBINATIONS} of them. If it gives up, then it reports every property that some
+   * reaction could consume but the best reaction it found does not as divergent, so the analysis
+   * stays polynomial even for malformed commands.
+   * </p>
+   */
+  public static final class Analyzer {
+    /**
+     * The most combinations of contested alternatives to try when the easy way fails
+     */
+    public static final int MAX_COMBINATIONS = 1024;
+
+    private final List<NamedRule> rules;
+    private final Map<String, Integer> indexes;
+    private final List<String> names;
+
+    /**
+     * The indexes of the antecedents of each rule
+     */
+    private final int[][] antecedents;
+
+    /**
+     * The antecedents of each rule, as bit sets
+     */
+    private final BitSet[] antecedentSets;
+
+    /**
+     * The index of the consequent of each rule, or -1 if the rule has no consequent
+     */
+    private final int[] consequents;
+
+    /**
+     * The rules that consume each property
+     */
+    private final int[][] consumers;
+
+    /**
+     * The rules that produce each property, in order. If two rules have the same consequent and the
+     * same antecedents, then only the first is kept, as in {@link MoreRules#react(List, Set)}.
+     */
+    private final int[][] producers;
+
+    /**
+     * The properties that at least one rule produces
+     */
+    private final int[] produced;
+
+    private Analyzer(List<NamedRule> rules) {
+      this.rules = List.copyOf(rules);
+      this.indexes = new HashMap<>();
+      this.names = new ArrayList<>();
+
+      final int size = this.rules.size();
+      this.antecedents = new int[size][];
+      this.antecedentSets = new BitSet[size];
+      this.consequents = new int[size];
+      for (int r = 0; r < size; r++) {
+        NamedRule rule = this.rules.get(r);
+        antecedents[r] = rule.antecedents().stream().mapToInt(this::index).toArray();
+        antecedentSets[r] = new BitSet();
+        for (int antecedent : antecedents[r])
+          antecedentSets[r].set(antecedent);
+        consequents[r] = rule.consequent().map(this::index).orElse(-1);
+      }
+
+      final List<List<Integer>> consumersLists = new ArrayList<>();
+      final List<List<Integer>> producersLists = new ArrayList<>();
+      for (int n = 0; n < names.size(); n++) {
+        consumersLists.add(new ArrayList<>());
+        producersLists.add(new ArrayList<>());
+      }
+      for (int r = 0; r < size; r++) {
+        for (int antecedent : antecedents[r])
+          consumersLists.get(antecedent).add(r);
+        if (consequents[r] != -1) {
+          List<Integer> producersList = producersLists.get(consequents[r]);
+          final int rr = r;
+          if (producersList.stream().noneMatch(p -> antecedentSets[p].equals(antecedentSets[rr])))
+            producersList.add(r);
+        }
+      }
+      this.consumers = consumersLists.stream()
+          .map(xs -> xs.stream().mapToInt(Integer::intValue).toArray()).toArray(int[][]::new);
+      this.producers = producersLists.stream()
+          .map(xs -> xs.stream().mapToInt(Integer::intValue).toArray()).toArray(int[][]::new);
+      this.produced =
+          IntStream.range(0, names.size()).filter(n -> producers[n].length > 0).toArray();
+    }
+
+    private int index(String name) {
+      return indexes.computeIfAbsent(name, n -> {
+        names.add(n);
+        return names.size() - 1;
+      });
+    }
+
+    /**
+     * Analyzes the rules against the given initial set of available properties.
+     *
+     * @param availablePropertyNames The initial set of available properties.
+     * @return The analysis
+     */
+    public Analysis analyze(Set<String> availablePropertyNames) {
+      final BitSet inputs = new BitSet(names.size());
+      for (String availablePropertyName : availablePropertyNames) {
+        Integer index = indexes.get(availablePropertyName);
+        if (index != null)
+          inputs.set(index);
+      }
+
+      // Which rules could we possibly evaluate, if we could use every alternative at once?
+      final boolean[] live = new boolean[rules.size()];
+      final BitSet reachable = evaluate(inputs, null, live, null);
+
+      // No reaction can consume anything these rules don't.
+      final BitSet bound = new BitSet(names.size());
+      for (int r = 0; r < rules.size(); r++)
+        if (live[r] && !(consequents[r] != -1 && inputs.get(consequents[r])))
+          bound.or(antecedentSets[r]);
+      Integer instance = indexes.get(INSTANCE_PROPERTY_NAME);
+      if (instance != null && reachable.get(instance))
+        bound.set(instance);
+
+      // Sinks are always evaluated if they can be, so their antecedents are always consumed.
+      final BitSet covered = new BitSet(names.size());
+      for (int r = 0; r < rules.size(); r++)
+        if (live[r] && consequents[r] == -1)
+          covered.or(antecedentSets[r]);
+
+      // Choose an alternative for each consequent. If there's only one, then it's easy.
+      final int[] choices = new int[names.size()];
+      Arrays.fill(choices, -1);
+      final List<int[]> contested = new ArrayList<>();
+      for (int c : produced) {
+        if (inputs.get(c))
+          continue;
+        int[] alternatives = Arrays.stream(producers[c]).filter(r -> live[r]).toArray();
+        if (alternatives.length == 1) {
+          choices[c] = alternatives[0];
+          covered.or(antecedentSets[alternatives[0]]);
+        } else if (alternatives.length > 1) {
+          contested.add(alternatives);
+        }
+      }
+
+      // Otherwise, greedily choose the alternative that consumes the most new properties.
+      for (int[] alternatives : contested) {
+        int best = -1;
+        int bestCardinality = -1;
+        for (int alternative : alternatives) {
+          BitSet uncovered = (BitSet) antecedentSets[alternative].clone();
+          uncovered.andNot(covered);
+          if (uncovered.cardinality() > bestCardinality) {
+            best = alternative;
+            bestCardinality = uncovered.cardinality();
+          }
+        }
+        choices[consequents[best]] = best;
+        covered.or(antecedentSets[best]);
+      }
+
+      final WrappedResult candidate = react(inputs, choices);
+      if (candidate.consumed().equals(bound)) {
+        // We found the best reaction. Is there another one just as good?
+        boolean ambiguous = false;
+        if (!contested.isEmpty()) {
+          int[] counts = new int[names.size()];
+          for (int r : candidate.evaluated())
+            for (int antecedent : antecedents[r])
+              counts[antecedent] = counts[antecedent] + 1;
+          for (int[] alternatives : contested) {
+            int choice = choices[consequents[alternatives[0]]];
+            for (int alternative : alternatives) {
+              if (alternative != choice && Arrays.stream(antecedents[choice])
+                  .allMatch(a -> antecedentSets[alternative].get(a) || counts[a] > 1)) {
+                ambiguous = true;
+              }
+            }
+          }
+        }
+        return new Analysis(candidate, Set.of(), ambiguous, availablePropertyNames);
+      }
+
+      // We didn't find it the easy way. Try combinations of contested alternatives, but only so
+      // many, since the number of combinations grows exponentially. Only classes with ambiguous or
+      // malformed rules get here, so we only need to find enough to report the problem.
+      WrappedResult best = null;
+      boolean ambiguous = false;
+      final BitSet union = new BitSet(names.size());
+      final int[] odometer = new int[contested.size()];
+      int combinations = 0;
+      boolean exhausted = false;
+      do {
+        if (combinations == MAX_COMBINATIONS)
+          break;
+        combinations = combinations + 1;
+
+        for (int i = 0; i < contested.size(); i++) {
+          int alternative = contested.get(i)[odometer[i]];
+          choices[consequents[alternative]] = alternative;
+        }
+        WrappedResult result = react(inputs, choices);
+        union.or(result.consumed());
+
+        // Most bang (consumed) for the least buck (evaluated), as in ScanStep
+        int comparison = 1;
+        if (best != null) {
+          comparison = Integer.compare(result.consumed().cardinality(),
+              best.consumed().cardinality());
+          if (comparison == 0)
+            comparison = Integer.compare(best.evaluated().size(), result.evaluated().size());
+        }
+        if (comparison > 0) {
+          best = result;
+          ambiguous = false;
+        } else if (comparison == 0) {
+          ambiguous = true;
+        }
+
+        exhausted = !advance(odometer, contested);
+      } while (!exhausted);
+
+      // Any property that some reaction consumes but the best one does not is divergent. If we
+      // gave up before trying every combination, then every property that some reaction could
+      // consume but the best one we found does not is suspect, so report all of them.
+      final BitSet difference = (BitSet) (exhausted ? union : bound).clone();
+      difference.andNot(best.consumed());
+      final Set<String> divergent = difference.isEmpty() ? Set.of() : toNames(difference);
+
+      return new Analysis(best, divergent, ambiguous, availablePropertyNames);
+    }
+
+    private static boolean advance(int[] odometer, List<int[]> contested) {
+      for (int i = 0; i < odometer.length; i++) {
+        odometer[i] = odometer[i] + 1;
+        if (odometer[i] < contested.get(i).length)
+          return true;
+        odometer[i] = 0;
+      }
+      return false;
+    }
+
+    /**
+     * Evaluates the chosen rule for each consequent, and every sink, against the given inputs.
+     */
+    private WrappedResult react(BitSet inputs, int[] choices) {
+      final List<Integer> evaluated = new ArrayList<>();
+      final BitSet available = evaluate(inputs, choices, null, evaluated);
+
+      final BitSet consumed = new BitSet(names.size());
+      for (int r : evaluated)
+        consumed.or(antecedentSets[r]);
+
+      // And if instance is available, then let's assume we always consume it.
+      Integer instance = indexes.get(INSTANCE_PROPERTY_NAME);
+      if (instance != null && available.get(instance))
+        consumed.set(instance);
+
+      return new WrappedResult(evaluated, available, consumed);
+    }
+
+    /**
+     * Propagates available properties through the rules, in the style of a linear-time Horn
+     * satisfiability solver. Each rule counts its missing antecedents, and fires when the count
+     * reaches zero. If {@code choices} is {@code null}, then every rule may fire. Otherwise, only
+     * the chosen rule for each consequent may fire. Sources are recorded in {@code evaluated} in
+     * the order they fire, which is a dependency order, followed by sinks in rule order.
+     *
+     * @return the available properties
+     */
+    private BitSet evaluate(BitSet inputs, int[] choices, boolean[] live, List<Integer> evaluated) {
+      final int[] missing = new int[rules.size()];
+      final BitSet available = (BitSet) inputs.clone();
+      final ArrayDeque<Integer> pending = new ArrayDeque<>();
+      final ArrayDeque<Integer> ready = new ArrayDeque<>();
+
+      for (int r = 0; r < rules.size(); r++) {
+        missing[r] = antecedents[r].length;
+        if (missing[r] == 0)
+          ready.add(r);
+      }
+      for (int n = inputs.nextSetBit(0); n >= 0; n = inputs.nextSetBit(n + 1))
+        pending.add(n);
+
+      while (!pending.isEmpty() || !ready.isEmpty()) {
+        while (!pending.isEmpty()) {
+          int n = pending.poll();
+          for (int r : consumers[n]) {
+            missing[r] = missing[r] - 1;
+            if (missing[r] == 0)
+              ready.add(r);
+          }
+        }
+
+        if (!ready.isEmpty()) {
+          int r = ready.poll();
+          if (live != null)
+            live[r] = true;
+
+          int c = consequents[r];
+          if (c == -1 || available.get(c))
+            continue;
+          if (choices != null && choices[c] != r)
+            continue;
+
+          available.set(c);
+          pending.add(c);
+          if (evaluated != null)
+            evaluated.add(r);
+        }
+      }
+
+      if (evaluated != null) {
+        for (int r = 0; r < rules.size(); r++)
+          if (consequents[r] == -1 && missing[r] == 0)
+            evaluated.add(r);
+      }
+
+      return available;
+    }
+
+    private Set<String> toNames(BitSet bits) {
+      Set<String> result = new HashSet<>();
+      for (int n = bits.nextSetBit(0); n >= 0; n = bits.nextSetBit(n + 1))
+        result.add(names.get(n));
+      return unmodifiableSet(result);
+    }
+
+    private static record WrappedResult(List<Integer> evaluated, BitSet available,
+        BitSet consumed) {
+    }
+
+    /**
+     * The result of {@link Analyzer#analyze(Set) analyzing} rules against a set of available
+     * properties.
+     */
+    public final class Analysis {
+      private final WrappedResult best;
+      private final Set<String> divergent;
+      private final boolean ambiguous;
+      private final Set<String> availablePropertyNames;
+      private Reaction reaction;
+
+      private Analysis(WrappedResult best, Set<String> divergent, boolean ambiguous,
+          Set<String> availablePropertyNames) {
+        this.best = requireNonNull(best);
+        this.divergent = requireNonNull(divergent);
+        this.ambiguous = ambiguous;
+        this.availablePropertyNames = requireNonNull(availablePropertyNames);
+      }
+
+      /**
+       * The best reaction, i.e., the one that consumes the most properties, and then evaluates the
+       * fewest rules.
+       */
+      public Reaction best() {
+        if (reaction == null) {
+          Set<String> available = new HashSet<>(availablePropertyNames);
+          available.addAll(toNames(best.available()));
+          Set<String> produced = MoreSets.difference(available, availablePropertyNames);
+          reaction = new Reaction(best.evaluated().stream().map(rules::get).toList(), available,
+              produced, toNames(best.consumed()));
+        }
+        return reaction;
+      }
+
+      /**
+       * The properties that some other reaction consumes, but the best reaction does not. If this
+       * is not empty, then the rules diverge, i.e., which properties are consumed depends on which
+       * rules are chosen.
+       */
+      public Set<String> divergent() {
+        return divergent;
+      }
+
+      /**
+       * Whether some other reaction is just as good as the best reaction.
+       */
+      public boolean ambiguous() {
+        return ambiguous;
+      }
+
+      /**
+       * Whether the best reaction consumes all the given properties. This is cheaper than checking
+       * the {@link #best() best reaction} directly.
+       */
+      public boolean consumesAll(Set<String> propertyNames) {
+        for (String propertyName : propertyNames) {
+          Integer index = indexes.get(propertyName);
+          if (index == null || !best.consumed().get(index))
+            return false;
+        }
+        return true;
+      }
+
+      /**
+       * Whether the given property is available after the best reaction. This is cheaper than
+       * checking the {@link #best() best reaction} directly.
+       */
+      public boolean produces(String propertyName) {
+        Integer index = indexes.get(propertyName);
+        if (index != null)
+          return best.available().get(index);
+        return availablePropertyNames.contains(propertyName);
+      }
+    }
+  }
+
   /**
    * Represents the complete evaluation of a set of rules against a set of available properties.
    */
@@ -295,10 +751,9 @@ public class MoreRules {
       }
     }
 
-    // TODO instance constant
     // And if instance is available, then let's assume we always consume it.
-    if (available.contains(""))
-      consumed.add("");
+    if (available.contains(INSTANCE_PROPERTY_NAME))
+      consumed.add(INSTANCE_PROPERTY_NAME);
 
     return new WrappedReaction(evaluated, available, produced, consumed);
   }
@@ -21,6 +21,7 @@ package com.sigpwned.discourse.core.util;
 
 import static java.util.Arrays.asList;
 import java.util.List;
+import com.sigpwned.discourse.core.pipeline.invocation.CompiledCommand;
 import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipeline;
 import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineBuilder;
 
@@ -28,6 +29,22 @@ import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineBuilder
  * A utility class for creating configuration objects from resolvedCommand line arguments.
  */
 public final class Discourse {
+  /**
+   * The pipeline used when the caller does not provide a builder. It is shared so that each
+   * configuration class is only scanned once, no matter how many times it is created.
+   */
+  private static final InvocationPipeline DEFAULT_PIPELINE = InvocationPipeline.builder().build();
+
+  /**
+   * The compiled command for each configuration class, so that creating the same configuration
+   * many times only compiles it once.
+   */
+  private static final ClassValue<CompiledCommand<?>> COMMANDS = new ClassValue<>() {
+    @Override
+    protected CompiledCommand<?> computeValue(Class<?> type) {
+      return DEFAULT_PIPELINE.compile(type);
+    }
+  };
 
   private Discourse() {}
 
@@ -42,7 +59,9 @@ public final class Discourse {
    * Create a configuration object of the given type from the given arguments.
    */
   public static <T> T configuration(Class<T> rawType, List<String> args) {
-    return configuration(rawType, InvocationPipeline.builder(), args);
+    // Each compiled command invocation keeps its state to itself, so it's safe to share the
+    // default pipeline among threads.
+    return rawType.cast(COMMANDS.get(rawType).invoke(args));
   }
 
   /**
@@ -51,13 +70,6 @@ public final class Discourse {
    */
   public static <T> T configuration(Class<T> rawType, InvocationPipelineBuilder builder,
       List<String> args) {
-    T result;
-    try {
-      result = builder.build().invoke(rawType, args);
-    } catch (Throwable e) {
-      e.printStackTrace();
-      throw e;
-    }
-    return result;
+    return builder.build().invoke(rawType, args);
   }
 }
@@ -19,6 +19,7 @@
  */
 package com.sigpwned.discourse.core.util;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -62,7 +63,8 @@ public final class Graphs {
       for (Map.Entry<T, Set<T>> e : closure.entrySet()) {
         T node = e.getKey();
         Set<T> deps = e.getValue();
-        for (T dep : deps) {
+        // Iterate over a copy, since we add to deps as we go
+        for (T dep : new ArrayList<>(deps)) {
           if (deps.addAll(closure.get(dep)))
             changed = true;
         }
@@ -152,4 +152,36 @@ public final class Text {
 
     return buf.toString();
   }
+
+  /**
+   * Returns the Levenshtein distance between the given strings, i.e., the fewest single-character
+   * insertions, deletions, and substitutions that turn one into the other.
+   *
+   * @see <a href="https://en.wikipedia.org/wiki/Levenshtein_distance">Levenshtein Distance</a>
+   */
+  public static int editDistance(String a, String b) {
+    if (a == null)
+      throw new NullPointerException();
+    if (b == null)
+      throw new NullPointerException();
+
+    // Only keep two rows of the table at a time
+    int[] previous = new int[b.length() + 1];
+    int[] current = new int[b.length() + 1];
+    for (int j = 0; j <= b.length(); j++)
+      previous[j] = j;
+
+    for (int i = 1; i <= a.length(); i++) {
+      current[0] = i;
+      for (int j = 1; j <= b.length(); j++) {
+        int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+        current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+      }
+      int[] swap = previous;
+      previous = current;
+      current = swap;
+    }
+
+    return previous[b.length()];
+  }
 }
@@ -19,11 +19,16 @@
  */
 package com.sigpwned.discourse.core.util;
 
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Array;
 import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import com.sigpwned.discourse.core.util.type.TypeShape;
 
 public final class Types {
   private Types() {}
@@ -61,7 +66,7 @@ public final class Types {
    * @throws IllegalArgumentException if the given type is not a fully-resolved array type
    */
   public static Object newConcreteArrayInstance(Type genericType, int length) {
-    Class<?> classType = JodaBeanUtils.eraseToClass(genericType);
+    Class<?> classType = TypeShape.of(genericType).getRawClass();
     if (classType.getComponentType() == null)
       throw new IllegalArgumentException("not an array type");
     return Array.newInstance(classType.getComponentType(), length);
@@ -86,4 +91,86 @@ public final class Types {
     }
     return false;
   }
+
+  /**
+   * Returns the class to keep a cache entry about the given type on, e.g., with a
+   * {@link ClassValue}, so that the entry never keeps a class loader alive that would otherwise be
+   * collected. This is the class the type mentions whose class loader is the same as, or a
+   * descendant of, the class loaders of all the other classes it mentions. For example, the owner
+   * of {@code List<Foo>} is {@code Foo}, not {@code List}. There is no owner if the type mentions a
+   * type variable, or classes from unrelated class loaders.
+   */
+  public static Optional<Class<?>> findCacheOwner(Type genericType) {
+    return Optional.ofNullable(cacheOwner(genericType));
+  }
+
+  /**
+   * Returns the class to keep a cache entry about the given type and annotations on, as in
+   * {@link #findCacheOwner(Type)}, taking the annotation types into account, too.
+   */
+  public static Optional<Class<?>> findCacheOwner(Type genericType,
+      List<Annotation> annotations) {
+    Class<?> owner = cacheOwner(genericType);
+    for (int i = 0; owner != null && i < annotations.size(); i++)
+      owner = youngerCacheOwner(owner, annotations.get(i).annotationType());
+    return Optional.ofNullable(owner);
+  }
+
+  /**
+   * @return the cache owner of the given type, or {@code null} if it has none
+   */
+  private static Class<?> cacheOwner(Type genericType) {
+    if (genericType instanceof Class<?> classType)
+      return classType;
+
+    if (genericType instanceof ParameterizedType parameterizedType) {
+      Class<?> owner = cacheOwner(parameterizedType.getRawType());
+      if (parameterizedType.getOwnerType() != null)
+        owner = youngerCacheOwner(owner, cacheOwner(parameterizedType.getOwnerType()));
+      for (Type argument : parameterizedType.getActualTypeArguments())
+        owner = youngerCacheOwner(owner, cacheOwner(argument));
+      return owner;
+    }
+
+    if (genericType instanceof GenericArrayType arrayType)
+      return cacheOwner(arrayType.getGenericComponentType());
+
+    if (genericType instanceof WildcardType wildcardType) {
+      // There is always at least one upper bound, even if it's just Object
+      Class<?> owner = cacheOwner(wildcardType.getUpperBounds()[0]);
+      for (Type bound : wildcardType.getUpperBounds())
+        owner = youngerCacheOwner(owner, cacheOwner(bound));
+      for (Type bound : wildcardType.getLowerBounds())
+        owner = youngerCacheOwner(owner, cacheOwner(bound));
+      return owner;
+    }
+
+    // A type variable refers to the class or method that declares it, so it has no owner
+    return null;
+  }
+
+  /**
+   * @return whichever of the given classes has the class loader that is the same as or a
+   *         descendant of the other's, or {@code null} if either is {@code null} or their class
+   *         loaders are unrelated
+   */
+  private static Class<?> youngerCacheOwner(Class<?> a, Class<?> b) {
+    if (a == null || b == null)
+      return null;
+    if (isSameOrAncestor(a.getClassLoader(), b.getClassLoader()))
+      return b;
+    if (isSameOrAncestor(b.getClassLoader(), a.getClassLoader()))
+      return a;
+    return null;
+  }
+
+  private static boolean isSameOrAncestor(ClassLoader ancestor, ClassLoader loader) {
+    // The bootstrap class loader is everyone's ancestor
+    if (ancestor == null)
+      return true;
+    for (ClassLoader l = loader; l != null; l = l.getParent())
+      if (l == ancestor)
+        return true;
+    return false;
+  }
 }
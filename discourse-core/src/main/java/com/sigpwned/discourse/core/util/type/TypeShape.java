@@ -0,0 +1,188 @@
+package com.sigpwned.discourse.core.util.type;
+
+import static java.util.Objects.requireNonNull;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.concurrent.ConcurrentHashMap;
+import com.sigpwned.discourse.core.util.JodaBeanUtils;
+import com.sigpwned.discourse.core.util.Types;
+
+/**
+ * <p>
+ * The shape of a type: whether it is a scalar, or a {@link List}, {@link Set}, {@link SortedSet},
+ * array, {@link Optional}, or {@link Map}, and if so, the type of its elements. Unlike
+ * {@link ListType#parse(Type)} and friends, classifying a type never throws an exception, and the
+ * result is cached for as long as every class the type mentions is loaded, so asking about the
+ * same type over and over is cheap.
+ * </p>
+ *
+ * <p>
+ * Only the interfaces themselves count, and only with type arguments, which matches
+ * {@code ListType.parse} and friends. For example, {@code List<String>} is a {@link Kind#LIST
+ * LIST}, but {@code ArrayList<String>} and the raw type {@code List} are {@link Kind#SCALAR
+ * scalars}, since neither is a type that a list sink could assign.
+ * </p>
+ */
+public final class TypeShape {
+  public static enum Kind {
+    SCALAR, LIST, SET, SORTED_SET, ARRAY, OPTIONAL, MAP;
+  }
+
+  /**
+   * The shapes of plain classes
+   */
+  private static final ClassValue<TypeShape> CLASS_SHAPES = new ClassValue<>() {
+    @Override
+    protected TypeShape computeValue(Class<?> type) {
+      return compute(type);
+    }
+  };
+
+  /**
+   * The shapes of parameterized and generic array types, grouped by their
+   * {@link Types#findCacheOwner(Type) cache owner} so that they go away when any class they mention
+   * does. For example, the shape of {@code List<Foo>} is kept on {@code Foo}, not {@code List}.
+   */
+  private static final ClassValue<Map<Type, TypeShape>> GENERIC_SHAPES = new ClassValue<>() {
+    @Override
+    protected Map<Type, TypeShape> computeValue(Class<?> type) {
+      return new ConcurrentHashMap<>();
+    }
+  };
+
+  public static TypeShape of(Type genericType) {
+    if (genericType instanceof Class<?> classType)
+      return CLASS_SHAPES.get(classType);
+
+    if (genericType instanceof ParameterizedType || genericType instanceof GenericArrayType) {
+      Class<?> owner = Types.findCacheOwner(genericType).orElse(null);
+      if (owner != null)
+        return GENERIC_SHAPES.get(owner).computeIfAbsent(genericType, TypeShape::compute);
+    }
+
+    // Type variables, wildcards, and types that mention them are rare here, and cheap to classify
+    return compute(genericType);
+  }
+
+  private static TypeShape compute(Type genericType) {
+    final Class<?> rawClass = JodaBeanUtils.eraseToClass(genericType);
+    final boolean concrete = Types.isConcrete(genericType);
+
+    if (genericType instanceof Class<?> classType && classType.isArray())
+      return new TypeShape(genericType, Kind.ARRAY, rawClass, classType.getComponentType(), null,
+          concrete);
+
+    if (genericType instanceof GenericArrayType arrayType)
+      return new TypeShape(genericType, Kind.ARRAY, rawClass,
+          arrayType.getGenericComponentType(), null, concrete);
+
+    if (genericType instanceof ParameterizedType parameterizedType) {
+      final Type rawType = parameterizedType.getRawType();
+      final Type[] arguments = parameterizedType.getActualTypeArguments();
+      if (rawType == List.class)
+        return new TypeShape(genericType, Kind.LIST, rawClass, arguments[0], null, concrete);
+      if (rawType == Set.class)
+        return new TypeShape(genericType, Kind.SET, rawClass, arguments[0], null, concrete);
+      if (rawType == SortedSet.class)
+        return new TypeShape(genericType, Kind.SORTED_SET, rawClass, arguments[0], null,
+            concrete);
+      if (rawType == Optional.class)
+        return new TypeShape(genericType, Kind.OPTIONAL, rawClass, arguments[0], null, concrete);
+      if (rawType == Map.class)
+        return new TypeShape(genericType, Kind.MAP, rawClass, arguments[1], arguments[0],
+            concrete);
+    }
+
+    return new TypeShape(genericType, Kind.SCALAR, rawClass, null, null, concrete);
+  }
+
+  private final Type genericType;
+  private final Kind kind;
+  private final Class<?> rawClass;
+  private final Type elementType;
+  private final Type keyType;
+  private final boolean concrete;
+
+  private TypeShape(Type genericType, Kind kind, Class<?> rawClass, Type elementType,
+      Type keyType, boolean concrete) {
+    this.genericType = requireNonNull(genericType);
+    this.kind = requireNonNull(kind);
+    this.rawClass = rawClass;
+    this.elementType = elementType;
+    this.keyType = keyType;
+    this.concrete = concrete;
+  }
+
+  /**
+   * @return the type this is the shape of
+   */
+  public Type getGenericType() {
+    return genericType;
+  }
+
+  /**
+   * @return the kind of type
+   */
+  public Kind getKind() {
+    return kind;
+  }
+
+  /**
+   * @return the erasure of the type, as from {@link JodaBeanUtils#eraseToClass(Type)}, or
+   *         {@code null} if it has none
+   */
+  public Class<?> getRawClass() {
+    return rawClass;
+  }
+
+  /**
+   * @return the type of the elements of a collection or array, the type inside an
+   *         {@code Optional}, the type of the values of a {@code Map}, or {@code null} for a scalar
+   */
+  public Type getElementType() {
+    return elementType;
+  }
+
+  /**
+   * @return the type of the keys of a {@code Map}, or {@code null} for any other kind of type
+   */
+  public Type getKeyType() {
+    return keyType;
+  }
+
+  /**
+   * @return {@code true} if the type is {@link Types#isConcrete(Type) concrete}
+   */
+  public boolean isConcrete() {
+    return concrete;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(genericType);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj)
+      return true;
+    if (obj == null)
+      return false;
+    if (getClass() != obj.getClass())
+      return false;
+    TypeShape other = (TypeShape) obj;
+    return Objects.equals(genericType, other.genericType);
+  }
+
+  @Override
+  public String toString() {
+    return "TypeShape [genericType=" + genericType + ", kind=" + kind + "]";
+  }
+}
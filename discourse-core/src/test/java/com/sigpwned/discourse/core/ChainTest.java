@@ -0,0 +1,56 @@
+package com.sigpwned.discourse.core;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.Test;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipeline;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineBuilder;
+
+/**
+ * Test {@link Chain} snapshots and freezing
+ */
+public class ChainTest {
+  @Test
+  public void givenChain_whenAddFirstAndLast_thenKeepOrder() {
+    Chain<String> chain = new Chain<>();
+    chain.addLast("b");
+    chain.addFirst("a");
+    chain.addLast("c");
+
+    List<String> observed = new ArrayList<>();
+    chain.forEach(observed::add);
+    assertThat(observed, is(List.of("a", "b", "c")));
+  }
+
+  @Test
+  public void givenIterator_whenChainChanges_thenIteratorUnaffected() {
+    Chain<String> chain = new Chain<>();
+    chain.addLast("a");
+
+    Iterator<String> iterator = chain.iterator();
+    chain.addLast("b");
+
+    List<String> observed = new ArrayList<>();
+    iterator.forEachRemaining(observed::add);
+    assertThat(observed, is(List.of("a")));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void givenFrozenChain_whenAdd_thenThrowException() {
+    Chain<String> chain = new Chain<>();
+    chain.addLast("a");
+    chain.freeze();
+    assertThat(chain.isFrozen(), is(true));
+    chain.addLast("b");
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void givenBuiltPipeline_whenRegisterModule_thenThrowException() {
+    InvocationPipelineBuilder builder = InvocationPipeline.builder();
+    builder.build();
+    builder.register(new Module() {});
+  }
+}
@@ -0,0 +1,99 @@
+package com.sigpwned.discourse.core;
+
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import java.util.List;
+import org.junit.Test;
+import com.sigpwned.discourse.core.annotation.Configurable;
+import com.sigpwned.discourse.core.annotation.OptionParameter;
+import com.sigpwned.discourse.core.command.tree.LeafCommand;
+import com.sigpwned.discourse.core.command.tree.LeafCommandProperty;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipeline;
+import com.sigpwned.discourse.core.pipeline.invocation.step.scan.CommandModel;
+import com.sigpwned.discourse.core.pipeline.invocation.step.scan.NamingScheme;
+import com.sigpwned.discourse.core.util.Maybe;
+
+/**
+ * Test that the Scan step uses a {@link CommandModel} only with the default modules, and only if
+ * the model is not out of date.
+ */
+public class CommandModelTest {
+  /**
+   * Its model, {@link CommandModelTest_CommandModelTestConfigurable_DiscourseModel}, was generated
+   * before {@link #bravo} was added, so it is out of date.
+   */
+  @Configurable(name = "commandmodel")
+  public static class CommandModelTestConfigurable {
+    @OptionParameter(longName = "alpha")
+    public String alpha;
+
+    @OptionParameter(longName = "bravo")
+    public String bravo;
+  }
+
+  /**
+   * Its model, {@link CommandModelTest_FreshCommandModelTestConfigurable_DiscourseModel}, is up to
+   * date, but only knows about {@link #alpha}, so a scan that uses the model does not find
+   * {@link #bravo}.
+   */
+  @Configurable(name = "freshcommandmodel")
+  public static class FreshCommandModelTestConfigurable {
+    @OptionParameter(longName = "alpha")
+    public String alpha;
+
+    @OptionParameter(longName = "bravo")
+    public String bravo;
+  }
+
+  @Test
+  public void givenDefaultPipelineAndFreshModel_whenScan_thenUseModel() {
+    InvocationPipeline pipeline = InvocationPipeline.builder().build();
+
+    assertThat(propertyNames(pipeline, FreshCommandModelTestConfigurable.class),
+        is(List.of("alpha")));
+
+    FreshCommandModelTestConfigurable observed = pipeline
+        .invoke(FreshCommandModelTestConfigurable.class, List.of("--alpha", "hello"));
+    assertThat(observed.alpha, is("hello"));
+    assertThat(observed.bravo, nullValue());
+  }
+
+  @Test
+  public void givenDefaultPipelineAndStaleModel_whenScan_thenReflect() {
+    InvocationPipeline pipeline = InvocationPipeline.builder().build();
+
+    assertThat(propertyNames(pipeline, CommandModelTestConfigurable.class),
+        is(List.of("alpha", "bravo")));
+
+    CommandModelTestConfigurable observed = pipeline.invoke(CommandModelTestConfigurable.class,
+        List.of("--alpha", "hello", "--bravo", "world"));
+    assertThat(observed.alpha, is("hello"));
+    assertThat(observed.bravo, is("world"));
+  }
+
+  @Test
+  public void givenCustomizedPipeline_whenScan_thenReflect() {
+    InvocationPipeline pipeline = InvocationPipeline.builder().register(new Module() {
+      @Override
+      public void registerNamingSchemes(Chain<NamingScheme> chain) {
+        chain.addLast(object -> Maybe.maybe());
+      }
+    }).build();
+
+    assertThat(propertyNames(pipeline, FreshCommandModelTestConfigurable.class),
+        is(List.of("alpha", "bravo")));
+
+    FreshCommandModelTestConfigurable observed =
+        pipeline.invoke(FreshCommandModelTestConfigurable.class,
+            List.of("--alpha", "hello", "--bravo", "world"));
+    assertThat(observed.alpha, is("hello"));
+    assertThat(observed.bravo, is("world"));
+  }
+
+  private static List<String> propertyNames(InvocationPipeline pipeline, Class<?> clazz) {
+    return ((LeafCommand<?>) pipeline.scan(clazz).getRoot()).getProperties().stream()
+        .map(LeafCommandProperty::getName).sorted().collect(toList());
+  }
+}
@@ -0,0 +1,43 @@
+package com.sigpwned.discourse.core;
+
+import java.lang.reflect.Modifier;
+import java.util.List;
+import com.sigpwned.discourse.core.annotation.OptionParameter;
+import com.sigpwned.discourse.core.pipeline.invocation.step.scan.CommandModelBase;
+import com.sigpwned.discourse.core.pipeline.invocation.step.scan.CommandModelFingerprint;
+import com.sigpwned.discourse.core.pipeline.invocation.step.scan.model.CandidateSyntax;
+import com.sigpwned.discourse.core.pipeline.invocation.step.scan.model.NamedRule;
+import com.sigpwned.discourse.core.pipeline.invocation.step.scan.util.MoreRules;
+
+/**
+ * A hand-written model for {@link CommandModelTest.CommandModelTestConfigurable} as it was before
+ * it had its {@code bravo} option, so tests can tell whether the Scan step used it.
+ */
+public final class CommandModelTest_CommandModelTestConfigurable_DiscourseModel
+    extends CommandModelBase {
+  public CommandModelTest_CommandModelTestConfigurable_DiscourseModel() {
+    super(CommandModelTest.CommandModelTestConfigurable.class.getName());
+  }
+
+  @Override
+  public String getFingerprint() {
+    return CommandModelFingerprint.digest(List.of(
+        CommandModelFingerprint.ancestor(0,
+            CommandModelTest.CommandModelTestConfigurable.class.getName()),
+        CommandModelFingerprint.ancestor(1, Object.class.getName()),
+        CommandModelFingerprint.field(0, "alpha", String.class.getName(),
+            Modifier.PUBLIC, List.of(OptionParameter.class.getName())),
+        CommandModelFingerprint.constructor(List.of(), Modifier.PUBLIC, List.of(), List.of())));
+  }
+
+  @Override
+  public List<CandidateSyntax> nominateSyntax(Class<?> clazz) {
+    return List.of(fieldSyntax(field(clazz, 0, "alpha")));
+  }
+
+  @Override
+  public List<NamedRule> rules(Class<?> clazz) {
+    return List.of(constructorRule(clazz, constructor(clazz), MoreRules.INSTANCE_PROPERTY_NAME),
+        fieldRule(field(clazz, 0, "alpha"), "alpha"));
+  }
+}
@@ -0,0 +1,36 @@
+package com.sigpwned.discourse.core;
+
+import java.util.List;
+import com.sigpwned.discourse.core.pipeline.invocation.step.scan.CommandModelBase;
+import com.sigpwned.discourse.core.pipeline.invocation.step.scan.CommandModelFingerprint;
+import com.sigpwned.discourse.core.pipeline.invocation.step.scan.model.CandidateSyntax;
+import com.sigpwned.discourse.core.pipeline.invocation.step.scan.model.NamedRule;
+import com.sigpwned.discourse.core.pipeline.invocation.step.scan.util.MoreRules;
+
+/**
+ * A hand-written model for {@link CommandModelTest.FreshCommandModelTestConfigurable} that has the
+ * class's current fingerprint, but leaves out one of its options, so tests can tell whether the
+ * Scan step used it.
+ */
+public final class CommandModelTest_FreshCommandModelTestConfigurable_DiscourseModel
+    extends CommandModelBase {
+  public CommandModelTest_FreshCommandModelTestConfigurable_DiscourseModel() {
+    super(CommandModelTest.FreshCommandModelTestConfigurable.class.getName());
+  }
+
+  @Override
+  public String getFingerprint() {
+    return CommandModelFingerprint.of(CommandModelTest.FreshCommandModelTestConfigurable.class);
+  }
+
+  @Override
+  public List<CandidateSyntax> nominateSyntax(Class<?> clazz) {
+    return List.of(fieldSyntax(field(clazz, 0, "alpha")));
+  }
+
+  @Override
+  public List<NamedRule> rules(Class<?> clazz) {
+    return List.of(constructorRule(clazz, constructor(clazz), MoreRules.INSTANCE_PROPERTY_NAME),
+        fieldRule(field(clazz, 0, "alpha"), "alpha"));
+  }
+}
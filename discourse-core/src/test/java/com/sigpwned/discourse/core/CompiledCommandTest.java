@@ -0,0 +1,270 @@
+package com.sigpwned.discourse.core;
+
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.Test;
+import com.sigpwned.discourse.core.annotation.Configurable;
+import com.sigpwned.discourse.core.annotation.DiscourseDescription;
+import com.sigpwned.discourse.core.annotation.FlagParameter;
+import com.sigpwned.discourse.core.annotation.OptionParameter;
+import com.sigpwned.discourse.core.annotation.PositionalParameter;
+import com.sigpwned.discourse.core.args.Coordinate;
+import com.sigpwned.discourse.core.args.SwitchName;
+import com.sigpwned.discourse.core.args.Token;
+import com.sigpwned.discourse.core.args.coordinate.OptionCoordinate;
+import com.sigpwned.discourse.core.args.token.SwitchNameToken;
+import com.sigpwned.discourse.core.args.token.ValueToken;
+import com.sigpwned.discourse.core.module.parameter.environmentvariable.EnvironmentVariableCoordinate;
+import com.sigpwned.discourse.core.module.parameter.flag.FlagCoordinate;
+import com.sigpwned.discourse.core.pipeline.invocation.CompiledCommand;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationContext;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipeline;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineListener;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineListenerChain;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineStep;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationResult;
+import com.sigpwned.discourse.core.pipeline.invocation.step.PreprocessArgsStep;
+import com.sigpwned.discourse.core.pipeline.invocation.step.PreprocessCoordinatesStep;
+import com.sigpwned.discourse.core.pipeline.invocation.step.PreprocessTokensStep;
+import com.sigpwned.discourse.core.pipeline.invocation.step.preprocess.args.ArgsPreprocessorChain;
+import com.sigpwned.discourse.core.pipeline.invocation.step.preprocess.coordinates.CoordinatesPreprocessor;
+import com.sigpwned.discourse.core.pipeline.invocation.step.preprocess.tokens.TokensPreprocessor;
+import com.sigpwned.discourse.core.pipeline.invocation.step.scan.util.MoreRules;
+
+/**
+ * Test that a {@link CompiledCommand} can be invoked repeatedly and concurrently.
+ */
+public class CompiledCommandTest {
+  @DiscourseDescription("compiled command test")
+  @Configurable(name = "compiled")
+  public static class CompiledCommandTestConfigurable {
+    @DiscourseDescription("verbose")
+    @FlagParameter(shortName = "v", longName = "verbose")
+    public boolean verbose;
+
+    @DiscourseDescription("foo")
+    @OptionParameter(shortName = "f", longName = "foo")
+    public String foo;
+
+    @DiscourseDescription("bar")
+    @PositionalParameter(position = 0)
+    public int bar;
+
+    public static CompiledCommandTestConfigurable of(boolean verbose, String foo, int bar) {
+      CompiledCommandTestConfigurable result = new CompiledCommandTestConfigurable();
+      result.verbose = verbose;
+      result.foo = foo;
+      result.bar = bar;
+      return result;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(bar, foo, verbose);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj)
+        return true;
+      if (obj == null)
+        return false;
+      if (getClass() != obj.getClass())
+        return false;
+      CompiledCommandTestConfigurable other = (CompiledCommandTestConfigurable) obj;
+      return bar == other.bar && Objects.equals(foo, other.foo) && verbose == other.verbose;
+    }
+
+    @Override
+    public String toString() {
+      return "CompiledCommandTestConfigurable [verbose=" + verbose + ", foo=" + foo + ", bar="
+          + bar + "]";
+    }
+  }
+
+  @Test
+  public void givenCompiledCommand_whenInvokeRepeatedly_thenBuildExpectedInstances() {
+    CompiledCommand<CompiledCommandTestConfigurable> command =
+        InvocationPipeline.builder().build().compile(CompiledCommandTestConfigurable.class);
+
+    assertThat(command.invoke(List.of("-v", "-f", "alpha", "1")),
+        is(CompiledCommandTestConfigurable.of(true, "alpha", 1)));
+    assertThat(command.invoke(List.of("-f", "bravo", "2")),
+        is(CompiledCommandTestConfigurable.of(false, "bravo", 2)));
+    assertThat(command.invoke(List.of("--verbose", "3")),
+        is(CompiledCommandTestConfigurable.of(true, null, 3)));
+  }
+
+  @Test
+  public void givenPipeline_whenInvokeClassRepeatedly_thenBuildExpectedInstances() {
+    InvocationPipeline pipeline = InvocationPipeline.builder().build();
+
+    assertThat(pipeline.invoke(CompiledCommandTestConfigurable.class, List.of("-f", "alpha", "1")),
+        is(CompiledCommandTestConfigurable.of(false, "alpha", 1)));
+    assertThat(pipeline.invoke(CompiledCommandTestConfigurable.class, List.of("-v", "2")),
+        is(CompiledCommandTestConfigurable.of(true, null, 2)));
+  }
+
+  @Test(timeout = 60000L)
+  public void givenCompiledCommand_whenInvokeConcurrently_thenBuildExpectedInstances()
+      throws Exception {
+    final int threads = 8;
+    final int invocationsPerThread = 2500;
+
+    final CompiledCommand<CompiledCommandTestConfigurable> command =
+        InvocationPipeline.builder().build().compile(CompiledCommandTestConfigurable.class);
+
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Callable<Integer>> tasks = new ArrayList<>();
+      for (int t = 0; t < threads; t++) {
+        final int thread = t;
+        tasks.add(() -> {
+          int successes = 0;
+          for (int i = 0; i < invocationsPerThread; i++) {
+            final boolean verbose = i % 2 == 0;
+            final String foo = "thread" + thread + "-" + i;
+            final int bar = thread * invocationsPerThread + i;
+
+            List<String> args = new ArrayList<>();
+            if (verbose)
+              args.add("-v");
+            args.add("--foo");
+            args.add(foo);
+            args.add(Integer.toString(bar));
+
+            CompiledCommandTestConfigurable observed = command.invoke(args);
+
+            assertThat(observed, is(CompiledCommandTestConfigurable.of(verbose, foo, bar)));
+
+            successes = successes + 1;
+          }
+          return successes;
+        });
+      }
+
+      int total = 0;
+      for (Future<Integer> future : executor.invokeAll(tasks))
+        total = total + future.get();
+
+      assertThat(total, is(threads * invocationsPerThread));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void givenArgsPreprocessorWithoutContext_whenInvoke_thenPreprocessorRuns() {
+    final CompiledCommand<CompiledCommandTestConfigurable> command = InvocationPipeline.builder()
+        .register(context -> context.get(PreprocessArgsStep.ARGS_PREPROCESSOR_KEY)
+            .map(ArgsPreprocessorChain.class::cast).orElseThrow()
+            .addLast(args -> Stream.concat(args.stream(), Stream.of("-f", "alpha")).toList()))
+        .build().compile(CompiledCommandTestConfigurable.class);
+
+    assertThat(command.invoke(List.of("1")),
+        is(CompiledCommandTestConfigurable.of(false, "alpha", 1)));
+  }
+
+  @Test
+  public void givenPostprocessListener_whenInvokeRepeatedly_thenListenerSeesReactedArgs() {
+    final List<Map<String, Object>> observedArgs = new ArrayList<>();
+    final CompiledCommand<CompiledCommandTestConfigurable> command =
+        InvocationPipeline.builder().register(context -> {
+          context.get(InvocationPipelineStep.INVOCATION_PIPELINE_LISTENER_KEY)
+              .map(InvocationPipelineListenerChain.class::cast).orElseThrow()
+              .addLast(new InvocationPipelineListener() {
+                @Override
+                public void afterPostprocessPropertiesStep(Map<String, Object> reducedArgs,
+                    Map<String, Object> postprocessedArgs, InvocationContext context) {
+                  observedArgs.add(postprocessedArgs);
+                }
+              });
+        }).build().compile(CompiledCommandTestConfigurable.class);
+
+    for (int i = 0; i < 2; i++) {
+      CompiledCommandTestConfigurable observed = command.invoke(List.of("-f", "alpha", "1"));
+
+      assertThat(observed, is(CompiledCommandTestConfigurable.of(false, "alpha", 1)));
+      assertThat(observedArgs.size(), is(i + 1));
+      assertThat(observedArgs.get(i).get(MoreRules.INSTANCE_PROPERTY_NAME),
+          sameInstance(observed));
+    }
+  }
+
+  @Test
+  public void givenDefaultPreprocessors_whenPreprocessWithoutContext_thenDoContextFreeWork() {
+    final List<CoordinatesPreprocessor> coordinatesPreprocessors = new ArrayList<>();
+    final List<TokensPreprocessor> tokensPreprocessors = new ArrayList<>();
+    InvocationPipeline.builder().register(context -> {
+      coordinatesPreprocessors
+          .add(context.get(PreprocessCoordinatesStep.COORDINATES_PREPROCESSOR_KEY).orElseThrow());
+      tokensPreprocessors
+          .add(context.get(PreprocessTokensStep.TOKENS_PREPROCESSOR_KEY).orElseThrow());
+    }).build();
+
+    final SwitchName verbose = SwitchName.fromString("verbose");
+    final EnvironmentVariableCoordinate home = new EnvironmentVariableCoordinate("HOME");
+    final Map<Coordinate, String> coordinates = coordinatesPreprocessors.get(0)
+        .preprocess(Map.of(new FlagCoordinate(verbose), "verbose", home, "home"));
+    assertThat(coordinates, is(Map.of(new OptionCoordinate(verbose), "verbose", home, "home")));
+
+    final List<Token> tokens =
+        List.of(new SwitchNameToken(verbose, false), new ValueToken("alpha", false));
+    assertThat(tokensPreprocessors.get(0).preprocessTokens(tokens), is(tokens));
+  }
+
+  @Test
+  public void givenBatchWithBadLine_whenInvokeAll_thenReportEachLine() {
+    List<InvocationResult<CompiledCommandTestConfigurable>> results = InvocationPipeline.builder()
+        .build().invokeAll(CompiledCommandTestConfigurable.class,
+            Stream.of(List.of("-v", "-f", "alpha", "1"), List.of("-f", "bravo", "notanumber"),
+                List.of("--foo", "charlie", "3")))
+        .collect(toList());
+
+    assertThat(results.size(), is(3));
+
+    assertThat(results.get(0).isSuccess(), is(true));
+    assertThat(results.get(0).orElseThrow(),
+        is(CompiledCommandTestConfigurable.of(true, "alpha", 1)));
+
+    assertThat(results.get(1).isSuccess(), is(false));
+    assertThat(results.get(1).getArgs(), is(List.of("-f", "bravo", "notanumber")));
+    assertThat(results.get(1).getException().isPresent(), is(true));
+
+    assertThat(results.get(2).isSuccess(), is(true));
+    assertThat(results.get(2).orElseThrow(),
+        is(CompiledCommandTestConfigurable.of(false, "charlie", 3)));
+  }
+
+  @Test(timeout = 60000L)
+  public void givenParallelBatch_whenInvokeAll_thenBuildExpectedInstancesInOrder() {
+    final int invocations = 20000;
+
+    final CompiledCommand<CompiledCommandTestConfigurable> command =
+        InvocationPipeline.builder().build().compile(CompiledCommandTestConfigurable.class);
+
+    List<InvocationResult<CompiledCommandTestConfigurable>> results = command
+        .invokeAll(IntStream.range(0, invocations).parallel()
+            .mapToObj(i -> i % 2 == 0 ? List.of("-v", "--foo", "foo" + i, Integer.toString(i))
+                : List.of("--foo", "foo" + i, Integer.toString(i))))
+        .collect(toList());
+
+    assertThat(results.size(), is(invocations));
+    for (int i = 0; i < invocations; i++) {
+      assertThat(results.get(i).orElseThrow(),
+          is(CompiledCommandTestConfigurable.of(i % 2 == 0, "foo" + i, i)));
+    }
+  }
+}
@@ -0,0 +1,78 @@
+package com.sigpwned.discourse.core;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Test;
+import com.sigpwned.discourse.core.annotation.Configurable;
+import com.sigpwned.discourse.core.annotation.OptionParameter;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationContext;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipeline;
+
+/**
+ * Test that invocations of one pipeline on many threads at once do not see each other's state
+ */
+public class ConcurrentInvocationTest {
+  @Configurable(name = "alpha")
+  public static class AlphaConfigurable {
+    @OptionParameter(longName = "alpha")
+    public String alpha;
+  }
+
+  @Configurable(name = "bravo")
+  public static class BravoConfigurable {
+    @OptionParameter(longName = "bravo")
+    public String bravo;
+  }
+
+  @Test
+  public void givenDifferentCommands_whenInvokeConcurrently_thenEachResolvesItsOwnRoot()
+      throws Exception {
+    final int threads = 4;
+    final int invocations = 250;
+
+    final InvocationPipeline pipeline = InvocationPipeline.builder().build();
+    final CountDownLatch start = new CountDownLatch(1);
+
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int thread = 0; thread < threads; thread++) {
+        final String value = "value" + thread;
+        final boolean alpha = thread % 2 == 0;
+        futures.add(executor.submit(() -> {
+          start.await();
+          for (int i = 0; i < invocations; i++) {
+            if (alpha) {
+              assertThat(pipeline.invoke(AlphaConfigurable.class, List.of("--alpha", value)).alpha,
+                  is(value));
+            } else {
+              assertThat(pipeline.invoke(BravoConfigurable.class, List.of("--bravo", value)).bravo,
+                  is(value));
+            }
+          }
+          return null;
+        }));
+      }
+
+      start.countDown();
+      for (Future<?> future : futures)
+        future.get();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void givenBuiltPipeline_whenSetInBuilderContext_thenThrowException() {
+    final AtomicReference<InvocationContext> context = new AtomicReference<>();
+    InvocationPipeline.builder().register(context::set).build();
+    context.get().set(String.class, "hello");
+  }
+}
@@ -0,0 +1,99 @@
+package com.sigpwned.discourse.core;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import java.util.List;
+import org.junit.Test;
+import com.sigpwned.discourse.core.annotation.Configurable;
+import com.sigpwned.discourse.core.annotation.DiscourseAlias;
+import com.sigpwned.discourse.core.annotation.DiscourseIgnoreCase;
+import com.sigpwned.discourse.core.annotation.OptionParameter;
+import com.sigpwned.discourse.core.exception.user.InvalidArgumentUserDiscourseException;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipeline;
+import com.sigpwned.discourse.core.util.Text;
+
+/**
+ * Test enum deserialization, including aliases, case-insensitive matching, and suggestions.
+ */
+public class EnumDeserializationTest {
+  public static enum Region {
+    @DiscourseAlias({"us-east-1", "use1"})
+    US_EAST_1,
+
+    @DiscourseAlias({"us-west-2", "usw2"})
+    US_WEST_2,
+
+    @DiscourseAlias("eu-central-1")
+    EU_CENTRAL_1;
+  }
+
+  @DiscourseIgnoreCase
+  public static enum Size {
+    SMALL, MEDIUM, LARGE;
+  }
+
+  @Configurable(name = "enums")
+  public static class EnumDeserializationTestConfigurable {
+    @OptionParameter(longName = "region")
+    public Region region;
+
+    @OptionParameter(longName = "anycase-region")
+    @DiscourseIgnoreCase
+    public Region anycaseRegion;
+
+    @OptionParameter(longName = "size")
+    public Size size;
+  }
+
+  private static EnumDeserializationTestConfigurable invoke(String... args) {
+    return InvocationPipeline.builder().build().invoke(EnumDeserializationTestConfigurable.class,
+        List.of(args));
+  }
+
+  @Test
+  public void givenNamesAndAliases_whenInvoke_thenMatchConstants() {
+    EnumDeserializationTestConfigurable observed =
+        invoke("--region", "usw2", "--anycase-region", "US-EAST-1", "--size", "medium");
+
+    assertThat(observed.region, is(Region.US_WEST_2));
+    assertThat(observed.anycaseRegion, is(Region.US_EAST_1));
+    assertThat(observed.size, is(Size.MEDIUM));
+
+    assertThat(invoke("--region", "EU_CENTRAL_1").region, is(Region.EU_CENTRAL_1));
+  }
+
+  @Test(expected = InvalidArgumentUserDiscourseException.class)
+  public void givenWrongCase_whenInvokeCaseSensitive_thenThrowException() {
+    invoke("--region", "US-EAST-1");
+  }
+
+  @Test
+  public void givenTypo_whenInvoke_thenSuggestClosestValues() {
+    try {
+      invoke("--region", "us-east-2");
+      throw new AssertionError("expected exception");
+    } catch (InvalidArgumentUserDiscourseException e) {
+      assertThat(e.getValue(), is("us-east-2"));
+      assertThat(e.getMessage(), containsString("did you mean us-east-1"));
+    }
+  }
+
+  @Test
+  public void givenNothingClose_whenInvoke_thenListValues() {
+    try {
+      invoke("--size", "gigantic");
+      throw new AssertionError("expected exception");
+    } catch (InvalidArgumentUserDiscourseException e) {
+      assertThat(e.getMessage(), containsString("expected one of SMALL, MEDIUM, LARGE"));
+    }
+  }
+
+  @Test
+  public void givenStrings_whenEditDistance_thenCountEdits() {
+    assertThat(Text.editDistance("", ""), is(0));
+    assertThat(Text.editDistance("abc", ""), is(3));
+    assertThat(Text.editDistance("kitten", "sitting"), is(3));
+    assertThat(Text.editDistance("us-east-2", "us-east-1"), is(1));
+  }
+}
@@ -0,0 +1,107 @@
+package com.sigpwned.discourse.core;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Test;
+import com.sigpwned.discourse.core.annotation.Configurable;
+import com.sigpwned.discourse.core.annotation.FlagParameter;
+import com.sigpwned.discourse.core.annotation.OptionParameter;
+import com.sigpwned.discourse.core.annotation.PositionalParameter;
+import com.sigpwned.discourse.core.pipeline.invocation.CompiledCommand;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipeline;
+import com.sigpwned.discourse.core.pipeline.invocation.step.PostprocessArgsStep;
+import com.sigpwned.discourse.core.pipeline.invocation.step.postprocess.args.ArgsPostprocessorChain;
+
+/**
+ * <p>
+ * Test that repeated invocations of one pipeline do not accumulate state.
+ * </p>
+ *
+ * <p>
+ * The soak test runs one million invocations, so it only runs when the {@code discourse.soak}
+ * system property is {@code true}, e.g., {@code mvn test -Dtest=InvocationPipelineSoakTest
+ * -Ddiscourse.soak=true}. The number of invocations can be changed with the
+ * {@code discourse.soak.invocations} system property.
+ * </p>
+ */
+public class InvocationPipelineSoakTest {
+  @Configurable(name = "soak")
+  public static class SoakTestConfigurable {
+    @FlagParameter(shortName = "v", longName = "verbose")
+    public boolean verbose;
+
+    @OptionParameter(shortName = "f", longName = "foo")
+    public String foo;
+
+    @PositionalParameter(position = 0)
+    public int bar;
+  }
+
+  @Test
+  public void givenPipeline_whenInvokeRepeatedly_thenArgsPostprocessorChainDoesNotGrow() {
+    final AtomicReference<ArgsPostprocessorChain> chain = new AtomicReference<>();
+
+    InvocationPipeline pipeline = InvocationPipeline.builder().register(context -> {
+      chain.set(context.get(PostprocessArgsStep.ARGS_POSTPROCESSOR_KEY)
+          .map(ArgsPostprocessorChain.class::cast).orElseThrow());
+    }).build();
+
+    final long before = chain.get().stream().count();
+
+    CompiledCommand<SoakTestConfigurable> command = pipeline.compile(SoakTestConfigurable.class);
+    for (int i = 0; i < 100; i++) {
+      pipeline.invoke(SoakTestConfigurable.class, List.of("-v", "-f", "alpha", "1"));
+      command.invoke(List.of("-v", "-f", "alpha", "1"));
+    }
+
+    final long after = chain.get().stream().count();
+
+    assertThat(after, is(before));
+  }
+
+  @Test
+  public void givenCompiledCommand_whenInvokeOneMillionTimes_thenLatencyAndHeapStayFlat() {
+    assumeTrue(Boolean.getBoolean("discourse.soak"));
+
+    final int invocations = Integer.getInteger("discourse.soak.invocations", 1000000);
+    final int windows = 10;
+    final int invocationsPerWindow = invocations / windows;
+
+    final CompiledCommand<SoakTestConfigurable> command =
+        InvocationPipeline.builder().build().compile(SoakTestConfigurable.class);
+    final List<String> args = List.of("-v", "-f", "alpha", "42");
+
+    final Runtime runtime = Runtime.getRuntime();
+
+    List<Double> latencies = new ArrayList<>(windows);
+    List<Long> heaps = new ArrayList<>(windows);
+    for (int window = 0; window < windows; window++) {
+      final long start = System.nanoTime();
+      for (int i = 0; i < invocationsPerWindow; i++)
+        command.invoke(args);
+      final long elapsed = System.nanoTime() - start;
+
+      System.gc();
+      final long heap = runtime.totalMemory() - runtime.freeMemory();
+
+      latencies.add((double) elapsed / invocationsPerWindow);
+      heaps.add(heap);
+    }
+
+    // The first window includes warmup, so it is not a fair baseline.
+    final double baselineLatency = latencies.get(1);
+    final long baselineHeap = heaps.get(1);
+
+    for (int window = 2; window < windows; window++) {
+      assertTrue("latency grew in window " + window + ", ns/invocation by window: " + latencies,
+          latencies.get(window) <= 2.0 * baselineLatency);
+      assertTrue("heap grew in window " + window + ", heap bytes by window: " + heaps,
+          heaps.get(window) <= baselineHeap + 16L * 1024L * 1024L);
+    }
+  }
+}
@@ -0,0 +1,128 @@
+package com.sigpwned.discourse.core;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import org.junit.Test;
+import com.sigpwned.discourse.core.annotation.Configurable;
+import com.sigpwned.discourse.core.annotation.OptionParameter;
+import com.sigpwned.discourse.core.annotation.Subcommand;
+import com.sigpwned.discourse.core.command.tree.RootCommand;
+import com.sigpwned.discourse.core.command.tree.SuperCommand;
+import com.sigpwned.discourse.core.pipeline.invocation.CompiledCommand;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationContext;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipeline;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineListener;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineListenerChain;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineStep;
+import com.sigpwned.discourse.core.pipeline.invocation.step.scan.exception.DiscriminatorMismatchScanException;
+
+/**
+ * Test that the Scan step only walks and prepares the subcommands that are used, and that
+ * {@link InvocationPipeline#validateAll(Class)} walks and prepares all of them.
+ */
+public class LazySubcommandTest {
+  @Configurable(name = "lazy", subcommands = {
+      @Subcommand(discriminator = "alpha", configurable = AlphaSubcommand.class),
+      @Subcommand(discriminator = "bravo", configurable = BravoSubcommand.class)})
+  public abstract static class LazySubcommandTestConfigurable {
+  }
+
+  @Configurable(discriminator = "alpha", subcommands = {
+      @Subcommand(discriminator = "charlie", configurable = CharlieSubcommand.class),
+      @Subcommand(discriminator = "delta", configurable = DeltaSubcommand.class)})
+  public abstract static class AlphaSubcommand extends LazySubcommandTestConfigurable {
+  }
+
+  /**
+   * Broken on purpose, since its discriminator does not match the one its supercommand gives it
+   */
+  @Configurable(discriminator = "not-bravo")
+  public static class BravoSubcommand extends LazySubcommandTestConfigurable {
+  }
+
+  @Configurable(discriminator = "charlie")
+  public static class CharlieSubcommand extends AlphaSubcommand {
+    @OptionParameter(longName = "charlie")
+    public String charlie;
+  }
+
+  @Configurable(discriminator = "delta")
+  public static class DeltaSubcommand extends AlphaSubcommand {
+    @OptionParameter(longName = "delta")
+    public String delta;
+  }
+
+  private static InvocationPipeline newPipeline(List<Class<?>> walkedClasses) {
+    return InvocationPipeline.builder().register(context -> {
+      context.get(InvocationPipelineStep.INVOCATION_PIPELINE_LISTENER_KEY)
+          .map(InvocationPipelineListenerChain.class::cast).orElseThrow()
+          .addLast(new InvocationPipelineListener() {
+            @Override
+            public <T> void beforeScanStepWalk(Class<T> clazz, InvocationContext context) {
+              walkedClasses.add(clazz);
+            }
+          });
+    }).build();
+  }
+
+  @Test
+  public void givenBrokenSubcommand_whenInvokeOtherSubcommand_thenWalkOnlyPath() {
+    final List<Class<?>> walkedClasses = Collections.synchronizedList(new ArrayList<>());
+    final InvocationPipeline pipeline = newPipeline(walkedClasses);
+
+    for (int i = 0; i < 3; i++) {
+      CharlieSubcommand observed = (CharlieSubcommand) pipeline
+          .invoke(LazySubcommandTestConfigurable.class, List.of("alpha", "charlie", "--charlie",
+              Integer.toString(i)));
+      assertThat(observed.charlie, is(Integer.toString(i)));
+    }
+
+    assertThat(walkedClasses, is(List.of(LazySubcommandTestConfigurable.class,
+        AlphaSubcommand.class, CharlieSubcommand.class)));
+  }
+
+  @Test(expected = DiscriminatorMismatchScanException.class)
+  public void givenBrokenSubcommand_whenInvokeBrokenSubcommand_thenFail() {
+    newPipeline(new ArrayList<>()).invoke(LazySubcommandTestConfigurable.class,
+        List.of("bravo"));
+  }
+
+  @Test(expected = DiscriminatorMismatchScanException.class)
+  public void givenBrokenSubcommand_whenValidateAll_thenFail() {
+    newPipeline(new ArrayList<>()).validateAll(LazySubcommandTestConfigurable.class);
+  }
+
+  @Test(expected = DiscriminatorMismatchScanException.class)
+  public void givenBrokenSubcommand_whenValidateAllCompiled_thenFail() {
+    final CompiledCommand<LazySubcommandTestConfigurable> command =
+        newPipeline(new ArrayList<>()).compile(LazySubcommandTestConfigurable.class);
+
+    DeltaSubcommand observed =
+        (DeltaSubcommand) command.invoke(List.of("alpha", "delta", "--delta", "hello"));
+    assertThat(observed.delta, is("hello"));
+
+    command.validateAll();
+  }
+
+  @Test
+  public void givenSuperCommand_whenGetSubcommandRepeatedly_thenLoadOnce() {
+    final List<Class<?>> walkedClasses = Collections.synchronizedList(new ArrayList<>());
+    final RootCommand<LazySubcommandTestConfigurable> root =
+        newPipeline(walkedClasses).scan(LazySubcommandTestConfigurable.class);
+
+    SuperCommand<?> supercommand = (SuperCommand<?>) root.getRoot();
+    assertThat(supercommand.getDiscriminators(), is(Set.of("alpha", "bravo")));
+    assertThat(walkedClasses, is(List.of(LazySubcommandTestConfigurable.class)));
+
+    assertThat(supercommand.getSubcommand("alpha").orElseThrow(),
+        sameInstance(supercommand.getSubcommand("alpha").orElseThrow()));
+    assertThat(supercommand.getSubcommand("echo").isPresent(), is(false));
+    assertThat(walkedClasses,
+        is(List.of(LazySubcommandTestConfigurable.class, AlphaSubcommand.class)));
+  }
+}
@@ -0,0 +1,129 @@
+package com.sigpwned.discourse.core;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import com.sigpwned.discourse.core.annotation.Configurable;
+import com.sigpwned.discourse.core.annotation.DiscourseDefaultValue;
+import com.sigpwned.discourse.core.annotation.OptionParameter;
+import com.sigpwned.discourse.core.command.planned.PlannedCommand;
+import com.sigpwned.discourse.core.command.resolved.ResolvedCommand;
+import com.sigpwned.discourse.core.pipeline.invocation.CompiledCommand;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationContext;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipeline;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineListener;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineListenerChain;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineStep;
+
+/**
+ * Test that the Plan step plans each leaf command only once, and that invocations which reuse a
+ * plan do not share their values.
+ */
+public class PlanCacheTest {
+  @Configurable(name = "plancache")
+  public static class PlanCacheTestConfigurable {
+    @OptionParameter(shortName = "n", longName = "name")
+    public List<String> names;
+
+    @OptionParameter(longName = "count")
+    @DiscourseDefaultValue("7")
+    public int count;
+  }
+
+  /**
+   * A value that commands can change after they get it
+   */
+  public static class MutableValue {
+    public static MutableValue fromString(String s) {
+      return new MutableValue(new StringBuilder(s));
+    }
+
+    public final StringBuilder text;
+
+    public MutableValue(StringBuilder text) {
+      this.text = text;
+    }
+  }
+
+  @Configurable(name = "mutabledefault")
+  public static class MutableDefaultTestConfigurable {
+    @OptionParameter(longName = "value")
+    @DiscourseDefaultValue("hello")
+    public MutableValue value;
+  }
+
+  private static InvocationPipeline newPipeline(List<PlannedCommand<?>> plans,
+      boolean observeBeforePlanStep) {
+    return InvocationPipeline.builder().register(context -> {
+      InvocationPipelineListenerChain listeners =
+          context.get(InvocationPipelineStep.INVOCATION_PIPELINE_LISTENER_KEY)
+              .map(InvocationPipelineListenerChain.class::cast).orElseThrow();
+      listeners.addLast(new InvocationPipelineListener() {
+        @Override
+        public <T> void afterPlanStep(ResolvedCommand<? extends T> resolvedCommand,
+            PlannedCommand<? extends T> plannedCommand, InvocationContext context) {
+          plans.add(plannedCommand);
+        }
+      });
+      if (observeBeforePlanStep) {
+        listeners.addLast(new InvocationPipelineListener() {
+          @Override
+          public <T> void beforePlanStep(ResolvedCommand<? extends T> resolvedCommand,
+              InvocationContext context) {}
+        });
+      }
+    }).build();
+  }
+
+  @Test
+  public void givenPipeline_whenInvokeRepeatedly_thenReusePlanButNotValues() {
+    final List<PlannedCommand<?>> plans = new ArrayList<>();
+    final CompiledCommand<PlanCacheTestConfigurable> command =
+        newPipeline(plans, false).compile(PlanCacheTestConfigurable.class);
+
+    PlanCacheTestConfigurable first = command.invoke(List.of("-n", "alpha", "-n", "bravo"));
+    PlanCacheTestConfigurable second = command.invoke(List.of("-n", "charlie", "--count", "3"));
+    PlanCacheTestConfigurable third = command.invoke(List.of("-n", "delta"));
+
+    assertThat(first.names, is(List.of("alpha", "bravo")));
+    assertThat(first.count, is(7));
+    assertThat(second.names, is(List.of("charlie")));
+    assertThat(second.count, is(3));
+    assertThat(third.names, is(List.of("delta")));
+    assertThat(third.count, is(7));
+
+    assertThat(plans.size(), is(3));
+    assertThat(plans.get(1), sameInstance(plans.get(0)));
+    assertThat(plans.get(2), sameInstance(plans.get(0)));
+  }
+
+  @Test
+  public void givenMutableDefaultValue_whenInvokeRepeatedly_thenEachInvocationGetsItsOwnDefault() {
+    final List<PlannedCommand<?>> plans = new ArrayList<>();
+    final CompiledCommand<MutableDefaultTestConfigurable> command =
+        newPipeline(plans, false).compile(MutableDefaultTestConfigurable.class);
+
+    MutableDefaultTestConfigurable first = command.invoke(List.of());
+    first.value.text.append(", world");
+    MutableDefaultTestConfigurable second = command.invoke(List.of());
+
+    assertThat(second.value, not(sameInstance(first.value)));
+    assertThat(second.value.text.toString(), is("hello"));
+  }
+
+  @Test
+  public void givenBeforePlanStepListener_whenInvokeRepeatedly_thenPlanEachTime() {
+    final List<PlannedCommand<?>> plans = new ArrayList<>();
+    final InvocationPipeline pipeline = newPipeline(plans, true);
+
+    pipeline.invoke(PlanCacheTestConfigurable.class, List.of("-n", "alpha"));
+    pipeline.invoke(PlanCacheTestConfigurable.class, List.of("-n", "bravo"));
+
+    assertThat(plans.size(), is(2));
+    assertThat(plans.get(1), not(sameInstance(plans.get(0))));
+  }
+}
@@ -0,0 +1,132 @@
+package com.sigpwned.discourse.core;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import com.sigpwned.discourse.core.annotation.Configurable;
+import com.sigpwned.discourse.core.annotation.OptionParameter;
+import com.sigpwned.discourse.core.exception.user.InvalidArgumentUserDiscourseException;
+import com.sigpwned.discourse.core.module.core.plan.value.deserializer.BooleanValueDeserializerFactory;
+import com.sigpwned.discourse.core.module.core.plan.value.deserializer.DoubleValueDeserializerFactory;
+import com.sigpwned.discourse.core.module.core.plan.value.deserializer.IntValueDeserializerFactory;
+import com.sigpwned.discourse.core.module.core.plan.value.deserializer.LongValueDeserializerFactory;
+import com.sigpwned.discourse.core.module.core.plan.value.deserializer.ValueDeserializer;
+import com.sigpwned.discourse.core.module.core.plan.value.sink.AssignValueSinkFactory;
+import com.sigpwned.discourse.core.module.core.plan.value.sink.ValueSink;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationContext;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipeline;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineListener;
+import com.sigpwned.discourse.core.pipeline.invocation.step.map.PrimitiveMappedValues;
+
+/**
+ * Test that primitive values travel from deserializer to sink without being boxed along the way,
+ * and that everything else still sees ordinary boxed values.
+ */
+public class PrimitiveValuesTest {
+  @Configurable(name = "primitives")
+  public static class PrimitiveValuesTestConfigurable {
+    @OptionParameter(longName = "int")
+    public int intValue;
+
+    @OptionParameter(longName = "long")
+    public long longValue;
+
+    @OptionParameter(longName = "double")
+    public double doubleValue;
+
+    @OptionParameter(longName = "boolean")
+    public boolean booleanValue;
+
+    @OptionParameter(longName = "boxed")
+    public Integer boxedValue;
+
+    @OptionParameter(longName = "id")
+    public int[] ids;
+
+    @OptionParameter(longName = "size")
+    public long[] sizes;
+  }
+
+  @Test
+  public void givenPrimitiveTypes_whenGetDeserializer_thenPrimitiveDeserializer() {
+    assertThat(IntValueDeserializerFactory.INSTANCE.getDeserializer(int.class, List.of())
+        .orElseThrow(), instanceOf(ValueDeserializer.OfInt.class));
+    assertThat(LongValueDeserializerFactory.INSTANCE.getDeserializer(long.class, List.of())
+        .orElseThrow(), instanceOf(ValueDeserializer.OfLong.class));
+    assertThat(DoubleValueDeserializerFactory.INSTANCE.getDeserializer(double.class, List.of())
+        .orElseThrow(), instanceOf(ValueDeserializer.OfDouble.class));
+    assertThat(BooleanValueDeserializerFactory.INSTANCE.getDeserializer(boolean.class, List.of())
+        .orElseThrow(), instanceOf(ValueDeserializer.OfBoolean.class));
+  }
+
+  @Test
+  public void givenPrimitiveType_whenGetAssignSink_thenPrimitiveSink() {
+    ValueSink sink = AssignValueSinkFactory.INSTANCE.getSink(int.class, List.of()).orElseThrow();
+    assertThat(sink, instanceOf(ValueSink.OfInt.class));
+    assertThat(sink.get().isPresent(), is(false));
+
+    ((ValueSink.OfInt) sink).putInt(1);
+    sink.put(2);
+    ((ValueSink.OfInt) sink).putInt(3);
+    assertThat(sink.get().orElseThrow(), is(3));
+  }
+
+  @Test
+  public void givenPrimitiveOptions_whenInvoke_thenAssignValues() {
+    List<String> args = new ArrayList<>(List.of("--int", "1000", "--long", "10000000000",
+        "--double", "1.5", "--boolean", "true", "--boxed", "2000"));
+    for (int i = 0; i < 100; i++) {
+      args.add("--id");
+      args.add(Integer.toString(1000 + i));
+    }
+    args.addAll(List.of("--size", "1", "--size", "20000000000"));
+
+    PrimitiveValuesTestConfigurable observed =
+        InvocationPipeline.builder().build().invoke(PrimitiveValuesTestConfigurable.class, args);
+
+    assertThat(observed.intValue, is(1000));
+    assertThat(observed.longValue, is(10000000000L));
+    assertThat(observed.doubleValue, is(1.5));
+    assertThat(observed.booleanValue, is(true));
+    assertThat(observed.boxedValue, is(2000));
+    assertThat(observed.ids.length, is(100));
+    for (int i = 0; i < 100; i++)
+      assertThat(observed.ids[i], is(1000 + i));
+    assertThat(observed.sizes[0], is(1L));
+    assertThat(observed.sizes[1], is(20000000000L));
+  }
+
+  @Test
+  public void givenListener_whenInvoke_thenListenerSeesBoxedValues() {
+    final Map<String, List<Object>> seen = new HashMap<>();
+
+    InvocationPipeline.builder().register(new Module() {
+      @Override
+      public void registerListeners(Chain<InvocationPipelineListener> chain) {
+        chain.addLast(new InvocationPipelineListener() {
+          @Override
+          public void afterMapStep(Map<String, List<String>> groupedArgs,
+              Map<String, List<Object>> mappedArgs, InvocationContext context) {
+            seen.putAll(mappedArgs);
+          }
+        });
+      }
+    }).build().invoke(PrimitiveValuesTestConfigurable.class,
+        List.of("--id", "1000", "--id", "2000"));
+
+    List<Object> ids = seen.get("ids");
+    assertThat(ids, instanceOf(PrimitiveMappedValues.OfInt.class));
+    assertThat(ids, is(List.<Object>of(1000, 2000)));
+  }
+
+  @Test(expected = InvalidArgumentUserDiscourseException.class)
+  public void givenInvalidInt_whenInvoke_thenThrowException() {
+    InvocationPipeline.builder().build().invoke(PrimitiveValuesTestConfigurable.class,
+        List.of("--id", "1000", "--id", "lots"));
+  }
+}
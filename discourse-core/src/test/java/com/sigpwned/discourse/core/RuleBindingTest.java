@@ -0,0 +1,71 @@
+package com.sigpwned.discourse.core;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import java.util.List;
+import org.junit.Test;
+import com.sigpwned.discourse.core.annotation.Configurable;
+import com.sigpwned.discourse.core.annotation.DiscourseAttribute;
+import com.sigpwned.discourse.core.annotation.DiscourseCreator;
+import com.sigpwned.discourse.core.annotation.DiscourseRequired;
+import com.sigpwned.discourse.core.annotation.FlagParameter;
+import com.sigpwned.discourse.core.annotation.OptionParameter;
+import com.sigpwned.discourse.core.util.Discourse;
+
+/**
+ * Test that the core rules can build configuration classes that are not public themselves, which
+ * core reflection cannot access from the framework's own package.
+ */
+public class RuleBindingTest {
+  @Configurable(name = "fieldsandsetters")
+  static class FieldsAndSettersConfigurable {
+    public FieldsAndSettersConfigurable() {}
+
+    @FlagParameter(shortName = "v", longName = "verbose")
+    public boolean verbose;
+
+    private String foo;
+
+    public String getFoo() {
+      return foo;
+    }
+
+    @OptionParameter(shortName = "f", longName = "foo")
+    public void setFoo(String foo) {
+      this.foo = foo;
+    }
+  }
+
+  @Test
+  public void givenNonPublicClassWithFieldsAndSetters_whenInvoke_thenBuildExpectedInstance() {
+    FieldsAndSettersConfigurable observed = Discourse
+        .configuration(FieldsAndSettersConfigurable.class, List.of("-v", "-f", "alpha"));
+
+    assertThat(observed.verbose, is(true));
+    assertThat(observed.getFoo(), is("alpha"));
+  }
+
+  @Configurable(name = "creator")
+  static class CreatorConfigurable {
+    private final String foo;
+
+    @DiscourseCreator
+    public CreatorConfigurable(
+        @DiscourseRequired @OptionParameter(shortName = "f",
+            longName = "foo") @DiscourseAttribute("foo") String foo) {
+      this.foo = foo;
+    }
+
+    public String getFoo() {
+      return foo;
+    }
+  }
+
+  @Test
+  public void givenNonPublicClassWithCreator_whenInvoke_thenBuildExpectedInstance() {
+    CreatorConfigurable observed =
+        Discourse.configuration(CreatorConfigurable.class, List.of("-f", "alpha"));
+
+    assertThat(observed.getFoo(), is("alpha"));
+  }
+}
@@ -0,0 +1,175 @@
+package com.sigpwned.discourse.core;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import com.sigpwned.discourse.core.annotation.Configurable;
+import com.sigpwned.discourse.core.annotation.FlagParameter;
+import com.sigpwned.discourse.core.annotation.OptionParameter;
+import com.sigpwned.discourse.core.annotation.PositionalParameter;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationContext;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipeline;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineListener;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineListenerChain;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineStep;
+import com.sigpwned.discourse.core.util.Discourse;
+
+/**
+ * Test that an {@link InvocationPipeline} scans each command class only once.
+ */
+public class ScanCacheTest {
+  @Configurable(name = "scancache")
+  public static class ScanCacheTestConfigurable {
+    @FlagParameter(shortName = "v", longName = "verbose")
+    public boolean verbose;
+
+    @PositionalParameter(position = 0)
+    public int bar;
+  }
+
+  public static enum ScanCacheTestMode {
+    FAST, SLOW;
+  }
+
+  @Configurable(name = "scancacheenum")
+  public static class ScanCacheTestEnumConfigurable {
+    @OptionParameter(shortName = "m", longName = "mode")
+    public ScanCacheTestMode mode;
+  }
+
+  @Test
+  public void givenPipeline_whenInvokeAndCompileRepeatedly_thenScanOnce() {
+    final AtomicInteger scans = new AtomicInteger();
+
+    InvocationPipeline pipeline = InvocationPipeline.builder().register(context -> {
+      context.get(InvocationPipelineStep.INVOCATION_PIPELINE_LISTENER_KEY)
+          .map(InvocationPipelineListenerChain.class::cast).orElseThrow()
+          .addLast(new InvocationPipelineListener() {
+            @Override
+            public <T> void beforeScanStep(Class<T> clazz, InvocationContext context) {
+              scans.incrementAndGet();
+            }
+          });
+    }).build();
+
+    for (int i = 0; i < 3; i++) {
+      ScanCacheTestConfigurable observed =
+          pipeline.invoke(ScanCacheTestConfigurable.class, List.of("-v", Integer.toString(i)));
+      assertThat(observed.bar, is(i));
+    }
+    for (int i = 0; i < 3; i++) {
+      ScanCacheTestConfigurable observed =
+          pipeline.compile(ScanCacheTestConfigurable.class).invoke(List.of(Integer.toString(i)));
+      assertThat(observed.bar, is(i));
+    }
+    pipeline.scan(ScanCacheTestConfigurable.class);
+
+    assertThat(scans.get(), is(1));
+    assertThat(pipeline.compile(ScanCacheTestConfigurable.class).getRoot(),
+        sameInstance(pipeline.scan(ScanCacheTestConfigurable.class)));
+  }
+
+  @Test
+  public void givenDefaultPipeline_whenConfigurationRepeatedly_thenBuildExpectedInstances() {
+    for (int i = 0; i < 3; i++) {
+      ScanCacheTestConfigurable observed =
+          Discourse.configuration(ScanCacheTestConfigurable.class, List.of(Integer.toString(i)));
+      assertThat(observed.bar, is(i));
+      assertThat(observed.verbose, is(false));
+    }
+  }
+
+  /**
+   * Loads its own copy of the test's command classes, so the classes can be unloaded.
+   */
+  private static class IsolatingClassLoader extends ClassLoader {
+    private static final Set<String> ISOLATED_CLASS_NAMES =
+        Set.of(ScanCacheTestConfigurable.class.getName(), ScanCacheTestMode.class.getName(),
+            ScanCacheTestEnumConfigurable.class.getName());
+
+    public IsolatingClassLoader() {
+      super(ScanCacheTest.class.getClassLoader());
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+      if (!ISOLATED_CLASS_NAMES.contains(name))
+        return super.loadClass(name, resolve);
+      synchronized (getClassLoadingLock(name)) {
+        Class<?> result = findLoadedClass(name);
+        if (result == null) {
+          byte[] bytes;
+          try (InputStream in = getParent()
+              .getResourceAsStream(name.replace('.', '/').concat(".class"))) {
+            bytes = in.readAllBytes();
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+          result = defineClass(name, bytes, 0, bytes.length);
+        }
+        return result;
+      }
+    }
+  }
+
+  @Test
+  public void givenScannedClass_whenClassLoaderUnreachable_thenClassLoaderCollected()
+      throws Exception {
+    InvocationPipeline pipeline = InvocationPipeline.builder().build();
+
+    ClassLoader classLoader = new IsolatingClassLoader();
+    Class<?> clazz = classLoader.loadClass(ScanCacheTestConfigurable.class.getName());
+    pipeline.scan(clazz);
+
+    WeakReference<ClassLoader> reference = new WeakReference<>(classLoader);
+    classLoader = null;
+    clazz = null;
+
+    for (int i = 0; i < 50 && reference.get() != null; i++) {
+      System.gc();
+      Thread.sleep(10L);
+    }
+
+    assertThat(reference.get(), is(nullValue()));
+
+    // The pipeline must stay reachable until the end, or the test proves nothing
+    assertThat(pipeline.scan(ScanCacheTestConfigurable.class).getName().orElse(null),
+        is("scancache"));
+  }
+
+  @Test
+  public void givenInvokedClass_whenClassLoaderUnreachable_thenClassLoaderCollected()
+      throws Exception {
+    InvocationPipeline pipeline = InvocationPipeline.builder().build();
+
+    ClassLoader classLoader = new IsolatingClassLoader();
+    Class<?> clazz = classLoader.loadClass(ScanCacheTestEnumConfigurable.class.getName());
+    Object instance = pipeline.invoke(clazz, List.of("--mode", "FAST"));
+    assertThat(clazz.getField("mode").get(instance).toString(), is("FAST"));
+
+    WeakReference<ClassLoader> reference = new WeakReference<>(classLoader);
+    classLoader = null;
+    clazz = null;
+    instance = null;
+
+    for (int i = 0; i < 50 && reference.get() != null; i++) {
+      System.gc();
+      Thread.sleep(10L);
+    }
+
+    assertThat(reference.get(), is(nullValue()));
+
+    // The pipeline must stay reachable until the end, or the test proves nothing
+    assertThat(pipeline.invoke(ScanCacheTestEnumConfigurable.class, List.of("-m", "SLOW")).mode,
+        is(ScanCacheTestMode.SLOW));
+  }
+}
@@ -0,0 +1,137 @@
+package com.sigpwned.discourse.core;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import org.junit.Test;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipeline;
+import com.sigpwned.discourse.core.pipeline.invocation.step.scan.model.NamedRule;
+import com.sigpwned.discourse.core.pipeline.invocation.step.scan.util.MoreRules;
+
+/**
+ * <p>
+ * Test that scan time grows roughly linearly with the number of properties of a command, and that
+ * rules analysis stays fast even for commands with many contested properties.
+ * </p>
+ *
+ * <p>
+ * The linear scaling test compiles and scans commands with up to 2000 properties, so it only runs
+ * when the {@code discourse.scaling} system property is {@code true}, e.g.,
+ * {@code mvn test -Dtest=ScanScalingTest -Ddiscourse.scaling=true}.
+ * </p>
+ */
+public class ScanScalingTest {
+  private static final List<Integer> SIZES = List.of(10, 100, 500, 1000, 2000);
+
+  /**
+   * Returns the source of a command with the given number of properties. Half are fields, and
+   * half are setters.
+   */
+  private static String source(String className, int properties) {
+    StringBuilder result = new StringBuilder();
+    result.append("import com.sigpwned.discourse.core.annotation.*;\n");
+    result.append("@Configurable(name = \"" + className.toLowerCase() + "\")\n");
+    result.append("public class " + className + " {\n");
+    for (int i = 0; i < properties; i++) {
+      if (i % 2 == 0) {
+        result.append("  @OptionParameter(longName = \"o" + i + "\")\n");
+        result.append("  public String o" + i + ";\n");
+      } else {
+        result.append("  private String o" + i + ";\n");
+        result.append("  @OptionParameter(longName = \"o" + i + "\")\n");
+        result.append("  public void setO" + i + "(String o" + i + ") { this.o" + i + " = o" + i
+            + "; }\n");
+      }
+    }
+    result.append("}\n");
+    return result.toString();
+  }
+
+  @Test
+  public void givenWideCommands_whenScan_thenScanTimeGrowsLinearly() throws Exception {
+    assumeTrue(Boolean.getBoolean("discourse.scaling"));
+
+    Path directory = Files.createTempDirectory("discourse-scan-scaling");
+    List<String> paths = new ArrayList<>();
+    for (int size : SIZES) {
+      Path path = directory.resolve("Wide" + size + ".java");
+      Files.writeString(path, source("Wide" + size, size));
+      paths.add(path.toString());
+    }
+
+    List<String> arguments = new ArrayList<>(List.of("-classpath",
+        System.getProperty("java.class.path"), "-d", directory.toString()));
+    arguments.addAll(paths);
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    if (compiler.run(null, null, null, arguments.toArray(String[]::new)) != 0)
+      throw new IOException("failed to compile wide commands");
+
+    Map<Integer, Double> millis = new LinkedHashMap<>();
+    try (URLClassLoader classLoader = new URLClassLoader(
+        new URL[] {directory.toUri().toURL()}, getClass().getClassLoader())) {
+      for (int size : SIZES) {
+        Class<?> clazz = classLoader.loadClass("Wide" + size);
+
+        // Warm up, then measure. Each scan needs a new pipeline, since pipelines cache scans.
+        for (int i = 0; i < 2; i++)
+          InvocationPipeline.builder().build().scan(clazz);
+
+        final int scans = 3;
+        final long start = System.nanoTime();
+        for (int i = 0; i < scans; i++)
+          InvocationPipeline.builder().build().scan(clazz);
+        final long elapsed = System.nanoTime() - start;
+
+        millis.put(size, elapsed / 1000000.0 / scans);
+      }
+    }
+
+    // Twice the properties should take about twice as long, not four times as long.
+    assertTrue("scan time grew superlinearly, ms/scan by properties: " + millis,
+        millis.get(2000) <= 3.0 * millis.get(1000));
+  }
+
+  /**
+   * Each of many properties has two rules that produce it, and each rule consumes a different
+   * input, so no one reaction consumes every input. Trying every combination would take
+   * 2<sup>40</sup> reactions.
+   */
+  @Test(timeout = 10000L)
+  public void givenManyContestedProperties_whenAnalyze_thenReportDivergenceQuickly() {
+    final int contested = 40;
+
+    List<NamedRule> rules = new ArrayList<>();
+    rules.add(rule("instance", Set.of(), MoreRules.INSTANCE_PROPERTY_NAME));
+    Set<String> available = new HashSet<>();
+    for (int i = 0; i < contested; i++) {
+      rules.add(rule("fromA" + i, Set.of("a" + i), "m" + i));
+      rules.add(rule("fromB" + i, Set.of("b" + i), "m" + i));
+      rules.add(rule("assign" + i, Set.of(MoreRules.INSTANCE_PROPERTY_NAME, "m" + i), null));
+      available.add("a" + i);
+      available.add("b" + i);
+    }
+
+    MoreRules.Analyzer.Analysis analysis = MoreRules.analyzer(rules).analyze(available);
+
+    assertFalse(analysis.divergent().isEmpty());
+  }
+
+  private static NamedRule rule(String name, Set<String> antecedents, String consequent) {
+    return new NamedRule(name, name, Object.class, List.of(), antecedents, Set.of(),
+        Optional.ofNullable(consequent));
+  }
+}
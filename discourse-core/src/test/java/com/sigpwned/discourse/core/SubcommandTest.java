@@ -0,0 +1,74 @@
+package com.sigpwned.discourse.core;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import java.util.List;
+import org.junit.Test;
+import com.sigpwned.discourse.core.annotation.Configurable;
+import com.sigpwned.discourse.core.annotation.FlagParameter;
+import com.sigpwned.discourse.core.annotation.OptionParameter;
+import com.sigpwned.discourse.core.annotation.PositionalParameter;
+import com.sigpwned.discourse.core.annotation.Subcommand;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipeline;
+
+/**
+ * Test that a command tree several subcommands deep scans and resolves to the right leaf.
+ */
+public class SubcommandTest {
+  @Configurable(name = "subcommand", subcommands = {
+      @Subcommand(discriminator = "alpha", configurable = AlphaSubcommand.class),
+      @Subcommand(discriminator = "bravo", configurable = BravoSubcommand.class)})
+  public abstract static class SubcommandTestConfigurable {
+    @FlagParameter(shortName = "v", longName = "verbose")
+    public boolean verbose;
+  }
+
+  @Configurable(discriminator = "alpha", subcommands = {
+      @Subcommand(discriminator = "charlie", configurable = CharlieSubcommand.class),
+      @Subcommand(discriminator = "delta", configurable = DeltaSubcommand.class)})
+  public abstract static class AlphaSubcommand extends SubcommandTestConfigurable {
+    @OptionParameter(shortName = "a", longName = "alpha")
+    public String alpha;
+  }
+
+  @Configurable(discriminator = "bravo")
+  public static class BravoSubcommand extends SubcommandTestConfigurable {
+    @OptionParameter(shortName = "b", longName = "bravo")
+    public String bravo;
+  }
+
+  @Configurable(discriminator = "charlie")
+  public static class CharlieSubcommand extends AlphaSubcommand {
+    @PositionalParameter(position = 0)
+    public String charlie;
+  }
+
+  @Configurable(discriminator = "delta")
+  public static class DeltaSubcommand extends AlphaSubcommand {
+    @OptionParameter(shortName = "d", longName = "delta")
+    public String delta;
+  }
+
+  @Test
+  public void givenTwoLevelTree_whenInvokeLeaf_thenBuildLeaf() {
+    SubcommandTestConfigurable observed = InvocationPipeline.builder().build().invoke(
+        SubcommandTestConfigurable.class, List.of("alpha", "charlie", "-v", "-a", "x", "y"));
+
+    assertThat(observed, instanceOf(CharlieSubcommand.class));
+
+    CharlieSubcommand charlie = (CharlieSubcommand) observed;
+    assertThat(charlie.verbose, is(true));
+    assertThat(charlie.alpha, is("x"));
+    assertThat(charlie.charlie, is("y"));
+  }
+
+  @Test
+  public void givenTwoLevelTree_whenInvokeShallowLeaf_thenBuildLeaf() {
+    SubcommandTestConfigurable observed = InvocationPipeline.builder().build()
+        .invoke(SubcommandTestConfigurable.class, List.of("bravo", "-b", "x"));
+
+    assertThat(observed, instanceOf(BravoSubcommand.class));
+    assertThat(((BravoSubcommand) observed).bravo, is("x"));
+  }
+}
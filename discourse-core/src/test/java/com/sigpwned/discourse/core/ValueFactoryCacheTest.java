@@ -0,0 +1,140 @@
+package com.sigpwned.discourse.core;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import com.sigpwned.discourse.core.module.core.plan.value.deserializer.IntValueDeserializerFactory;
+import com.sigpwned.discourse.core.module.core.plan.value.deserializer.ValueDeserializer;
+import com.sigpwned.discourse.core.module.core.plan.value.deserializer.ValueDeserializerFactory;
+import com.sigpwned.discourse.core.module.core.plan.value.deserializer.ValueDeserializerFactoryChain;
+import com.sigpwned.discourse.core.module.core.plan.value.sink.ListAddValueSinkFactory;
+import com.sigpwned.discourse.core.module.core.plan.value.sink.ValueSink;
+import com.sigpwned.discourse.core.module.core.plan.value.sink.ValueSinkFactory;
+import com.sigpwned.discourse.core.module.core.plan.value.sink.ValueSinkFactoryChain;
+
+/**
+ * Test that {@link ValueDeserializerFactoryChain} and {@link ValueSinkFactoryChain} remember their
+ * answers only when they are allowed to.
+ */
+public class ValueFactoryCacheTest {
+  private static final List<String> LIST_OF_STRING = List.of();
+
+  private static Type listOfStringType() throws NoSuchFieldException {
+    return ValueFactoryCacheTest.class.getDeclaredField("LIST_OF_STRING").getGenericType();
+  }
+
+  private static class CountingDeserializerFactory implements ValueDeserializerFactory<String> {
+    private final AtomicInteger calls = new AtomicInteger();
+    private final boolean cacheable;
+
+    public CountingDeserializerFactory(boolean cacheable) {
+      this.cacheable = cacheable;
+    }
+
+    @Override
+    public Optional<ValueDeserializer<? extends String>> getDeserializer(Type genericType,
+        List<Annotation> annotations) {
+      calls.incrementAndGet();
+      if (genericType != String.class)
+        return Optional.empty();
+      return Optional.of(s -> s);
+    }
+
+    @Override
+    public boolean isCacheable() {
+      return cacheable;
+    }
+  }
+
+  @Test
+  public void givenCacheableFactories_whenGetDeserializerRepeatedly_thenAskFactoriesOnce() {
+    CountingDeserializerFactory factory = new CountingDeserializerFactory(true);
+
+    ValueDeserializerFactoryChain chain = new ValueDeserializerFactoryChain();
+    chain.addLast(factory);
+
+    ValueDeserializer<?> first = chain.getDeserializer(String.class, List.of()).orElseThrow();
+    ValueDeserializer<?> second = chain.getDeserializer(String.class, List.of()).orElseThrow();
+    assertThat(second, sameInstance(first));
+    assertThat(factory.calls.get(), is(1));
+
+    // Negative answers are remembered, too
+    assertThat(chain.getDeserializer(Object.class, List.of()).isPresent(), is(false));
+    assertThat(chain.getDeserializer(Object.class, List.of()).isPresent(), is(false));
+    assertThat(factory.calls.get(), is(2));
+  }
+
+  @Test
+  public void givenUncacheableFactory_whenGetDeserializerRepeatedly_thenAskFactoryEveryTime() {
+    CountingDeserializerFactory factory = new CountingDeserializerFactory(false);
+
+    ValueDeserializerFactoryChain chain = new ValueDeserializerFactoryChain();
+    chain.addLast(IntValueDeserializerFactory.INSTANCE);
+    chain.addLast(factory);
+
+    chain.getDeserializer(String.class, List.of());
+    chain.getDeserializer(String.class, List.of());
+    assertThat(factory.calls.get(), is(2));
+
+    // The uncacheable factory comes after the one that answers, so this can still be cached
+    chain.getDeserializer(int.class, List.of());
+    chain.getDeserializer(int.class, List.of());
+    assertThat(factory.calls.get(), is(2));
+  }
+
+  @Test
+  public void givenCachedAnswer_whenChainChanges_thenAskAgain() {
+    CountingDeserializerFactory factory = new CountingDeserializerFactory(true);
+
+    ValueDeserializerFactoryChain chain = new ValueDeserializerFactoryChain();
+    chain.addLast(IntValueDeserializerFactory.INSTANCE);
+
+    assertThat(chain.getDeserializer(String.class, List.of()).isPresent(), is(false));
+
+    chain.addLast(factory);
+
+    assertThat(chain.getDeserializer(String.class, List.of()).isPresent(), is(true));
+    assertThat(factory.calls.get(), is(1));
+  }
+
+  @Test
+  public void givenCacheableSinkFactory_whenGetSinkRepeatedly_thenReturnNewSinks()
+      throws NoSuchFieldException {
+    final AtomicInteger calls = new AtomicInteger();
+
+    ValueSinkFactoryChain chain = new ValueSinkFactoryChain();
+    chain.addLast(new ValueSinkFactory() {
+      @Override
+      public Optional<ValueSink> getSink(Type genericType, List<Annotation> annotations) {
+        calls.incrementAndGet();
+        return ListAddValueSinkFactory.INSTANCE.getSink(genericType, annotations);
+      }
+
+      @Override
+      public boolean isCacheable() {
+        return true;
+      }
+    });
+
+    Type type = listOfStringType();
+    ValueSink first = chain.getSink(type, List.of()).orElseThrow();
+    first.put("hello");
+    ValueSink second = chain.getSink(type, List.of()).orElseThrow();
+
+    assertThat(second, not(sameInstance(first)));
+    assertThat(second.get(), is(Optional.of(List.of())));
+    assertThat(calls.get(), is(2));
+
+    // The default factory handles String, and the chain should remember that
+    chain.getSink(String.class, List.of());
+    chain.getSink(String.class, List.of());
+    assertThat(calls.get(), is(3));
+  }
+}
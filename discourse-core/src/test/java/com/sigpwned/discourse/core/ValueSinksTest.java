@@ -21,17 +21,34 @@ package com.sigpwned.discourse.core;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.SortedSet;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.Test;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.reflect.TypeToken;
 import com.sigpwned.discourse.core.annotation.Configurable;
 import com.sigpwned.discourse.core.annotation.OptionParameter;
+import com.sigpwned.discourse.core.exception.user.InvalidArgumentUserDiscourseException;
+import com.sigpwned.discourse.core.module.CoreModule;
+import com.sigpwned.discourse.core.module.core.plan.value.deserializer.ValueDeserializer;
+import com.sigpwned.discourse.core.module.core.plan.value.deserializer.ValueDeserializerFactory;
+import com.sigpwned.discourse.core.module.core.plan.value.sink.ValueSink;
+import com.sigpwned.discourse.core.module.core.plan.value.sink.ValueSinkFactory;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationContext;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipeline;
+import com.sigpwned.discourse.core.pipeline.invocation.step.PlanStep;
 import com.sigpwned.discourse.core.util.Discourse;
 
 /**
@@ -107,4 +124,153 @@ public class ValueSinksTest {
             ImmutableSet.of("delta", "echo"), ImmutableSortedSet.of("foxtrot", "golf"),
             new String[] {"hotel", "india"})));
   }
+
+  @Configurable
+  public static class PrimitiveArraySinkExample {
+    @OptionParameter(longName = "int")
+    public int[] ints;
+
+    @OptionParameter(longName = "long")
+    public long[] longs;
+
+    @OptionParameter(longName = "double")
+    public double[] doubles;
+
+    @OptionParameter(longName = "boolean")
+    public boolean[] booleans;
+
+    @OptionParameter(longName = "char")
+    public char[] chars;
+
+    @OptionParameter(longName = "byte")
+    public byte[] bytes;
+
+    @OptionParameter(longName = "string")
+    public String[] strings;
+  }
+
+  @Test
+  public void givenManyArrayValues_whenInvoke_thenCollectAllInOrder() {
+    final int n = 1000;
+
+    List<String> args = new ArrayList<>();
+    for (int i = 0; i < n; i++) {
+      args.addAll(List.of("--int", Integer.toString(i), "--long", Long.toString(i), "--double",
+          Double.toString(i), "--boolean", Boolean.toString(i % 2 == 0), "--char",
+          Character.toString((char) ('a' + i % 26)), "--byte", Byte.toString((byte) (i % 100)),
+          "--string", Integer.toString(i)));
+    }
+
+    PrimitiveArraySinkExample observed =
+        Discourse.configuration(PrimitiveArraySinkExample.class, args);
+
+    assertThat(observed.ints.length, is(n));
+    assertThat(observed.longs.length, is(n));
+    assertThat(observed.doubles.length, is(n));
+    assertThat(observed.booleans.length, is(n));
+    assertThat(observed.chars.length, is(n));
+    assertThat(observed.bytes.length, is(n));
+    assertThat(observed.strings.length, is(n));
+    for (int i = 0; i < n; i++) {
+      assertThat(observed.ints[i], is(i));
+      assertThat(observed.longs[i], is((long) i));
+      assertThat(observed.doubles[i], is((double) i));
+      assertThat(observed.booleans[i], is(i % 2 == 0));
+      assertThat(observed.chars[i], is((char) ('a' + i % 26)));
+      assertThat(observed.bytes[i], is((byte) (i % 100)));
+      assertThat(observed.strings[i], is(Integer.toString(i)));
+    }
+  }
+
+  @Test
+  public void givenStockSinks_whenPutAll_thenSameAsPuttingEach() throws NoSuchFieldException {
+    final AtomicReference<InvocationContext> context = new AtomicReference<>();
+    InvocationPipeline.builder().register(context::set).build();
+    ValueSinkFactory factory = context.get().get(PlanStep.VALUE_SINK_FACTORY_KEY).orElseThrow();
+
+    List<String> values = List.of("golf", "alpha", "golf", "echo", "alpha", "bravo");
+    for (String fieldName : List.of("assign", "list", "set", "sortedSet", "array")) {
+      Type type = SinkExample.class.getField(fieldName).getGenericType();
+
+      ValueSink one = factory.getSink(type, List.of()).orElseThrow();
+      ValueSink all = factory.getSink(type, List.of()).orElseThrow();
+      for (String value : values)
+        one.put(value);
+      all.putAll(values);
+      assertThat(fieldName, normalize(all.get().orElseThrow()),
+          is(normalize(one.get().orElseThrow())));
+
+      // Adding more afterwards works, too
+      one.put("zulu");
+      one.put("alpha");
+      all.putAll(List.of("zulu", "alpha"));
+      assertThat(fieldName, normalize(all.get().orElseThrow()),
+          is(normalize(one.get().orElseThrow())));
+    }
+
+    SortedSet<?> sorted = (SortedSet<?>) factory
+        .getSink(SinkExample.class.getField("sortedSet").getGenericType(), List.of())
+        .map(sink -> {
+          sink.putAll(values);
+          return sink.get().orElseThrow();
+        }).orElseThrow();
+    assertThat(new ArrayList<>(sorted), is(List.<Object>of("alpha", "bravo", "echo", "golf")));
+  }
+
+  private static Object normalize(Object value) {
+    return value instanceof Object[] array ? Arrays.asList(array) : value;
+  }
+
+  public static enum Feature {
+    ALPHA, BRAVO, CHARLIE;
+  }
+
+  @Configurable
+  public static class EnumSinkExample {
+    @OptionParameter(longName = "feature")
+    public Set<Feature> features;
+
+    @OptionParameter(longName = "enabled")
+    public EnumSet<Feature> enabled;
+
+    @OptionParameter(longName = "limit")
+    public Map<Feature, Integer> limits;
+
+    @OptionParameter(longName = "label")
+    public EnumMap<Feature, String> labels;
+  }
+
+  @Test
+  public void givenEnumCollections_whenInvoke_thenUseEnumSetAndEnumMap() {
+    EnumSinkExample observed = Discourse.configuration(EnumSinkExample.class,
+        List.of("--feature", "CHARLIE", "--feature", "ALPHA", "--feature", "CHARLIE", "--enabled",
+            "BRAVO", "--limit", "ALPHA=1", "--limit", "BRAVO=2", "--limit", "ALPHA=3", "--label",
+            "CHARLIE=x=y"));
+
+    assertThat(observed.features instanceof EnumSet, is(true));
+    assertThat(observed.features, is(EnumSet.of(Feature.ALPHA, Feature.CHARLIE)));
+    assertThat(observed.enabled, is(EnumSet.of(Feature.BRAVO)));
+
+    assertThat(observed.limits instanceof EnumMap, is(true));
+    assertThat(observed.limits, is(Map.of(Feature.ALPHA, 3, Feature.BRAVO, 2)));
+    assertThat(observed.labels, is(Map.of(Feature.CHARLIE, "x=y")));
+  }
+
+  @Test
+  public void givenPlainChain_whenRegisterDeserializers_thenDeserializeMapEntries() {
+    Chain<ValueDeserializerFactory<?>> chain = new Chain<>();
+    new CoreModule().registerValueDeserializerFactories(chain);
+
+    Type entryType = new TypeToken<Map.Entry<Feature, Integer>>() {}.getType();
+    ValueDeserializer<?> deserializer = chain.stream()
+        .map(factory -> factory.getDeserializer(entryType, List.of()))
+        .flatMap(Optional::stream).findFirst().orElseThrow();
+
+    assertThat(deserializer.deserialize("BRAVO=2"), is(Map.entry(Feature.BRAVO, 2)));
+  }
+
+  @Test(expected = InvalidArgumentUserDiscourseException.class)
+  public void givenEnumMapValueWithoutKey_whenInvoke_thenThrowException() {
+    Discourse.configuration(EnumSinkExample.class, List.of("--limit", "ALPHA"));
+  }
 }
@@ -0,0 +1,51 @@
+package com.sigpwned.discourse.core.dialect;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import com.sigpwned.discourse.core.args.Token;
+
+/**
+ * Test that the single-pass tokenizers of the built-in dialects produce exactly the same tokens as
+ * the tokenizer chains they replace.
+ */
+public class SinglePassArgTokenizerTest {
+  private static List<Token> tokenizeAll(ArgTokenizer tokenizer, List<String> args) {
+    List<Token> result = new ArrayList<>();
+    for (String arg : args) {
+      if (!tokenizer.tokenizeInto(arg, result))
+        throw new AssertionError("tokenizer did not handle " + arg);
+    }
+    return result;
+  }
+
+  @Test
+  public void givenUnixArgs_whenTokenizeSinglePass_thenSameTokensAsChain() {
+    List<String> args = List.of("alpha", "-", "-x", "-xyz", "--hello", "--hello=world",
+        "--hello=", "--a=b=c", "", "x-y", "-é", "--", "-x", "--hello", "--");
+
+    assertThat(tokenizeAll(UnixDialect.INSTANCE.newTokenizer(), args),
+        is(tokenizeAll(UnixDialect.INSTANCE.newTokenizerChain(), args)));
+  }
+
+  @Test
+  public void givenWindowsArgs_whenTokenizeSinglePass_thenSameTokensAsChain() {
+    List<String> args = List.of("alpha", "/", "/x", "/hello", "/hello:world", "", "x/y", "-x");
+
+    assertThat(tokenizeAll(WindowsDialect.INSTANCE.newTokenizer(), args),
+        is(tokenizeAll(WindowsDialect.INSTANCE.newTokenizerChain(), args)));
+  }
+
+  @Test
+  public void givenUnixArg_whenTokenizeSinglePass_thenSameTokensAsTokenize() {
+    assertThat(UnixDialect.INSTANCE.newTokenizer().tokenize("-xy").orElseThrow(),
+        is(UnixDialect.INSTANCE.newTokenizerChain().tokenize("-xy").orElseThrow()));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void givenUnixLongSwitchWithEmptyName_whenTokenizeSinglePass_thenThrowException() {
+    UnixDialect.INSTANCE.newTokenizer().tokenize("--=world");
+  }
+}
@@ -1,59 +0,0 @@
-/*-
- * =================================LICENSE_START==================================
- * discourse-core
- * ====================================SECTION=====================================
- * Copyright (C) 2022 - 2024 Andy Boothe
- * ====================================SECTION=====================================
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- *      http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- * ==================================LICENSE_END===================================
- */
-package com.sigpwned.discourse.core.format.version;
-
-import java.io.IOException;
-import org.junit.After;
-import org.junit.Before;
-import org.junit.Test;
-import com.sigpwned.discourse.core.InvocationContext;
-import com.sigpwned.discourse.core.annotation.Configurable;
-
-/**
- * Test {@link DefaultVersionFormatter}
- */
-public class DefaultVersionFormatterTest {
-
-  public InvocationContext context;
-
-  @Before
-  public void setupDefaultHelpFormatterTest() {
-    // context = new DefaultInvocationContext();
-  }
-
-  @After
-  public void cleanupDefaultHelpFormatterTest() {
-    context = null;
-  }
-
-  @Configurable(name = "test", version = "1.0.0")
-  public static class Example {
-
-  }
-
-  @Test
-  public void givenMultiCommand_whenFormatVersion_thenGenerateExpectedText() throws IOException {
-    // Command<?> command = InvocationPipeline.builder().build().execute(null, null)
-    // String observed = new DefaultVersionFormatter().formatVersion(command);
-    // String expected = Resources.toString(getClass().getResource("commandversion.txt"),
-    // StandardCharsets.UTF_8);
-    // assertThat(observed, is(expected));
-  }
-}
@@ -0,0 +1,130 @@
+package com.sigpwned.discourse.core.pipeline.invocation;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import com.sigpwned.discourse.core.optional.OptionalInvocationContextProperty;
+
+public class InvocationPipelineListenerChainTest {
+  private static final InvocationContext CONTEXT = new InvocationContext() {
+    @Override
+    public <T> OptionalInvocationContextProperty<T, T> get(InvocationContext.Key<T> key) {
+      return OptionalInvocationContextProperty.empty(key);
+    }
+
+    @Override
+    public <T> void set(InvocationContext.Key<T> key, T value) {
+      throw new UnsupportedOperationException();
+    }
+  };
+
+  @Test
+  public void givenListenersOverridingDifferentHooks_whenCallHook_thenOnlyOverridingListenersAreCalledInOrder() {
+    final List<String> calls = new ArrayList<>();
+
+    InvocationPipelineListenerChain chain = new InvocationPipelineListenerChain();
+    chain.addLast(new InvocationPipelineListener() {
+      @Override
+      public void beforePipeline(InvocationContext context) {
+        calls.add("first.beforePipeline");
+      }
+    });
+    chain.addLast(new InvocationPipelineListener() {
+      @Override
+      public void afterPipeline(InvocationContext context) {
+        calls.add("second.afterPipeline");
+      }
+    });
+    chain.addFirst(new InvocationPipelineListener() {
+      @Override
+      public void beforePipeline(InvocationContext context) {
+        calls.add("zeroth.beforePipeline");
+      }
+    });
+
+    chain.beforePipeline(CONTEXT);
+    chain.afterPipeline(CONTEXT);
+    chain.finallyPipeline(CONTEXT);
+
+    assertThat(calls,
+        is(List.of("zeroth.beforePipeline", "first.beforePipeline", "second.afterPipeline")));
+  }
+
+  @Test
+  public void givenChainAlreadyCalled_whenAddListener_thenNewListenerIsCalled() {
+    final List<String> calls = new ArrayList<>();
+
+    InvocationPipelineListenerChain chain = new InvocationPipelineListenerChain();
+    chain.beforePipeline(CONTEXT);
+
+    chain.addLast(new InvocationPipelineListener() {
+      @Override
+      public void beforePipeline(InvocationContext context) {
+        calls.add("beforePipeline");
+      }
+    });
+    chain.beforePipeline(CONTEXT);
+
+    assertThat(calls, is(List.of("beforePipeline")));
+  }
+
+  @Test
+  public void givenFrozenChain_whenCallHook_thenOverridingListenersAreCalled() {
+    final List<String> calls = new ArrayList<>();
+
+    InvocationPipelineListenerChain chain = new InvocationPipelineListenerChain();
+    chain.addLast(new InvocationPipelineListener() {
+      @Override
+      public void beforePipeline(InvocationContext context) {
+        calls.add("beforePipeline");
+      }
+    });
+    chain.freeze();
+
+    chain.beforePipeline(CONTEXT);
+    chain.afterPipeline(CONTEXT);
+
+    assertThat(calls, is(List.of("beforePipeline")));
+    assertThat(chain.observesBeforePlanStep(), is(false));
+  }
+
+  @Test
+  public void givenListenerOverridingPostprocessPropertiesHooks_whenCallHooks_thenListenerIsCalled() {
+    final List<String> calls = new ArrayList<>();
+
+    InvocationPipelineListenerChain chain = new InvocationPipelineListenerChain();
+    chain.addLast(new InvocationPipelineListener() {
+      @Override
+      public void beforePostprocessPropertiesStep(Map<String, Object> sinkedArgs,
+          InvocationContext context) {
+        calls.add("before");
+      }
+
+      @Override
+      public void afterPostprocessPropertiesStep(Map<String, Object> sinkedArgs,
+          Map<String, Object> postprocessedArgs, InvocationContext context) {
+        calls.add("after");
+      }
+
+      @Override
+      public void catchPostprocessPropertiesStep(Throwable t, InvocationContext context) {
+        calls.add("catch");
+      }
+
+      @Override
+      public void finallyPostprocessPropertiesStep(InvocationContext context) {
+        calls.add("finally");
+      }
+    });
+
+    chain.beforePostprocessPropertiesStep(Map.of(), CONTEXT);
+    chain.afterPostprocessPropertiesStep(Map.of(), Map.of(), CONTEXT);
+    chain.catchPostprocessPropertiesStep(new RuntimeException(), CONTEXT);
+    chain.finallyPostprocessPropertiesStep(CONTEXT);
+
+    assertThat(calls, is(List.of("before", "after", "catch", "finally")));
+  }
+}
@@ -0,0 +1,123 @@
+package com.sigpwned.discourse.core.pipeline.invocation;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Test;
+import com.sigpwned.discourse.core.annotation.Configurable;
+import com.sigpwned.discourse.core.annotation.OptionParameter;
+import com.sigpwned.discourse.core.pipeline.invocation.step.ResolveStep;
+
+/**
+ * Test {@link SlotInvocationContext} and {@link LayeredInvocationContext}
+ */
+public class SlotInvocationContextTest {
+  @Configurable(name = "slots")
+  public static class SlotInvocationContextTestConfigurable {
+    @OptionParameter(longName = "name")
+    public String name;
+  }
+
+  @Test
+  public void givenSameNameAndType_whenCreateKey_thenSameKey() {
+    InvocationContext.Key<String> key = InvocationContext.Key.of("slot-test", String.class);
+
+    assertThat(InvocationContext.Key.of("slot-test", String.class), sameInstance(key));
+    assertThat(InvocationContext.Key.of(StringBuilder.class),
+        sameInstance(InvocationContext.Key.of(StringBuilder.class)));
+    assertThat(new InvocationContext.Key<>("slot-test", String.class), is(key));
+    assertThat(new InvocationContext.Key<>("slot-test", String.class).getSlot(), is(key.getSlot()));
+  }
+
+  @Test
+  public void givenSlotAndOverflowKeys_whenSetAndGet_thenSameValues() {
+    // Make enough keys that some of them have no slot
+    List<InvocationContext.Key<String>> keys = new ArrayList<>();
+    for (int i = 0; i <= InvocationContext.Key.MAX_SLOTS; i++)
+      keys.add(InvocationContext.Key.of("slot-test-" + i, String.class));
+    assertThat(keys.get(keys.size() - 1).getSlot(), is(-1));
+
+    SlotInvocationContext context = new SlotInvocationContext();
+    for (InvocationContext.Key<String> key : keys)
+      context.set(key, key.getName().orElseThrow());
+
+    for (InvocationContext.Key<String> key : keys) {
+      assertThat(context.get(key).get(), is(key.getName().orElseThrow()));
+      assertThat(context.get(key), sameInstance(context.get(key)));
+    }
+
+    context.clear();
+    for (InvocationContext.Key<String> key : keys)
+      assertThat(context.get(key).isPresent(), is(false));
+  }
+
+  @Test
+  public void givenLayer_whenSet_thenParentUnchanged() {
+    InvocationContext.Key<String> key = InvocationContext.Key.of("slot-test-layer", String.class);
+
+    SlotInvocationContext parent = new SlotInvocationContext();
+    parent.set(key, "parent");
+
+    LayeredInvocationContext layer = new LayeredInvocationContext(parent);
+    assertThat(layer.get(key).get(), is("parent"));
+
+    layer.set(key, "layer");
+    assertThat(layer.get(key).get(), is("layer"));
+    assertThat(parent.get(key).get(), is("parent"));
+
+    layer.clear();
+    assertThat(layer.get(key).get(), is("parent"));
+  }
+
+  @Test
+  public void givenLayer_whenSetNull_thenParentValueHidden() {
+    InvocationContext.Key<String> slotted =
+        InvocationContext.Key.of("slot-test-clear", String.class);
+    // Make keys until one has no slot, so the test covers both kinds of storage
+    InvocationContext.Key<StringBuilder> overflowed = null;
+    for (int i = 0; i <= InvocationContext.Key.MAX_SLOTS; i++) {
+      overflowed = InvocationContext.Key.of("slot-test-clear-" + i, StringBuilder.class);
+      if (overflowed.getSlot() == -1)
+        break;
+    }
+    assertThat(overflowed.getSlot(), is(-1));
+
+    SlotInvocationContext parent = new SlotInvocationContext();
+    parent.set(slotted, "parent");
+    parent.set(overflowed, new StringBuilder("parent"));
+
+    LayeredInvocationContext layer = new LayeredInvocationContext(parent);
+    layer.set(slotted, null);
+    layer.set(overflowed, null);
+    assertThat(layer.get(slotted).isPresent(), is(false));
+    assertThat(layer.get(overflowed).isPresent(), is(false));
+    assertThat(parent.get(slotted).get(), is("parent"));
+    assertThat(parent.get(overflowed).get().toString(), is("parent"));
+
+    layer.set(slotted, "layer");
+    assertThat(layer.get(slotted).get(), is("layer"));
+
+    layer.clear();
+    assertThat(layer.get(slotted).get(), is("parent"));
+    assertThat(layer.get(overflowed).get().toString(), is("parent"));
+  }
+
+  @Test
+  public void givenPipeline_whenInvoke_thenBuilderContextUnchanged() {
+    final AtomicReference<InvocationContext> builderContext = new AtomicReference<>();
+    InvocationPipeline pipeline =
+        InvocationPipeline.builder().register(builderContext::set).build();
+
+    SlotInvocationContextTestConfigurable observed =
+        pipeline.invoke(SlotInvocationContextTestConfigurable.class, List.of("--name", "alpha"));
+    assertThat(observed.name, is("alpha"));
+
+    InvocationContext context = builderContext.get();
+    assertThat(context.get(ResolveStep.COMMAND_RESOLVER_KEY).isPresent(), is(false));
+    assertThat(context.get(InvocationPipelineStep.ROOT_COMMAND_KEY).isPresent(), is(false));
+    assertThat(context.get(InvocationPipelineStep.RESOLVED_COMMAND_KEY).isPresent(), is(false));
+  }
+}
@@ -0,0 +1,192 @@
+package com.sigpwned.discourse.core.pipeline.invocation.step;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Before;
+import org.junit.Test;
+import com.sigpwned.discourse.core.Chain;
+import com.sigpwned.discourse.core.Module;
+import com.sigpwned.discourse.core.annotation.Configurable;
+import com.sigpwned.discourse.core.annotation.FlagParameter;
+import com.sigpwned.discourse.core.annotation.OptionParameter;
+import com.sigpwned.discourse.core.args.Coordinate;
+import com.sigpwned.discourse.core.args.SwitchName;
+import com.sigpwned.discourse.core.args.Token;
+import com.sigpwned.discourse.core.args.coordinate.OptionCoordinate;
+import com.sigpwned.discourse.core.args.coordinate.PositionalCoordinate;
+import com.sigpwned.discourse.core.args.token.SwitchNameToken;
+import com.sigpwned.discourse.core.args.token.ValueToken;
+import com.sigpwned.discourse.core.module.parameter.systemproperty.SystemPropertyCoordinate;
+import com.sigpwned.discourse.core.module.parameter.systemproperty.SystemPropertyParameter;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationContext;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipeline;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineListener;
+import com.sigpwned.discourse.core.pipeline.invocation.LayeredInvocationContext;
+import com.sigpwned.discourse.core.pipeline.invocation.step.preprocess.coordinates.CoordinatesPreprocessor;
+
+/**
+ * Test that the fused step gives the same results, and throws the same exceptions, as the Parse,
+ * Attribute, and Group steps it replaces.
+ */
+public class FusedParseAttributeGroupStepTest {
+  private static final Coordinate PROPERTY_COORDINATE =
+      new SystemPropertyCoordinate("fused.test.property");
+
+  private static final Map<Coordinate, String> PROPERTY_NAMES =
+      Map.of(new OptionCoordinate(SwitchName.fromString("f")), "foo",
+          new OptionCoordinate(SwitchName.fromString("foo")), "foo",
+          new OptionCoordinate(SwitchName.fromString("b")), "bar", PositionalCoordinate.ZERO,
+          "positional", PROPERTY_COORDINATE, "foo");
+
+  private InvocationContext context;
+
+  @Before
+  public void setupFusedParseAttributeGroupStepTest() {
+    InvocationPipeline.builder().register(c -> context = new LayeredInvocationContext(c)).build();
+  }
+
+  private static Token option(String name) {
+    return new SwitchNameToken(SwitchName.fromString(name), false);
+  }
+
+  private static Token value(String value) {
+    return new ValueToken(value, false);
+  }
+
+  private Object unfused(List<Token> tokens, List<Map.Entry<Coordinate, String>> supplementary) {
+    try {
+      context.set(ParseStep.SUPPLEMENTARY_ARGS_KEY, supplementary);
+      return new GroupStep().group(new AttributeStep().attribute(PROPERTY_NAMES,
+          new ParseStep().parse(tokens, context), context), context);
+    } catch (RuntimeException e) {
+      return e.getClass().getName() + ": " + e.getMessage();
+    }
+  }
+
+  private Object fused(List<Token> tokens, List<Map.Entry<Coordinate, String>> supplementary) {
+    try {
+      return new FusedParseAttributeGroupStep().parseAttributeGroup(
+          new FusedParseAttributeGroupStep.Table(PROPERTY_NAMES), tokens, supplementary);
+    } catch (RuntimeException e) {
+      return e.getClass().getName() + ": " + e.getMessage();
+    }
+  }
+
+  @Test
+  public void givenTokens_whenFuse_thenSameAsUnfused() {
+    List<List<Token>> cases = List.of(List.of(),
+        List.of(option("f"), value("alpha"), value("x"), option("foo"), value("bravo"),
+            option("b"), value("charlie"), value("y")),
+        List.of(value("x")), List.of(option("b"), value("alpha")));
+
+    for (List<Token> tokens : cases)
+      assertThat(tokens.toString(), fused(tokens, List.of()), is(unfused(tokens, List.of())));
+  }
+
+  @Test
+  public void givenSupplementaryArgs_whenFuse_thenSameAsUnfused() {
+    List<Token> tokens = List.of(option("f"), value("alpha"));
+
+    List<Map.Entry<Coordinate, String>> known = List.of(Map.entry(PROPERTY_COORDINATE, "bravo"));
+    assertThat(fused(tokens, known), is(unfused(tokens, known)));
+
+    List<Map.Entry<Coordinate, String>> unknown =
+        List.of(Map.entry(new SystemPropertyCoordinate("unknown"), "bravo"));
+    assertThat(fused(tokens, unknown), is(unfused(tokens, unknown)));
+  }
+
+  @Test
+  public void givenBadTokens_whenFuse_thenSameExceptionAsUnfused() {
+    List<List<Token>> cases = List.of(List.of(option("f")), List.of(option("f"), option("b")),
+        List.of(option("x"), value("alpha")),
+        // The unknown option comes first, but the missing value is a parse error, which wins
+        List.of(option("x"), value("alpha"), option("f")));
+
+    for (List<Token> tokens : cases)
+      assertThat(tokens.toString(), fused(tokens, List.of()), is(unfused(tokens, List.of())));
+  }
+
+  @Configurable(name = "fused")
+  public static class FusedTestConfigurable {
+    @FlagParameter(shortName = "v", longName = "verbose")
+    public boolean verbose;
+
+    @OptionParameter(shortName = "f", longName = "foo")
+    public String foo;
+
+    @SystemPropertyParameter(property = "fused.test.bar")
+    @OptionParameter(longName = "bar")
+    public String bar;
+  }
+
+  @Test
+  public void givenSystemProperty_whenInvoke_thenUseSystemProperty() {
+    String previous = System.setProperty("fused.test.bar", "hello");
+    try {
+      FusedTestConfigurable observed = InvocationPipeline.builder().build()
+          .invoke(FusedTestConfigurable.class, List.of("-f", "x"));
+
+      assertThat(observed.foo, is("x"));
+      assertThat(observed.bar, is("hello"));
+    } finally {
+      if (previous == null)
+        System.clearProperty("fused.test.bar");
+      else
+        System.setProperty("fused.test.bar", previous);
+    }
+  }
+
+  @Test
+  public void givenListenerObservingParse_whenInvoke_thenRunParseStep() {
+    final AtomicInteger parses = new AtomicInteger();
+
+    FusedTestConfigurable observed = InvocationPipeline.builder().register(new Module() {
+      @Override
+      public void registerListeners(Chain<InvocationPipelineListener> chain) {
+        chain.addLast(new InvocationPipelineListener() {
+          @Override
+          public void beforeParseStep(List<Token> tokens, InvocationContext context) {
+            parses.incrementAndGet();
+          }
+        });
+      }
+    }).build().invoke(FusedTestConfigurable.class, new ArrayList<>(List.of("-v", "-f", "x")));
+
+    assertThat(parses.get(), is(1));
+    assertThat(observed.verbose, is(true));
+    assertThat(observed.foo, is("x"));
+  }
+
+  @Test
+  public void givenChangingCoordinates_whenInvoke_thenUseEachInvocationsCoordinates() {
+    final AtomicInteger invocations = new AtomicInteger();
+
+    InvocationPipeline pipeline = InvocationPipeline.builder().register(new Module() {
+      @Override
+      public void registerCoordinatesPreprocessors(Chain<CoordinatesPreprocessor> chain) {
+        chain.addLast(new CoordinatesPreprocessor() {
+          @Override
+          public Map<Coordinate, String> preprocess(Map<Coordinate, String> coordinates) {
+            Map<Coordinate, String> result = new HashMap<>(coordinates);
+            result.put(new OptionCoordinate(
+                SwitchName.fromString("alias" + invocations.incrementAndGet())), "foo");
+            return result;
+          }
+        });
+      }
+    }).build();
+
+    FusedTestConfigurable first =
+        pipeline.invoke(FusedTestConfigurable.class, List.of("--alias1", "x"));
+    FusedTestConfigurable second =
+        pipeline.invoke(FusedTestConfigurable.class, List.of("--alias2", "y"));
+
+    assertThat(first.foo, is("x"));
+    assertThat(second.foo, is("y"));
+  }
+}
@@ -0,0 +1,127 @@
+package com.sigpwned.discourse.core.pipeline.invocation.step.scan;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.Test;
+import com.sigpwned.discourse.core.exception.internal.IllegalArgumentInternalDiscourseException;
+import com.sigpwned.discourse.core.pipeline.invocation.step.scan.model.NamedRule;
+import com.sigpwned.discourse.core.util.Maybe;
+
+public class RulesEngineTest {
+  /**
+   * Concatenates the values of a rule's antecedents, in sorted order. Rules nominated by
+   * {@code "bound"} are bound, and all others are run.
+   */
+  private static final RuleEvaluator CONCATENATING_EVALUATOR = new RuleEvaluator() {
+    @Override
+    public Optional<Optional<Object>> run(Map<String, Object> input, NamedRule rule) {
+      StringBuilder result = new StringBuilder();
+      for (String antecedent : sorted(rule))
+        result.append(input.get(antecedent));
+      return Optional.of(rule.consequent().map(c -> result.toString()));
+    }
+
+    @Override
+    public Maybe<BoundRule> bind(NamedRule rule) {
+      if (!"bound".equals(rule.nominated()))
+        return Maybe.no();
+      try {
+        return Maybe.yes(new BoundRule(rule, RulesEngineTest.class, sorted(rule),
+            MethodHandles.lookup()
+                .findStatic(RulesEngineTest.class, "concatenate",
+                    MethodType.methodType(String.class, Object[].class))
+                .asCollector(Object[].class, rule.antecedents().size())));
+      } catch (ReflectiveOperationException e) {
+        throw new AssertionError(e);
+      }
+    }
+  };
+
+  private static List<String> sorted(NamedRule rule) {
+    List<String> result = new ArrayList<>(rule.antecedents());
+    result.sort(null);
+    return result;
+  }
+
+  @SuppressWarnings("unused")
+  private static String concatenate(Object[] values) {
+    StringBuilder result = new StringBuilder();
+    for (Object value : values)
+      result.append(value);
+    return result.toString();
+  }
+
+  private static NamedRule rule(String nominated, Set<String> antecedents,
+      Set<Set<String>> conditions, String consequent) {
+    return new NamedRule(consequent, nominated, Object.class, List.of(), antecedents, conditions,
+        Optional.ofNullable(consequent));
+  }
+
+  private static final List<NamedRule> RULES = List.of(rule("bound", Set.of(), Set.of(), ""),
+      rule("run", Set.of("", "a"), Set.of(), "x"),
+      rule("bound", Set.of("", "b"), Set.of(), "y"),
+      rule("bound", Set.of("x", "y"), Set.of(), "z"),
+      rule("run", Set.of("", "c"), Set.of(Set.of("a"), Set.of("b")), "w"),
+      rule("bound", Set.of("x"), Set.of(), null));
+
+  @Test
+  public void givenRulesInDependencyOrder_whenRunCompiled_thenSameAsRun() {
+    RulesEngine engine = new RulesEngine(CONCATENATING_EVALUATOR);
+    RulesEngine.CompiledRules compiled = engine.compile(RULES);
+
+    List<Map<String, Object>> inputs = new ArrayList<>();
+    inputs.add(Map.of());
+    inputs.add(Map.of("a", "A"));
+    inputs.add(Map.of("b", "B", "c", "C"));
+    inputs.add(Map.of("a", "A", "b", "B", "c", "C"));
+    Map<String, Object> nulls = new HashMap<>();
+    nulls.put("a", null);
+    nulls.put("c", "C");
+    inputs.add(nulls);
+
+    for (Map<String, Object> input : inputs)
+      assertThat(input.toString(), compiled.run(input), is(engine.run(input, RULES)));
+
+    assertThat(compiled.run(Map.of("a", "A", "b", "B")),
+        is(Map.of("a", "A", "b", "B", "", "", "x", "A", "y", "B", "z", "AB")));
+  }
+
+  @Test
+  public void givenEvaluatorThatDeclines_whenRunCompiled_thenSkipDependentRules() {
+    // Produces nothing for rules nominated by "decline", and concatenates otherwise
+    RulesEngine engine = new RulesEngine(new RuleEvaluator() {
+      @Override
+      public Optional<Optional<Object>> run(Map<String, Object> input, NamedRule rule) {
+        if ("decline".equals(rule.nominated()))
+          return Optional.of(Optional.empty());
+        return CONCATENATING_EVALUATOR.run(input, rule);
+      }
+
+      @Override
+      public Maybe<BoundRule> bind(NamedRule rule) {
+        return CONCATENATING_EVALUATOR.bind(rule);
+      }
+    });
+    List<NamedRule> rules = List.of(rule("decline", Set.of("a"), Set.of(), "x"),
+        rule("bound", Set.of("a", "x"), Set.of(), "y"),
+        rule("run", Set.of("a", "x"), Set.of(), "z"));
+
+    Map<String, Object> expected = Map.of("a", "A");
+    assertThat(engine.run(expected, rules), is(expected));
+    assertThat(engine.prepare(rules).run(expected), is(expected));
+    assertThat(engine.compile(rules).run(expected), is(expected));
+  }
+
+  @Test(expected = IllegalArgumentInternalDiscourseException.class)
+  public void givenRulesOutOfDependencyOrder_whenCompile_thenThrowException() {
+    new RulesEngine(CONCATENATING_EVALUATOR).compile(List.of(RULES.get(1), RULES.get(0)));
+  }
+}
@@ -0,0 +1,78 @@
+package com.sigpwned.discourse.core.pipeline.invocation.step.scan.util;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Test;
+import com.sigpwned.discourse.core.pipeline.invocation.step.scan.model.NamedRule;
+
+public class MoreRulesTest {
+  private static NamedRule rule(String name, Set<String> antecedents, String consequent) {
+    return new NamedRule(name, name, Object.class, List.of(), antecedents, Set.of(),
+        Optional.ofNullable(consequent));
+  }
+
+  private static final List<String> PROPERTIES = List.of("a", "b", "c", "d");
+
+  private static Set<String> randomSubset(Random random, List<String> names) {
+    Set<String> result = new HashSet<>();
+    for (String name : names)
+      if (random.nextInt(3) == 0)
+        result.add(name);
+    return result;
+  }
+
+  @Test
+  public void givenRandomRules_whenAnalyze_thenSameAnswersAsReact() {
+    final Random random = new Random(0L);
+    for (int trial = 0; trial < 5000; trial++) {
+      List<NamedRule> rules = new ArrayList<>();
+
+      // Some ways to build the instance, and a mixin
+      for (int i = 0, n = 1 + random.nextInt(3); i < n; i++)
+        rules.add(rule("instance" + i, randomSubset(random, PROPERTIES), ""));
+      for (int i = 0, n = random.nextInt(3); i < n; i++)
+        rules.add(rule("mixin" + i, randomSubset(random, PROPERTIES), "m"));
+      if (rules.stream().anyMatch(r -> r.consequent().equals(Optional.of("m"))))
+        rules.add(rule("assignmixin", Set.of("", "m"), null));
+
+      // Some ways to assign properties
+      for (String property : PROPERTIES) {
+        if (random.nextBoolean())
+          rules.add(rule("assign" + property, Set.of("", property), null));
+      }
+
+      final Set<String> available = randomSubset(random, PROPERTIES);
+
+      final List<MoreRules.Reaction> reactions = MoreRules.react(rules, available).stream()
+          .sorted(Comparator.<MoreRules.Reaction>comparingInt(ri -> -ri.consumed().size())
+              .thenComparingInt(ri -> ri.evaluated().size()))
+          .toList();
+      final MoreRules.Reaction expected = reactions.get(0);
+      final boolean expectedDivergent =
+          reactions.stream().anyMatch(ri -> !expected.consumed().containsAll(ri.consumed()));
+
+      final MoreRules.Analyzer.Analysis analysis = MoreRules.analyzer(rules).analyze(available);
+      final MoreRules.Reaction observed = analysis.best();
+
+      final String message = rules + " " + available;
+      assertThat(message, Collections.disjoint(observed.produced(), available), is(true));
+      assertThat(message, !analysis.divergent().isEmpty(), is(expectedDivergent));
+      assertThat(message, observed.consumed().size(), is(expected.consumed().size()));
+      if (!expectedDivergent) {
+        assertThat(message, observed.consumed(), is(expected.consumed()));
+        assertThat(message, observed.produced().contains(""), is(expected.produced().contains("")));
+        assertThat(message, analysis.consumesAll(available),
+            is(expected.consumed().containsAll(available)));
+        assertThat(message, analysis.produces(""), is(expected.produced().contains("")));
+      }
+    }
+  }
+}
@@ -25,6 +25,8 @@ import static org.hamcrest.MatcherAssert.assertThat;
 
 import com.google.common.reflect.TypeToken;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import org.junit.Test;
 
 /**
@@ -84,4 +86,18 @@ public class TypesTest {
     // List<T> is not concrete because its parameter is a type variable
     assertThat(Types.isConcrete(new TokenTest<String>().token.getType()), is(false));
   }
+
+  public static final TypeToken<Map<String, List<TypesTest>>> MAP_OF_LIST_OF_TYPES_TEST =
+      new TypeToken<>() {
+      };
+
+  @Test
+  public void givenTypes_whenFindCacheOwner_thenReturnYoungestClass() {
+    assertThat(Types.findCacheOwner(String.class), is(Optional.of(String.class)));
+    assertThat(Types.findCacheOwner(LIST_OF_STRING.getType()), is(Optional.of(String.class)));
+    assertThat(Types.findCacheOwner(MAP_OF_LIST_OF_TYPES_TEST.getType()),
+        is(Optional.of(TypesTest.class)));
+    assertThat(Types.findCacheOwner(new TokenTest<String>().token.getType()),
+        is(Optional.empty()));
+  }
 }
@@ -0,0 +1,134 @@
+package com.sigpwned.discourse.core.util.type;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedSet;
+import org.junit.Test;
+import com.google.common.reflect.TypeToken;
+
+/**
+ * Test {@link TypeShape}
+ */
+public class TypeShapeTest {
+  @Test
+  public void givenScalars_whenClassify_thenScalar() {
+    assertThat(TypeShape.of(String.class).getKind(), is(TypeShape.Kind.SCALAR));
+    assertThat(TypeShape.of(int.class).getKind(), is(TypeShape.Kind.SCALAR));
+    assertThat(TypeShape.of(String.class).getElementType(), is(nullValue()));
+
+    // Only the interfaces themselves count, and only with type arguments
+    assertThat(TypeShape.of(List.class).getKind(), is(TypeShape.Kind.SCALAR));
+    assertThat(TypeShape.of(new TypeToken<ArrayList<String>>() {}.getType()).getKind(),
+        is(TypeShape.Kind.SCALAR));
+  }
+
+  @Test
+  public void givenContainers_whenClassify_thenKindAndElementType() {
+    TypeShape list = TypeShape.of(new TypeToken<List<String>>() {}.getType());
+    assertThat(list.getKind(), is(TypeShape.Kind.LIST));
+    assertThat(list.getElementType(), is((Type) String.class));
+    assertTrue(list.getRawClass() == List.class);
+    assertThat(list.isConcrete(), is(true));
+
+    assertThat(TypeShape.of(new TypeToken<Set<Integer>>() {}.getType()).getKind(),
+        is(TypeShape.Kind.SET));
+    assertThat(TypeShape.of(new TypeToken<SortedSet<Integer>>() {}.getType()).getKind(),
+        is(TypeShape.Kind.SORTED_SET));
+    assertThat(TypeShape.of(new TypeToken<Optional<Integer>>() {}.getType()).getKind(),
+        is(TypeShape.Kind.OPTIONAL));
+
+    TypeShape map = TypeShape.of(new TypeToken<Map<String, Integer>>() {}.getType());
+    assertThat(map.getKind(), is(TypeShape.Kind.MAP));
+    assertThat(map.getKeyType(), is((Type) String.class));
+    assertThat(map.getElementType(), is((Type) Integer.class));
+
+    TypeShape array = TypeShape.of(int[].class);
+    assertThat(array.getKind(), is(TypeShape.Kind.ARRAY));
+    assertThat(array.getElementType(), is((Type) int.class));
+
+    TypeShape genericArray = TypeShape.of(new TypeToken<List<String>[]>() {}.getType());
+    assertThat(genericArray.getKind(), is(TypeShape.Kind.ARRAY));
+    assertTrue(genericArray.getRawClass() == List[].class);
+  }
+
+  @Test
+  public <T> void givenTypeVariable_whenClassify_thenNotConcrete() {
+    TypeShape list = TypeShape.of(new TypeToken<List<T>>() {}.getType());
+    assertThat(list.getKind(), is(TypeShape.Kind.LIST));
+    assertThat(list.isConcrete(), is(false));
+  }
+
+  @Test
+  public void givenSameType_whenClassifyTwice_thenSameShape() {
+    assertThat(TypeShape.of(String.class), sameInstance(TypeShape.of(String.class)));
+    assertThat(TypeShape.of(new TypeToken<List<String>>() {}.getType()),
+        sameInstance(TypeShape.of(new TypeToken<List<String>>() {}.getType())));
+  }
+
+  public static class TypeShapeTestElement {
+    public List<TypeShapeTestElement> elements;
+  }
+
+  /**
+   * Loads its own copy of {@link TypeShapeTestElement}, so the class can be unloaded.
+   */
+  private static class IsolatingClassLoader extends ClassLoader {
+    public IsolatingClassLoader() {
+      super(TypeShapeTest.class.getClassLoader());
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+      if (!name.equals(TypeShapeTestElement.class.getName()))
+        return super.loadClass(name, resolve);
+      synchronized (getClassLoadingLock(name)) {
+        Class<?> result = findLoadedClass(name);
+        if (result == null) {
+          byte[] bytes;
+          try (InputStream in = getParent()
+              .getResourceAsStream(name.replace('.', '/').concat(".class"))) {
+            bytes = in.readAllBytes();
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+          result = defineClass(name, bytes, 0, bytes.length);
+        }
+        return result;
+      }
+    }
+  }
+
+  @Test
+  public void givenClassifiedGenericType_whenClassLoaderUnreachable_thenClassLoaderCollected()
+      throws Exception {
+    ClassLoader classLoader = new IsolatingClassLoader();
+    Type genericType = classLoader.loadClass(TypeShapeTestElement.class.getName())
+        .getField("elements").getGenericType();
+    assertThat(TypeShape.of(genericType), sameInstance(TypeShape.of(genericType)));
+    assertThat(TypeShape.of(genericType).getKind(), is(TypeShape.Kind.LIST));
+
+    WeakReference<ClassLoader> reference = new WeakReference<>(classLoader);
+    classLoader = null;
+    genericType = null;
+
+    for (int i = 0; i < 50 && reference.get() != null; i++) {
+      System.gc();
+      Thread.sleep(10L);
+    }
+
+    assertThat(reference.get(), is(nullValue()));
+  }
+}
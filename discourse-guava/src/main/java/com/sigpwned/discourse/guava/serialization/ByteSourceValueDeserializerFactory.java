@@ -53,4 +53,9 @@ public class ByteSourceValueDeserializerFactory implements ValueDeserializerFact
       }
     });
   }
+
+  @Override
+  public boolean isCacheable() {
+    return true;
+  }
 }
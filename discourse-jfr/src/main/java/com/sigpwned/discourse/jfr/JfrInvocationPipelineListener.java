@@ -0,0 +1,443 @@
+package com.sigpwned.discourse.jfr;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import com.sigpwned.discourse.core.args.Coordinate;
+import com.sigpwned.discourse.core.args.Token;
+import com.sigpwned.discourse.core.command.resolved.ResolvedCommand;
+import com.sigpwned.discourse.core.command.tree.LeafCommand;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationContext;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineListener;
+import com.sigpwned.discourse.core.pipeline.invocation.step.resolve.model.CommandResolution;
+import com.sigpwned.discourse.core.pipeline.invocation.step.scan.model.PreparedClass;
+import com.sigpwned.discourse.core.pipeline.invocation.step.scan.model.WalkedClass;
+import com.sigpwned.discourse.jfr.event.AttributeStepEvent;
+import com.sigpwned.discourse.jfr.event.FinishStepEvent;
+import com.sigpwned.discourse.jfr.event.GroupStepEvent;
+import com.sigpwned.discourse.jfr.event.InvocationPipelineStepEvent;
+import com.sigpwned.discourse.jfr.event.MapStepEvent;
+import com.sigpwned.discourse.jfr.event.ParseStepEvent;
+import com.sigpwned.discourse.jfr.event.PlanStepEvent;
+import com.sigpwned.discourse.jfr.event.PostprocessArgsStepEvent;
+import com.sigpwned.discourse.jfr.event.PreprocessArgsStepEvent;
+import com.sigpwned.discourse.jfr.event.PreprocessCoordinatesStepEvent;
+import com.sigpwned.discourse.jfr.event.PreprocessTokensStepEvent;
+import com.sigpwned.discourse.jfr.event.ReduceStepEvent;
+import com.sigpwned.discourse.jfr.event.ResolveStepEvent;
+import com.sigpwned.discourse.jfr.event.ScanStepEvent;
+import com.sigpwned.discourse.jfr.event.ScanStepPrepareEvent;
+import com.sigpwned.discourse.jfr.event.ScanStepTreeEvent;
+import com.sigpwned.discourse.jfr.event.ScanStepWalkEvent;
+import com.sigpwned.discourse.jfr.event.TokenizeStepEvent;
+import jdk.jfr.Registered;
+
+/**
+ * <p>
+ * An {@link InvocationPipelineListener} that emits a JFR event for each step of the invocation
+ * pipeline, so that a flight recording shows where each invocation spends its time.
+ * </p>
+ *
+ * <p>
+ * The steps of one run of the pipeline all happen on one thread, and they nest, so the listener
+ * keeps each run's in-flight events on a stack in a thread local. When an event type is not
+ * enabled in any recording, its step pushes a shared placeholder instead of an event, which keeps
+ * the stack balanced without timing or committing anything.
+ * </p>
+ */
+public class JfrInvocationPipelineListener implements InvocationPipelineListener {
+  /**
+   * Stands in for an event whose type is not enabled. It is never committed.
+   */
+  @Registered(false)
+  private static final class DisabledEvent extends InvocationPipelineStepEvent {
+  }
+
+  private static final InvocationPipelineStepEvent DISABLED = new DisabledEvent();
+
+  /**
+   * The state of one run of the pipeline.
+   */
+  private static final class Invocation {
+    private final Deque<InvocationPipelineStepEvent> events = new ArrayDeque<>();
+    private Class<?> scannedClass;
+    private int scannedPropertyCount;
+    private Class<?> commandClass;
+    private int argumentCount = -1;
+    private int propertyCount;
+
+    private void resolved(LeafCommand<?> leaf) {
+      commandClass = leaf.getClazz();
+      propertyCount = leaf.getProperties().size();
+    }
+  }
+
+  /**
+   * The runs of the pipeline in progress on each thread, innermost first. A command can run a
+   * pipeline of its own, e.g., from its constructor, so runs can nest.
+   */
+  private final ThreadLocal<Deque<Invocation>> invocations =
+      ThreadLocal.withInitial(ArrayDeque::new);
+
+  @Override
+  public void beforePipeline(InvocationContext context) {
+    invocations.get().push(new Invocation());
+  }
+
+  @Override
+  public void finallyPipeline(InvocationContext context) {
+    invocations.get().poll();
+  }
+
+  @Override
+  public <T> void beforeScanStep(Class<T> clazz, InvocationContext context) {
+    Invocation invocation = current();
+    if (invocation != null)
+      invocation.scannedClass = clazz;
+    begin(new ScanStepEvent());
+  }
+
+  @Override
+  public void catchScanStep(Throwable t, InvocationContext context) {
+    fail();
+  }
+
+  @Override
+  public void finallyScanStep(InvocationContext context) {
+    endScan();
+  }
+
+  @Override
+  public <T> void beforeScanStepWalk(Class<T> clazz, InvocationContext context) {
+    // Subcommands are walked when they are first used, e.g., during the Resolve step, so this is
+    // not always part of the Scan step for the command class.
+    Invocation invocation = current();
+    if (invocation != null)
+      invocation.scannedClass = clazz;
+    begin(new ScanStepWalkEvent());
+  }
+
+  @Override
+  public void catchScanStepWalk(Throwable t, InvocationContext context) {
+    fail();
+  }
+
+  @Override
+  public void finallyScanStepWalk(InvocationContext context) {
+    endScan();
+  }
+
+  @Override
+  public <T> void beforeScanStepPrepare(List<WalkedClass<? extends T>> walkedClasses,
+      InvocationContext context) {
+    begin(new ScanStepPrepareEvent());
+  }
+
+  @Override
+  public <T> void afterScanStepPrepare(List<WalkedClass<? extends T>> walkedClasses,
+      List<PreparedClass<? extends T>> preparedClasses, InvocationContext context) {
+    Invocation invocation = current();
+    if (invocation != null)
+      invocation.scannedPropertyCount = preparedClasses.stream()
+          .mapToInt(c -> c.body().map(b -> b.getProperties().size()).orElse(0)).sum();
+  }
+
+  @Override
+  public void catchScanStepPrepare(Throwable t, InvocationContext context) {
+    fail();
+  }
+
+  @Override
+  public void finallyScanStepPrepare(InvocationContext context) {
+    endScan();
+  }
+
+  @Override
+  public <T> void beforeScanStepTree(List<PreparedClass<? extends T>> preparedClasses,
+      InvocationContext context) {
+    begin(new ScanStepTreeEvent());
+  }
+
+  @Override
+  public void catchScanStepTree(Throwable t, InvocationContext context) {
+    fail();
+  }
+
+  @Override
+  public void finallyScanStepTree(InvocationContext context) {
+    endScan();
+  }
+
+  @Override
+  public void beforeResolveStep(List<String> args, InvocationContext context) {
+    Invocation invocation = current();
+    if (invocation != null)
+      invocation.argumentCount = args.size();
+    begin(new ResolveStepEvent());
+  }
+
+  @Override
+  public <T> void afterResolveStep(List<String> args, CommandResolution<? extends T> resolution,
+      InvocationContext context) {
+    Invocation invocation = current();
+    if (invocation != null)
+      invocation.resolved(resolution.getCommand().getCommand());
+  }
+
+  @Override
+  public void catchResolveStep(Throwable t, InvocationContext context) {
+    fail();
+  }
+
+  @Override
+  public void finallyResolveStep(InvocationContext context) {
+    end();
+  }
+
+  @Override
+  public <T> void beforePlanStep(ResolvedCommand<? extends T> resolvedCommand,
+      InvocationContext context) {
+    Invocation invocation = current();
+    if (invocation != null)
+      invocation.resolved(resolvedCommand.getCommand());
+    begin(new PlanStepEvent());
+  }
+
+  @Override
+  public void catchPlanStep(Throwable t, InvocationContext context) {
+    fail();
+  }
+
+  @Override
+  public void finallyPlanStep(InvocationContext context) {
+    end();
+  }
+
+  @Override
+  public void beforePreprocessCoordinatesStep(Map<Coordinate, String> originalCoordinates,
+      InvocationContext context) {
+    begin(new PreprocessCoordinatesStepEvent());
+  }
+
+  @Override
+  public void catchPreprocessCoordinatesStep(Throwable t, InvocationContext context) {
+    fail();
+  }
+
+  @Override
+  public void finallyPreprocessCoordinatesStep(InvocationContext context) {
+    end();
+  }
+
+  @Override
+  public void beforePreprocessArgsStep(List<String> args, InvocationContext context) {
+    // If the pipeline didn't run the Resolve step, then these are all the arguments we get
+    Invocation invocation = current();
+    if (invocation != null && invocation.argumentCount < 0)
+      invocation.argumentCount = args.size();
+    begin(new PreprocessArgsStepEvent());
+  }
+
+  @Override
+  public void catchPreprocessArgsStep(Throwable t, InvocationContext context) {
+    fail();
+  }
+
+  @Override
+  public void finallyPreprocessArgsStep(InvocationContext context) {
+    end();
+  }
+
+  @Override
+  public void beforeTokenizeStep(List<String> args, InvocationContext context) {
+    begin(new TokenizeStepEvent());
+  }
+
+  @Override
+  public void catchTokenizeStep(Throwable t, InvocationContext context) {
+    fail();
+  }
+
+  @Override
+  public void finallyTokenizeStep(InvocationContext context) {
+    end();
+  }
+
+  @Override
+  public void beforePreprocessTokensStep(List<Token> tokens, InvocationContext context) {
+    begin(new PreprocessTokensStepEvent());
+  }
+
+  @Override
+  public void catchPreprocessTokensStep(Throwable t, InvocationContext context) {
+    fail();
+  }
+
+  @Override
+  public void finallyPreprocessTokensStep(InvocationContext context) {
+    end();
+  }
+
+  @Override
+  public void beforeParseStep(List<Token> tokens, InvocationContext context) {
+    begin(new ParseStepEvent());
+  }
+
+  @Override
+  public void catchParseStep(Throwable t, InvocationContext context) {
+    fail();
+  }
+
+  @Override
+  public void finallyParseStep(InvocationContext context) {
+    end();
+  }
+
+  @Override
+  public void beforeAttributeStep(List<Map.Entry<Coordinate, String>> parsedArgs,
+      InvocationContext context) {
+    begin(new AttributeStepEvent());
+  }
+
+  @Override
+  public void catchAttributeStep(Throwable t, InvocationContext context) {
+    fail();
+  }
+
+  @Override
+  public void finallyAttributeStep(InvocationContext context) {
+    end();
+  }
+
+  @Override
+  public void beforeGroupStep(List<Map.Entry<String, String>> attributedArgs,
+      InvocationContext context) {
+    begin(new GroupStepEvent());
+  }
+
+  @Override
+  public void catchGroupStep(Throwable t, InvocationContext context) {
+    fail();
+  }
+
+  @Override
+  public void finallyGroupStep(InvocationContext context) {
+    end();
+  }
+
+  @Override
+  public void beforeMapStep(Map<String, List<String>> groupedArgs, InvocationContext context) {
+    begin(new MapStepEvent());
+  }
+
+  @Override
+  public void catchMapStep(Throwable t, InvocationContext context) {
+    fail();
+  }
+
+  @Override
+  public void finallyMapStep(InvocationContext context) {
+    end();
+  }
+
+  @Override
+  public void beforeReduceStep(Map<String, List<Object>> mappedArgs, InvocationContext context) {
+    begin(new ReduceStepEvent());
+  }
+
+  @Override
+  public void catchReduceStep(Throwable t, InvocationContext context) {
+    fail();
+  }
+
+  @Override
+  public void finallyReduceStep(InvocationContext context) {
+    end();
+  }
+
+  @Override
+  public void beforePostprocessPropertiesStep(Map<String, Object> sinkedArgs,
+      InvocationContext context) {
+    begin(new PostprocessArgsStepEvent());
+  }
+
+  @Override
+  public void catchPostprocessPropertiesStep(Throwable t, InvocationContext context) {
+    fail();
+  }
+
+  @Override
+  public void finallyPostprocessPropertiesStep(InvocationContext context) {
+    end();
+  }
+
+  @Override
+  public void beforeFinishStep(Map<String, Object> postprocessedArgs, InvocationContext context) {
+    begin(new FinishStepEvent());
+  }
+
+  @Override
+  public void catchFinishStep(Throwable t, InvocationContext context) {
+    fail();
+  }
+
+  @Override
+  public void finallyFinishStep(InvocationContext context) {
+    end();
+  }
+  private Invocation current() {
+    return invocations.get().peek();
+  }
+
+  private void begin(InvocationPipelineStepEvent event) {
+    Invocation invocation = current();
+    if (invocation == null)
+      return;
+    if (event.isEnabled()) {
+      event.setOutcome(InvocationPipelineStepEvent.SUCCESS);
+      event.begin();
+      invocation.events.push(event);
+    } else {
+      invocation.events.push(DISABLED);
+    }
+  }
+
+  private void fail() {
+    Invocation invocation = current();
+    if (invocation == null)
+      return;
+    InvocationPipelineStepEvent event = invocation.events.peek();
+    if (event != null && event != DISABLED)
+      event.setOutcome(InvocationPipelineStepEvent.FAILURE);
+  }
+
+  private void endScan() {
+    Invocation invocation = current();
+    if (invocation == null)
+      return;
+    end(invocation, invocation.scannedClass, 0, invocation.scannedPropertyCount);
+  }
+
+  private void end() {
+    Invocation invocation = current();
+    if (invocation == null)
+      return;
+    end(invocation, invocation.commandClass, Math.max(invocation.argumentCount, 0),
+        invocation.propertyCount);
+  }
+
+  private void end(Invocation invocation, Class<?> commandClass, int argumentCount,
+      int propertyCount) {
+    InvocationPipelineStepEvent event = invocation.events.poll();
+    if (event == null || event == DISABLED)
+      return;
+    event.end();
+    if (event.shouldCommit()) {
+      event.setCommandClass(commandClass);
+      event.setArgumentCount(argumentCount);
+      event.setPropertyCount(propertyCount);
+      event.commit();
+    }
+  }
+}
@@ -0,0 +1,16 @@
+package com.sigpwned.discourse.jfr;
+
+import com.sigpwned.discourse.core.Chain;
+import com.sigpwned.discourse.core.Module;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipelineListener;
+
+/**
+ * Registers a {@link JfrInvocationPipelineListener}, which emits a JFR event for each step of the
+ * invocation pipeline.
+ */
+public class JfrModule extends Module {
+  @Override
+  public void registerListeners(Chain<InvocationPipelineListener> chain) {
+    chain.addLast(new JfrInvocationPipelineListener());
+  }
+}
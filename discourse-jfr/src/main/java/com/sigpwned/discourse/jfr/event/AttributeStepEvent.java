@@ -0,0 +1,11 @@
+package com.sigpwned.discourse.jfr.event;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.sigpwned.discourse.AttributeStep")
+@Label("Attribute Step")
+@Description("Attributes each value to a property.")
+public class AttributeStepEvent extends InvocationPipelineStepEvent {
+}
@@ -0,0 +1,11 @@
+package com.sigpwned.discourse.jfr.event;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.sigpwned.discourse.FinishStep")
+@Label("Finish Step")
+@Description("Builds the command object.")
+public class FinishStepEvent extends InvocationPipelineStepEvent {
+}
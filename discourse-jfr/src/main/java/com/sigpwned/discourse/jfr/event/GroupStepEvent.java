@@ -0,0 +1,11 @@
+package com.sigpwned.discourse.jfr.event;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.sigpwned.discourse.GroupStep")
+@Label("Group Step")
+@Description("Groups the values by property.")
+public class GroupStepEvent extends InvocationPipelineStepEvent {
+}
@@ -0,0 +1,58 @@
+package com.sigpwned.discourse.jfr.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * <p>
+ * The base class for the events that time each step of the invocation pipeline. An event spans its
+ * step from the step's {@code before} hook to its {@code finally} hook.
+ * </p>
+ *
+ * <p>
+ * The Scan step and its sub-steps don't see the arguments, so their argument count is always zero.
+ * Their command class is the class being scanned, and their property count is the number of
+ * properties across all the classes in the command tree, which is only known once the Prepare
+ * sub-step finishes. For all other steps, the command class is the class of the resolved leaf
+ * command, and the property count is its number of properties.
+ * </p>
+ */
+@Category({"Discourse", "Invocation Pipeline"})
+@StackTrace(false)
+public abstract class InvocationPipelineStepEvent extends Event {
+  // JFR only records the fields of a superclass that aren't private, so these are protected.
+
+  public static final String SUCCESS = "SUCCESS";
+
+  public static final String FAILURE = "FAILURE";
+
+  @Label("Command Class")
+  protected Class<?> commandClass;
+
+  @Label("Argument Count")
+  protected int argumentCount;
+
+  @Label("Property Count")
+  protected int propertyCount;
+
+  @Label("Outcome")
+  protected String outcome;
+
+  public void setCommandClass(Class<?> commandClass) {
+    this.commandClass = commandClass;
+  }
+
+  public void setArgumentCount(int argumentCount) {
+    this.argumentCount = argumentCount;
+  }
+
+  public void setPropertyCount(int propertyCount) {
+    this.propertyCount = propertyCount;
+  }
+
+  public void setOutcome(String outcome) {
+    this.outcome = outcome;
+  }
+}
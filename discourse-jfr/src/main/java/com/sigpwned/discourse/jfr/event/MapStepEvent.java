@@ -0,0 +1,11 @@
+package com.sigpwned.discourse.jfr.event;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.sigpwned.discourse.MapStep")
+@Label("Map Step")
+@Description("Deserializes the values.")
+public class MapStepEvent extends InvocationPipelineStepEvent {
+}
@@ -0,0 +1,11 @@
+package com.sigpwned.discourse.jfr.event;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.sigpwned.discourse.ParseStep")
+@Label("Parse Step")
+@Description("Parses the tokens into coordinates and values.")
+public class ParseStepEvent extends InvocationPipelineStepEvent {
+}
@@ -0,0 +1,11 @@
+package com.sigpwned.discourse.jfr.event;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.sigpwned.discourse.PlanStep")
+@Label("Plan Step")
+@Description("Plans how to build the leaf command.")
+public class PlanStepEvent extends InvocationPipelineStepEvent {
+}
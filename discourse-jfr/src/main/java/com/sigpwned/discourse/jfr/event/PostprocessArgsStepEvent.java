@@ -0,0 +1,11 @@
+package com.sigpwned.discourse.jfr.event;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.sigpwned.discourse.PostprocessArgsStep")
+@Label("Postprocess Args Step")
+@Description("Postprocesses the property values.")
+public class PostprocessArgsStepEvent extends InvocationPipelineStepEvent {
+}
@@ -0,0 +1,11 @@
+package com.sigpwned.discourse.jfr.event;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.sigpwned.discourse.PreprocessArgsStep")
+@Label("Preprocess Args Step")
+@Description("Preprocesses the arguments.")
+public class PreprocessArgsStepEvent extends InvocationPipelineStepEvent {
+}
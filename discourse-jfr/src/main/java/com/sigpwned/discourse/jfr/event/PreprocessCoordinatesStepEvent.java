@@ -0,0 +1,11 @@
+package com.sigpwned.discourse.jfr.event;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.sigpwned.discourse.PreprocessCoordinatesStep")
+@Label("Preprocess Coordinates Step")
+@Description("Preprocesses the command's coordinates.")
+public class PreprocessCoordinatesStepEvent extends InvocationPipelineStepEvent {
+}
@@ -0,0 +1,11 @@
+package com.sigpwned.discourse.jfr.event;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.sigpwned.discourse.PreprocessTokensStep")
+@Label("Preprocess Tokens Step")
+@Description("Preprocesses the tokens.")
+public class PreprocessTokensStepEvent extends InvocationPipelineStepEvent {
+}
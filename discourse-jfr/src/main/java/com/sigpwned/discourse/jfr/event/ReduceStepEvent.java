@@ -0,0 +1,11 @@
+package com.sigpwned.discourse.jfr.event;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.sigpwned.discourse.ReduceStep")
+@Label("Reduce Step")
+@Description("Reduces each property's values to one value.")
+public class ReduceStepEvent extends InvocationPipelineStepEvent {
+}
@@ -0,0 +1,11 @@
+package com.sigpwned.discourse.jfr.event;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.sigpwned.discourse.ResolveStep")
+@Label("Resolve Step")
+@Description("Resolves the arguments to a leaf command.")
+public class ResolveStepEvent extends InvocationPipelineStepEvent {
+}
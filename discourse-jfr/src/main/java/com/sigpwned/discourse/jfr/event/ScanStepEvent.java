@@ -0,0 +1,11 @@
+package com.sigpwned.discourse.jfr.event;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.sigpwned.discourse.ScanStep")
+@Label("Scan Step")
+@Description("Scans a command class into a command tree.")
+public class ScanStepEvent extends InvocationPipelineStepEvent {
+}
@@ -0,0 +1,11 @@
+package com.sigpwned.discourse.jfr.event;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.sigpwned.discourse.ScanStepPrepare")
+@Label("Scan Step Prepare")
+@Description("Works out the properties and rules of each walked class.")
+public class ScanStepPrepareEvent extends InvocationPipelineStepEvent {
+}
@@ -0,0 +1,11 @@
+package com.sigpwned.discourse.jfr.event;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.sigpwned.discourse.ScanStepTree")
+@Label("Scan Step Tree")
+@Description("Builds the command tree from the prepared classes.")
+public class ScanStepTreeEvent extends InvocationPipelineStepEvent {
+}
@@ -0,0 +1,11 @@
+package com.sigpwned.discourse.jfr.event;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.sigpwned.discourse.ScanStepWalk")
+@Label("Scan Step Walk")
+@Description("Walks a command class and its subcommands.")
+public class ScanStepWalkEvent extends InvocationPipelineStepEvent {
+}
@@ -0,0 +1,11 @@
+package com.sigpwned.discourse.jfr.event;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.sigpwned.discourse.TokenizeStep")
+@Label("Tokenize Step")
+@Description("Splits the arguments into tokens.")
+public class TokenizeStepEvent extends InvocationPipelineStepEvent {
+}
@@ -0,0 +1,138 @@
+package com.sigpwned.discourse.jfr;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import com.sigpwned.discourse.core.annotation.Configurable;
+import com.sigpwned.discourse.core.annotation.FlagParameter;
+import com.sigpwned.discourse.core.annotation.OptionParameter;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipeline;
+import com.sigpwned.discourse.jfr.event.AttributeStepEvent;
+import com.sigpwned.discourse.jfr.event.FinishStepEvent;
+import com.sigpwned.discourse.jfr.event.GroupStepEvent;
+import com.sigpwned.discourse.jfr.event.MapStepEvent;
+import com.sigpwned.discourse.jfr.event.ParseStepEvent;
+import com.sigpwned.discourse.jfr.event.PlanStepEvent;
+import com.sigpwned.discourse.jfr.event.PostprocessArgsStepEvent;
+import com.sigpwned.discourse.jfr.event.PreprocessArgsStepEvent;
+import com.sigpwned.discourse.jfr.event.PreprocessCoordinatesStepEvent;
+import com.sigpwned.discourse.jfr.event.PreprocessTokensStepEvent;
+import com.sigpwned.discourse.jfr.event.ReduceStepEvent;
+import com.sigpwned.discourse.jfr.event.ResolveStepEvent;
+import com.sigpwned.discourse.jfr.event.ScanStepEvent;
+import com.sigpwned.discourse.jfr.event.ScanStepPrepareEvent;
+import com.sigpwned.discourse.jfr.event.ScanStepTreeEvent;
+import com.sigpwned.discourse.jfr.event.ScanStepWalkEvent;
+import com.sigpwned.discourse.jfr.event.TokenizeStepEvent;
+
+public class JfrModuleTest {
+  @Configurable(name = "jfr")
+  public static class JfrTestConfigurable {
+    @FlagParameter(shortName = "v", longName = "verbose")
+    public boolean verbose;
+
+    @OptionParameter(shortName = "f", longName = "foo")
+    public String foo;
+  }
+
+  private static final List<Class<? extends Event>> EVENTS = List.of(ScanStepEvent.class,
+      ScanStepWalkEvent.class, ScanStepPrepareEvent.class, ScanStepTreeEvent.class,
+      ResolveStepEvent.class, PlanStepEvent.class, PreprocessCoordinatesStepEvent.class,
+      PreprocessArgsStepEvent.class, TokenizeStepEvent.class, PreprocessTokensStepEvent.class,
+      ParseStepEvent.class, AttributeStepEvent.class, GroupStepEvent.class, MapStepEvent.class,
+      ReduceStepEvent.class, PostprocessArgsStepEvent.class, FinishStepEvent.class);
+
+  private Path output;
+
+  @Before
+  public void setupJfrModuleTest() throws IOException {
+    output = Files.createTempFile("discourse-jfr-test", ".jfr");
+  }
+
+  @After
+  public void cleanupJfrModuleTest() throws IOException {
+    Files.deleteIfExists(output);
+  }
+
+  private List<RecordedEvent> record(Runnable runnable) throws IOException {
+    try (Recording recording = new Recording()) {
+      for (Class<? extends Event> event : EVENTS)
+        recording.enable(event);
+      recording.start();
+      runnable.run();
+      recording.stop();
+      recording.dump(output);
+    }
+    return RecordingFile.readAllEvents(output).stream()
+        .filter(e -> e.getEventType().getName().startsWith("com.sigpwned.discourse."))
+        .collect(toList());
+  }
+
+  private static String stepOf(RecordedEvent event) {
+    return event.getEventType().getName().substring("com.sigpwned.discourse.".length());
+  }
+
+  @Test
+  public void givenRecording_whenInvoke_thenRecordEveryStep() throws IOException {
+    InvocationPipeline pipeline =
+        InvocationPipeline.builder().register(new JfrModule()).build();
+
+    List<RecordedEvent> events = record(() -> pipeline.invoke(JfrTestConfigurable.class,
+        List.of("-v", "-f", "hello")));
+
+    Set<String> steps = events.stream().map(JfrModuleTest::stepOf).collect(toSet());
+    assertThat(steps,
+        is(Set.of("ScanStep", "ScanStepWalk", "ScanStepPrepare", "ScanStepTree", "ResolveStep",
+            "PlanStep", "PreprocessCoordinatesStep", "PreprocessArgsStep", "TokenizeStep",
+            "PreprocessTokensStep", "ParseStep", "AttributeStep", "GroupStep", "MapStep",
+            "ReduceStep", "PostprocessArgsStep", "FinishStep")));
+
+    for (RecordedEvent event : events) {
+      assertThat(event.toString(), event.getString("outcome"), is("SUCCESS"));
+      assertThat(event.toString(), event.getClass("commandClass").getName(),
+          is(JfrTestConfigurable.class.getName()));
+      // The Walk sub-step finishes before the Prepare sub-step counts the properties
+      if (stepOf(event).equals("ScanStepWalk"))
+        assertThat(event.toString(), event.getInt("propertyCount"), is(0));
+      else
+        assertThat(event.toString(), event.getInt("propertyCount"), is(2));
+      if (stepOf(event).startsWith("Scan"))
+        assertThat(event.toString(), event.getInt("argumentCount"), is(0));
+      else
+        assertThat(event.toString(), event.getInt("argumentCount"), is(3));
+    }
+  }
+
+  @Test
+  public void givenRecording_whenInvokeFails_thenRecordFailure() throws IOException {
+    InvocationPipeline pipeline =
+        InvocationPipeline.builder().register(new JfrModule()).build();
+
+    List<RecordedEvent> events = record(() -> {
+      try {
+        pipeline.invoke(JfrTestConfigurable.class, List.of("--bar", "hello"));
+      } catch (RuntimeException e) {
+        // This is expected
+      }
+    });
+
+    List<String> failed = events.stream().filter(e -> e.getString("outcome").equals("FAILURE"))
+        .map(JfrModuleTest::stepOf).collect(toList());
+    assertThat(failed.size(), is(1));
+    assertTrue(events.stream().noneMatch(e -> stepOf(e).equals("FinishStep")));
+  }
+}
@@ -0,0 +1,690 @@
+package com.sigpwned.discourse.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import com.sigpwned.discourse.core.annotation.DiscourseAttribute;
+import com.sigpwned.discourse.core.annotation.DiscourseCreator;
+import com.sigpwned.discourse.core.annotation.DiscourseDefaultValue;
+import com.sigpwned.discourse.core.annotation.DiscourseIgnore;
+import com.sigpwned.discourse.core.annotation.DiscourseMixin;
+import com.sigpwned.discourse.core.annotation.DiscourseRequired;
+import com.sigpwned.discourse.core.annotation.FlagParameter;
+import com.sigpwned.discourse.core.annotation.HelpFlagParameter;
+import com.sigpwned.discourse.core.annotation.OptionParameter;
+import com.sigpwned.discourse.core.annotation.PositionalParameter;
+import com.sigpwned.discourse.core.annotation.VersionFlagParameter;
+import com.sigpwned.discourse.core.module.parameter.environmentvariable.EnvironmentVariableParameter;
+import com.sigpwned.discourse.core.module.parameter.systemproperty.SystemPropertyParameter;
+import com.sigpwned.discourse.core.pipeline.invocation.step.scan.CommandModel;
+import com.sigpwned.discourse.core.pipeline.invocation.step.scan.CommandModelBase;
+import com.sigpwned.discourse.core.pipeline.invocation.step.scan.CommandModelFingerprint;
+import com.sigpwned.discourse.core.pipeline.invocation.step.scan.model.CandidateSyntax;
+import com.sigpwned.discourse.core.pipeline.invocation.step.scan.model.NamedRule;
+import com.sigpwned.discourse.core.pipeline.invocation.step.scan.util.MoreRules;
+import com.sigpwned.discourse.core.util.MoreSets;
+
+/**
+ * <p>
+ * Generates the {@link CommandModel command model} of a leaf command. This follows the syntax
+ * nominators and detectors, naming schemes, and rule nominators and detectors of the default
+ * modules, and then runs the same rules analysis as the Scan step.
+ * </p>
+ *
+ * <p>
+ * Some commands are left to the Scan step. The generator does not follow mixins or
+ * {@link DiscourseCreator @DiscourseCreator} factory methods, and it does not generate a model for
+ * a command that the Scan step would reject for any reason other than its rules, e.g., a syntax
+ * element with no name. The Scan step reflects over those commands, and reports any problems, as
+ * before.
+ * </p>
+ */
+class CommandModelGenerator {
+  /**
+   * The annotations that the default syntax detectors detect syntax by
+   */
+  private static final List<Class<? extends Annotation>> SYNTAX_ANNOTATIONS =
+      List.of(OptionParameter.class, PositionalParameter.class, FlagParameter.class,
+          HelpFlagParameter.class, VersionFlagParameter.class, EnvironmentVariableParameter.class,
+          SystemPropertyParameter.class);
+
+  /**
+   * Used when the generator leaves a command to the Scan step
+   */
+  @SuppressWarnings("serial")
+  private static class UnsupportedCommandException extends Exception {
+    public UnsupportedCommandException(String message) {
+      super(message);
+    }
+  }
+
+  /**
+   * A syntax element of the command
+   *
+   * @param element the element the syntax nominators would nominate
+   * @param name the name of the syntax
+   * @param expression the generated code for the candidate syntax
+   */
+  private static record Syntax(Element element, String name, String expression) {
+  }
+
+  /**
+   * The nominee of a rule of the command, which stands in for the member the rule nominators would
+   * nominate
+   *
+   * @param expression the generated code for the rule
+   */
+  private static record Rule(String expression) {
+  }
+
+  private final ProcessingEnvironment processingEnv;
+
+  public CommandModelGenerator(ProcessingEnvironment processingEnv) {
+    this.processingEnv = processingEnv;
+  }
+
+  /**
+   * Generates the model of the given leaf command, if the generator supports it. Reports divergent
+   * rules as an error, and insufficient rules as a warning.
+   *
+   * @param type the leaf command
+   * @param constructible whether the command has a constructor or creator the core rules can use.
+   *        If not, then the caller has already warned about it.
+   */
+  public void generate(TypeElement type, boolean constructible) {
+    List<Syntax> syntax;
+    List<NamedRule> rules;
+    try {
+      checkSupported(type);
+      syntax = syntax(type);
+      rules = rules(type, syntax);
+    } catch (UnsupportedCommandException e) {
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+          String.format("Not generating a model for command %s, since %s", type, e.getMessage()),
+          type);
+      return;
+    }
+
+    Set<String> allPropertyNames = new HashSet<>();
+    for (Syntax s : syntax)
+      allPropertyNames.add(s.name());
+
+    // This is the same analysis the Scan step runs, in the same order.
+    MoreRules.Analyzer analyzer = MoreRules.analyzer(rules);
+    MoreRules.Analyzer.Analysis analysis = analyzer.analyze(allPropertyNames);
+    if (!analysis.divergent().isEmpty()) {
+      error(type, "Command %s rules diverge on the antecedents %s", type,
+          String.join(", ", analysis.divergent()));
+      return;
+    }
+    MoreRules.Reaction bestReaction = analysis.best();
+    if (!bestReaction.consumed().containsAll(allPropertyNames)) {
+      insufficient(type, constructible, allPropertyNames,
+          MoreSets.difference(allPropertyNames, bestReaction.consumed()));
+      return;
+    }
+
+    Set<String> guaranteedPropertyNames = new HashSet<>();
+    for (Syntax s : syntax)
+      if (annotation(s.element(), DiscourseRequired.class) != null
+          || annotation(s.element(), DiscourseDefaultValue.class) != null)
+        guaranteedPropertyNames.add(s.name());
+
+    MoreRules.Reaction bestGuaranteedReaction = analyzer.analyze(guaranteedPropertyNames).best();
+    if (!bestGuaranteedReaction.consumed().containsAll(guaranteedPropertyNames)) {
+      insufficient(type, constructible, guaranteedPropertyNames,
+          MoreSets.difference(guaranteedPropertyNames, bestGuaranteedReaction.consumed()));
+      return;
+    }
+    if (!bestGuaranteedReaction.produced().contains(MoreRules.INSTANCE_PROPERTY_NAME)) {
+      insufficient(type, constructible, guaranteedPropertyNames, Set.of("<instance>"));
+      return;
+    }
+
+    for (String propertyName : allPropertyNames) {
+      if (guaranteedPropertyNames.contains(propertyName))
+        continue;
+
+      Set<String> availableNames = new HashSet<>(guaranteedPropertyNames);
+      availableNames.add(propertyName);
+
+      MoreRules.Analyzer.Analysis reaction = analyzer.analyze(availableNames);
+      if (!reaction.consumesAll(availableNames)) {
+        insufficient(type, constructible, availableNames,
+            MoreSets.difference(availableNames, reaction.best().consumed()));
+        return;
+      }
+      if (!reaction.produces(MoreRules.INSTANCE_PROPERTY_NAME)) {
+        insufficient(type, constructible, availableNames, Set.of("<instance>"));
+        return;
+      }
+    }
+
+    write(type, syntax, bestReaction.evaluated(), fingerprint(type));
+  }
+
+  private void checkSupported(TypeElement type) throws UnsupportedCommandException {
+    // Generated code looks up members by name, so it needs to know exactly what members the
+    // compiled class has. The compiler adds a hidden parameter to the constructors of inner and
+    // local classes, for example, so don't try.
+    for (Element e = type; e instanceof TypeElement t; e = e.getEnclosingElement()) {
+      if (t.getNestingKind() != NestingKind.TOP_LEVEL && (t.getNestingKind() != NestingKind.MEMBER
+          || !t.getModifiers().contains(Modifier.STATIC)))
+        throw new UnsupportedCommandException("it is not a top-level or static member class");
+    }
+
+    for (TypeElement ancestor : ancestors(type)) {
+      for (Element member : ancestor.getEnclosedElements()) {
+        if (annotation(member, DiscourseMixin.class) != null)
+          throw new UnsupportedCommandException("it has mixins");
+        if (member.getKind() == ElementKind.METHOD
+            && annotation(member, DiscourseCreator.class) != null
+            && member.getModifiers().contains(Modifier.PUBLIC)
+            && member.getModifiers().contains(Modifier.STATIC)
+            && ((ExecutableElement) member).getReturnType().getKind() != TypeKind.VOID)
+          throw new UnsupportedCommandException("it has @DiscourseCreator factory methods");
+      }
+    }
+  }
+
+  /**
+   * Returns the syntax of the given command, in the order the default syntax nominators nominate
+   * it: fields, then setters, then getters, then creator constructor parameters.
+   */
+  private List<Syntax> syntax(TypeElement type) throws UnsupportedCommandException {
+    List<TypeElement> ancestors = ancestors(type);
+
+    List<Syntax> result = new ArrayList<>();
+    for (int depth = 0; depth < ancestors.size(); depth++) {
+      for (Element member : ancestors.get(depth).getEnclosedElements()) {
+        if (member.getKind() == ElementKind.FIELD
+            && !member.getModifiers().contains(Modifier.STATIC) && isSyntax(member)) {
+          String name = attribute(member).orElse(member.getSimpleName().toString());
+          result.add(new Syntax(member, name, String.format("fieldSyntax(%s)", field(depth,
+              member))));
+        }
+      }
+    }
+    for (int depth = 0; depth < ancestors.size(); depth++) {
+      for (Element member : ancestors.get(depth).getEnclosedElements()) {
+        if (member instanceof ExecutableElement method && isSetter(method) && isSyntax(method)) {
+          String name = attribute(method).or(() -> beanName(method, "set"))
+              .orElseThrow(() -> unnamed(method));
+          result.add(new Syntax(method, name, String.format("setterSyntax(%s)", method(depth,
+              method))));
+        }
+      }
+    }
+    for (int depth = 0; depth < ancestors.size(); depth++) {
+      for (Element member : ancestors.get(depth).getEnclosedElements()) {
+        if (member instanceof ExecutableElement method && isGetter(method) && isSyntax(method)) {
+          String name = attribute(method).or(() -> beanName(method, "get"))
+              .orElseThrow(() -> unnamed(method));
+          result.add(new Syntax(method, name, String.format("getterSyntax(%s)", method(depth,
+              method))));
+        }
+      }
+    }
+    for (ExecutableElement constructor : creators(type)) {
+      List<? extends VariableElement> parameters = constructor.getParameters();
+      for (int i = 0; i < parameters.size(); i++) {
+        VariableElement parameter = parameters.get(i);
+        if (isSyntax(parameter)) {
+          // Only @DiscourseAttribute names constructor parameters
+          String name = attribute(parameter).orElseThrow(() -> unnamed(parameter));
+          result.add(new Syntax(parameter, name,
+              String.format("parameterSyntax(%s, %d)", constructor(constructor), i)));
+        }
+      }
+    }
+
+    Set<String> names = new HashSet<>();
+    for (Syntax s : result)
+      if (!names.add(s.name()))
+        throw new UnsupportedCommandException("more than one syntax element is named " + s.name());
+
+    return result;
+  }
+
+  /**
+   * Returns the rules of the given command, in the order the default rule nominators nominate
+   * them: field assignments, then setter calls, then the default constructor, then creator
+   * constructors.
+   */
+  private List<NamedRule> rules(TypeElement type, List<Syntax> syntax)
+      throws UnsupportedCommandException {
+    List<TypeElement> ancestors = ancestors(type);
+
+    List<NamedRule> result = new ArrayList<>();
+    for (int depth = 0; depth < ancestors.size(); depth++) {
+      for (Element member : ancestors.get(depth).getEnclosedElements()) {
+        if (member.getKind() == ElementKind.FIELD
+            && member.getModifiers().contains(Modifier.PUBLIC)
+            && !member.getModifiers().contains(Modifier.STATIC)
+            && !member.getModifiers().contains(Modifier.FINAL)) {
+          String name = syntaxName(syntax, member);
+          if (name != null)
+            result.add(assignment(member, name,
+                String.format("fieldRule(%s, %s)", field(depth, member), literal(name))));
+        }
+      }
+    }
+    for (int depth = 0; depth < ancestors.size(); depth++) {
+      for (Element member : ancestors.get(depth).getEnclosedElements()) {
+        if (member instanceof ExecutableElement method
+            && method.getModifiers().contains(Modifier.PUBLIC) && isSetter(method)) {
+          String name = syntaxName(syntax, method);
+          if (name != null)
+            result.add(assignment(method, name,
+                String.format("setterRule(%s, %s)", method(depth, method), literal(name))));
+        }
+      }
+    }
+    for (Element member : type.getEnclosedElements()) {
+      if (member instanceof ExecutableElement constructor
+          && constructor.getKind() == ElementKind.CONSTRUCTOR
+          && constructor.getModifiers().contains(Modifier.PUBLIC)
+          && constructor.getParameters().isEmpty()) {
+        String name = attribute(constructor).orElse(MoreRules.INSTANCE_PROPERTY_NAME);
+        result.add(new NamedRule("constructor", new Rule(String.format(
+            "constructorRule(clazz, %s, %s)", constructor(constructor), literal(name))), null,
+            List.of(), Set.of(), Set.of(), Optional.of(name)));
+      }
+    }
+    for (ExecutableElement constructor : creators(type)) {
+      List<String> parameterNames = new ArrayList<>();
+      for (VariableElement parameter : constructor.getParameters()) {
+        String parameterName = syntaxName(syntax, parameter);
+        if (parameterName == null)
+          parameterName = attribute(parameter).orElse(null);
+        if (parameterName == null)
+          break;
+        parameterNames.add(parameterName);
+      }
+      if (parameterNames.size() != constructor.getParameters().size())
+        continue;
+      if (new HashSet<>(parameterNames).size() != parameterNames.size())
+        throw new UnsupportedCommandException(
+            "creator " + constructor + " has more than one parameter with the same name");
+
+      String name = attribute(constructor).orElse(MoreRules.INSTANCE_PROPERTY_NAME);
+      StringBuilder expression = new StringBuilder();
+      expression.append("constructorRule(clazz, ").append(constructor(constructor)).append(", ")
+          .append(literal(name));
+      for (String parameterName : parameterNames)
+        expression.append(", ").append(literal(parameterName));
+      expression.append(")");
+      result.add(new NamedRule("constructor", new Rule(expression.toString()), null, List.of(),
+          new LinkedHashSet<>(parameterNames), Set.of(), Optional.of(name)));
+    }
+
+    return result;
+  }
+
+  private NamedRule assignment(Element element, String name, String expression)
+      throws UnsupportedCommandException {
+    if (name.equals(MoreRules.INSTANCE_PROPERTY_NAME)) {
+      // The Scan step can't build a rule that assigns a property with the same name as the
+      // instance, either.
+      throw new UnsupportedCommandException(
+          "syntax element " + element.getSimpleName() + " has the same name as the instance");
+    }
+    return new NamedRule(element.getSimpleName().toString(), new Rule(expression), null, List.of(),
+        Set.of(MoreRules.INSTANCE_PROPERTY_NAME, name), Set.of(), Optional.empty());
+  }
+
+  private void insufficient(TypeElement type, boolean constructible, Set<String> givenProperties,
+      Set<String> unassignedProperties) {
+    if (!constructible && unassignedProperties.equals(Set.of("<instance>"))) {
+      // The caller already warned about this.
+      return;
+    }
+    processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, String.format(
+        "Command %s rules given inputs %s do not assign properties %s with the core rules", type,
+        String.join(", ", givenProperties), String.join(", ", unassignedProperties)), type);
+  }
+
+  private void write(TypeElement type, List<Syntax> syntax, List<NamedRule> rules,
+      String fingerprint) {
+    String commandClassName = processingEnv.getElementUtils().getBinaryName(type).toString();
+    String modelClassName = CommandModel.getModelClassName(commandClassName);
+
+    PackageElement pkg = processingEnv.getElementUtils().getPackageOf(type);
+    String packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+    String simpleName =
+        packageName.isEmpty() ? modelClassName : modelClassName.substring(packageName.length() + 1);
+
+    StringBuilder code = new StringBuilder();
+    if (!packageName.isEmpty())
+      code.append("package ").append(packageName).append(";\n\n");
+    code.append("import java.util.List;\n");
+    code.append("import ").append(CommandModelBase.class.getName()).append(";\n");
+    code.append("import ").append(CandidateSyntax.class.getName()).append(";\n");
+    code.append("import ").append(NamedRule.class.getName()).append(";\n\n");
+    code.append("/**\n");
+    code.append(" * The command model of {@code ").append(commandClassName).append("}\n");
+    code.append(" */\n");
+    if (processingEnv.getElementUtils()
+        .getTypeElement("javax.annotation.processing.Generated") != null)
+      code.append("@javax.annotation.processing.Generated(")
+          .append(literal(DiscourseProcessor.class.getName())).append(")\n");
+    code.append("public final class ").append(simpleName).append(" extends ")
+        .append(CommandModelBase.class.getSimpleName()).append(" {\n");
+    code.append("  public ").append(simpleName).append("() {\n");
+    code.append("    super(").append(literal(commandClassName)).append(");\n");
+    code.append("  }\n\n");
+    code.append("  @Override\n");
+    code.append("  public String getFingerprint() {\n");
+    code.append("    return ").append(literal(fingerprint)).append(";\n");
+    code.append("  }\n\n");
+    code.append("  @Override\n");
+    code.append("  public List<CandidateSyntax> nominateSyntax(Class<?> clazz) {\n");
+    code.append("    return List.of(")
+        .append(syntax.stream().map(s -> "\n        " + s.expression()).collect(
+            Collectors.joining(",")))
+        .append(");\n");
+    code.append("  }\n\n");
+    code.append("  @Override\n");
+    code.append("  public List<NamedRule> rules(Class<?> clazz) {\n");
+    code.append("    return List.of(")
+        .append(rules.stream().map(r -> "\n        " + ((Rule) r.nominated()).expression())
+            .collect(Collectors.joining(",")))
+        .append(");\n");
+    code.append("  }\n");
+    code.append("}\n");
+
+    try (Writer out = processingEnv.getFiler().createSourceFile(
+        packageName.isEmpty() ? simpleName : packageName + "." + simpleName, type).openWriter()) {
+      out.write(code.toString());
+    } catch (IOException e) {
+      // This happens if another command class has the same model class name, e.g., Foo$Bar and
+      // Foo_Bar. The Scan step will reflect over this one instead.
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, String.format(
+          "Not generating a model for command %s, since %s", type, e.getMessage()), type);
+    }
+  }
+
+  /**
+   * Returns the {@link CommandModelFingerprint fingerprint} of the given command, as the Scan step
+   * will compute it from the compiled class
+   */
+  private String fingerprint(TypeElement type) {
+    List<TypeElement> ancestors = ancestors(type);
+
+    List<String> entries = new ArrayList<>();
+    for (int depth = 0; depth < ancestors.size(); depth++) {
+      TypeElement ancestor = ancestors.get(depth);
+      entries.add(CommandModelFingerprint.ancestor(depth, binaryName(ancestor)));
+      for (Element member : ancestor.getEnclosedElements()) {
+        List<String> annotations = fingerprintAnnotations(member);
+        if (annotations.isEmpty())
+          continue;
+        if (member.getKind() == ElementKind.FIELD) {
+          entries.add(CommandModelFingerprint.field(depth, member.getSimpleName().toString(),
+              runtimeName(member.asType()), modifiers(member), annotations));
+        } else if (member.getKind() == ElementKind.METHOD) {
+          ExecutableElement method = (ExecutableElement) member;
+          entries.add(CommandModelFingerprint.method(depth, method.getSimpleName().toString(),
+              parameterTypeNames(method), runtimeName(method.getReturnType()), modifiers(method),
+              annotations));
+        }
+      }
+    }
+
+    for (Element member : type.getEnclosedElements()) {
+      if (member instanceof ExecutableElement constructor
+          && constructor.getKind() == ElementKind.CONSTRUCTOR
+          && constructor.getModifiers().contains(Modifier.PUBLIC)) {
+        List<List<String>> parameterAnnotations = new ArrayList<>();
+        for (VariableElement parameter : constructor.getParameters())
+          parameterAnnotations.add(fingerprintAnnotations(parameter));
+        entries.add(CommandModelFingerprint.constructor(parameterTypeNames(constructor),
+            modifiers(constructor), fingerprintAnnotations(constructor), parameterAnnotations));
+      }
+    }
+
+    return CommandModelFingerprint.digest(entries);
+  }
+
+  /**
+   * Describes the {@link CommandModelFingerprint#ANNOTATIONS fingerprinted annotations} of the
+   * given element, in the same order the Scan step does
+   */
+  private List<String> fingerprintAnnotations(Element element) {
+    List<String> result = new ArrayList<>();
+    for (Class<? extends Annotation> annotationType : CommandModelFingerprint.ANNOTATIONS) {
+      AnnotationMirror annotation = annotation(element, annotationType);
+      if (annotation != null) {
+        String attribute = annotationType == DiscourseAttribute.class
+            ? (String) value(annotation, "value")
+            : null;
+        result.add(CommandModelFingerprint.annotation(annotationType.getName(), attribute));
+      }
+    }
+    return result;
+  }
+
+  private List<String> parameterTypeNames(ExecutableElement executable) {
+    List<String> result = new ArrayList<>();
+    for (VariableElement parameter : executable.getParameters())
+      result.add(runtimeName(parameter.asType()));
+    return result;
+  }
+
+  /**
+   * Returns the {@link CommandModelFingerprint#MODIFIERS fingerprinted modifiers} of the given
+   * element, as {@link java.lang.reflect.Member#getModifiers()} gives them
+   */
+  private int modifiers(Element element) {
+    Set<Modifier> modifiers = element.getModifiers();
+    int result = 0;
+    if (modifiers.contains(Modifier.PUBLIC))
+      result = result | java.lang.reflect.Modifier.PUBLIC;
+    if (modifiers.contains(Modifier.STATIC))
+      result = result | java.lang.reflect.Modifier.STATIC;
+    if (modifiers.contains(Modifier.FINAL))
+      result = result | java.lang.reflect.Modifier.FINAL;
+    return result;
+  }
+
+  /**
+   * Returns the given class and all of its superclasses, in order
+   */
+  private List<TypeElement> ancestors(TypeElement type) {
+    List<TypeElement> result = new ArrayList<>();
+    for (TypeElement ancestor = type; ancestor != null; ancestor = superclass(ancestor))
+      result.add(ancestor);
+    return result;
+  }
+
+  /**
+   * Returns the public {@link DiscourseCreator @DiscourseCreator} constructors of the given class
+   * that take parameters
+   */
+  private List<ExecutableElement> creators(TypeElement type) {
+    List<ExecutableElement> result = new ArrayList<>();
+    for (Element member : type.getEnclosedElements()) {
+      if (member instanceof ExecutableElement constructor
+          && constructor.getKind() == ElementKind.CONSTRUCTOR
+          && constructor.getModifiers().contains(Modifier.PUBLIC)
+          && annotation(constructor, DiscourseCreator.class) != null
+          && !constructor.getParameters().isEmpty())
+        result.add(constructor);
+    }
+    return result;
+  }
+
+  private boolean isSyntax(Element element) {
+    // The default modules put the @DiscourseIgnore detector first
+    if (annotation(element, DiscourseIgnore.class) != null)
+      return false;
+    for (Class<? extends Annotation> annotationType : SYNTAX_ANNOTATIONS)
+      if (annotation(element, annotationType) != null)
+        return true;
+    return false;
+  }
+
+  private boolean isSetter(ExecutableElement method) {
+    return method.getKind() == ElementKind.METHOD && method.getParameters().size() == 1
+        && method.getReturnType().getKind() == TypeKind.VOID
+        && !method.getModifiers().contains(Modifier.STATIC);
+  }
+
+  private boolean isGetter(ExecutableElement method) {
+    return method.getKind() == ElementKind.METHOD && method.getParameters().isEmpty()
+        && method.getReturnType().getKind() != TypeKind.VOID
+        && !method.getModifiers().contains(Modifier.STATIC);
+  }
+
+  private String syntaxName(List<Syntax> syntax, Element element) {
+    for (Syntax s : syntax)
+      if (s.element().equals(element))
+        return s.name();
+    return null;
+  }
+
+  private Optional<String> attribute(Element element) {
+    AnnotationMirror attribute = annotation(element, DiscourseAttribute.class);
+    if (attribute == null)
+      return Optional.empty();
+    return Optional.of((String) value(attribute, "value"));
+  }
+
+  private Optional<String> beanName(ExecutableElement method, String prefix) {
+    String name = method.getSimpleName().toString();
+    if (name.startsWith(prefix) && name.length() > prefix.length()
+        && Character.isUpperCase(name.charAt(prefix.length())))
+      return Optional.of(Character.toLowerCase(name.charAt(prefix.length()))
+          + name.substring(prefix.length() + 1));
+    return Optional.empty();
+  }
+
+  private UnsupportedCommandException unnamed(Element element) {
+    return new UnsupportedCommandException(
+        "syntax element " + element.getSimpleName() + " has no name");
+  }
+
+  private String field(int depth, Element field) {
+    return String.format("field(clazz, %d, %s)", depth, literal(field.getSimpleName().toString()));
+  }
+
+  private String method(int depth, ExecutableElement method) {
+    StringBuilder result = new StringBuilder();
+    result.append("method(clazz, ").append(depth).append(", ")
+        .append(literal(method.getSimpleName().toString()));
+    for (VariableElement parameter : method.getParameters())
+      result.append(", ").append(literal(runtimeName(parameter.asType())));
+    return result.append(")").toString();
+  }
+
+  private String constructor(ExecutableElement constructor) {
+    StringBuilder result = new StringBuilder();
+    result.append("constructor(clazz");
+    for (VariableElement parameter : constructor.getParameters())
+      result.append(", ").append(literal(runtimeName(parameter.asType())));
+    return result.append(")").toString();
+  }
+
+  /**
+   * Returns the name {@link Class#getName()} gives the erasure of the given type at runtime
+   */
+  private String runtimeName(TypeMirror type) {
+    TypeMirror erased = processingEnv.getTypeUtils().erasure(type);
+    if (erased.getKind() == TypeKind.ARRAY)
+      return descriptor(erased);
+    if (erased.getKind() == TypeKind.DECLARED)
+      return binaryName((TypeElement) ((DeclaredType) erased).asElement());
+    return erased.toString();
+  }
+
+  private String descriptor(TypeMirror erased) {
+    switch (erased.getKind()) {
+      case BOOLEAN:
+        return "Z";
+      case BYTE:
+        return "B";
+      case CHAR:
+        return "C";
+      case SHORT:
+        return "S";
+      case INT:
+        return "I";
+      case LONG:
+        return "J";
+      case FLOAT:
+        return "F";
+      case DOUBLE:
+        return "D";
+      case ARRAY:
+        return "[" + descriptor(
+            processingEnv.getTypeUtils().erasure(((ArrayType) erased).getComponentType()));
+      case DECLARED:
+        return "L" + binaryName((TypeElement) ((DeclaredType) erased).asElement()) + ";";
+      default:
+        throw new IllegalArgumentException("unexpected type " + erased);
+    }
+  }
+
+  private String literal(String value) {
+    return processingEnv.getElementUtils().getConstantExpression(value);
+  }
+
+  private AnnotationMirror annotation(Element element,
+      Class<? extends Annotation> annotationType) {
+    for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+      TypeElement type = (TypeElement) annotation.getAnnotationType().asElement();
+      if (type.getQualifiedName().contentEquals(annotationType.getCanonicalName()))
+        return annotation;
+    }
+    return null;
+  }
+
+  private Object value(AnnotationMirror annotation, String name) {
+    for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> e : processingEnv
+        .getElementUtils().getElementValuesWithDefaults(annotation).entrySet()) {
+      if (e.getKey().getSimpleName().contentEquals(name))
+        return e.getValue().getValue();
+    }
+    throw new IllegalArgumentException("no annotation value " + name);
+  }
+
+  private TypeElement superclass(TypeElement type) {
+    TypeMirror superclass = type.getSuperclass();
+    if (superclass.getKind() != TypeKind.DECLARED)
+      return null;
+    return (TypeElement) ((DeclaredType) superclass).asElement();
+  }
+
+  private String binaryName(TypeElement type) {
+    return processingEnv.getElementUtils().getBinaryName(type).toString();
+  }
+
+  private void error(Element element, String format, Object... args) {
+    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, String.format(format, args),
+        element);
+  }
+}
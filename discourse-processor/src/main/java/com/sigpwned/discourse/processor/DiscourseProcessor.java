@@ -0,0 +1,317 @@
+package com.sigpwned.discourse.processor;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import com.sigpwned.discourse.core.annotation.Configurable;
+import com.sigpwned.discourse.core.annotation.DiscourseCreator;
+import com.sigpwned.discourse.core.annotation.DiscourseMixin;
+import com.sigpwned.discourse.core.annotation.FlagParameter;
+import com.sigpwned.discourse.core.annotation.HelpFlagParameter;
+import com.sigpwned.discourse.core.annotation.OptionParameter;
+import com.sigpwned.discourse.core.annotation.PositionalParameter;
+import com.sigpwned.discourse.core.annotation.VersionFlagParameter;
+import com.sigpwned.discourse.core.pipeline.invocation.step.scan.CommandModel;
+import com.sigpwned.discourse.core.util.Discriminators;
+
+/**
+ * <p>
+ * An annotation processor that checks {@link Configurable @Configurable} command classes at compile
+ * time.
+ * </p>
+ *
+ * <p>
+ * The processor reports the following problems as compile errors. The Scan step would otherwise
+ * report them at runtime, the first time the command is invoked.
+ * </p>
+ *
+ * <ul>
+ * <li>Subcommands with invalid, duplicate, or mismatched discriminators</li>
+ * <li>Subcommands that are not {@code @Configurable}, or that do not extend their supercommand</li>
+ * <li>Supercommands that are not abstract, and leaf commands that are</li>
+ * <li>Option parameters with no names</li>
+ * <li>Two parameters of one leaf command, including its superclasses and mixins, with the same
+ * switch name or position</li>
+ * </ul>
+ *
+ * <p>
+ * The processor also generates a {@link CommandModel command model} for each leaf command, which
+ * the Scan step uses instead of reflecting over the command class when the pipeline uses the
+ * default modules' nominators, detectors, and evaluators. To build the model, the processor runs
+ * the same rules analysis as the Scan step. It reports rules that diverge as a compile error. It
+ * warns about rules that cannot construct the command or assign all of its properties, e.g., a
+ * leaf command that has no public default constructor and no public
+ * {@link DiscourseCreator @DiscourseCreator}, and does not generate a model for it. These are only
+ * warnings because modules can add rules of their own. See {@link CommandModelGenerator} for the
+ * commands the processor leaves to the Scan step.
+ * </p>
+ */
+public class DiscourseProcessor extends AbstractProcessor {
+  private static final List<Class<? extends Annotation>> OPTION_ANNOTATIONS = List
+      .of(OptionParameter.class, FlagParameter.class, HelpFlagParameter.class,
+          VersionFlagParameter.class);
+
+  @Override
+  public Set<String> getSupportedAnnotationTypes() {
+    return Set.of(Configurable.class.getCanonicalName());
+  }
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+    for (Element element : round.getElementsAnnotatedWith(Configurable.class)) {
+      if (!(element instanceof TypeElement type))
+        continue;
+      checkCommand(type);
+    }
+
+    // Other processors are welcome to look at these annotations, too.
+    return false;
+  }
+
+  private void checkCommand(TypeElement type) {
+    List<AnnotationMirror> subcommands = subcommands(type);
+
+    Set<String> discriminators = new HashSet<>();
+    for (AnnotationMirror subcommand : subcommands) {
+      String discriminator = (String) value(subcommand, "discriminator");
+      if (!Discriminators.isValid(discriminator))
+        error(type, "Command %s has subcommand with invalid discriminator %s", type,
+            discriminator);
+      if (!discriminators.add(discriminator))
+        error(type, "Command %s has more than one subcommand with discriminator %s", type,
+            discriminator);
+
+      TypeElement subtype = subcommandType(subcommand);
+      if (subtype == null) {
+        // The compiler will report the unresolved type, so we don't need to.
+        continue;
+      }
+
+      if (!processingEnv.getTypeUtils().isSubtype(erasure(subtype), erasure(type)))
+        error(type, "Subcommand %s of command %s does not extend %s", subtype, type, type);
+
+      AnnotationMirror subconfigurable = annotation(subtype, Configurable.class);
+      if (subconfigurable == null) {
+        error(type, "Subcommand %s of command %s is not @Configurable", subtype, type);
+      } else if (!discriminator.equals(value(subconfigurable, "discriminator"))) {
+        error(type, "Subcommand %s of command %s has discriminator %s, but should have %s",
+            subtype, type, value(subconfigurable, "discriminator"), discriminator);
+      }
+    }
+
+    boolean isAbstract = type.getModifiers().contains(Modifier.ABSTRACT);
+    if (subcommands.isEmpty()) {
+      if (isAbstract) {
+        error(type, "Leaf command %s must not be abstract", type);
+      } else {
+        checkCoordinates(type);
+        boolean constructible = checkConstructible(type);
+        new CommandModelGenerator(processingEnv).generate(type, constructible);
+      }
+    } else {
+      if (!isAbstract)
+        error(type, "Super command %s must be abstract", type);
+    }
+  }
+
+  /**
+   * Checks that no two parameters of the given leaf command share a coordinate. This follows the
+   * core syntax nominators: it looks at the fields, methods, and creator parameters of the command
+   * and all of its superclasses, and of any mixins.
+   */
+  private void checkCoordinates(TypeElement type) {
+    checkCoordinates(type, type, new HashMap<>(), new HashSet<>());
+  }
+
+  private void checkCoordinates(TypeElement command, TypeElement type,
+      Map<String, Element> coordinates, Set<String> visited) {
+    if (!visited.add(binaryName(type))) {
+      // We've already looked at this class, probably as a mixin. Don't loop forever.
+      return;
+    }
+
+    for (TypeElement ancestor = type; ancestor != null; ancestor = superclass(ancestor)) {
+      for (Element member : ancestor.getEnclosedElements()) {
+        switch (member.getKind()) {
+          case FIELD:
+            if (member.getModifiers().contains(Modifier.STATIC))
+              break;
+            checkCoordinates(command, member, coordinates);
+            if (annotation(member, DiscourseMixin.class) != null
+                && member.asType().getKind() == TypeKind.DECLARED) {
+              TypeElement mixin = (TypeElement) ((DeclaredType) member.asType()).asElement();
+              checkCoordinates(command, mixin, coordinates, visited);
+            }
+            break;
+          case METHOD:
+          case CONSTRUCTOR:
+            checkCoordinates(command, member, coordinates);
+            if (annotation(member, DiscourseCreator.class) != null) {
+              for (VariableElement parameter : ((ExecutableElement) member).getParameters())
+                checkCoordinates(command, parameter, coordinates);
+            }
+            break;
+          default:
+            break;
+        }
+      }
+    }
+  }
+
+  private void checkCoordinates(TypeElement command, Element element,
+      Map<String, Element> coordinates) {
+    for (Class<? extends Annotation> annotationType : OPTION_ANNOTATIONS) {
+      AnnotationMirror option = annotation(element, annotationType);
+      if (option == null)
+        continue;
+
+      String shortName = (String) value(option, "shortName");
+      String longName = (String) value(option, "longName");
+      if (shortName.isEmpty() && longName.isEmpty()) {
+        error(command, "Parameter %s of command %s has @%s with no names", describe(element),
+            command, annotationType.getSimpleName());
+      }
+      if (!shortName.isEmpty())
+        claim(command, element, coordinates, "switch " + shortName);
+      if (!longName.isEmpty() && !longName.equals(shortName))
+        claim(command, element, coordinates, "switch " + longName);
+    }
+
+    AnnotationMirror positional = annotation(element, PositionalParameter.class);
+    if (positional != null)
+      claim(command, element, coordinates, "position " + value(positional, "position"));
+  }
+
+  private void claim(TypeElement command, Element element, Map<String, Element> coordinates,
+      String coordinate) {
+    Element claimant = coordinates.putIfAbsent(coordinate, element);
+    if (claimant != null && !claimant.equals(element)) {
+      error(command, "Command %s uses %s for both %s and %s", command, coordinate,
+          describe(claimant), describe(element));
+    }
+  }
+
+  /**
+   * Warns if the core rules cannot construct the given leaf command.
+   *
+   * @return {@code true} if the core rules can construct the command, or {@code false} if this
+   *         method warned that they cannot
+   */
+  private boolean checkConstructible(TypeElement type) {
+    for (TypeElement ancestor = type; ancestor != null; ancestor = superclass(ancestor)) {
+      for (Element member : ancestor.getEnclosedElements()) {
+        if (!member.getModifiers().contains(Modifier.PUBLIC))
+          continue;
+        if (member.getKind() == ElementKind.CONSTRUCTOR && ancestor.equals(type)
+            && (((ExecutableElement) member).getParameters().isEmpty()
+                || annotation(member, DiscourseCreator.class) != null))
+          return true;
+        if (member.getKind() == ElementKind.METHOD
+            && member.getModifiers().contains(Modifier.STATIC)
+            && annotation(member, DiscourseCreator.class) != null)
+          return true;
+      }
+    }
+
+    processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, String.format(
+        "Leaf command %s has no public default constructor or @DiscourseCreator, so the core rules "
+            + "cannot construct it",
+        type), type);
+
+    return false;
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<AnnotationMirror> subcommands(TypeElement type) {
+    AnnotationMirror configurable = annotation(type, Configurable.class);
+    if (configurable == null)
+      return List.of();
+
+    List<AnnotationMirror> result = new ArrayList<>();
+    for (AnnotationValue subcommand : (List<? extends AnnotationValue>) value(configurable,
+        "subcommands"))
+      result.add((AnnotationMirror) subcommand.getValue());
+    return result;
+  }
+
+  /**
+   * Returns the class named by the given {@code @Subcommand}, or {@code null} if it could not be
+   * resolved.
+   */
+  private TypeElement subcommandType(AnnotationMirror subcommand) {
+    Object configurable = value(subcommand, "configurable");
+    if (configurable instanceof DeclaredType declared
+        && declared.asElement() instanceof TypeElement result)
+      return result;
+    return null;
+  }
+
+  private AnnotationMirror annotation(Element element,
+      Class<? extends Annotation> annotationType) {
+    for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+      TypeElement type = (TypeElement) annotation.getAnnotationType().asElement();
+      if (type.getQualifiedName().contentEquals(annotationType.getCanonicalName()))
+        return annotation;
+    }
+    return null;
+  }
+
+  private Object value(AnnotationMirror annotation, String name) {
+    for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> e : processingEnv
+        .getElementUtils().getElementValuesWithDefaults(annotation).entrySet()) {
+      if (e.getKey().getSimpleName().contentEquals(name))
+        return e.getValue().getValue();
+    }
+    throw new IllegalArgumentException("no annotation value " + name);
+  }
+
+  private TypeElement superclass(TypeElement type) {
+    TypeMirror superclass = type.getSuperclass();
+    if (superclass.getKind() != TypeKind.DECLARED)
+      return null;
+    return (TypeElement) ((DeclaredType) superclass).asElement();
+  }
+
+  private TypeMirror erasure(TypeElement type) {
+    return processingEnv.getTypeUtils().erasure(type.asType());
+  }
+
+  private String binaryName(TypeElement type) {
+    return processingEnv.getElementUtils().getBinaryName(type).toString();
+  }
+
+  private String describe(Element element) {
+    if (element.getKind() == ElementKind.PARAMETER)
+      return describe(element.getEnclosingElement()) + " parameter " + element.getSimpleName();
+    return element.getEnclosingElement().getSimpleName() + "." + element.getSimpleName();
+  }
+
+  private void error(Element element, String format, Object... args) {
+    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, String.format(format, args),
+        element);
+  }
+}
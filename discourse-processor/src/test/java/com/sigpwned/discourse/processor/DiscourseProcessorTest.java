@@ -0,0 +1,352 @@
+package com.sigpwned.discourse.processor;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import com.sigpwned.discourse.core.Module;
+import com.sigpwned.discourse.core.command.tree.LeafCommand;
+import com.sigpwned.discourse.core.command.tree.LeafCommandProperty;
+import com.sigpwned.discourse.core.pipeline.invocation.InvocationPipeline;
+import com.sigpwned.discourse.core.pipeline.invocation.step.scan.CommandModel;
+import com.sigpwned.discourse.core.pipeline.invocation.step.scan.CommandModelFingerprint;
+import com.sigpwned.discourse.core.pipeline.invocation.step.scan.NamingScheme;
+import com.sigpwned.discourse.core.util.Maybe;
+
+public class DiscourseProcessorTest {
+  private static class Source extends SimpleJavaFileObject {
+    private final String code;
+
+    public Source(String className, String code) {
+      super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension),
+          Kind.SOURCE);
+      this.code = code;
+    }
+
+    @Override
+    public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+      return code;
+    }
+  }
+
+  private Path output;
+
+  @Before
+  public void setupDiscourseProcessorTest() throws IOException {
+    output = Files.createTempDirectory("discourse-processor-test");
+  }
+
+  @After
+  public void cleanupDiscourseProcessorTest() throws IOException {
+    try (Stream<Path> paths = Files.walk(output)) {
+      for (Path path : paths.sorted(Comparator.reverseOrder()).toList())
+        Files.delete(path);
+    }
+  }
+
+  private List<String> compile(String className, String code) {
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
+    JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics,
+        List.of("-classpath", System.getProperty("java.class.path"), "-d", output.toString()),
+        null, List.of(new Source(className, code)));
+    task.setProcessors(List.of(new DiscourseProcessor()));
+    task.call();
+
+    List<String> result = new ArrayList<>();
+    for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+      if (diagnostic.getKind() == Diagnostic.Kind.ERROR
+          || diagnostic.getKind() == Diagnostic.Kind.WARNING)
+        result.add(diagnostic.getKind() + ": " + diagnostic.getMessage(Locale.ROOT));
+    }
+    return result;
+  }
+
+  private static final String IMPORTS = """
+      package example;
+
+      import com.sigpwned.discourse.core.annotation.*;
+      """;
+
+  @Test
+  public void givenValidCommands_whenCompile_thenNoProblems() {
+    List<String> problems = compile("example.Example", IMPORTS + """
+        @Configurable(name = "example", subcommands = {
+            @Subcommand(discriminator = "alpha", configurable = Example.Alpha.class),
+            @Subcommand(discriminator = "bravo", configurable = Example.Bravo.class)})
+        public abstract class Example {
+          @FlagParameter(shortName = "v", longName = "verbose")
+          public boolean verbose;
+
+          @Configurable(discriminator = "alpha")
+          public static class Alpha extends Example {
+            @OptionParameter(shortName = "f", longName = "foo")
+            public String foo;
+
+            @PositionalParameter(position = 0)
+            public int bar;
+          }
+
+          @Configurable(discriminator = "bravo")
+          public static class Bravo extends Example {
+            @OptionParameter(longName = "foo")
+            public String foo;
+          }
+        }
+        """);
+
+    assertThat(problems, is(List.of()));
+  }
+
+  @Test
+  public void givenDuplicateSwitchNames_whenCompile_thenReportError() {
+    List<String> problems = compile("example.Example", IMPORTS + """
+        @Configurable
+        public class Example {
+          @FlagParameter(shortName = "v", longName = "verbose")
+          public boolean verbose;
+
+          @OptionParameter(longName = "verbose")
+          public String alsoVerbose;
+        }
+        """);
+
+    assertThat(problems, is(List.of(
+        "ERROR: Command example.Example uses switch verbose for both Example.verbose and Example.alsoVerbose")));
+  }
+
+  @Test
+  public void givenDuplicatePositionInSuperclassAndMixin_whenCompile_thenReportErrors() {
+    List<String> problems = compile("example.Example", IMPORTS + """
+        public class Example {
+          public static class Base {
+            @PositionalParameter(position = 0)
+            public int first;
+          }
+
+          public static class Mixin {
+            @PositionalParameter(position = 0)
+            public int second;
+          }
+
+          @Configurable
+          public static class Command extends Base {
+            @PositionalParameter(position = 0)
+            public int alsoFirst;
+
+            @DiscourseMixin
+            public Mixin mixin;
+          }
+        }
+        """);
+
+    assertThat(problems, is(List.of(
+        "ERROR: Command example.Example.Command uses position 0 for both Command.alsoFirst and Mixin.second",
+        "ERROR: Command example.Example.Command uses position 0 for both Command.alsoFirst and Base.first")));
+  }
+
+  @Test
+  public void givenBadSubcommands_whenCompile_thenReportErrors() {
+    List<String> problems = compile("example.Example", IMPORTS + """
+        @Configurable(subcommands = {
+            @Subcommand(discriminator = "alpha", configurable = Example.Alpha.class),
+            @Subcommand(discriminator = "bravo", configurable = String.class)})
+        public class Example {
+          @Configurable(discriminator = "charlie")
+          public static class Alpha extends Example {
+          }
+        }
+        """);
+
+    assertThat(problems.size(), is(4));
+    assertTrue(problems.toString(), problems.contains(
+        "ERROR: Subcommand example.Example.Alpha of command example.Example has discriminator charlie, but should have alpha"));
+    assertTrue(problems.toString(), problems.contains(
+        "ERROR: Subcommand java.lang.String of command example.Example does not extend example.Example"));
+    assertTrue(problems.toString(), problems.contains(
+        "ERROR: Subcommand java.lang.String of command example.Example is not @Configurable"));
+    assertTrue(problems.toString(),
+        problems.contains("ERROR: Super command example.Example must be abstract"));
+  }
+
+  @Test
+  public void givenLeafCommandWithoutConstructor_whenCompile_thenReportWarning() {
+    List<String> problems = compile("example.Example", IMPORTS + """
+        @Configurable
+        public class Example {
+          public Example(String foo) {
+          }
+        }
+        """);
+
+    assertThat(problems, is(List.of(
+        "WARNING: Leaf command example.Example has no public default constructor or @DiscourseCreator, so the core rules cannot construct it")));
+  }
+
+  @Test
+  public void givenDivergentRules_whenCompile_thenReportError() {
+    List<String> problems = compile("example.Example", IMPORTS + """
+        @Configurable
+        public class Example {
+          @DiscourseCreator
+          public Example(
+              @DiscourseAttribute("alpha") @OptionParameter(longName = "alpha") String alpha) {
+          }
+
+          @DiscourseCreator
+          public Example(
+              @DiscourseAttribute("bravo") @OptionParameter(longName = "bravo") int bravo) {
+          }
+        }
+        """);
+
+    assertThat(problems, is(List.of(
+        "ERROR: Command example.Example rules diverge on the antecedents bravo")));
+  }
+
+  /**
+   * A pipeline that does not scan the way the default modules do, so it never uses a model
+   */
+  private static InvocationPipeline reflectingPipeline() {
+    return InvocationPipeline.builder().register(new Module() {
+      @Override
+      public void registerNamingSchemes(com.sigpwned.discourse.core.Chain<NamingScheme> chain) {
+        chain.addLast(object -> Maybe.maybe());
+      }
+    }).build();
+  }
+
+  private static Map<String, String> describe(LeafCommand<?> command) {
+    Map<String, String> result = new TreeMap<>();
+    for (LeafCommandProperty property : command.getProperties())
+      result.put(property.getName(),
+          new TreeMap<>(Map.of("coordinates", property.getCoordinates().toString(), "type",
+              property.getGenericType().getTypeName(), "required",
+              String.valueOf(property.isRequired()), "defaultValue",
+              String.valueOf(property.getDefaultValue().orElse(null)))).toString());
+    return result;
+  }
+
+  @Test
+  public void givenLeafCommands_whenCompile_thenGenerateModelsThatMatchReflection()
+      throws Exception {
+    List<String> problems = compile("example.Example", IMPORTS + """
+        import java.util.List;
+
+        public class Example {
+          public static class Base {
+            @DiscourseRequired
+            @OptionParameter(shortName = "n", longName = "name")
+            public String name;
+          }
+
+          @Configurable
+          public static class Setters extends Base {
+            @FlagParameter(shortName = "v", longName = "verbose")
+            public boolean verbose;
+
+            @DiscourseDefaultValue("one")
+            @PositionalParameter(position = 0)
+            public String first;
+
+            @OptionParameter(longName = "tag")
+            public List<String> tags;
+
+            @DiscourseIgnore
+            @OptionParameter(longName = "ignored")
+            public String ignored;
+
+            private int count;
+
+            @OptionParameter(longName = "count")
+            public void setCount(int count) {
+              this.count = count;
+            }
+
+            public int getCount() {
+              return count;
+            }
+
+            @Override
+            public String toString() {
+              return name + " " + verbose + " " + first + " " + tags + " " + count;
+            }
+          }
+
+          @Configurable
+          public static class Creator {
+            private final String alpha;
+
+            private final int[] bravo;
+
+            @OptionParameter(longName = "charlie")
+            public String charlie;
+
+            @DiscourseCreator
+            public Creator(
+                @DiscourseRequired @DiscourseAttribute("alpha") @OptionParameter(longName = "alpha") String alpha,
+                @DiscourseRequired @DiscourseAttribute("bravo") @OptionParameter(longName = "bravo") int[] bravo) {
+              this.alpha = alpha;
+              this.bravo = bravo;
+            }
+
+            @Override
+            public String toString() {
+              return alpha + " " + java.util.Arrays.toString(bravo) + " " + charlie;
+            }
+          }
+        }
+        """);
+
+    assertThat(problems, is(List.of()));
+
+    try (URLClassLoader classLoader = new URLClassLoader(new URL[] {output.toUri().toURL()},
+        getClass().getClassLoader())) {
+      Map<String, List<String>> argss =
+          Map.of("example.Example$Setters", List.of("-n", "bob", "-v", "--tag", "a", "--tag", "b",
+              "--count", "3", "two"), "example.Example$Creator",
+              List.of("--alpha", "a", "--bravo", "1", "--bravo", "2", "--charlie", "c"));
+      for (Map.Entry<String, List<String>> e : argss.entrySet()) {
+        Class<?> clazz = classLoader.loadClass(e.getKey());
+
+        Class<?> modelClass =
+            classLoader.loadClass(CommandModel.getModelClassName(clazz.getName()));
+        assertTrue(modelClass.getName(), CommandModel.class.isAssignableFrom(modelClass));
+
+        // The Scan step only uses the model if the processor fingerprinted the class the same way
+        CommandModel model = (CommandModel) modelClass.getConstructor().newInstance();
+        assertThat(model.getFingerprint(), is(CommandModelFingerprint.of(clazz)));
+
+        InvocationPipeline modeled = InvocationPipeline.builder().build();
+        InvocationPipeline reflected = reflectingPipeline();
+
+        assertThat(describe((LeafCommand<?>) modeled.scan(clazz).getRoot()),
+            is(describe((LeafCommand<?>) reflected.scan(clazz).getRoot())));
+        assertThat(modeled.invoke(clazz, e.getValue()).toString(),
+            is(reflected.invoke(clazz, e.getValue()).toString()));
+      }
+    }
+  }
+}